@@ -20,10 +20,12 @@ import org.eclipse.emf.cdo.common.commit.CDOCommitData;
 import org.eclipse.emf.cdo.common.commit.CDOCommitInfo;
 import org.eclipse.emf.cdo.common.id.CDOID;
 import org.eclipse.emf.cdo.common.id.CDOIDReference;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
 import org.eclipse.emf.cdo.common.lock.CDOLockChangeInfo;
 import org.eclipse.emf.cdo.common.lock.CDOLockDelta;
 import org.eclipse.emf.cdo.common.lock.CDOLockOwner;
 import org.eclipse.emf.cdo.common.lock.CDOLockState;
+import org.eclipse.emf.cdo.common.lock.CDOLockUtil;
 import org.eclipse.emf.cdo.common.lock.IDurableLockingManager.LockArea;
 import org.eclipse.emf.cdo.common.model.CDOClassifierRef;
 import org.eclipse.emf.cdo.common.model.CDOPackageInfo;
@@ -38,6 +40,7 @@ import org.eclipse.emf.cdo.common.revision.CDORevision;
 import org.eclipse.emf.cdo.common.revision.CDORevisionKey;
 import org.eclipse.emf.cdo.common.revision.delta.CDOFeatureDelta;
 import org.eclipse.emf.cdo.common.revision.delta.CDORevisionDelta;
+import org.eclipse.emf.cdo.spi.common.revision.CDORevisionBatch;
 
 import org.eclipse.net4j.util.concurrent.IRWLockManager.LockType;
 import org.eclipse.net4j.util.io.ExtendedDataInput;
@@ -49,6 +52,7 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -133,6 +137,37 @@ public interface CDODataInput extends ExtendedDataInput
    */
   public CDORevision readCDORevision(boolean freeze) throws IOException;
 
+  /**
+   * Reads a {@link CDORevisionBatch batch} of revisions. Until {@link #clearCDORevisionBatch()} is called, subsequent
+   * calls to {@link #readCDORevision(boolean) readCDORevision()} resolve references to the revisions of the batch.
+   * The returned revisions are not frozen; <code>readCDORevision()</code> freezes them as requested.
+   * <p>
+   * The default implementation can not resolve such references and therefore only accepts empty batches.
+   *
+   * @see CDODataOutput#writeCDORevisionBatch(java.util.Collection, int, CDOBranchPoint)
+   * @since 4.23
+   */
+  default List<CDORevision> readCDORevisionBatch() throws IOException
+  {
+    int groups = readVarInt();
+    if (groups != 0)
+    {
+      throw new UnsupportedOperationException("Revision batches are not supported by " + getClass().getName()); //$NON-NLS-1$
+    }
+
+    return Collections.emptyList();
+  }
+
+  /**
+   * Forgets the revisions of the last {@link #readCDORevisionBatch() batch}.
+   *
+   * @since 4.23
+   */
+  default void clearCDORevisionBatch()
+  {
+    // Do nothing.
+  }
+
   /**
    * @since 4.0
    */
@@ -201,6 +236,9 @@ public interface CDODataInput extends ExtendedDataInput
   public CDOLockDelta readCDOLockDelta() throws IOException;
 
   /**
+   * Reads the groups of lock deltas that have been written by {@link CDODataOutput#writeCDOLockDeltas(List, java.util.function.Predicate)
+   * writeCDOLockDeltas()}.
+   *
    * @since 4.15
    */
   default List<CDOLockDelta> readCDOLockDeltas() throws IOException
@@ -208,13 +246,31 @@ public interface CDODataInput extends ExtendedDataInput
     List<CDOLockDelta> lockDeltas = new ArrayList<>();
     for (;;)
     {
-      CDOLockDelta lockDelta = readCDOLockDelta();
-      if (lockDelta == null)
+      byte opcode = readByte();
+      if (opcode == -1)
       {
         break;
       }
 
-      lockDeltas.add(lockDelta);
+      CDOBranch branch = null;
+      boolean branching = opcode >= 10;
+      if (branching)
+      {
+        opcode -= 10;
+        branch = readCDOBranch();
+      }
+
+      LockType type = LockType.values()[opcode];
+      CDOLockOwner oldOwner = readCDOLockOwner();
+      CDOLockOwner newOwner = readCDOLockOwner();
+
+      int size = readXInt();
+      for (int i = 0; i < size; i++)
+      {
+        CDOID id = readCDOID();
+        Object target = branching ? CDOIDUtil.createIDAndBranch(id, branch) : id;
+        lockDeltas.add(CDOLockUtil.createLockDelta(target, type, oldOwner, newOwner));
+      }
     }
 
     return lockDeltas;
@@ -40,8 +40,10 @@ import org.eclipse.emf.cdo.common.revision.CDORevisionKey;
 import org.eclipse.emf.cdo.common.revision.delta.CDOFeatureDelta;
 import org.eclipse.emf.cdo.common.revision.delta.CDORevisionDelta;
 import org.eclipse.emf.cdo.common.security.CDOPermissionProvider;
+import org.eclipse.emf.cdo.spi.common.revision.CDORevisionBatch;
 import org.eclipse.emf.cdo.spi.common.revision.CDORevisionUnchunker;
 
+import org.eclipse.net4j.util.ObjectUtil;
 import org.eclipse.net4j.util.concurrent.IRWLockManager.LockType;
 import org.eclipse.net4j.util.io.ExtendedDataOutput;
 
@@ -50,6 +52,9 @@ import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -155,6 +160,31 @@ public interface CDODataOutput extends ExtendedDataOutput
    */
   public void writeCDORevision(CDORevision revision, int referenceChunk, CDOBranchPoint securityContext) throws IOException;
 
+  /**
+   * Writes the given revisions as a compact {@link CDORevisionBatch batch}. Until {@link #clearCDORevisionBatch()} is
+   * called, subsequent calls to {@link #writeCDORevision(CDORevision, int, CDOBranchPoint) writeCDORevision()} for
+   * revisions of the batch only write references to them.
+   * <p>
+   * The default implementation writes an empty batch, so that all revisions are written in full.
+   *
+   * @see CDODataInput#readCDORevisionBatch()
+   * @since 4.23
+   */
+  default void writeCDORevisionBatch(Collection<? extends CDORevision> revisions, int referenceChunk, CDOBranchPoint securityContext) throws IOException
+  {
+    CDORevisionBatch.write(this, Collections.emptyList(), referenceChunk, securityContext);
+  }
+
+  /**
+   * Forgets the revisions of the last {@link #writeCDORevisionBatch(Collection, int, CDOBranchPoint) batch}.
+   *
+   * @since 4.23
+   */
+  default void clearCDORevisionBatch()
+  {
+    // Do nothing.
+  }
+
   /**
    * @since 4.0
    */
@@ -229,25 +259,71 @@ public interface CDODataOutput extends ExtendedDataOutput
   public void writeCDOLockDelta(CDOLockDelta lockDelta) throws IOException;
 
   /**
+   * Writes the lock deltas that pass the given filter in groups. Consecutive lock deltas that only differ in their IDs
+   * form a group, which is written as the common type, branch and owners, followed by the IDs. See
+   * {@link CDODataInput#readCDOLockDeltas()}.
+   *
    * @since 4.15
    */
   default void writeCDOLockDeltas(List<CDOLockDelta> lockDeltas, Predicate<CDOLockDelta> filter) throws IOException
   {
+    List<CDOLockDelta> filteredLockDeltas = lockDeltas;
     if (filter != null)
     {
+      filteredLockDeltas = new ArrayList<>();
       for (CDOLockDelta lockDelta : lockDeltas)
       {
         if (filter.test(lockDelta))
         {
-          writeCDOLockDelta(lockDelta);
+          filteredLockDeltas.add(lockDelta);
         }
       }
     }
-    else
+
+    int size = filteredLockDeltas.size();
+    for (int start = 0, end; start < size; start = end)
     {
-      for (CDOLockDelta lockDelta : lockDeltas)
+      CDOLockDelta first = filteredLockDeltas.get(start);
+      LockType type = first.getType();
+      CDOLockOwner oldOwner = first.getOldOwner();
+      CDOLockOwner newOwner = first.getNewOwner();
+
+      Object target = first.getTarget();
+      boolean branching = target instanceof CDOIDAndBranch;
+      if (!branching && !(target instanceof CDOID))
+      {
+        throw new AssertionError("Unexpected type: " + target.getClass().getSimpleName());
+      }
+
+      CDOBranch branch = branching ? ((CDOIDAndBranch)target).getBranch() : null;
+
+      for (end = start + 1; end < size; end++)
+      {
+        CDOLockDelta lockDelta = filteredLockDeltas.get(end);
+        Object nextTarget = lockDelta.getTarget();
+
+        if (lockDelta.getType() != type //
+            || !ObjectUtil.equals(lockDelta.getOldOwner(), oldOwner) //
+            || !ObjectUtil.equals(lockDelta.getNewOwner(), newOwner) //
+            || (branching ? !(nextTarget instanceof CDOIDAndBranch) || ((CDOIDAndBranch)nextTarget).getBranch() != branch : !(nextTarget instanceof CDOID)))
+        {
+          break;
+        }
+      }
+
+      writeByte(type.ordinal() + (branching ? 10 : 0));
+      if (branching)
+      {
+        writeCDOBranch(branch);
+      }
+
+      writeCDOLockOwner(oldOwner);
+      writeCDOLockOwner(newOwner);
+
+      writeXInt(end - start);
+      for (int i = start; i < end; i++)
       {
-        writeCDOLockDelta(lockDelta);
+        writeCDOID(filteredLockDeltas.get(i).getID());
       }
     }
 
@@ -19,7 +19,11 @@ class CDOProtocolVersion
 
   static
   {
-    VALUE = 51; // Support login peeking
+    VALUE = 53; // Grouped lock deltas
+
+    // VALUE = 52; // Compact revision batches in LoadRevisions responses
+
+    // VALUE = 51; // Support login peeking
 
     // VALUE = 50; // Support optional lock state prefetching while opening a CDOUnit #20
     // VALUE = 49; // Add security support to CDO-LM #5
@@ -36,6 +36,11 @@ public class CDOListWithElementProxiesImpl extends CDOListImpl
 
   private static final long serialVersionUID = 1L;
 
+  /**
+   * The index of the first element proxy after the last resolved chunk, or 0.
+   */
+  private transient int sequentialIndex;
+
   public CDOListWithElementProxiesImpl(int initialCapacity, int size, int initialChunk)
   {
     super(initialCapacity, initialChunk);
@@ -58,6 +63,25 @@ public class CDOListWithElementProxiesImpl extends CDOListImpl
     return element instanceof CDOElementProxy ? UNINITIALIZED : element;
   }
 
+  /**
+   * Returns <code>true</code> if the element proxy at the given index directly follows the last resolved chunk of this
+   * list, i.e., if the elements of this list seem to be accessed sequentially, <code>false</code> otherwise.
+   * <p>
+   * This is only a heuristic. Concurrent resolutions from different threads can make it return wrong results.
+   */
+  public boolean isSequentialAccess(int index)
+  {
+    return index != 0 && index == sequentialIndex;
+  }
+
+  /**
+   * Records that the element proxies of this list up to the given index (exclusive) have been resolved.
+   */
+  public void setResolvedIndex(int index)
+  {
+    sequentialIndex = index;
+  }
+
   @Override
   protected void handleAdjustReference(int index, Object element)
   {
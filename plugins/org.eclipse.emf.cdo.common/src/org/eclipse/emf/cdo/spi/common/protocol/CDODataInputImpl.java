@@ -76,6 +76,7 @@ import org.eclipse.emf.cdo.spi.common.lock.InternalCDOLockState;
 import org.eclipse.emf.cdo.spi.common.model.InternalCDOPackageInfo;
 import org.eclipse.emf.cdo.spi.common.model.InternalCDOPackageRegistry;
 import org.eclipse.emf.cdo.spi.common.model.InternalCDOPackageUnit;
+import org.eclipse.emf.cdo.spi.common.revision.CDORevisionBatch;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDOList;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDOList.ConfigurableEquality;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
@@ -108,6 +109,8 @@ public abstract class CDODataInputImpl extends ExtendedDataInput.Delegating impl
 {
   private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_PROTOCOL, CDODataInputImpl.class);
 
+  private List<CDORevision> revisionBatch;
+
   public CDODataInputImpl(ExtendedDataInput delegate)
   {
     super(delegate);
@@ -516,8 +519,19 @@ public abstract class CDODataInputImpl extends ExtendedDataInput.Delegating impl
   @Override
   public CDORevision readCDORevision(boolean freeze) throws IOException
   {
-    boolean notNull = readBoolean();
-    if (notNull)
+    byte marker = readByte();
+    if (marker == CDODataOutputImpl.REVISION_BATCHED)
+    {
+      InternalCDORevision revision = (InternalCDORevision)revisionBatch.get(readXInt());
+      if (freeze)
+      {
+        revision.freeze();
+      }
+
+      return revision;
+    }
+
+    if (marker != 0)
     {
       InternalCDORevision revision = (InternalCDORevision)getRevisionFactory().createRevision(null);
       revision.read(this);
@@ -533,6 +547,25 @@ public abstract class CDODataInputImpl extends ExtendedDataInput.Delegating impl
     return null;
   }
 
+  /**
+   * @since 4.23
+   */
+  @Override
+  public List<CDORevision> readCDORevisionBatch() throws IOException
+  {
+    revisionBatch = CDORevisionBatch.read(this, getRevisionFactory());
+    return revisionBatch;
+  }
+
+  /**
+   * @since 4.23
+   */
+  @Override
+  public void clearCDORevisionBatch()
+  {
+    revisionBatch = null;
+  }
+
   @Override
   public CDORevisable readCDORevisable() throws IOException
   {
@@ -53,6 +53,7 @@ import org.eclipse.emf.cdo.internal.common.revision.delta.CDORevisionDeltaImpl;
 import org.eclipse.emf.cdo.spi.common.branch.CDOBranchUtil;
 import org.eclipse.emf.cdo.spi.common.model.InternalCDOPackageInfo;
 import org.eclipse.emf.cdo.spi.common.model.InternalCDOPackageUnit;
+import org.eclipse.emf.cdo.spi.common.revision.CDORevisionBatch;
 import org.eclipse.emf.cdo.spi.common.revision.CDORevisionUnchunker;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
 
@@ -70,6 +71,8 @@ import org.eclipse.emf.ecore.EStructuralFeature;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -81,8 +84,16 @@ import java.util.Set;
  */
 public class CDODataOutputImpl extends ExtendedDataOutput.Delegating implements CDODataOutput
 {
+  /**
+   * Marks a reference to a revision of a {@link CDORevisionBatch batch}. Distinct from the boolean values that
+   * otherwise precede a revision.
+   */
+  static final byte REVISION_BATCHED = 2;
+
   private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_PROTOCOL, CDODataOutputImpl.class);
 
+  private Map<CDORevision, Integer> revisionBatch;
+
   public CDODataOutputImpl(ExtendedDataOutput delegate)
   {
     super(delegate);
@@ -501,6 +512,17 @@ public class CDODataOutputImpl extends ExtendedDataOutput.Delegating implements
   {
     if (revision != null)
     {
+      if (revisionBatch != null)
+      {
+        Integer index = revisionBatch.get(revision);
+        if (index != null)
+        {
+          writeByte(REVISION_BATCHED);
+          writeXInt(index);
+          return;
+        }
+      }
+
       writeBoolean(true);
       ((InternalCDORevision)revision).write(this, referenceChunk, securityContext);
     }
@@ -510,6 +532,30 @@ public class CDODataOutputImpl extends ExtendedDataOutput.Delegating implements
     }
   }
 
+  /**
+   * @since 4.23
+   */
+  @Override
+  public void writeCDORevisionBatch(Collection<? extends CDORevision> revisions, int referenceChunk, CDOBranchPoint securityContext) throws IOException
+  {
+    List<CDORevision> batch = CDORevisionBatch.write(this, revisions, referenceChunk, securityContext);
+
+    revisionBatch = new IdentityHashMap<>();
+    for (int i = 0; i < batch.size(); i++)
+    {
+      revisionBatch.put(batch.get(i), i);
+    }
+  }
+
+  /**
+   * @since 4.23
+   */
+  @Override
+  public void clearCDORevisionBatch()
+  {
+    revisionBatch = null;
+  }
+
   @Override
   public void writeCDORevisable(CDORevisable revisable) throws IOException
   {
@@ -253,7 +253,7 @@ public abstract class BaseCDORevision extends AbstractCDORevision
     return unchunked;
   }
 
-  private boolean readValue(CDODataInput in, EClass owner, EStructuralFeature[] features, int i, boolean unchunked) throws IOException
+  boolean readValue(CDODataInput in, EClass owner, EStructuralFeature[] features, int i, boolean unchunked) throws IOException
   {
     Object value;
     byte unsetState = in.readByte();
@@ -401,7 +401,7 @@ public abstract class BaseCDORevision extends AbstractCDORevision
     }
   }
 
-  private void writeValue(CDODataOutput out, EClass owner, EStructuralFeature[] features, int i, int referenceChunk) throws IOException
+  void writeValue(CDODataOutput out, EClass owner, EStructuralFeature[] features, int i, int referenceChunk) throws IOException
   {
     EStructuralFeature feature = features[i];
     Object value = getValue(i);
@@ -443,6 +443,77 @@ public abstract class BaseCDORevision extends AbstractCDORevision
     }
   }
 
+  /**
+   * Determines the permission of this revision for a {@link CDORevisionBatch batch} and ensures that its chunks are
+   * loaded if its values are going to be written.
+   */
+  CDOPermission prepareBatchWrite(CDODataOutput out, int referenceChunk, CDOBranchPoint securityContext)
+  {
+    CDOPermissionProvider permissionProvider = out.getPermissionProvider();
+    CDOPermission permission = permissionProvider.getPermission(this, securityContext);
+
+    if (permission != CDOPermission.NONE && !isUnchunked() && referenceChunk != 0)
+    {
+      CDORevisionUnchunker unchunker = out.getRevisionUnchunker();
+      if (unchunker != null)
+      {
+        unchunker.ensureChunks(this, referenceChunk);
+      }
+    }
+
+    return permission;
+  }
+
+  /**
+   * Returns whether the value at the given feature index is part of a {@link CDORevisionBatch batch} with the given
+   * permission bits. Mirrors the decisions of {@link #write(CDODataOutput, int, CDOBranchPoint)}.
+   */
+  boolean isBatchValue(byte permissionBits, int featureIndex)
+  {
+    if ((permissionBits & PERMISSION_MASK) != CDOPermission.NONE.ordinal())
+    {
+      return true;
+    }
+
+    CDOClassInfo classInfo = getClassInfo();
+    if (!classInfo.isResourceNode())
+    {
+      return false;
+    }
+
+    return featureIndex == RESOURCE_NODE_NAME_INDEX || featureIndex == RESOURCE_FOLDER_NODES_INDEX && classInfo.isResourceFolder();
+  }
+
+  /**
+   * Prepares this revision for reading its values from a {@link CDORevisionBatch batch}. Mirrors the beginning of
+   * {@link #read(CDODataInput)}.
+   */
+  void prepareBatchRead(byte permissionBits)
+  {
+    flags = permissionBits;
+    flags |= UNCHUNKED_FLAG;
+    flags |= BYPASS_PERMISSION_CHECKS_FLAG;
+
+    if ((flags & PERMISSION_MASK) == CDOPermission.NONE.ordinal() && getClassInfo().isResourceNode())
+    {
+      clearValues();
+    }
+  }
+
+  /**
+   * Finishes reading the values of this revision from a {@link CDORevisionBatch batch}. Mirrors the end of
+   * {@link #read(CDODataInput)}.
+   */
+  void finishBatchRead(boolean unchunked)
+  {
+    if (!unchunked)
+    {
+      flags &= ~UNCHUNKED_FLAG;
+    }
+
+    flags &= ~BYPASS_PERMISSION_CHECKS_FLAG;
+  }
+
   /**
    * @see #write(CDODataOutput, int)
    * @since 3.0
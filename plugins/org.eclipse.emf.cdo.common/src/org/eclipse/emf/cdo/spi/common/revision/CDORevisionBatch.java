@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.spi.common.revision;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranch;
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
+import org.eclipse.emf.cdo.common.protocol.CDODataInput;
+import org.eclipse.emf.cdo.common.protocol.CDODataOutput;
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.common.revision.CDORevisionFactory;
+import org.eclipse.emf.cdo.common.security.CDOPermission;
+import org.eclipse.emf.cdo.internal.common.bundle.OM;
+import org.eclipse.emf.cdo.internal.common.id.CDOIDObjectLongImpl;
+
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes batches of {@link CDORevision revisions} in a compact, schema-aware format.
+ * <p>
+ * The revisions of a batch are grouped by their class, so that the class reference is written only once per group.
+ * Within a group the system values and the feature values are written column by column. Long-based IDs and time stamps
+ * are delta-encoded as zig-zag varints, the branch is written only once if all revisions of a group share it.
+ * <p>
+ * The feature values are written with the same per-value encoding as in
+ * {@link BaseCDORevision#write(CDODataOutput, int, CDOBranchPoint) BaseCDORevision.write()}, so permissions, chunking
+ * and the {@link CDODataOutput#getIDProvider() ID provider} are respected in the same way.
+ *
+ * @author Eike Stepper
+ * @since 4.23
+ */
+public final class CDORevisionBatch
+{
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_REVISION, CDORevisionBatch.class);
+
+  private CDORevisionBatch()
+  {
+  }
+
+  /**
+   * Returns <code>true</code> if the given revision can be written as part of a batch, <code>false</code> otherwise.
+   */
+  public static boolean isBatchable(CDORevision revision)
+  {
+    return revision instanceof BaseCDORevision && !((BaseCDORevision)revision).getID().isTemporary();
+  }
+
+  /**
+   * Writes the {@link #isBatchable(CDORevision) batchable} ones of the given revisions and returns them in the order in
+   * which they have been written.
+   */
+  public static List<CDORevision> write(CDODataOutput out, Collection<? extends CDORevision> revisions, int referenceChunk, CDOBranchPoint securityContext)
+      throws IOException
+  {
+    Map<EClass, List<BaseCDORevision>> groups = new LinkedHashMap<>();
+    for (CDORevision revision : revisions)
+    {
+      if (isBatchable(revision))
+      {
+        groups.computeIfAbsent(revision.getEClass(), k -> new ArrayList<>()).add((BaseCDORevision)revision);
+      }
+    }
+
+    List<CDORevision> result = new ArrayList<>();
+    out.writeVarInt(groups.size());
+
+    for (Map.Entry<EClass, List<BaseCDORevision>> entry : groups.entrySet())
+    {
+      EClass eClass = entry.getKey();
+      List<BaseCDORevision> group = entry.getValue();
+      writeGroup(out, eClass, group, referenceChunk, securityContext);
+      result.addAll(group);
+    }
+
+    return result;
+  }
+
+  /**
+   * Reads the revisions of a batch in the order in which they have been written. The revisions are not frozen.
+   */
+  public static List<CDORevision> read(CDODataInput in, CDORevisionFactory revisionFactory) throws IOException
+  {
+    List<CDORevision> result = new ArrayList<>();
+
+    int groups = in.readVarInt();
+    for (int i = 0; i < groups; i++)
+    {
+      readGroup(in, revisionFactory, result);
+    }
+
+    return result;
+  }
+
+  private static void writeGroup(CDODataOutput out, EClass eClass, List<BaseCDORevision> group, int referenceChunk, CDOBranchPoint securityContext)
+      throws IOException
+  {
+    int size = group.size();
+    if (TRACER.isEnabled())
+    {
+      TRACER.format("Writing {0} revisions of class {1}", size, eClass.getName()); //$NON-NLS-1$
+    }
+
+    out.writeCDOClassifierRef(eClass);
+    out.writeVarInt(size);
+
+    CDOID[] ids = new CDOID[size];
+    CDOID[] resourceIDs = new CDOID[size];
+    CDOID[] containerIDs = new CDOID[size];
+    CDOBranch branch = group.get(0).getBranch();
+    boolean singleBranch = true;
+
+    for (int i = 0; i < size; i++)
+    {
+      BaseCDORevision revision = group.get(i);
+      ids[i] = revision.getID();
+      resourceIDs[i] = revision.getResourceID();
+      containerIDs[i] = out.getIDProvider().provideCDOID(revision.getContainerID());
+
+      if (revision.getBranch() != branch)
+      {
+        singleBranch = false;
+      }
+    }
+
+    writeIDs(out, ids);
+
+    out.writeBoolean(singleBranch);
+    if (singleBranch)
+    {
+      out.writeCDOBranch(branch);
+    }
+    else
+    {
+      for (BaseCDORevision revision : group)
+      {
+        out.writeCDOBranch(revision.getBranch());
+      }
+    }
+
+    long lastTimeStamp = 0L;
+    for (BaseCDORevision revision : group)
+    {
+      long timeStamp = revision.getTimeStamp();
+      writeDelta(out, timeStamp - lastTimeStamp);
+      lastTimeStamp = timeStamp;
+    }
+
+    for (BaseCDORevision revision : group)
+    {
+      out.writeVarInt(revision.getVersion());
+    }
+
+    for (BaseCDORevision revision : group)
+    {
+      long revised = revision.getRevised();
+      out.writeVarLong(revised == CDOBranchPoint.UNSPECIFIED_DATE ? 0L : revised - revision.getTimeStamp() + 1);
+    }
+
+    writeIDs(out, resourceIDs);
+    writeIDs(out, containerIDs);
+
+    for (BaseCDORevision revision : group)
+    {
+      out.writeVarInt(revision.getContainingFeatureID());
+    }
+
+    byte[] permissions = new byte[size];
+    for (int i = 0; i < size; i++)
+    {
+      CDOPermission permission = group.get(i).prepareBatchWrite(out, referenceChunk, securityContext);
+      permissions[i] = permission.getBits();
+      out.writeByte(permissions[i]);
+    }
+
+    EStructuralFeature[] features = group.get(0).getAllPersistentFeatures();
+    for (int featureIndex = 0; featureIndex < features.length; featureIndex++)
+    {
+      for (int i = 0; i < size; i++)
+      {
+        BaseCDORevision revision = group.get(i);
+        if (revision.isBatchValue(permissions[i], featureIndex))
+        {
+          revision.writeValue(out, eClass, features, featureIndex, referenceChunk);
+        }
+      }
+    }
+  }
+
+  private static void readGroup(CDODataInput in, CDORevisionFactory revisionFactory, List<CDORevision> result) throws IOException
+  {
+    EClass eClass = (EClass)in.readCDOClassifierRefAndResolve();
+    int size = in.readVarInt();
+
+    if (TRACER.isEnabled())
+    {
+      TRACER.format("Reading {0} revisions of class {1}", size, eClass.getName()); //$NON-NLS-1$
+    }
+
+    BaseCDORevision[] group = new BaseCDORevision[size];
+    CDOID[] ids = readIDs(in, size);
+
+    for (int i = 0; i < size; i++)
+    {
+      BaseCDORevision revision = (BaseCDORevision)revisionFactory.createRevision(eClass);
+      revision.setID(ids[i]);
+      group[i] = revision;
+    }
+
+    CDOBranch[] branches = new CDOBranch[size];
+    if (in.readBoolean())
+    {
+      CDOBranch branch = in.readCDOBranch();
+      for (int i = 0; i < size; i++)
+      {
+        branches[i] = branch;
+      }
+    }
+    else
+    {
+      for (int i = 0; i < size; i++)
+      {
+        branches[i] = in.readCDOBranch();
+      }
+    }
+
+    long lastTimeStamp = 0L;
+    for (int i = 0; i < size; i++)
+    {
+      long timeStamp = lastTimeStamp + readDelta(in);
+      group[i].setBranchPoint(branches[i].getPoint(timeStamp));
+      lastTimeStamp = timeStamp;
+    }
+
+    for (BaseCDORevision revision : group)
+    {
+      revision.setVersion(in.readVarInt());
+    }
+
+    for (BaseCDORevision revision : group)
+    {
+      long revised = in.readVarLong();
+      revision.setRevised(revised == 0L ? CDOBranchPoint.UNSPECIFIED_DATE : revision.getTimeStamp() + revised - 1);
+    }
+
+    CDOID[] resourceIDs = readIDs(in, size);
+    CDOID[] containerIDs = readIDs(in, size);
+
+    for (int i = 0; i < size; i++)
+    {
+      BaseCDORevision revision = group[i];
+      revision.setResourceID(resourceIDs[i]);
+      revision.setContainerID(containerIDs[i]);
+      revision.setContainingFeatureID(in.readVarInt());
+    }
+
+    byte[] permissions = new byte[size];
+    for (int i = 0; i < size; i++)
+    {
+      permissions[i] = in.readByte();
+      group[i].prepareBatchRead(permissions[i]);
+    }
+
+    boolean[] unchunked = new boolean[size];
+    Arrays.fill(unchunked, true);
+
+    EStructuralFeature[] features = group[0].getAllPersistentFeatures();
+    for (int featureIndex = 0; featureIndex < features.length; featureIndex++)
+    {
+      for (int i = 0; i < size; i++)
+      {
+        BaseCDORevision revision = group[i];
+        if (revision.isBatchValue(permissions[i], featureIndex))
+        {
+          unchunked[i] = revision.readValue(in, eClass, features, featureIndex, unchunked[i]);
+        }
+      }
+    }
+
+    for (int i = 0; i < size; i++)
+    {
+      BaseCDORevision revision = group[i];
+      revision.finishBatchRead(unchunked[i]);
+      result.add(revision);
+    }
+  }
+
+  private static void writeIDs(CDODataOutput out, CDOID[] ids) throws IOException
+  {
+    boolean longIDs = true;
+    for (CDOID id : ids)
+    {
+      if (!isLongID(id))
+      {
+        longIDs = false;
+        break;
+      }
+    }
+
+    out.writeBoolean(longIDs);
+    if (longIDs)
+    {
+      long lastValue = 0L;
+      for (CDOID id : ids)
+      {
+        long value = CDOIDUtil.getLong(id);
+        writeDelta(out, value - lastValue);
+        lastValue = value;
+      }
+    }
+    else
+    {
+      for (CDOID id : ids)
+      {
+        out.writeCDOID(id);
+      }
+    }
+  }
+
+  private static CDOID[] readIDs(CDODataInput in, int size) throws IOException
+  {
+    CDOID[] ids = new CDOID[size];
+    if (in.readBoolean())
+    {
+      long lastValue = 0L;
+      for (int i = 0; i < size; i++)
+      {
+        long value = lastValue + readDelta(in);
+        ids[i] = CDOIDUtil.createLong(value);
+        lastValue = value;
+      }
+    }
+    else
+    {
+      for (int i = 0; i < size; i++)
+      {
+        ids[i] = in.readCDOID();
+      }
+    }
+
+    return ids;
+  }
+
+  private static boolean isLongID(CDOID id)
+  {
+    return id == null || id.isNull() || id instanceof CDOIDObjectLongImpl;
+  }
+
+  private static void writeDelta(CDODataOutput out, long delta) throws IOException
+  {
+    out.writeVarLong(delta << 1 ^ delta >> 63);
+  }
+
+  private static long readDelta(CDODataInput in) throws IOException
+  {
+    long value = in.readVarLong();
+    return value >>> 1 ^ -(value & 1);
+  }
+}
@@ -16,6 +16,8 @@ import org.eclipse.emf.cdo.common.revision.CDORevision;
 import org.eclipse.emf.cdo.common.revision.CDORevisionManager;
 import org.eclipse.emf.cdo.common.revision.CDORevisionProvider;
 
+import java.util.List;
+
 /**
  * A revision provider backed by a {@link CDORevisionManager revision manager} that provides revisions which are
  * {@link CDORevision#isValid(CDOBranchPoint) valid} at the configured {@link #getBranchPoint() branch point}.
@@ -57,6 +59,16 @@ public class ManagedRevisionProvider implements CDORevisionProvider
     return provideRevision(revisionManager, id, branchPoint);
   }
 
+  /**
+   * Loads the revisions with the given IDs with as few requests as possible.
+   *
+   * @since 4.23
+   */
+  public List<CDORevision> getRevisions(List<CDOID> ids)
+  {
+    return revisionManager.getRevisions(ids, branchPoint, CDORevision.UNCHUNKED, CDORevision.DEPTH_NONE, true);
+  }
+
   /**
    * @since 4.22
    */
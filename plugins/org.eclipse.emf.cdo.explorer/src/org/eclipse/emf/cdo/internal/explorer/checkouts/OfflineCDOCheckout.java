@@ -440,6 +440,17 @@ public class OfflineCDOCheckout extends CDOCheckoutImpl
     {
     }
 
+    @Override
+    public File getRevisionCacheFolder()
+    {
+      return null;
+    }
+
+    @Override
+    public void setRevisionCacheFolder(File revisionCacheFolder)
+    {
+    }
+
     @Override
     public boolean isActivateOnOpen()
     {
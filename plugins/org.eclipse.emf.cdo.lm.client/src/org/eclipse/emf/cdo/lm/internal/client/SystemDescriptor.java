@@ -80,6 +80,7 @@ import org.eclipse.emf.cdo.view.CDOViewCommitInfoListener;
 import org.eclipse.net4j.Net4jUtil;
 import org.eclipse.net4j.util.CheckUtil;
 import org.eclipse.net4j.util.StringUtil;
+import org.eclipse.net4j.util.concurrent.ConcurrencyUtil;
 import org.eclipse.net4j.util.concurrent.TimeoutRuntimeException;
 import org.eclipse.net4j.util.container.IManagedContainer;
 import org.eclipse.net4j.util.event.IListener;
@@ -143,6 +144,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -168,6 +175,9 @@ public final class SystemDescriptor implements ISystemDescriptor
     @Override
     public void notifyCommitInfo(CDOCommitInfo commitInfo)
     {
+      // New or deleted baselines can change the results of all resolutions.
+      clearResolvedBaselines();
+
       commitInfo.forEachRevisionDelta(revisionDelta -> {
         EClass eClass = revisionDelta.getEClass();
 
@@ -241,6 +251,25 @@ public final class SystemDescriptor implements ISystemDescriptor
 
   private final Map<String, CDORepository> moduleRepositories = new HashMap<>();
 
+  /**
+   * Serializes the connection of each module repository, without blocking the connections of other module repositories.
+   */
+  private final Map<String, Object> moduleRepositoryLocks = new ConcurrentHashMap<>();
+
+  /**
+   * Caches the baselines that have been resolved for a {@link #getResolutionKey(ModuleDefinition) root definition}, until
+   * the next commit to the system repository.
+   */
+  private final Map<String, Resolution> resolvedBaselines = new ConcurrentHashMap<>();
+
+  /**
+   * Incremented whenever the {@link #resolvedBaselines} are cleared. A resolution that was started in an older generation
+   * is never served from the cache.
+   */
+  private final AtomicLong resolutionGeneration = new AtomicLong();
+
+  private final AtomicInteger resolutionCount = new AtomicInteger();
+
   private SystemDescriptor()
   {
     systemRepository = null;
@@ -379,6 +408,7 @@ public final class SystemDescriptor implements ISystemDescriptor
         }
         finally
         {
+          clearResolvedBaselines();
           system = null;
           systemView = null;
           state = State.Closed;
@@ -483,19 +513,37 @@ public final class SystemDescriptor implements ISystemDescriptor
   @Override
   public CDORepository getModuleRepository(String moduleName)
   {
-    CDORepository moduleRepository;
     synchronized (this)
     {
-      moduleRepository = moduleRepositories.get(moduleName);
+      CDORepository moduleRepository = moduleRepositories.get(moduleName);
+      if (moduleRepository != null)
+      {
+        return moduleRepository;
+      }
+    }
+
+    // Connect outside of the descriptor lock, so that multiple module repositories can be connected concurrently.
+    Object moduleRepositoryLock = moduleRepositoryLocks.computeIfAbsent(moduleName, k -> new Object());
+    synchronized (moduleRepositoryLock)
+    {
+      synchronized (this)
+      {
+        CDORepository moduleRepository = moduleRepositories.get(moduleName);
+        if (moduleRepository != null)
+        {
+          return moduleRepository;
+        }
+      }
+
+      CDORepository moduleRepository = connectModuleRepository(moduleName);
 
-      if (moduleRepository == null)
+      synchronized (this)
       {
-        moduleRepository = connectModuleRepository(moduleName);
         moduleRepositories.put(moduleName, moduleRepository);
       }
-    }
 
-    return moduleRepository;
+      return moduleRepository;
+    }
   }
 
   private CDORepository connectModuleRepository(String moduleName)
@@ -798,27 +846,131 @@ public final class SystemDescriptor implements ISystemDescriptor
     CDOView primaryView = CDOUtil.getView(resourceSet);
     Map<String, CDOView> moduleViews = new HashMap<>();
 
-    assembly.forEachDependency(module -> {
-      CDOView view = LMResourceSetConfiguration.openView(this, module, resourceSet);
-      if (view != null)
-      {
-        primaryView.addListener(new LifecycleEventAdapter()
+    List<CDORepository> acquiredRepositories = acquireModuleSessions(assembly);
+
+    try
+    {
+      // The views are opened one after another because the resource set is not thread-safe.
+      assembly.forEachDependency(module -> {
+        CDOView view = LMResourceSetConfiguration.openView(this, module, resourceSet);
+        if (view != null)
         {
-          @Override
-          protected void onDeactivated(ILifecycle lifecycle)
+          primaryView.addListener(new LifecycleEventAdapter()
           {
-            // Close secondary view.
-            LifecycleUtil.deactivate(view);
-          }
-        });
+            @Override
+            protected void onDeactivated(ILifecycle lifecycle)
+            {
+              // Close secondary view.
+              LifecycleUtil.deactivate(view);
+            }
+          });
 
-        moduleViews.put(module.getName(), view);
+          moduleViews.put(module.getName(), view);
+        }
+      });
+    }
+    finally
+    {
+      for (CDORepository moduleRepository : acquiredRepositories)
+      {
+        moduleRepository.releaseSession();
       }
-    });
+    }
 
     return moduleViews;
   }
 
+  /**
+   * Connects the repositories of all dependencies of the given assembly and opens their sessions concurrently. The
+   * sessions of all module repositories share the connector of the system repository.
+   *
+   * @return the repositories whose sessions have been acquired and must be released.
+   */
+  private List<CDORepository> acquireModuleSessions(Assembly assembly)
+  {
+    List<String> moduleNames = new ArrayList<>();
+    assembly.forEachDependency(module -> moduleNames.add(module.getName()));
+
+    List<CDORepository> acquiredRepositories = new ArrayList<>();
+    if (moduleNames.size() < 2)
+    {
+      return acquiredRepositories;
+    }
+
+    ExecutorService executorService = ConcurrencyUtil.getExecutorService(systemRepository.getContainer());
+    List<Future<CDORepository>> futures = new ArrayList<>();
+
+    for (String moduleName : moduleNames)
+    {
+      futures.add(executorService.submit(() -> {
+        CDORepository moduleRepository = getModuleRepository(moduleName);
+        return moduleRepository.acquireSession() != null ? moduleRepository : null;
+      }));
+    }
+
+    for (int i = 0; i < futures.size(); i++)
+    {
+      try
+      {
+        CDORepository moduleRepository = futures.get(i).get();
+        if (moduleRepository != null)
+        {
+          acquiredRepositories.add(moduleRepository);
+        }
+      }
+      catch (InterruptedException ex)
+      {
+        Thread.currentThread().interrupt();
+        cancelModuleSessions(futures.subList(i, futures.size()), executorService);
+        break;
+      }
+      catch (ExecutionException ex)
+      {
+        // The view of this module will fail to open later, with the same problem.
+        OM.LOG.error(ex.getCause());
+      }
+    }
+
+    return acquiredRepositories;
+  }
+
+  /**
+   * Cancels the given session acquisitions. The sessions of the acquisitions that have already started are released as
+   * soon as they are acquired.
+   */
+  private static void cancelModuleSessions(List<Future<CDORepository>> futures, ExecutorService executorService)
+  {
+    List<Future<CDORepository>> started = new ArrayList<>();
+    for (Future<CDORepository> future : futures)
+    {
+      if (!future.cancel(false))
+      {
+        started.add(future);
+      }
+    }
+
+    if (!started.isEmpty())
+    {
+      executorService.submit(() -> {
+        for (Future<CDORepository> future : started)
+        {
+          try
+          {
+            CDORepository moduleRepository = future.get();
+            if (moduleRepository != null)
+            {
+              moduleRepository.releaseSession();
+            }
+          }
+          catch (Exception ex)
+          {
+            // Nothing has been acquired.
+          }
+        }
+      });
+    }
+  }
+
   @Override
   public Assembly resolve(ModuleDefinition rootDefinition, Baseline rootBaseline, IProgressMonitor monitor) throws ResolutionException
   {
@@ -849,8 +1001,57 @@ public final class SystemDescriptor implements ISystemDescriptor
     return assembly;
   }
 
+  /**
+   * Returns the number of resolutions that have not been served from the cache.
+   */
+  public int getResolutionCount()
+  {
+    return resolutionCount.get();
+  }
+
+  private void clearResolvedBaselines()
+  {
+    resolutionGeneration.incrementAndGet();
+    resolvedBaselines.clear();
+  }
+
   private void resolveDependencies(ModuleDefinition rootDefinition, Assembly assembly, IProgressMonitor monitor) throws ResolutionException, ProvisionException
   {
+    String resolutionKey = getResolutionKey(rootDefinition);
+    long generation = resolutionGeneration.get();
+
+    List<FixedBaseline> resolved;
+    Resolution resolution = resolvedBaselines.get(resolutionKey);
+    if (resolution != null && resolution.generation == generation)
+    {
+      resolved = resolution.baselines;
+    }
+    else
+    {
+      resolved = resolveBaselines(rootDefinition, monitor);
+      resolutionCount.incrementAndGet();
+
+      // A commit during the resolution has advanced the generation, so that the result is never served.
+      resolvedBaselines.merge(resolutionKey, new Resolution(generation, resolved),
+          (oldResolution, newResolution) -> oldResolution.generation > newResolution.generation ? oldResolution : newResolution);
+    }
+
+    for (FixedBaseline baseline : resolved)
+    {
+      AssemblyModule assemblyModule = AssemblyFactory.eINSTANCE.createAssemblyModule();
+      assemblyModule.setAssembly(assembly);
+      assemblyModule.setName(baseline.getModule().getName());
+      assemblyModule.setVersion(baseline.getVersion());
+      assemblyModule.setBranchPoint(baseline.getBranchPoint());
+      addAnnotation(assemblyModule, baseline, null);
+    }
+
+    assembly.sortModules();
+  }
+
+  private List<FixedBaseline> resolveBaselines(ModuleDefinition rootDefinition, IProgressMonitor monitor) throws ResolutionException, ProvisionException
+  {
+    List<FixedBaseline> resolved = new ArrayList<>();
     List<FixedBaseline> baselines = new ArrayList<>();
     List<IInstallableUnit> ius = new ArrayList<>();
 
@@ -919,12 +1120,7 @@ public final class SystemDescriptor implements ISystemDescriptor
         FixedBaseline baseline = getBaseline(iu, baselines);
         if (baseline != null)
         {
-          AssemblyModule assemblyModule = AssemblyFactory.eINSTANCE.createAssemblyModule();
-          assemblyModule.setAssembly(assembly);
-          assemblyModule.setName(baseline.getModule().getName());
-          assemblyModule.setVersion(baseline.getVersion());
-          assemblyModule.setBranchPoint(baseline.getBranchPoint());
-          addAnnotation(assemblyModule, baseline, null);
+          resolved.add(baseline);
         }
       }
     }
@@ -941,7 +1137,7 @@ public final class SystemDescriptor implements ISystemDescriptor
       }
     }
 
-    assembly.sortModules();
+    return Collections.unmodifiableList(resolved);
   }
 
   @Override
@@ -1311,6 +1507,24 @@ public final class SystemDescriptor implements ISystemDescriptor
     return iuDescription;
   }
 
+  private static String getResolutionKey(ModuleDefinition moduleDefinition)
+  {
+    StringBuilder builder = new StringBuilder();
+    builder.append(moduleDefinition.getName());
+    builder.append(' ');
+    builder.append(moduleDefinition.getVersion());
+
+    for (DependencyDefinition dependencyDefinition : moduleDefinition.getDependencies())
+    {
+      builder.append(' ');
+      builder.append(dependencyDefinition.getTargetName());
+      builder.append(' ');
+      builder.append(dependencyDefinition.getVersionRange());
+    }
+
+    return builder.toString();
+  }
+
   private static IProvisioningAgent createProvisioningAgent(File agentLocation) throws ProvisionException
   {
     BundleContext context = OSGiUtil.getBundleContext(OM.BUNDLE);
@@ -1439,4 +1653,22 @@ public final class SystemDescriptor implements ISystemDescriptor
   {
     return (String)session.properties().get(KEY_MODULE_NAME);
   }
+
+  /**
+   * The baselines that have been resolved in a certain generation of the {@link SystemDescriptor#resolvedBaselines cache}.
+   *
+   * @author Eike Stepper
+   */
+  private static final class Resolution
+  {
+    private final long generation;
+
+    private final List<FixedBaseline> baselines;
+
+    public Resolution(long generation, List<FixedBaseline> baselines)
+    {
+      this.generation = generation;
+      this.baselines = baselines;
+    }
+  }
 }
@@ -256,31 +256,52 @@ public abstract class AbstractLifecycleManager extends Lifecycle implements LMPa
 
   public final CDOSession getModuleSession(String moduleName)
   {
+    InternalRepository repository;
     synchronized (moduleSessions)
     {
       CDOSession session = moduleSessions.get(moduleName);
-      if (session == null)
+      if (session != null)
       {
-        InternalRepository repository = moduleRepositories.get(moduleName);
-        if (repository != null)
+        return session;
+      }
+
+      repository = moduleRepositories.get(moduleName);
+      if (repository == null)
+      {
+        return null;
+      }
+    }
+
+    // Open the session outside of the lock, so that the sessions of other modules can be opened concurrently.
+    // All module sessions share the same JVM connector.
+    CDOSession session = openModuleSession(repository);
+
+    synchronized (moduleSessions)
+    {
+      CDOSession existingSession = moduleSessions.get(moduleName);
+      if (existingSession != null)
+      {
+        // Another thread has been faster.
+        LifecycleUtil.deactivate(session);
+        return existingSession;
+      }
+
+      session.addListener(new LifecycleEventAdapter()
+      {
+        @Override
+        protected void onDeactivated(ILifecycle lifecycle)
         {
-          session = openModuleSession(repository);
-          session.addListener(new LifecycleEventAdapter()
+          if (isActive())
           {
-            @Override
-            protected void onDeactivated(ILifecycle lifecycle)
+            synchronized (moduleSessions)
             {
-              if (isActive())
-              {
-                moduleSessions.remove(moduleName);
-              }
+              moduleSessions.remove(moduleName, lifecycle);
             }
-          });
-
-          moduleSessions.put(moduleName, session);
+          }
         }
-      }
+      });
 
+      moduleSessions.put(moduleName, session);
       return session;
     }
   }
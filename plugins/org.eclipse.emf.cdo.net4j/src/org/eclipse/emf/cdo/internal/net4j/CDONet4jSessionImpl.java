@@ -331,6 +331,8 @@ public class CDONet4jSessionImpl extends CDOSessionImpl implements org.eclipse.e
 
     repository.getTimeStamp(true);
     sessionProtocol.openedSession();
+
+    doActivatePersistentRevisionCache();
   }
 
   @Override
@@ -360,9 +362,13 @@ public class CDONet4jSessionImpl extends CDOSessionImpl implements org.eclipse.e
     getPackageRegistry().deactivate();
   }
 
-  private CDOClientProtocol createProtocol()
+  protected CDOClientProtocol createProtocol()
+  {
+    return openProtocol(new CDOClientProtocol(), connector);
+  }
+
+  protected CDOClientProtocol openProtocol(CDOClientProtocol protocol, IConnector connector)
   {
-    CDOClientProtocol protocol = new CDOClientProtocol();
     protocol.setInfraStructure(this);
     if (streamWrapper != null)
     {
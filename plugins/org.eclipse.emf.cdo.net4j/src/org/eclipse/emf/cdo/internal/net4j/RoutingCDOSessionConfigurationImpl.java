@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.net4j;
+
+import org.eclipse.emf.cdo.net4j.RoutingCDOSessionConfiguration;
+
+import org.eclipse.net4j.connector.IConnector;
+import org.eclipse.net4j.util.CheckUtil;
+import org.eclipse.net4j.util.collection.Pair;
+
+import org.eclipse.emf.spi.cdo.InternalCDOSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author Eike Stepper
+ */
+public class RoutingCDOSessionConfigurationImpl extends CDONet4jSessionConfigurationImpl implements RoutingCDOSessionConfiguration
+{
+  private final List<Pair<IConnector, String>> replicas = new ArrayList<>();
+
+  private long replicaLagTimeout = DEFAULT_REPLICA_LAG_TIMEOUT;
+
+  public RoutingCDOSessionConfigurationImpl()
+  {
+  }
+
+  @Override
+  public List<Pair<IConnector, String>> getReplicas()
+  {
+    return Collections.unmodifiableList(replicas);
+  }
+
+  @Override
+  public void addReplica(IConnector connector, String repositoryName)
+  {
+    checkNotOpen();
+    CheckUtil.checkArg(connector, "connector"); //$NON-NLS-1$
+    CheckUtil.checkArg(repositoryName, "repositoryName"); //$NON-NLS-1$
+    replicas.add(Pair.create(connector, repositoryName));
+  }
+
+  @Override
+  public long getReplicaLagTimeout()
+  {
+    return replicaLagTimeout;
+  }
+
+  @Override
+  public void setReplicaLagTimeout(long replicaLagTimeout)
+  {
+    this.replicaLagTimeout = replicaLagTimeout;
+  }
+
+  @Override
+  public InternalCDOSession createSession()
+  {
+    if (isActivateOnOpen())
+    {
+      CheckUtil.checkState(getConnector(), "connector"); //$NON-NLS-1$
+    }
+
+    return new RoutingCDOSessionImpl();
+  }
+
+  @Override
+  protected void configureSession(InternalCDOSession session)
+  {
+    super.configureSession(session);
+
+    RoutingCDOSessionImpl sessionImpl = (RoutingCDOSessionImpl)session;
+    sessionImpl.setReplicas(replicas);
+    sessionImpl.setReplicaLagTimeout(replicaLagTimeout);
+  }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.net4j;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.internal.net4j.bundle.OM;
+import org.eclipse.emf.cdo.internal.net4j.protocol.CDOClientProtocol;
+import org.eclipse.emf.cdo.internal.net4j.protocol.ReplicaClientProtocol;
+import org.eclipse.emf.cdo.spi.common.revision.RevisionInfo;
+import org.eclipse.emf.cdo.view.CDOView;
+
+import org.eclipse.net4j.connector.IConnector;
+import org.eclipse.net4j.util.WrappedException;
+import org.eclipse.net4j.util.collection.Pair;
+import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import org.eclipse.emf.spi.cdo.AbstractQueryIterator;
+import org.eclipse.emf.spi.cdo.CDOSessionProtocol;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link CDONet4jSessionImpl session} that sends revision loads and the queries of read-only views to up-to-date
+ * replicas of its repository and all other requests to the master.
+ *
+ * @author Eike Stepper
+ */
+public class RoutingCDOSessionImpl extends CDONet4jSessionImpl
+{
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, RoutingCDOSessionImpl.class);
+
+  private static final ReplicaClientProtocol[] NO_REPLICAS = {};
+
+  private final Object replicaMonitor = new Object();
+
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  private final Map<AbstractQueryIterator<?>, ReplicaClientProtocol> replicaQueries = new ConcurrentHashMap<>();
+
+  private List<Pair<IConnector, String>> replicas = new ArrayList<>();
+
+  private long replicaLagTimeout;
+
+  private volatile ReplicaClientProtocol[] replicaProtocols = NO_REPLICAS;
+
+  public RoutingCDOSessionImpl()
+  {
+  }
+
+  public List<Pair<IConnector, String>> getReplicas()
+  {
+    return replicas;
+  }
+
+  public void setReplicas(List<Pair<IConnector, String>> replicas)
+  {
+    checkInactive();
+    this.replicas = new ArrayList<>(replicas);
+  }
+
+  public long getReplicaLagTimeout()
+  {
+    return replicaLagTimeout;
+  }
+
+  public void setReplicaLagTimeout(long replicaLagTimeout)
+  {
+    this.replicaLagTimeout = replicaLagTimeout;
+  }
+
+  public ReplicaClientProtocol[] getReplicaProtocols()
+  {
+    return replicaProtocols.clone();
+  }
+
+  @Override
+  protected CDOClientProtocol createProtocol()
+  {
+    return openProtocol(new RoutingClientProtocol(), getConnector());
+  }
+
+  @Override
+  protected void doActivate() throws Exception
+  {
+    super.doActivate();
+
+    List<ReplicaClientProtocol> protocols = new ArrayList<>();
+    for (Pair<IConnector, String> replica : replicas)
+    {
+      ReplicaClientProtocol protocol = openReplica(replica.getElement1(), replica.getElement2());
+      if (protocol != null)
+      {
+        protocols.add(protocol);
+      }
+    }
+
+    replicaProtocols = protocols.toArray(new ReplicaClientProtocol[protocols.size()]);
+  }
+
+  @Override
+  protected void doDeactivate() throws Exception
+  {
+    ReplicaClientProtocol[] protocols = replicaProtocols;
+    replicaProtocols = NO_REPLICAS;
+
+    for (ReplicaClientProtocol protocol : protocols)
+    {
+      LifecycleUtil.deactivate(protocol);
+    }
+
+    super.doDeactivate();
+  }
+
+  private ReplicaClientProtocol openReplica(IConnector connector, String repositoryName)
+  {
+    ReplicaClientProtocol protocol = new ReplicaClientProtocol(repositoryName, replicaMonitor);
+
+    try
+    {
+      openProtocol(protocol, connector);
+      if (protocol.openReplicaSession(getUserID()))
+      {
+        return protocol;
+      }
+    }
+    catch (Exception ex)
+    {
+      OM.LOG.warn("Replica " + repositoryName + " could not be opened: " + ex.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    LifecycleUtil.deactivate(protocol);
+    return null;
+  }
+
+  /**
+   * Returns a replica that has received all commits up to the given time stamp, waiting up to the replica lag timeout
+   * for one to catch up, or <code>null</code> if the request must be sent to the master.
+   */
+  protected ReplicaClientProtocol getReplica(long timeStamp)
+  {
+    ReplicaClientProtocol[] protocols = replicaProtocols;
+    if (protocols.length == 0)
+    {
+      return null;
+    }
+
+    ReplicaClientProtocol replica = selectReplica(protocols, timeStamp);
+    if (replica == null && replicaLagTimeout > 0L)
+    {
+      long end = System.currentTimeMillis() + replicaLagTimeout;
+
+      synchronized (replicaMonitor)
+      {
+        while ((replica = selectReplica(protocols, timeStamp)) == null)
+        {
+          long remaining = end - System.currentTimeMillis();
+          if (remaining <= 0L)
+          {
+            break;
+          }
+
+          try
+          {
+            replicaMonitor.wait(remaining);
+          }
+          catch (InterruptedException ex)
+          {
+            throw WrappedException.wrap(ex);
+          }
+        }
+      }
+    }
+
+    if (replica == null && TRACER.isEnabled())
+    {
+      TRACER.format("No replica is up to date with {0}, falling back to the master", timeStamp); //$NON-NLS-1$
+    }
+
+    return replica;
+  }
+
+  private ReplicaClientProtocol selectReplica(ReplicaClientProtocol[] protocols, long timeStamp)
+  {
+    int length = protocols.length;
+    int start = Math.floorMod(nextReplica.getAndIncrement(), length);
+
+    for (int i = 0; i < length; i++)
+    {
+      ReplicaClientProtocol protocol = protocols[(start + i) % length];
+      if (protocol.isUpToDate(timeStamp))
+      {
+        return protocol;
+      }
+    }
+
+    return null;
+  }
+
+  private long getRequiredTime(long timeStamp)
+  {
+    return timeStamp == CDOBranchPoint.UNSPECIFIED_DATE ? getLastUpdateTime() : timeStamp;
+  }
+
+  /**
+   * The {@link CDOSessionProtocol session protocol} to the master that routes the read requests to the replicas.
+   *
+   * @author Eike Stepper
+   */
+  protected class RoutingClientProtocol extends CDOClientProtocol
+  {
+    public RoutingClientProtocol()
+    {
+    }
+
+    @Override
+    public List<RevisionInfo> loadRevisions(List<RevisionInfo> infos, CDOBranchPoint branchPoint, int referenceChunk, int prefetchDepth,
+        boolean prefetchLockStates)
+    {
+      // Lock states are only authoritative on the master.
+      if (branchPoint != null && !prefetchLockStates)
+      {
+        ReplicaClientProtocol replica = getReplica(getRequiredTime(branchPoint.getTimeStamp()));
+        if (replica != null)
+        {
+          try
+          {
+            return replica.loadRevisions(infos, branchPoint, referenceChunk, prefetchDepth, false);
+          }
+          catch (RuntimeException ex)
+          {
+            if (TRACER.isEnabled())
+            {
+              TRACER.trace("Loading revisions from " + replica + " failed, falling back to the master", ex); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+          }
+        }
+      }
+
+      return super.loadRevisions(infos, branchPoint, referenceChunk, prefetchDepth, prefetchLockStates);
+    }
+
+    @Override
+    public void query(CDOView view, AbstractQueryIterator<?> queryResult)
+    {
+      // Transactions can query their uncommitted changes, which only the master knows about.
+      if (view.isReadOnly())
+      {
+        long timeStamp = view.getTimeStamp();
+        long requiredTime = timeStamp == CDOBranchPoint.UNSPECIFIED_DATE ? view.getLastUpdateTime() : timeStamp;
+
+        ReplicaClientProtocol replica = getReplica(requiredTime);
+        if (replica != null)
+        {
+          try
+          {
+            replica.syncView(view.getViewID(), view.getBranch().getPoint(timeStamp));
+          }
+          catch (RuntimeException ex)
+          {
+            if (TRACER.isEnabled())
+            {
+              TRACER.trace("Opening view " + view.getViewID() + " on " + replica + " failed, falling back to the master", ex); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            }
+
+            replica = null;
+          }
+
+          if (replica != null)
+          {
+            replicaQueries.put(queryResult, replica);
+
+            try
+            {
+              replica.query(view, queryResult);
+              return;
+            }
+            finally
+            {
+              replicaQueries.remove(queryResult);
+            }
+          }
+        }
+      }
+
+      super.query(view, queryResult);
+    }
+
+    @Override
+    public boolean cancelQuery(int queryId)
+    {
+      for (Map.Entry<AbstractQueryIterator<?>, ReplicaClientProtocol> entry : replicaQueries.entrySet())
+      {
+        if (entry.getKey().getQueryID() == queryId)
+        {
+          return entry.getValue().cancelQuery(queryId);
+        }
+      }
+
+      return super.cancelQuery(queryId);
+    }
+
+    @Override
+    public void closeView(int viewID)
+    {
+      super.closeView(viewID);
+
+      for (ReplicaClientProtocol replica : replicaProtocols)
+      {
+        try
+        {
+          replica.closeReplicaView(viewID);
+        }
+        catch (RuntimeException ex)
+        {
+          if (TRACER.isEnabled())
+          {
+            TRACER.trace("Closing view " + viewID + " on " + replica + " failed", ex); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+          }
+        }
+      }
+    }
+  }
+}
@@ -153,60 +153,70 @@ public class LoadRevisionsRequest extends CDOClientRequest<List<RevisionInfo>>
   @Override
   protected List<RevisionInfo> confirming(CDODataInput in) throws IOException
   {
-    for (RevisionInfo info : infos)
-    {
-      info.readResult(in);
-    }
-
     List<RevisionInfo> additionalInfos = null;
     CDOBranch requestedBranch = branchPoint.getBranch();
 
-    // Read keys of additional revisions that are already cached locally.
-    for (;;)
+    // The results below refer to the revisions of this batch.
+    in.readCDORevisionBatch();
+
+    try
     {
-      CDORevisionKey key = in.readCDORevisionKey();
-      if (key == null)
+      for (RevisionInfo info : infos)
       {
-        break;
+        info.readResult(in);
       }
 
-      if (additionalInfos == null)
+      // Read keys of additional revisions that are already cached locally.
+      for (;;)
       {
-        additionalInfos = new ArrayList<>();
-      }
+        CDORevisionKey key = in.readCDORevisionKey();
+        if (key == null)
+        {
+          break;
+        }
 
-      CDORevision revision = rememberedRevisions.get(key);
+        if (additionalInfos == null)
+        {
+          additionalInfos = new ArrayList<>();
+        }
 
-      RevisionInfo info = new RememberedRevisionInfo(revision);
-      info.setResult((InternalCDORevision)revision);
+        CDORevision revision = rememberedRevisions.get(key);
 
-      if (revision.getBranch() != requestedBranch)
-      {
-        info.setSynthetic(new PointerCDORevision(revision.getEClass(), revision.getID(), requestedBranch, in.readXLong(), revision));
-      }
+        RevisionInfo info = new RememberedRevisionInfo(revision);
+        info.setResult((InternalCDORevision)revision);
 
-      additionalInfos.add(info);
-    }
+        if (revision.getBranch() != requestedBranch)
+        {
+          info.setSynthetic(new PointerCDORevision(revision.getEClass(), revision.getID(), requestedBranch, in.readXLong(), revision));
+        }
 
-    // Read remaining additional infos.
-    int additionalSize = in.readXInt();
-    if (additionalSize != 0)
-    {
-      if (additionalInfos == null)
-      {
-        additionalInfos = new ArrayList<>(additionalSize);
+        additionalInfos.add(info);
       }
 
-      for (int i = 0; i < additionalSize; i++)
+      // Read remaining additional infos.
+      int additionalSize = in.readXInt();
+      if (additionalSize != 0)
       {
-        RevisionInfo info = RevisionInfo.read(in, branchPoint);
-        info.readResult(in);
-        additionalInfos.add(info);
+        if (additionalInfos == null)
+        {
+          additionalInfos = new ArrayList<>(additionalSize);
+        }
+
+        for (int i = 0; i < additionalSize; i++)
+        {
+          RevisionInfo info = RevisionInfo.read(in, branchPoint);
+          info.readResult(in);
+          additionalInfos.add(info);
+        }
       }
-    }
 
-    InternalCDOSession session = getSession();
-    CDOClientProtocol.readAndCacheLockStates(in, session, requestedBranch);
+      InternalCDOSession session = getSession();
+      CDOClientProtocol.readAndCacheLockStates(in, session, requestedBranch);
+    }
+    finally
+    {
+      in.clearCDORevisionBatch();
+    }
 
     if (rememberedRevisions != null)
     {
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.net4j.protocol;
+
+import org.eclipse.emf.cdo.common.CDOCommonRepository;
+import org.eclipse.emf.cdo.common.CDOCommonSession.Options.LockNotificationMode;
+import org.eclipse.emf.cdo.common.CDOCommonSession.Options.PassiveUpdateMode;
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.common.protocol.CDODataInput;
+import org.eclipse.emf.cdo.common.protocol.CDOProtocol.CommitNotificationInfo;
+import org.eclipse.emf.cdo.common.revision.CDOIDAndVersion;
+import org.eclipse.emf.cdo.common.revision.CDORevisionKey;
+
+import org.eclipse.net4j.signal.SignalReactor;
+import org.eclipse.net4j.util.security.operations.AuthorizableOperation;
+
+import org.eclipse.emf.spi.cdo.CDOSessionProtocol.OpenSessionResult;
+import org.eclipse.emf.spi.cdo.InternalCDOObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link CDOClientProtocol client protocol} that connects a session to a replica of its repository and that only
+ * serves read requests.
+ * <p>
+ * The notifications of the replica are not passed to the session, they only keep track of the replica's
+ * {@link #getLastUpdateTime() last update time} and {@link #getState() state}. The session receives all its
+ * notifications from the master.
+ *
+ * @author Eike Stepper
+ */
+public class ReplicaClientProtocol extends CDOClientProtocol
+{
+  private static final AuthorizableOperation[] NO_OPERATIONS = {};
+
+  private final String repositoryName;
+
+  private final Object updateMonitor;
+
+  private final Map<Integer, CDOBranchPoint> views = new HashMap<>();
+
+  private volatile long lastUpdateTime;
+
+  private volatile CDOCommonRepository.State state;
+
+  public ReplicaClientProtocol(String repositoryName, Object updateMonitor)
+  {
+    this.repositoryName = repositoryName;
+    this.updateMonitor = updateMonitor;
+  }
+
+  public String getRepositoryName()
+  {
+    return repositoryName;
+  }
+
+  public long getLastUpdateTime()
+  {
+    return lastUpdateTime;
+  }
+
+  public CDOCommonRepository.State getState()
+  {
+    return state;
+  }
+
+  /**
+   * Returns <code>true</code> if this replica is online and has received all commits up to the given time stamp,
+   * <code>false</code> otherwise.
+   */
+  public boolean isUpToDate(long timeStamp)
+  {
+    return isActive() && state == CDOCommonRepository.State.ONLINE && lastUpdateTime >= timeStamp;
+  }
+
+  public boolean openReplicaSession(String userID)
+  {
+    OpenSessionResult result = openSession(repositoryName, 0, userID, false, true, PassiveUpdateMode.INVALIDATIONS, LockNotificationMode.OFF, false,
+        NO_OPERATIONS);
+    if (result == null)
+    {
+      return false;
+    }
+
+    state = result.getState();
+    setLastUpdateTime(result.getLastUpdateTime());
+
+    openedSession();
+    return true;
+  }
+
+  /**
+   * Opens the view with the given ID on the replica, or switches its target if it is already open.
+   */
+  public void syncView(int viewID, CDOBranchPoint branchPoint)
+  {
+    synchronized (views)
+    {
+      CDOBranchPoint replicaBranchPoint = views.get(viewID);
+      if (replicaBranchPoint == null)
+      {
+        openView(viewID, true, branchPoint);
+        views.put(viewID, branchPoint);
+      }
+      else if (!replicaBranchPoint.equals(branchPoint))
+      {
+        switchTarget(viewID, branchPoint, Collections.<InternalCDOObject> emptyList(), new ArrayList<CDORevisionKey>(), new ArrayList<CDOIDAndVersion>(),
+            null);
+        views.put(viewID, branchPoint);
+      }
+    }
+  }
+
+  /**
+   * Closes the view with the given ID on the replica, if it has been opened there.
+   */
+  public void closeReplicaView(int viewID)
+  {
+    synchronized (views)
+    {
+      if (views.remove(viewID) == null)
+      {
+        return;
+      }
+    }
+
+    if (isActive())
+    {
+      closeView(viewID);
+    }
+  }
+
+  private void setLastUpdateTime(long lastUpdateTime)
+  {
+    synchronized (updateMonitor)
+    {
+      if (lastUpdateTime > this.lastUpdateTime)
+      {
+        this.lastUpdateTime = lastUpdateTime;
+      }
+
+      updateMonitor.notifyAll();
+    }
+  }
+
+  private void setState(CDOCommonRepository.State state)
+  {
+    synchronized (updateMonitor)
+    {
+      this.state = state;
+      updateMonitor.notifyAll();
+    }
+  }
+
+  @Override
+  protected SignalReactor createSignalReactor(short signalID)
+  {
+    switch (signalID)
+    {
+    case SIGNAL_COMMIT_NOTIFICATION:
+      return new CommitNotificationIndication(this)
+      {
+        @Override
+        protected void indicating(CDODataInput in) throws IOException
+        {
+          CommitNotificationInfo info = new CommitNotificationInfo(in);
+          setLastUpdateTime(info.getCommitInfo().getTimeStamp());
+        }
+      };
+
+    case SIGNAL_REPOSITORY_STATE_NOTIFICATION:
+      return new RepositoryStateNotificationIndication(this)
+      {
+        @Override
+        protected void indicating(CDODataInput in) throws IOException
+        {
+          in.readEnum(CDOCommonRepository.State.class);
+          CDOCommonRepository.State newState = in.readEnum(CDOCommonRepository.State.class);
+          in.readCDOID();
+
+          setState(newState);
+        }
+      };
+
+    case SIGNAL_REPOSITORY_TYPE_NOTIFICATION:
+      return new RepositoryTypeNotificationIndication(this)
+      {
+        @Override
+        protected void indicating(CDODataInput in) throws IOException
+        {
+          in.readEnum(CDOCommonRepository.Type.class);
+          in.readEnum(CDOCommonRepository.Type.class);
+        }
+      };
+
+    case SIGNAL_BRANCH_NOTIFICATION:
+    case SIGNAL_TAG_NOTIFICATION:
+    case SIGNAL_VIEW_CLOSED_NOTIFICATION:
+    case SIGNAL_LOCK_NOTIFICATION:
+    case SIGNAL_LOCK_OWNER_REMAPPED_NOTIFICATION:
+    case SIGNAL_REMOTE_SESSION_NOTIFICATION:
+    case SIGNAL_REMOTE_MESSAGE_NOTIFICATION:
+      // The session receives these notifications from the master.
+      return new IgnoredNotificationIndication(this, signalID);
+
+    default:
+      return super.createSignalReactor(signalID);
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return "ReplicaClientProtocol[" + repositoryName + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static final class IgnoredNotificationIndication extends CDOClientIndication
+  {
+    public IgnoredNotificationIndication(CDOClientProtocol protocol, short signalID)
+    {
+      super(protocol, signalID);
+    }
+
+    @Override
+    protected void indicating(CDODataInput in) throws IOException
+    {
+      // The remaining input is discarded when this indication is done.
+    }
+  }
+}
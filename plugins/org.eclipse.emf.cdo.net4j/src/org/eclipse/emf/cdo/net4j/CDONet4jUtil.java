@@ -17,6 +17,7 @@ import org.eclipse.emf.cdo.internal.net4j.CDONet4jSessionConfigurationImpl;
 import org.eclipse.emf.cdo.internal.net4j.FailoverCDOSessionConfigurationImpl;
 import org.eclipse.emf.cdo.internal.net4j.Net4jSessionFactory;
 import org.eclipse.emf.cdo.internal.net4j.ReconnectingCDOSessionConfigurationImpl;
+import org.eclipse.emf.cdo.internal.net4j.RoutingCDOSessionConfigurationImpl;
 import org.eclipse.emf.cdo.internal.net4j.bundle.OM;
 import org.eclipse.emf.cdo.util.CDOUtil;
 import org.eclipse.emf.cdo.view.CDOViewProvider;
@@ -159,6 +160,17 @@ public final class CDONet4jUtil
     return new FailoverCDOSessionConfigurationImpl(monitorConnectorDescription, repositoryGroup, container);
   }
 
+  /**
+   * Creates a {@link RoutingCDOSessionConfiguration session configuration} that sends the read requests of its sessions
+   * to up-to-date replicas and all other requests to the master.
+   *
+   * @since 4.7
+   */
+  public static RoutingCDOSessionConfiguration createRoutingSessionConfiguration()
+  {
+    return new RoutingCDOSessionConfigurationImpl();
+  }
+
   /**
    * @since 4.1
    */
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.net4j;
+
+import org.eclipse.net4j.connector.IConnector;
+import org.eclipse.net4j.util.collection.Pair;
+
+import java.util.List;
+
+/**
+ * A {@link CDONet4jSessionConfiguration session configuration} that routes read requests to replica repositories.
+ * <p>
+ * The {@link #getConnector() connector} and the {@link #getRepositoryName() repository name} of this configuration
+ * identify the master repository. Commits, locks and all other write requests are always sent to the master. Revision
+ * loads and the queries of read-only views are sent to one of the {@link #addReplica(IConnector, String) replicas},
+ * typically online clones of the master, as long as that replica has caught up with the time stamp of the requested
+ * branch point. If no replica has caught up, the request waits up to the {@link #getReplicaLagTimeout() replica lag
+ * timeout} and then falls back to the master.
+ *
+ * @author Eike Stepper
+ * @since 4.7
+ * @noextend This interface is not intended to be extended by clients.
+ * @noimplement This interface is not intended to be implemented by clients.
+ */
+public interface RoutingCDOSessionConfiguration extends CDONet4jSessionConfiguration
+{
+  public static final long DEFAULT_REPLICA_LAG_TIMEOUT = 0L;
+
+  /**
+   * Returns the connectors and repository names of the replicas.
+   */
+  public List<Pair<IConnector, String>> getReplicas();
+
+  /**
+   * Adds a replica to route read requests to. Can only be called <b>before</b> the session is opened.
+   */
+  public void addReplica(IConnector connector, String repositoryName);
+
+  /**
+   * Returns the number of milliseconds that a read request waits for a lagging replica to catch up, before it falls back
+   * to the master.
+   */
+  public long getReplicaLagTimeout();
+
+  public void setReplicaLagTimeout(long replicaLagTimeout);
+}
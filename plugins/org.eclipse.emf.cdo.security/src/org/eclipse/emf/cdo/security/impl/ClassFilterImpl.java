@@ -10,15 +10,20 @@
  */
 package org.eclipse.emf.cdo.security.impl;
 
+import org.eclipse.emf.cdo.CDOState;
 import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
 import org.eclipse.emf.cdo.common.revision.CDORevision;
 import org.eclipse.emf.cdo.common.revision.CDORevisionProvider;
 import org.eclipse.emf.cdo.security.ClassFilter;
 import org.eclipse.emf.cdo.security.SecurityPackage;
 import org.eclipse.emf.cdo.security.impl.PermissionImpl.CommitImpactContext;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
 
 import org.eclipse.emf.ecore.EClass;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * <!-- begin-user-doc -->
  * An implementation of the model object '<em><b>Class Filter</b></em>'.
@@ -36,6 +41,8 @@ import org.eclipse.emf.ecore.EClass;
  */
 public class ClassFilterImpl extends PermissionFilterImpl implements ClassFilter
 {
+  private transient volatile CompiledFilter compiledFilter;
+
   /**
    * <!-- begin-user-doc -->
    * <!-- end-user-doc -->
@@ -105,14 +112,27 @@ public class ClassFilterImpl extends PermissionFilterImpl implements ClassFilter
   protected boolean filter(CDORevision revision, CDORevisionProvider revisionProvider, CDOBranchPoint securityContext, int level) throws Exception
   {
     EClass actualClass = revision.getEClass();
-    EClass applicableClass = getApplicableClass();
+    return getCompiledFilter().matches(actualClass);
+  }
+
+  private CompiledFilter getCompiledFilter()
+  {
+    CompiledFilter result = compiledFilter;
 
-    if (isSubTypes())
+    InternalCDORevision revision = cdoRevision();
+    if (result != null && result.revision == revision && revision != null)
     {
-      return applicableClass.isSuperTypeOf(actualClass);
+      return result;
     }
 
-    return applicableClass == actualClass;
+    result = new CompiledFilter(revision, getApplicableClass(), isSubTypes());
+    if (revision != null && revision == cdoRevision() && cdoState() == CDOState.CLEAN)
+    {
+      // Cache the compiled filter until the next change of this filter
+      compiledFilter = result;
+    }
+
+    return result;
   }
 
   @Override
@@ -141,4 +161,40 @@ public class ClassFilterImpl extends PermissionFilterImpl implements ClassFilter
     return isSubTypes() ? " >= " : " == ";
   }
 
+  /**
+   * Caches the values of a {@link ClassFilterImpl class filter} and the results of its subtype checks.
+   *
+   * @author Eike Stepper
+   */
+  private static final class CompiledFilter
+  {
+    private final InternalCDORevision revision;
+
+    private final EClass applicableClass;
+
+    private final Map<EClass, Boolean> subTypes;
+
+    public CompiledFilter(InternalCDORevision revision, EClass applicableClass, boolean subTypes)
+    {
+      this.revision = revision;
+      this.applicableClass = applicableClass;
+      this.subTypes = subTypes ? new ConcurrentHashMap<>() : null;
+    }
+
+    public boolean matches(EClass actualClass)
+    {
+      if (actualClass == applicableClass)
+      {
+        return true;
+      }
+
+      if (subTypes == null || applicableClass == null)
+      {
+        return false;
+      }
+
+      return subTypes.computeIfAbsent(actualClass, applicableClass::isSuperTypeOf);
+    }
+  }
+
 } // ClassFilterImpl
@@ -10,12 +10,14 @@
  */
 package org.eclipse.emf.cdo.security.impl;
 
+import org.eclipse.emf.cdo.CDOState;
 import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
 import org.eclipse.emf.cdo.common.revision.CDORevision;
 import org.eclipse.emf.cdo.common.revision.CDORevisionProvider;
 import org.eclipse.emf.cdo.security.PackageFilter;
 import org.eclipse.emf.cdo.security.SecurityPackage;
 import org.eclipse.emf.cdo.security.impl.PermissionImpl.CommitImpactContext;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EPackage;
@@ -36,6 +38,8 @@ import org.eclipse.emf.ecore.EPackage;
  */
 public class PackageFilterImpl extends PermissionFilterImpl implements PackageFilter
 {
+  private transient volatile CompiledFilter compiledFilter;
+
   /**
    * <!-- begin-user-doc -->
    * <!-- end-user-doc -->
@@ -83,10 +87,30 @@ public class PackageFilterImpl extends PermissionFilterImpl implements PackageFi
   protected boolean filter(CDORevision revision, CDORevisionProvider revisionProvider, CDOBranchPoint securityContext, int level) throws Exception
   {
     EPackage actualPackage = revision.getEClass().getEPackage();
-    EPackage applicablePackage = getApplicablePackage();
+    EPackage applicablePackage = getCompiledFilter().applicablePackage;
     return actualPackage == applicablePackage;
   }
 
+  private CompiledFilter getCompiledFilter()
+  {
+    CompiledFilter result = compiledFilter;
+
+    InternalCDORevision revision = cdoRevision();
+    if (result != null && result.revision == revision && revision != null)
+    {
+      return result;
+    }
+
+    result = new CompiledFilter(revision, getApplicablePackage());
+    if (revision != null && revision == cdoRevision() && cdoState() == CDOState.CLEAN)
+    {
+      // Cache the compiled filter until the next change of this filter
+      compiledFilter = result;
+    }
+
+    return result;
+  }
+
   @Override
   public boolean isImpacted(CommitImpactContext context)
   {
@@ -107,4 +131,22 @@ public class PackageFilterImpl extends PermissionFilterImpl implements PackageFi
     return "package == " + label;
   }
 
+  /**
+   * Caches the resolved values of a {@link PackageFilterImpl package filter}.
+   *
+   * @author Eike Stepper
+   */
+  private static final class CompiledFilter
+  {
+    private final InternalCDORevision revision;
+
+    private final EPackage applicablePackage;
+
+    public CompiledFilter(InternalCDORevision revision, EPackage applicablePackage)
+    {
+      this.revision = revision;
+      this.applicablePackage = applicablePackage;
+    }
+  }
+
 } // PackageFilterImpl
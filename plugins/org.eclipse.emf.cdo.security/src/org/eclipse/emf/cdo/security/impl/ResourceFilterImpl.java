@@ -10,6 +10,7 @@
  */
 package org.eclipse.emf.cdo.security.impl;
 
+import org.eclipse.emf.cdo.CDOState;
 import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
 import org.eclipse.emf.cdo.common.id.CDOID;
 import org.eclipse.emf.cdo.common.id.CDOIDUtil;
@@ -35,6 +36,8 @@ import org.eclipse.net4j.util.WrappedException;
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.ecore.EClass;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -64,15 +67,7 @@ public class ResourceFilterImpl extends PermissionFilterImpl implements Resource
 {
   private static final String USER_TOKEN = "${user}";
 
-  private static final int USER_TOKEN_NONE = -1;
-
-  private static final int USER_TOKEN_UNINITIALIZED = -2;
-
-  private transient int userTokenPos = USER_TOKEN_UNINITIALIZED;
-
-  private transient BasicEList<Matcher> matchers;
-
-  private transient int lastVersion;
+  private transient volatile CompiledFilter compiledFilter;
 
   /**
    * <!-- begin-user-doc -->
@@ -351,14 +346,20 @@ public class ResourceFilterImpl extends PermissionFilterImpl implements Resource
   @Override
   protected boolean filter(CDORevision revision, CDORevisionProvider revisionProvider, CDOBranchPoint securityContext, int level) throws Exception
   {
-    if (!preChecks(revision, revisionProvider))
+    if (revisionProvider == null)
+    {
+      return false;
+    }
+
+    CompiledFilter compiledFilter = getCompiledFilter();
+    if (!preChecks(revision, compiledFilter))
     {
       return false;
     }
 
     String revisionPath = CDORevisionUtil.getResourceNodePath(revision, revisionProvider);
 
-    BasicEList<Matcher> list = getMatchers();
+    BasicEList<Matcher> list = getMatchers(compiledFilter);
     Object[] matchers = list.data();
 
     int length = list.size();
@@ -374,13 +375,8 @@ public class ResourceFilterImpl extends PermissionFilterImpl implements Resource
     return false;
   }
 
-  private boolean preChecks(CDORevision revision, CDORevisionProvider revisionProvider)
+  private boolean preChecks(CDORevision revision, CompiledFilter compiledFilter)
   {
-    if (revisionProvider == null)
-    {
-      return false;
-    }
-
     EClass eClass = revision.getEClass();
     boolean resourceNode = false;
 
@@ -388,7 +384,7 @@ public class ResourceFilterImpl extends PermissionFilterImpl implements Resource
     if (eClass == EresourcePackage.Literals.CDO_RESOURCE_FOLDER)
     {
       resourceNode = true;
-      if (!isFolders())
+      if (!compiledFilter.folders)
       {
         return false;
       }
@@ -404,14 +400,14 @@ public class ResourceFilterImpl extends PermissionFilterImpl implements Resource
 
       if (rootResource)
       {
-        if (!isIncludeRoot())
+        if (!compiledFilter.includeRoot)
         {
           return false;
         }
       }
       else
       {
-        if (!isModelResources())
+        if (!compiledFilter.modelResources)
         {
           return false;
         }
@@ -422,7 +418,7 @@ public class ResourceFilterImpl extends PermissionFilterImpl implements Resource
     if (eClass == EresourcePackage.Literals.CDO_TEXT_RESOURCE)
     {
       resourceNode = true;
-      if (!isTextResources())
+      if (!compiledFilter.textResources)
       {
         return false;
       }
@@ -432,7 +428,7 @@ public class ResourceFilterImpl extends PermissionFilterImpl implements Resource
     if (eClass == EresourcePackage.Literals.CDO_BINARY_RESOURCE)
     {
       resourceNode = true;
-      if (!isBinaryResources())
+      if (!compiledFilter.binaryResources)
       {
         return false;
       }
@@ -440,7 +436,7 @@ public class ResourceFilterImpl extends PermissionFilterImpl implements Resource
 
     // Check model objects
     boolean modelObject = !resourceNode;
-    if (modelObject && !isModelObjects())
+    if (modelObject && !compiledFilter.modelObjects)
     {
       return false;
     }
@@ -448,56 +444,53 @@ public class ResourceFilterImpl extends PermissionFilterImpl implements Resource
     return true;
   }
 
-  private BasicEList<Matcher> getMatchers()
+  private CompiledFilter getCompiledFilter()
   {
+    CompiledFilter result = compiledFilter;
+
     InternalCDORevision revision = cdoRevision();
-    if (revision != null)
+    if (result != null && result.revision == revision && revision != null)
     {
-      int currentVersion = revision.getVersion();
-      if (currentVersion > lastVersion)
-      {
-        userTokenPos = USER_TOKEN_UNINITIALIZED;
-        matchers = null;
-        lastVersion = currentVersion;
-      }
-
-      if (matchers != null)
-      {
-        return matchers;
-      }
+      return result;
     }
 
-    String path = getPath();
-    path = CDOURIUtil.sanitizePath(path);
+    result = new CompiledFilter(revision, this);
+    if (revision != null && revision == cdoRevision() && cdoState() == CDOState.CLEAN)
+    {
+      // Cache the compiled filter until the next change of this filter
+      compiledFilter = result;
+    }
 
-    PatternStyle patternStyle = getPatternStyle();
-    boolean includeParents = isIncludeParents();
+    return result;
+  }
 
-    if (userTokenPos == USER_TOKEN_UNINITIALIZED || revision == null)
+  private BasicEList<Matcher> getMatchers(CompiledFilter compiledFilter)
+  {
+    BasicEList<Matcher> matchers = compiledFilter.matchers;
+    if (matchers != null)
     {
-      userTokenPos = path.indexOf(USER_TOKEN);
+      return matchers;
     }
 
-    if (userTokenPos != USER_TOKEN_NONE)
+    String user = getUser();
+    if (user == null || user.length() == 0)
     {
-      String user = getUser();
-      if (user == null || user.length() == 0)
-      {
-        throw new IllegalStateException("User required for evaluation of path " + path);
-      }
-
-      path = path.substring(0, userTokenPos) + user + path.substring(userTokenPos + USER_TOKEN.length());
+      throw new IllegalStateException("User required for evaluation of path " + compiledFilter.path);
     }
 
+    // Cache the matchers per user if a user token is specified
+    return compiledFilter.userMatchers.computeIfAbsent(user, k -> {
+      String path = compiledFilter.path;
+      int pos = compiledFilter.userTokenPos;
+      path = path.substring(0, pos) + k + path.substring(pos + USER_TOKEN.length());
+      return createMatchers(path, compiledFilter.patternStyle, compiledFilter.includeParents);
+    });
+  }
+
+  private BasicEList<Matcher> createMatchers(String path, PatternStyle patternStyle, boolean includeParents)
+  {
     BasicEList<Matcher> list = new BasicEList<>(1);
     getMatchers(list, path, patternStyle, includeParents);
-
-    if (userTokenPos == USER_TOKEN_NONE)
-    {
-      // Cache matchers if no user token is specified
-      matchers = list;
-    }
-
     return list;
   }
 
@@ -711,4 +704,64 @@ public class ResourceFilterImpl extends PermissionFilterImpl implements Resource
     }
   }
 
+  /**
+   * Caches the values of a {@link ResourceFilterImpl resource filter} and its compiled {@link Matcher matchers}.
+   *
+   * @author Eike Stepper
+   */
+  private static final class CompiledFilter
+  {
+    private final InternalCDORevision revision;
+
+    private final String path;
+
+    private final PatternStyle patternStyle;
+
+    private final boolean includeParents;
+
+    private final boolean folders;
+
+    private final boolean textResources;
+
+    private final boolean binaryResources;
+
+    private final boolean modelResources;
+
+    private final boolean modelObjects;
+
+    private final boolean includeRoot;
+
+    private final int userTokenPos;
+
+    private final BasicEList<Matcher> matchers;
+
+    private final Map<String, BasicEList<Matcher>> userMatchers;
+
+    public CompiledFilter(InternalCDORevision revision, ResourceFilterImpl filter)
+    {
+      this.revision = revision;
+      path = CDOURIUtil.sanitizePath(filter.getPath());
+      patternStyle = filter.getPatternStyle();
+      includeParents = filter.isIncludeParents();
+      folders = filter.isFolders();
+      textResources = filter.isTextResources();
+      binaryResources = filter.isBinaryResources();
+      modelResources = filter.isModelResources();
+      modelObjects = filter.isModelObjects();
+      includeRoot = filter.isIncludeRoot();
+
+      userTokenPos = path.indexOf(USER_TOKEN);
+      if (userTokenPos == -1)
+      {
+        matchers = filter.createMatchers(path, patternStyle, includeParents);
+        userMatchers = null;
+      }
+      else
+      {
+        matchers = null;
+        userMatchers = new ConcurrentHashMap<>();
+      }
+    }
+  }
+
 } // ResourceFilterImpl
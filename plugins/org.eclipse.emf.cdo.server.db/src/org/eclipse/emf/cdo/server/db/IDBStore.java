@@ -66,6 +66,21 @@ public interface IDBStore extends IStore, IDBConnectionProvider, CanHandleClient
    */
   public int getJDBCFetchSize();
 
+  /**
+   * Returns the maximum number of class tables that are read concurrently when a unit is opened.
+   *
+   * @since 4.14
+   */
+  public int getReadUnitParallelism();
+
+  /**
+   * Returns the number of rows that are inserted with one JDBC batch during a
+   * {@link org.eclipse.emf.cdo.server.IStoreAccessor.Raw3#beginBulkLoad(org.eclipse.net4j.util.om.monitor.OMMonitor) bulk load}.
+   *
+   * @since 4.14
+   */
+  public int getBulkLoadBatchSize();
+
   /**
    * @since 4.2
    */
@@ -187,5 +202,30 @@ public interface IDBStore extends IStore, IDBConnectionProvider, CanHandleClient
      * @since 4.4
      */
     public static final String JDBC_FETCH_SIZE = "jdbcFetchSize"; //$NON-NLS-1$
+
+    /**
+     * Maximum number of class tables to read concurrently when a unit is opened. A value of <code>1</code> reads
+     * the class tables one after the other.
+     *
+     * @since 4.14
+     */
+    public static final String READ_UNIT_PARALLELISM = "readUnitParallelism"; //$NON-NLS-1$
+
+    /**
+     * Number of rows to insert with one JDBC batch during a bulk load. A value of <code>1</code> inserts the rows one
+     * by one.
+     *
+     * @since 4.14
+     */
+    public static final String BULK_LOAD_BATCH_SIZE = "bulkLoadBatchSize"; //$NON-NLS-1$
+
+    /**
+     * Whether to record the IDs of the objects that are changed by each commit in an index table, so that change sets,
+     * e.g., for merges, can be computed without scanning all class tables. Only applies to auditing mapping strategies.
+     * The default is <code>true</code>.
+     *
+     * @since 4.14
+     */
+    public static final String CHANGE_INDEX = "changeIndex"; //$NON-NLS-1$
   }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.server.db.mapping;
+
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.server.IStoreChunkReader.Chunk;
+import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
+
+import java.util.List;
+
+/**
+ * Extension interface to {@link IListMapping3}.
+ *
+ * @author Eike Stepper
+ * @since 4.14
+ */
+public interface IListMapping5 extends IListMapping3
+{
+  /**
+   * Appends a single condition to the given builder that matches all the given chunks of the list of the given object,
+   * so that they can be {@link #readChunks(org.eclipse.emf.cdo.server.db.IDBStoreChunkReader, List, String) read} with
+   * one query.
+   *
+   * @param chunks
+   *          the chunks to match, in ascending order of their start indexes.
+   */
+  public void addChunksWhere(IDBStoreAccessor accessor, CDOID cdoid, StringBuilder builder, List<Chunk> chunks);
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.server.internal.db;
+
+import org.eclipse.emf.cdo.server.db.mapping.IClassMapping;
+import org.eclipse.emf.cdo.server.internal.db.bundle.OM;
+import org.eclipse.emf.cdo.server.internal.db.mapping.horizontal.MappingNames;
+
+import org.eclipse.net4j.db.DBException;
+import org.eclipse.net4j.db.DBUtil;
+import org.eclipse.net4j.db.ddl.IDBIndex;
+import org.eclipse.net4j.db.ddl.IDBTable;
+import org.eclipse.net4j.spi.db.DBAdapter;
+import org.eclipse.net4j.util.om.monitor.OMMonitor;
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the {@link DBStoreAccessor accessors} that take part in a bulk load of a {@link DBStore DB store}.
+ * <p>
+ * The first accessor that joins a bulk load drops the non-unique, non-optional indexes of the object type table and of
+ * all mapped class and list tables. The indexes of the tables that are created during the bulk load are dropped right
+ * after their creation. The last accessor that leaves the bulk load creates all these indexes again and verifies that
+ * an object type has been stored for each loaded object.
+ * <p>
+ * If the bulk load is interrupted by a crash, the dropped indexes are missing from the database until the data is
+ * imported again.
+ *
+ * @author Eike Stepper
+ */
+public class BulkLoad
+{
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, BulkLoad.class);
+
+  private final DBStore store;
+
+  private final List<IDBIndex> deferredIndexes = new ArrayList<>();
+
+  private final AtomicLong revisions = new AtomicLong();
+
+  private final AtomicLong objects = new AtomicLong();
+
+  private int participants;
+
+  private boolean incomplete;
+
+  private long objectTypesBefore;
+
+  private long startTime;
+
+  public BulkLoad(DBStore store)
+  {
+    this.store = store;
+  }
+
+  public DBStore getStore()
+  {
+    return store;
+  }
+
+  public synchronized boolean isActive()
+  {
+    return participants != 0;
+  }
+
+  public synchronized void join(DBStoreAccessor accessor, OMMonitor monitor)
+  {
+    if (participants++ != 0)
+    {
+      return;
+    }
+
+    startTime = System.currentTimeMillis();
+    revisions.set(0L);
+    objects.set(0L);
+    incomplete = false;
+
+    Connection connection = accessor.getConnection();
+    objectTypesBefore = countObjectTypes(connection);
+
+    Set<IDBTable> tables = getMappedTables();
+    monitor.begin(tables.size());
+
+    try
+    {
+      for (IDBTable table : tables)
+      {
+        dropIndexes(connection, deferIndexes(table));
+        monitor.worked();
+      }
+
+      connection.commit();
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+    finally
+    {
+      monitor.done();
+    }
+  }
+
+  public void tableCreated(DBStoreAccessor accessor, IDBTable table)
+  {
+    List<IDBIndex> indexes;
+    synchronized (this)
+    {
+      if (participants == 0)
+      {
+        return;
+      }
+
+      indexes = deferIndexes(table);
+    }
+
+    // Don't block the other participants while the database possibly waits for their locks on the new table.
+    dropIndexes(accessor.getConnection(), indexes);
+  }
+
+  public void revisionLoaded(boolean firstRevision)
+  {
+    revisions.incrementAndGet();
+    if (firstRevision)
+    {
+      objects.incrementAndGet();
+    }
+  }
+
+  /**
+   * Removes the given accessor from this bulk load. The last accessor creates the deferred indexes and, if all
+   * accessors have completed their part, verifies the loaded data.
+   */
+  public synchronized void leave(DBStoreAccessor accessor, OMMonitor monitor, boolean completed)
+  {
+    if (!completed)
+    {
+      incomplete = true;
+    }
+
+    if (--participants != 0)
+    {
+      return;
+    }
+
+    Connection connection = accessor.getConnection();
+    DBAdapter dbAdapter = (DBAdapter)store.getDBAdapter();
+    int indexes = deferredIndexes.size();
+    monitor.begin(indexes + 1);
+
+    try
+    {
+      for (IDBIndex index : deferredIndexes)
+      {
+        if (TRACER.isEnabled())
+        {
+          TRACER.format("Creating deferred index {0} on {1}", index, index.getTable()); //$NON-NLS-1$
+        }
+
+        dbAdapter.createIndex(connection, index);
+        monitor.worked();
+      }
+
+      deferredIndexes.clear();
+      connection.commit();
+
+      if (!incomplete)
+      {
+        verify(connection);
+        OM.LOG.info("Bulk load of " + revisions.get() + " revisions completed in " + (System.currentTimeMillis() - startTime) + " millis, " + indexes //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            + " deferred indexes created"); //$NON-NLS-1$
+      }
+
+      monitor.worked();
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+    finally
+    {
+      monitor.done();
+    }
+  }
+
+  private Set<IDBTable> getMappedTables()
+  {
+    Set<IDBTable> tables = new LinkedHashSet<>();
+
+    IDBTable objectTypeTable = store.getDBSchema().getTable(MappingNames.CDO_OBJECTS);
+    if (objectTypeTable != null)
+    {
+      tables.add(objectTypeTable);
+    }
+
+    for (IClassMapping classMapping : store.getMappingStrategy().getClassMappings(false).values())
+    {
+      for (IDBTable table : classMapping.getDBTables())
+      {
+        if (table != null)
+        {
+          tables.add(table);
+        }
+      }
+    }
+
+    return tables;
+  }
+
+  private List<IDBIndex> deferIndexes(IDBTable table)
+  {
+    List<IDBIndex> indexes = new ArrayList<>();
+
+    for (IDBIndex index : table.getIndices())
+    {
+      // Optional indexes may not exist in the database.
+      if (index.getType() == IDBIndex.Type.NON_UNIQUE && !DBUtil.isOptional(index) && !deferredIndexes.contains(index))
+      {
+        deferredIndexes.add(index);
+        indexes.add(index);
+      }
+    }
+
+    return indexes;
+  }
+
+  private void dropIndexes(Connection connection, List<IDBIndex> indexes)
+  {
+    DBAdapter dbAdapter = (DBAdapter)store.getDBAdapter();
+
+    for (IDBIndex index : indexes)
+    {
+      if (TRACER.isEnabled())
+      {
+        TRACER.format("Deferring index {0} on {1}", index, index.getTable()); //$NON-NLS-1$
+      }
+
+      dbAdapter.dropIndex(connection, index);
+    }
+  }
+
+  private void verify(Connection connection)
+  {
+    long objectTypes = countObjectTypes(connection);
+    if (objectTypes != -1L)
+    {
+      long expected = objectTypesBefore + objects.get();
+      if (objectTypes != expected)
+      {
+        throw new DBException("Bulk load verification failed: " + expected + " object types expected, but " + objectTypes + " found"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+      }
+    }
+  }
+
+  private long countObjectTypes(Connection connection)
+  {
+    IDBTable table = store.getDBSchema().getTable(MappingNames.CDO_OBJECTS);
+    if (table == null)
+    {
+      return -1L;
+    }
+
+    return DBUtil.getRowCount(connection, table.getName());
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.server.internal.db;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranch;
+import org.eclipse.emf.cdo.common.commit.CDOChangeKind;
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.server.db.IDBStore;
+import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
+import org.eclipse.emf.cdo.server.db.IIDHandler;
+import org.eclipse.emf.cdo.server.db.mapping.IBranchDeletionSupport;
+import org.eclipse.emf.cdo.spi.common.commit.CDOChangeSetSegment;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+
+import org.eclipse.net4j.db.Batch;
+import org.eclipse.net4j.db.DBException;
+import org.eclipse.net4j.db.DBType;
+import org.eclipse.net4j.db.DBUtil;
+import org.eclipse.net4j.db.IDBPreparedStatement;
+import org.eclipse.net4j.db.IDBPreparedStatement.ReuseProbability;
+import org.eclipse.net4j.db.ddl.IDBField;
+import org.eclipse.net4j.db.ddl.IDBIndex;
+import org.eclipse.net4j.db.ddl.IDBTable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * Records the IDs of the objects that are changed by each commit, so that change sets can be computed with a range scan
+ * of one index instead of a scan of all class tables.
+ * <p>
+ * The index is only complete from its {@link #getStartTime() start time} on. Change sets of earlier segments must be
+ * read from the class tables. Entries are never updated, so a change set that is read from this index can contain the IDs
+ * of objects whose revisions have been deleted since.
+ *
+ * @author Eike Stepper
+ */
+public class ChangeIndexTable extends DBStoreTable implements IBranchDeletionSupport
+{
+  private IDBField id;
+
+  private IDBField branch;
+
+  private IDBField commitTime;
+
+  private IDBField changeKind;
+
+  private String sqlInsert;
+
+  private String sqlSelectChanges;
+
+  private String sqlSelectChangesUntil;
+
+  private volatile long startTime;
+
+  public ChangeIndexTable(IDBStore store)
+  {
+    super(store, NAMES.CHANGE_INDEX);
+  }
+
+  /**
+   * Returns the commit time from which on all changes are recorded in this index.
+   */
+  public long getStartTime()
+  {
+    return startTime;
+  }
+
+  public void setStartTime(long startTime)
+  {
+    this.startTime = startTime;
+  }
+
+  public boolean isIndexed(CDOChangeSetSegment segment)
+  {
+    return segment.getTimeStamp() >= startTime;
+  }
+
+  public void writeChanges(IDBStoreAccessor accessor, InternalCDORevision[] revisions, CDOChangeKind kind)
+  {
+    IIDHandler idHandler = store().getIDHandler();
+    IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(sqlInsert, ReuseProbability.HIGH);
+
+    try
+    {
+      for (InternalCDORevision revision : revisions)
+      {
+        idHandler.setCDOID(stmt, 1, revision.getID());
+        stmt.setInt(2, revision.getBranch().getID());
+        stmt.setLong(3, revision.getTimeStamp());
+        stmt.setShort(4, (short)kind.ordinal());
+        stmt.addBatch();
+      }
+
+      DBUtil.executeBatch(stmt, revisions.length);
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+    finally
+    {
+      DBUtil.close(stmt);
+    }
+  }
+
+  public void writeDetachments(IDBStoreAccessor accessor, CDOID[] ids, CDOBranch branch, long timeStamp)
+  {
+    IIDHandler idHandler = store().getIDHandler();
+    IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(sqlInsert, ReuseProbability.HIGH);
+
+    try
+    {
+      for (CDOID id : ids)
+      {
+        idHandler.setCDOID(stmt, 1, id);
+        stmt.setInt(2, branch.getID());
+        stmt.setLong(3, timeStamp);
+        stmt.setShort(4, (short)CDOChangeKind.DETACHED.ordinal());
+        stmt.addBatch();
+      }
+
+      DBUtil.executeBatch(stmt, ids.length);
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+    finally
+    {
+      DBUtil.close(stmt);
+    }
+  }
+
+  public void writeChange(IDBStoreAccessor accessor, CDOID id, CDOBranch branch, long timeStamp, CDOChangeKind kind)
+  {
+    IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(sqlInsert, ReuseProbability.HIGH);
+
+    try
+    {
+      store().getIDHandler().setCDOID(stmt, 1, id);
+      stmt.setInt(2, branch.getID());
+      stmt.setLong(3, timeStamp);
+      stmt.setShort(4, (short)kind.ordinal());
+
+      DBUtil.update(stmt, true);
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+    finally
+    {
+      DBUtil.close(stmt);
+    }
+  }
+
+  /**
+   * Adds the IDs of the objects that are changed in the given {@link #isIndexed(CDOChangeSetSegment) indexed} segment to
+   * the given result set.
+   */
+  public void readChangeSet(IDBStoreAccessor accessor, CDOChangeSetSegment segment, Set<CDOID> result)
+  {
+    boolean openEnded = segment.isOpenEnded();
+
+    IIDHandler idHandler = store().getIDHandler();
+    IDBPreparedStatement stmt = accessor.getDBConnection().prepareStatement(openEnded ? sqlSelectChanges : sqlSelectChangesUntil, ReuseProbability.HIGH);
+    ResultSet resultSet = null;
+
+    try
+    {
+      stmt.setInt(1, segment.getBranch().getID());
+      stmt.setLong(2, segment.getTimeStamp());
+      if (!openEnded)
+      {
+        stmt.setLong(3, segment.getEndTime());
+      }
+
+      resultSet = stmt.executeQuery();
+      while (resultSet.next())
+      {
+        CDOID id = idHandler.getCDOID(resultSet, 1);
+        result.add(id);
+      }
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+    finally
+    {
+      DBUtil.close(resultSet);
+      DBUtil.close(stmt);
+    }
+  }
+
+  @Override
+  public void deleteBranches(IDBStoreAccessor accessor, Batch batch, String idList)
+  {
+    batch.add("DELETE FROM " + table() + " WHERE " + branch + " IN (" + idList + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+  }
+
+  @Override
+  protected void firstActivate(IDBTable table)
+  {
+    id = table.addField(NAMES.ID, store().getIDHandler().getDBType(), store().getIDColumnLength(), true);
+    branch = table.addField(NAMES.BRANCH, DBType.INTEGER, true);
+    commitTime = table.addField(NAMES.COMMIT_TIME, DBType.BIGINT, true);
+    changeKind = table.addField(NAMES.CHANGE_KIND, DBType.SMALLINT, true);
+
+    // Duplicate entries are harmless, they are filtered out by the queries.
+    table.addIndex(IDBIndex.Type.NON_UNIQUE, branch, commitTime, id);
+  }
+
+  @Override
+  protected void reActivate(IDBTable table)
+  {
+    id = table.getField(NAMES.ID);
+    branch = table.getField(NAMES.BRANCH);
+    commitTime = table.getField(NAMES.COMMIT_TIME);
+    changeKind = table.getField(NAMES.CHANGE_KIND);
+  }
+
+  @Override
+  protected void initSQL(IDBTable table)
+  {
+    sqlInsert = "INSERT INTO " + table + "(" + id + ", " + branch + ", " + commitTime + ", " + changeKind + ") VALUES (?, ?, ?, ?)"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+    sqlSelectChanges = "SELECT DISTINCT " + id + " FROM " + table + " WHERE " + branch + "=? AND " + commitTime + ">=?"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+    sqlSelectChangesUntil = sqlSelectChanges + " AND " + commitTime + "<=?"; //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  @Override
+  protected void doDeactivate() throws Exception
+  {
+    sqlInsert = null;
+    sqlSelectChanges = null;
+    sqlSelectChangesUntil = null;
+    super.doDeactivate();
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static final class NAMES
+  {
+    private static final String CHANGE_INDEX = name("cdo_change_index"); //$NON-NLS-1$
+
+    private static final String ID = name("cdo_id"); //$NON-NLS-1$
+
+    private static final String BRANCH = name("branch_id"); //$NON-NLS-1$
+
+    private static final String COMMIT_TIME = name("commit_time"); //$NON-NLS-1$
+
+    private static final String CHANGE_KIND = name("change_kind"); //$NON-NLS-1$
+
+    private static String name(String name)
+    {
+      return DBUtil.name(name, ChangeIndexTable.class);
+    }
+  }
+}
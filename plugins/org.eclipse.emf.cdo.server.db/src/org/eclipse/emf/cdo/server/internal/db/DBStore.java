@@ -112,6 +112,8 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
 
   private static final String PROP_GRACEFULLY_SHUT_DOWN = "org.eclipse.emf.cdo.server.db.gracefullyShutDown"; //$NON-NLS-1$
 
+  private static final String PROP_CHANGE_INDEX_START = "org.eclipse.emf.cdo.server.db.changeIndexStart"; //$NON-NLS-1$
+
   private static final int DEFAULT_CONNECTION_RETRY_COUNT = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.server.db.DEFAULT_CONNECTION_RETRY_COUNT", 0);
 
   private static final int DEFAULT_CONNECTION_RETRY_SECONDS = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.server.db.DEFAULT_CONNECTION_RETRY_SECONDS",
@@ -136,6 +138,12 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
 
   private int jdbcFetchSize = 100000;
 
+  private int readUnitParallelism = 4;
+
+  private int bulkLoadBatchSize = 1000;
+
+  private boolean changeIndex = true;
+
   private IIDHandler idHandler;
 
   private IMetaDataManager metaDataManager = createMetaDataManager();
@@ -148,6 +156,10 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
 
   private UnitMappingTable unitMappingTable;
 
+  private ChangeIndexTable changeIndexTable;
+
+  private final BulkLoad bulkLoad = new BulkLoad(this);
+
   private IMappingStrategy mappingStrategy;
 
   private IDBDatabase database;
@@ -230,6 +242,18 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
     return jdbcFetchSize;
   }
 
+  @Override
+  public int getReadUnitParallelism()
+  {
+    return readUnitParallelism;
+  }
+
+  @Override
+  public int getBulkLoadBatchSize()
+  {
+    return bulkLoadBatchSize;
+  }
+
   @Override
   public int getIDColumnLength()
   {
@@ -339,6 +363,25 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
     return unitMappingTable;
   }
 
+  public ChangeIndexTable getChangeIndexTable()
+  {
+    return changeIndexTable;
+  }
+
+  /**
+   * Sets the commit time from which on the {@link #getChangeIndexTable() change index} is complete.
+   */
+  public void setChangeIndexStart(long startTime)
+  {
+    changeIndexTable.setStartTime(startTime);
+    putPersistentProperty(PROP_CHANGE_INDEX_START, Long.toString(startTime));
+  }
+
+  public BulkLoad getBulkLoad()
+  {
+    return bulkLoad;
+  }
+
   public Timer getConnectionKeepAliveTimer()
   {
     return connectionKeepAliveTimer;
@@ -647,6 +690,24 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
       {
         jdbcFetchSize = Integer.parseInt(prop);
       }
+
+      prop = properties.get(Props.READ_UNIT_PARALLELISM);
+      if (prop != null)
+      {
+        readUnitParallelism = Math.max(1, Integer.parseInt(prop));
+      }
+
+      prop = properties.get(Props.BULK_LOAD_BATCH_SIZE);
+      if (prop != null)
+      {
+        bulkLoadBatchSize = Math.max(1, Integer.parseInt(prop));
+      }
+
+      prop = properties.get(Props.CHANGE_INDEX);
+      if (prop != null)
+      {
+        changeIndex = Boolean.parseBoolean(prop);
+      }
     }
 
     Connection connection = getConnectionOrRetry();
@@ -714,6 +775,12 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
       unitMappingTable.activate();
     }
 
+    if (changeIndex && mappingStrategy.hasAuditSupport())
+    {
+      changeIndexTable = new ChangeIndexTable(this);
+      changeIndexTable.activate();
+    }
+
     setRevisionTemporality(mappingStrategy.hasAuditSupport() ? RevisionTemporality.AUDITING : RevisionTemporality.NONE);
     setRevisionParallelism(mappingStrategy.hasBranchingSupport() ? RevisionParallelism.BRANCHING : RevisionParallelism.NONE);
 
@@ -726,12 +793,23 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
       reStart();
     }
 
+    if (changeIndexTable != null)
+    {
+      initChangeIndexStart();
+    }
+    else
+    {
+      // Commits without the index leave a gap, so a later start must begin after them.
+      removePersistentProperties(Collections.singleton(PROP_CHANGE_INDEX_START));
+    }
+
     putPersistentProperty(PROP_SCHEMA_VERSION, Integer.toString(SCHEMA_VERSION));
   }
 
   @Override
   protected void doDeactivate() throws Exception
   {
+    LifecycleUtil.deactivate(changeIndexTable);
     LifecycleUtil.deactivate(unitMappingTable);
     LifecycleUtil.deactivate(commitInfoTable);
     LifecycleUtil.deactivate(mappingStrategy);
@@ -785,6 +863,20 @@ public class DBStore extends Store implements IDBStore, CDOAllRevisionsProvider,
     return map.get(PROP_REPOSITORY_CREATED) == null;
   }
 
+  private void initChangeIndexStart()
+  {
+    String value = getPersistentProperties(Collections.singleton(PROP_CHANGE_INDEX_START)).get(PROP_CHANGE_INDEX_START);
+    if (value != null)
+    {
+      changeIndexTable.setStartTime(Long.parseLong(value));
+    }
+    else
+    {
+      // The commits of an existing repository are not in the index.
+      setChangeIndexStart(firstTime ? CDOBranchPoint.UNSPECIFIED_DATE : getLastCommitTime() + 1);
+    }
+  }
+
   protected void firstStart()
   {
     InternalRepository repository = getRepository();
@@ -19,6 +19,7 @@ import org.eclipse.emf.cdo.common.branch.CDOBranch;
 import org.eclipse.emf.cdo.common.branch.CDOBranchHandler;
 import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
 import org.eclipse.emf.cdo.common.branch.CDOBranchVersion;
+import org.eclipse.emf.cdo.common.commit.CDOChangeKind;
 import org.eclipse.emf.cdo.common.commit.CDOCommitInfoHandler;
 import org.eclipse.emf.cdo.common.id.CDOID;
 import org.eclipse.emf.cdo.common.id.CDOIDUtil;
@@ -38,6 +39,7 @@ import org.eclipse.emf.cdo.server.IRepository;
 import org.eclipse.emf.cdo.server.ISession;
 import org.eclipse.emf.cdo.server.IStoreAccessor;
 import org.eclipse.emf.cdo.server.IStoreAccessor.DurableLocking2;
+import org.eclipse.emf.cdo.server.IStoreAccessor.Raw3;
 import org.eclipse.emf.cdo.server.ITransaction;
 import org.eclipse.emf.cdo.server.IView;
 import org.eclipse.emf.cdo.server.StoreThreadLocal;
@@ -84,6 +86,7 @@ import org.eclipse.net4j.util.collection.Pair;
 import org.eclipse.net4j.util.concurrent.IRWLockManager.LockType;
 import org.eclipse.net4j.util.concurrent.TrackableTimerTask;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.om.monitor.Monitor;
 import org.eclipse.net4j.util.om.monitor.OMMonitor;
 import org.eclipse.net4j.util.om.monitor.OMMonitor.Async;
 import org.eclipse.net4j.util.om.trace.ContextTracer;
@@ -111,7 +114,7 @@ import java.util.function.Consumer;
 /**
  * @author Eike Stepper
  */
-public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor, BranchLoader5, DurableLocking2
+public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor, Raw3, BranchLoader5, DurableLocking2
 {
   private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, DBStoreAccessor.class);
 
@@ -125,6 +128,8 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
 
   private List<IDBTable> createdTables;
 
+  private boolean bulkLoading;
+
   public DBStoreAccessor(DBStore store, ISession session) throws DBException
   {
     super(store, session);
@@ -439,6 +444,12 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
         writeRevision(revision, attachNewObjects, true, monitor.fork());
       }
 
+      ChangeIndexTable changeIndexTable = getStore().getChangeIndexTable();
+      if (changeIndexTable != null && revisions.length != 0)
+      {
+        changeIndexTable.writeChanges(this, revisions, attachNewObjects ? CDOChangeKind.NEW : CDOChangeKind.CHANGED);
+      }
+
       if (attachNewObjects)
       {
         InternalRepository repository = getStore().getRepository();
@@ -528,6 +539,12 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
         IClassMapping mapping = mappingStrategy.getClassMapping(eClass);
         mapping.detachObject(this, id, version, branch, timeStamp, monitor.fork());
       }
+
+      ChangeIndexTable changeIndexTable = getStore().getChangeIndexTable();
+      if (changeIndexTable != null && detachedObjects.length != 0)
+      {
+        changeIndexTable.writeDetachments(this, detachedObjects, branch, timeStamp);
+      }
     }
     finally
     {
@@ -677,6 +694,14 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
     // we want to make sure that no DB lock is held (see Bug 276926)
     connection.rollback();
 
+    if (bulkLoading)
+    {
+      // The bulk load has not been ended properly.
+      bulkLoading = false;
+      connection.setInsertBatchSize(0);
+      getStore().getBulkLoad().leave(this, new Monitor(), false);
+    }
+
     if (createdTables != null)
     {
       createdTables.clear();
@@ -834,7 +859,49 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
   public Set<CDOID> readChangeSet(OMMonitor monitor, CDOChangeSetSegment... segments)
   {
     IMappingStrategy mappingStrategy = getStore().getMappingStrategy();
-    return mappingStrategy.readChangeSet(this, monitor, segments);
+
+    ChangeIndexTable changeIndexTable = getStore().getChangeIndexTable();
+    if (changeIndexTable == null)
+    {
+      return mappingStrategy.readChangeSet(this, monitor, segments);
+    }
+
+    List<CDOChangeSetSegment> unindexedSegments = new ArrayList<>();
+    for (CDOChangeSetSegment segment : segments)
+    {
+      if (!changeIndexTable.isIndexed(segment))
+      {
+        unindexedSegments.add(segment);
+      }
+    }
+
+    monitor.begin(segments.length);
+
+    try
+    {
+      Set<CDOID> result = new HashSet<>();
+      if (!unindexedSegments.isEmpty())
+      {
+        // Segments that start before the change index must be read from the class tables.
+        CDOChangeSetSegment[] array = unindexedSegments.toArray(new CDOChangeSetSegment[unindexedSegments.size()]);
+        result.addAll(mappingStrategy.readChangeSet(this, monitor.fork(array.length), array));
+      }
+
+      for (CDOChangeSetSegment segment : segments)
+      {
+        if (changeIndexTable.isIndexed(segment))
+        {
+          changeIndexTable.readChangeSet(this, segment, result);
+          monitor.worked();
+        }
+      }
+
+      return result;
+    }
+    finally
+    {
+      monitor.done();
+    }
   }
 
   @Override
@@ -943,6 +1010,13 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
       }
 
       rawCommit(commitWork, monitor);
+
+      // The imported commits are not in the change index.
+      ChangeIndexTable changeIndexTable = store.getChangeIndexTable();
+      if (changeIndexTable != null && changeIndexTable.getStartTime() <= toCommitTime)
+      {
+        store.setChangeIndexStart(toCommitTime + 1);
+      }
     }
     catch (RuntimeException ex)
     {
@@ -1038,22 +1112,43 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
     CDOID id = revision.getID();
     EClass eClass = revision.getEClass();
 
-    IMappingStrategy mappingStrategy = getStore().getMappingStrategy();
-    CDOClassifierRef classifierRef = mappingStrategy.readObjectType(this, id);
-
-    boolean firstRevision = classifierRef == null;
-    if (!firstRevision)
+    boolean firstRevision;
+    if (bulkLoading && revision.getVersion() == CDOBranchVersion.FIRST_VERSION && revision.getBranch().isMainBranch())
+    {
+      // The object can't have an earlier revision, and a lookup would flush the pending insert batches.
+      firstRevision = true;
+    }
+    else
     {
-      boolean namesMatch = classifierRef.getClassifierName().equals(eClass.getName());
-      boolean packagesMatch = classifierRef.getPackageURI().equals(eClass.getEPackage().getNsURI());
-      if (!namesMatch || !packagesMatch)
+      IMappingStrategy mappingStrategy = getStore().getMappingStrategy();
+      CDOClassifierRef classifierRef = mappingStrategy.readObjectType(this, id);
+
+      firstRevision = classifierRef == null;
+      if (!firstRevision)
       {
-        throw new IllegalStateException();
+        boolean namesMatch = classifierRef.getClassifierName().equals(eClass.getName());
+        boolean packagesMatch = classifierRef.getPackageURI().equals(eClass.getEPackage().getNsURI());
+        if (!namesMatch || !packagesMatch)
+        {
+          throw new IllegalStateException();
+        }
       }
     }
 
     writeRevision(revision, firstRevision, false, monitor);
     getStore().getIDHandler().adjustLastObjectID(id);
+
+    ChangeIndexTable changeIndexTable = getStore().getChangeIndexTable();
+    if (changeIndexTable != null)
+    {
+      CDOChangeKind kind = revision instanceof DetachedCDORevision ? CDOChangeKind.DETACHED : firstRevision ? CDOChangeKind.NEW : CDOChangeKind.CHANGED;
+      changeIndexTable.writeChange(this, id, revision.getBranch(), revision.getTimeStamp(), kind);
+    }
+
+    if (bulkLoading)
+    {
+      getStore().getBulkLoad().revisionLoaded(firstRevision);
+    }
   }
 
   @Override
@@ -1122,6 +1217,39 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
     }
   }
 
+  @Override
+  public void beginBulkLoad(OMMonitor monitor)
+  {
+    checkState(!bulkLoading, "Bulk load already begun"); //$NON-NLS-1$
+    getStore().getBulkLoad().join(this, monitor);
+
+    connection.setInsertBatchSize(getStore().getBulkLoadBatchSize());
+    bulkLoading = true;
+  }
+
+  @Override
+  public void endBulkLoad(OMMonitor monitor)
+  {
+    checkState(bulkLoading, "Bulk load not begun"); //$NON-NLS-1$
+    bulkLoading = false;
+    boolean completed = false;
+
+    try
+    {
+      connection.setInsertBatchSize(0);
+      connection.commit();
+      completed = true;
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+    finally
+    {
+      getStore().getBulkLoad().leave(this, monitor, completed);
+    }
+  }
+
   @Override
   public LockArea createLockArea(String userID, CDOBranchPoint branchPoint, boolean readOnly, Map<CDOID, LockGrade> locks)
   {
@@ -1221,6 +1349,7 @@ public class DBStoreAccessor extends StoreAccessor implements IDBStoreAccessor,
     }
 
     createdTables.add(table);
+    getStore().getBulkLoad().tableCreated(this, table);
   }
 
   /**
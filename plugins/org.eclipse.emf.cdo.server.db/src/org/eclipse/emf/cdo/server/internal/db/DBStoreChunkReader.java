@@ -17,6 +17,7 @@ import org.eclipse.emf.cdo.server.db.IDBStoreChunkReader;
 import org.eclipse.emf.cdo.server.db.mapping.IClassMapping;
 import org.eclipse.emf.cdo.server.db.mapping.IListMapping;
 import org.eclipse.emf.cdo.server.db.mapping.IListMapping2;
+import org.eclipse.emf.cdo.server.db.mapping.IListMapping5;
 import org.eclipse.emf.cdo.server.db.mapping.IMappingStrategy;
 import org.eclipse.emf.cdo.server.internal.db.mapping.horizontal.MappingNames;
 import org.eclipse.emf.cdo.spi.server.StoreChunkReader;
@@ -55,6 +56,12 @@ public class DBStoreChunkReader extends StoreChunkReader implements IDBStoreChun
   public void addSimpleChunk(int index)
   {
     super.addSimpleChunk(index);
+    if (referenceMapping instanceof IListMapping5)
+    {
+      // The condition for all chunks is added in executeRead().
+      return;
+    }
+
     prepareAddition();
 
     if (referenceMapping instanceof IListMapping2)
@@ -73,6 +80,12 @@ public class DBStoreChunkReader extends StoreChunkReader implements IDBStoreChun
   public void addRangedChunk(int fromIndex, int toIndex)
   {
     super.addRangedChunk(fromIndex, toIndex);
+    if (referenceMapping instanceof IListMapping5)
+    {
+      // The condition for all chunks is added in executeRead().
+      return;
+    }
+
     prepareAddition();
 
     if (referenceMapping instanceof IListMapping2)
@@ -93,7 +106,11 @@ public class DBStoreChunkReader extends StoreChunkReader implements IDBStoreChun
   public List<Chunk> executeRead()
   {
     List<Chunk> chunks = getChunks();
-    if (chunks.size() > 1)
+    if (referenceMapping instanceof IListMapping5)
+    {
+      ((IListMapping5)referenceMapping).addChunksWhere(getAccessor(), getRevision().getID(), builder, chunks);
+    }
+    else if (chunks.size() > 1)
     {
       builder.insert(0, '(');
       builder.append(')');
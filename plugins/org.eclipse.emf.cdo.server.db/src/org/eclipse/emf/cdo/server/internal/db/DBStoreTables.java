@@ -713,6 +713,13 @@ public class DBStoreTables extends Lifecycle
           commitInfoTable.deleteBranches(accessor, batch, idList);
         }
 
+        // Delete the change index entries.
+        ChangeIndexTable changeIndexTable = store.getChangeIndexTable();
+        if (changeIndexTable != null)
+        {
+          changeIndexTable.deleteBranches(accessor, batch, idList);
+        }
+
         // Delete the locks and lock areas.
         store.getDurableLockingManager().deleteBranches(accessor, batch, idList);
 
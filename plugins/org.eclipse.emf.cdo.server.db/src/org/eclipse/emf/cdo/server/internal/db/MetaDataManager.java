@@ -57,6 +57,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -72,9 +73,16 @@ public class MetaDataManager extends Lifecycle implements IMetaDataManager
 
   private DBStore store;
 
-  private Map<EModelElement, CDOID> modelElementToMetaID = new HashMap<>();
+  /**
+   * Immutable snapshot that is replaced (under the monitor of this manager) when a new mapping is cached, which only
+   * happens when new model elements are committed or first looked up. Lookups read the current snapshot without locking.
+   */
+  private volatile Map<EModelElement, CDOID> modelElementToMetaID = Collections.emptyMap();
 
-  private Map<CDOID, EModelElement> metaIDToModelElement = CDOIDUtil.createMap();
+  /**
+   * Immutable snapshot, see {@link #modelElementToMetaID}.
+   */
+  private volatile Map<CDOID, EModelElement> metaIDToModelElement = Collections.emptyMap();
 
   public MetaDataManager(IDBStore store)
   {
@@ -82,7 +90,7 @@ public class MetaDataManager extends Lifecycle implements IMetaDataManager
   }
 
   @Override
-  public synchronized CDOID getMetaID(EModelElement modelElement, long commitTime)
+  public CDOID getMetaID(EModelElement modelElement, long commitTime)
   {
     CDOID metaID = modelElementToMetaID.get(modelElement);
     if (metaID != null)
@@ -90,16 +98,23 @@ public class MetaDataManager extends Lifecycle implements IMetaDataManager
       return metaID;
     }
 
-    IDBStoreAccessor accessor = (IDBStoreAccessor)StoreThreadLocal.getAccessor();
-    String uri = EcoreUtil.getURI(modelElement).toString();
-    metaID = store.getIDHandler().mapURI(accessor, uri, commitTime);
-    cacheMetaIDMapping(modelElement, metaID);
+    synchronized (this)
+    {
+      metaID = modelElementToMetaID.get(modelElement);
+      if (metaID == null)
+      {
+        IDBStoreAccessor accessor = (IDBStoreAccessor)StoreThreadLocal.getAccessor();
+        String uri = EcoreUtil.getURI(modelElement).toString();
+        metaID = store.getIDHandler().mapURI(accessor, uri, commitTime);
+        cacheMetaIDMapping(modelElement, metaID);
+      }
 
-    return metaID;
+      return metaID;
+    }
   }
 
   @Override
-  public synchronized EModelElement getMetaInstance(CDOID id)
+  public EModelElement getMetaInstance(CDOID id)
   {
     EModelElement modelElement = metaIDToModelElement.get(id);
     if (modelElement != null)
@@ -107,20 +122,33 @@ public class MetaDataManager extends Lifecycle implements IMetaDataManager
       return modelElement;
     }
 
-    IDBStoreAccessor accessor = (IDBStoreAccessor)StoreThreadLocal.getAccessor();
-    String uri = store.getIDHandler().unmapURI(accessor, id);
+    synchronized (this)
+    {
+      modelElement = metaIDToModelElement.get(id);
+      if (modelElement == null)
+      {
+        IDBStoreAccessor accessor = (IDBStoreAccessor)StoreThreadLocal.getAccessor();
+        String uri = store.getIDHandler().unmapURI(accessor, id);
 
-    ResourceSet resourceSet = new ResourceSetImpl();
-    resourceSet.setPackageRegistry(getStore().getRepository().getPackageRegistry());
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.setPackageRegistry(getStore().getRepository().getPackageRegistry());
 
-    return (EModelElement)resourceSet.getEObject(URI.createURI(uri), true);
+        modelElement = (EModelElement)resourceSet.getEObject(URI.createURI(uri), true);
+        if (modelElement != null)
+        {
+          cacheMetaIDMapping(modelElement, id);
+        }
+      }
+
+      return modelElement;
+    }
   }
 
   @Override
   public synchronized void clearMetaIDMappings()
   {
-    modelElementToMetaID.clear();
-    metaIDToModelElement.clear();
+    modelElementToMetaID = Collections.emptyMap();
+    metaIDToModelElement = Collections.emptyMap();
   }
 
   @Override
@@ -446,7 +474,14 @@ public class MetaDataManager extends Lifecycle implements IMetaDataManager
 
   private void cacheMetaIDMapping(EModelElement modelElement, CDOID metaID)
   {
-    modelElementToMetaID.put(modelElement, metaID);
-    metaIDToModelElement.put(metaID, modelElement);
+    // Copy on write, the snapshots are read without locking.
+    Map<EModelElement, CDOID> newModelElementToMetaID = new HashMap<>(modelElementToMetaID);
+    newModelElementToMetaID.put(modelElement, metaID);
+
+    Map<CDOID, EModelElement> newMetaIDToModelElement = CDOIDUtil.createMap(metaIDToModelElement);
+    newMetaIDToModelElement.put(metaID, modelElement);
+
+    modelElementToMetaID = newModelElementToMetaID;
+    metaIDToModelElement = newMetaIDToModelElement;
   }
 }
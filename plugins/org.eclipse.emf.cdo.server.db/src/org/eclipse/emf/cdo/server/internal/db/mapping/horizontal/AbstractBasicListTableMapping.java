@@ -24,10 +24,11 @@ import org.eclipse.emf.cdo.common.revision.delta.CDOMoveFeatureDelta;
 import org.eclipse.emf.cdo.common.revision.delta.CDORemoveFeatureDelta;
 import org.eclipse.emf.cdo.common.revision.delta.CDOSetFeatureDelta;
 import org.eclipse.emf.cdo.common.revision.delta.CDOUnsetFeatureDelta;
+import org.eclipse.emf.cdo.server.IStoreChunkReader.Chunk;
 import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
 import org.eclipse.emf.cdo.server.db.IIDHandler;
 import org.eclipse.emf.cdo.server.db.mapping.IClassMapping;
-import org.eclipse.emf.cdo.server.db.mapping.IListMapping3;
+import org.eclipse.emf.cdo.server.db.mapping.IListMapping5;
 import org.eclipse.emf.cdo.server.db.mapping.IMappingStrategy;
 import org.eclipse.emf.cdo.server.db.mapping.ITypeMapping;
 import org.eclipse.emf.cdo.server.internal.db.DBIndexAnnotation;
@@ -56,7 +57,7 @@ import java.util.Set;
 /**
  * @author Stefan Winkler
  */
-public abstract class AbstractBasicListTableMapping implements IListMapping3
+public abstract class AbstractBasicListTableMapping implements IListMapping5
 {
   private IMappingStrategy mappingStrategy;
 
@@ -105,6 +106,107 @@ public abstract class AbstractBasicListTableMapping implements IListMapping3
     builder.append(toIndex - 1);
   }
 
+  @Override
+  public void addChunksWhere(IDBStoreAccessor accessor, CDOID cdoid, StringBuilder builder, List<Chunk> chunks)
+  {
+    addChunksWhere(builder, chunks, 0);
+  }
+
+  /**
+   * Appends one condition for all the given chunks, shifted by the given offset. Adjacent chunks are merged into one
+   * range and all single elements are matched with one IN list.
+   */
+  protected void addChunksWhere(StringBuilder builder, List<Chunk> chunks, int offset)
+  {
+    String index = index().toString();
+    StringBuilder singles = new StringBuilder();
+    StringBuilder ranges = new StringBuilder();
+    int singleCount = 0;
+    int terms = 0;
+
+    int fromIndex = -1;
+    int toIndex = -1;
+
+    for (int i = 0, size = chunks.size(); i <= size; i++)
+    {
+      Chunk chunk = i < size ? chunks.get(i) : null;
+      if (chunk != null)
+      {
+        int startIndex = chunk.getStartIndex() + offset;
+        if (startIndex == toIndex)
+        {
+          toIndex += chunk.size();
+          continue;
+        }
+      }
+
+      if (fromIndex != -1)
+      {
+        if (toIndex - fromIndex == 1)
+        {
+          StringUtil.appendSeparator(singles, ","); //$NON-NLS-1$
+          singles.append(fromIndex);
+          ++singleCount;
+        }
+        else
+        {
+          StringUtil.appendSeparator(ranges, " OR "); //$NON-NLS-1$
+          ranges.append(index);
+          ranges.append(" BETWEEN "); //$NON-NLS-1$
+          ranges.append(fromIndex);
+          ranges.append(" AND "); //$NON-NLS-1$
+          ranges.append(toIndex - 1);
+          ++terms;
+        }
+      }
+
+      if (chunk != null)
+      {
+        fromIndex = chunk.getStartIndex() + offset;
+        toIndex = fromIndex + chunk.size();
+      }
+    }
+
+    if (singleCount != 0)
+    {
+      ++terms;
+    }
+
+    if (terms > 1)
+    {
+      builder.append('(');
+    }
+
+    if (singleCount == 1)
+    {
+      builder.append(index);
+      builder.append('=');
+      builder.append(singles);
+    }
+    else if (singleCount > 1)
+    {
+      builder.append(index);
+      builder.append(" IN ("); //$NON-NLS-1$
+      builder.append(singles);
+      builder.append(')');
+    }
+
+    if (ranges.length() != 0)
+    {
+      if (singleCount != 0)
+      {
+        builder.append(" OR "); //$NON-NLS-1$
+      }
+
+      builder.append(ranges);
+    }
+
+    if (terms > 1)
+    {
+      builder.append(')');
+    }
+  }
+
   @Override
   public void setClassMapping(IClassMapping classMapping)
   {
@@ -17,6 +17,7 @@ import org.eclipse.emf.cdo.common.id.CDOID;
 import org.eclipse.emf.cdo.common.revision.CDORevision;
 import org.eclipse.emf.cdo.common.revision.delta.CDOFeatureDelta;
 import org.eclipse.emf.cdo.common.revision.delta.CDOListFeatureDelta;
+import org.eclipse.emf.cdo.server.IStoreChunkReader.Chunk;
 import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
 import org.eclipse.emf.cdo.server.db.IIDHandler;
 import org.eclipse.emf.cdo.server.db.mapping.IListMappingDeltaSupport;
@@ -181,6 +182,14 @@ public class NonAuditListTableMapping extends AbstractListTableMapping implement
     super.addRangedChunkWhere(accessor, cdoid, builder, fromIndex + offset, toIndex + offset);
   }
 
+  @Override
+  public void addChunksWhere(IDBStoreAccessor accessor, CDOID cdoid, StringBuilder builder, List<Chunk> chunks)
+  {
+    // Read the offset only once for all chunks.
+    int offset = getCurrentIndexOffset(accessor, cdoid);
+    addChunksWhere(builder, chunks, offset);
+  }
+
   @Override
   protected void addKeyFields(List<FieldInfo> list)
   {
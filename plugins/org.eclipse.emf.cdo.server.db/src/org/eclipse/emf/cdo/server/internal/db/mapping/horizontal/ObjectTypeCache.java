@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009-2013, 2021 Eike Stepper (Loehne, Germany) and others.
+ * Copyright (c) 2009-2013, 2021, 2026 Eike Stepper (Loehne, Germany) and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,15 +14,30 @@ import org.eclipse.emf.cdo.common.id.CDOID;
 import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
 import org.eclipse.emf.cdo.server.db.IIDHandler;
 import org.eclipse.emf.cdo.server.db.mapping.IBranchDeletionSupport;
+import org.eclipse.emf.cdo.server.internal.db.bundle.OM;
 
 import org.eclipse.net4j.db.Batch;
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import org.eclipse.emf.ecore.EClass;
 
 import java.sql.Connection;
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
+ * Caches the class IDs of objects in memory.
+ * <p>
+ * The cache is a concurrent map, so lookups and insertions don't block each other. The number of cached entries is
+ * bounded by a CLOCK (second chance) eviction: every lookup marks the found entry as referenced, and when the cache
+ * overflows the clock hand sweeps over the entries, evicting the ones that haven't been referenced since its last pass.
+ * Only one thread sweeps at a time, the others just skip the eviction.
+ *
  * @author Eike Stepper
  * @since 4.0
  */
@@ -30,7 +45,19 @@ public class ObjectTypeCache extends DelegatingObjectTypeMapper implements IBran
 {
   public static final int DEFAULT_CACHE_CAPACITY = 100000;
 
-  private Map<CDOID, CDOID> memoryCache;
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, ObjectTypeCache.class);
+
+  private final Lock evictionLock = new ReentrantLock();
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  private ConcurrentMap<CDOID, Entry> memoryCache;
+
+  private Iterator<Map.Entry<CDOID, Entry>> clockHand;
 
   private int cacheSize;
 
@@ -39,22 +66,78 @@ public class ObjectTypeCache extends DelegatingObjectTypeMapper implements IBran
     this.cacheSize = cacheSize;
   }
 
+  public int getCacheSize()
+  {
+    return cacheSize;
+  }
+
+  public int getSize()
+  {
+    ConcurrentMap<CDOID, Entry> cache = memoryCache;
+    return cache == null ? 0 : cache.size();
+  }
+
+  public long getHitCount()
+  {
+    return hitCount.get();
+  }
+
+  public long getMissCount()
+  {
+    return missCount.get();
+  }
+
+  public long getEvictionCount()
+  {
+    return evictionCount.get();
+  }
+
   @Override
   public void deleteBranches(IDBStoreAccessor accessor, Batch batch, String idList)
   {
     memoryCache.clear();
   }
 
+  @Override
+  public String toString()
+  {
+    return "ObjectTypeCache[size=" + getSize() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        + "]"; //$NON-NLS-1$
+  }
+
   @Override
   protected CDOID doGetObjectType(IDBStoreAccessor accessor, CDOID id)
   {
-    return memoryCache.get(id);
+    Entry entry = memoryCache.get(id);
+    if (entry == null)
+    {
+      missCount.incrementAndGet();
+      return null;
+    }
+
+    if (!entry.referenced)
+    {
+      entry.referenced = true;
+    }
+
+    hitCount.incrementAndGet();
+    return entry.type;
   }
 
   @Override
   protected boolean doPutObjectType(IDBStoreAccessor accessor, CDOID id, CDOID type)
   {
-    return memoryCache.put(id, type) == null;
+    if (memoryCache.put(id, new Entry(type)) != null)
+    {
+      return false;
+    }
+
+    if (memoryCache.size() > cacheSize)
+    {
+      evict();
+    }
+
+    return true;
   }
 
   @Override
@@ -73,35 +156,76 @@ public class ObjectTypeCache extends DelegatingObjectTypeMapper implements IBran
   protected void doActivate() throws Exception
   {
     super.doActivate();
-    memoryCache = Collections.synchronizedMap(new MemoryCache(cacheSize));
+    memoryCache = new ConcurrentHashMap<>();
   }
 
   @Override
   protected void doDeactivate() throws Exception
   {
+    if (TRACER.isEnabled())
+    {
+      TRACER.trace(toString());
+    }
+
     memoryCache = null;
+    clockHand = null;
     super.doDeactivate();
   }
 
-  /**
-   * @author Stefan Winkler
-   */
-  private static final class MemoryCache extends LinkedHashMap<CDOID, CDOID>
+  private void evict()
   {
-    private static final long serialVersionUID = 1L;
-
-    private int capacity;
+    if (!evictionLock.tryLock())
+    {
+      // Another thread is already evicting.
+      return;
+    }
 
-    public MemoryCache(int capacity)
+    try
+    {
+      // Two full sweeps are enough to find unreferenced entries, even if all entries were referenced initially.
+      int maxSteps = 2 * (memoryCache.size() + 1);
+      for (int step = 0; step < maxSteps && memoryCache.size() > cacheSize; step++)
+      {
+        if (clockHand == null || !clockHand.hasNext())
+        {
+          clockHand = memoryCache.entrySet().iterator();
+          if (!clockHand.hasNext())
+          {
+            break;
+          }
+        }
+
+        Map.Entry<CDOID, Entry> mapEntry = clockHand.next();
+        Entry entry = mapEntry.getValue();
+
+        if (entry.referenced)
+        {
+          entry.referenced = false;
+        }
+        else if (memoryCache.remove(mapEntry.getKey(), entry))
+        {
+          evictionCount.incrementAndGet();
+        }
+      }
+    }
+    finally
     {
-      super(capacity, 0.75f, true);
-      this.capacity = capacity;
+      evictionLock.unlock();
     }
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static final class Entry
+  {
+    private final CDOID type;
+
+    private volatile boolean referenced;
 
-    @Override
-    protected boolean removeEldestEntry(Map.Entry<CDOID, CDOID> eldest)
+    public Entry(CDOID type)
     {
-      return size() > capacity;
+      this.type = type;
     }
   }
 }
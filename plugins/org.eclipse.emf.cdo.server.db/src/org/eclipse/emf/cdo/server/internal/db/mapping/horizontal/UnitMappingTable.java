@@ -37,6 +37,9 @@ import org.eclipse.net4j.db.IDBPreparedStatement.ReuseProbability;
 import org.eclipse.net4j.db.ddl.IDBField;
 import org.eclipse.net4j.db.ddl.IDBIndex;
 import org.eclipse.net4j.db.ddl.IDBTable;
+import org.eclipse.net4j.util.WrappedException;
+import org.eclipse.net4j.util.concurrent.ConcurrencyUtil;
+import org.eclipse.net4j.util.om.monitor.MonitorCanceledException;
 import org.eclipse.net4j.util.om.monitor.OMMonitor;
 
 import org.eclipse.emf.ecore.EClass;
@@ -48,7 +51,15 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author Eike Stepper
@@ -118,36 +129,186 @@ public class UnitMappingTable extends DBStoreTable
   }
 
   public void readUnitRevisions(IDBStoreAccessor accessor, IView view, CDOID rootID, CDORevisionHandler revisionHandler, OMMonitor monitor)
+  {
+    long timeStamp = view.isHistorical() ? view.getTimeStamp() : store().getRepository().getTimeStamp();
+    CDOBranchPoint branchPoint = view.getBranch().getPoint(timeStamp);
+
+    List<IClassMappingUnitSupport> classMappings = readUnitClassMappings(accessor, rootID);
+    int size = classMappings.size();
+    int parallelism = Math.min(store().getReadUnitParallelism(), size);
+
+    monitor.begin(size);
+
+    try
+    {
+      if (parallelism > 1)
+      {
+        readUnitRevisions(accessor, branchPoint, rootID, classMappings, parallelism, revisionHandler, monitor);
+      }
+      else
+      {
+        for (IClassMappingUnitSupport classMapping : classMappings)
+        {
+          monitor.checkCanceled();
+          classMapping.readUnitRevisions(accessor, branchPoint, rootID, revisionHandler);
+          monitor.worked();
+        }
+      }
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+    finally
+    {
+      monitor.done();
+    }
+  }
+
+  /**
+   * Reads the class tables of a unit with up to <code>parallelism</code> workers, each of them with its own store accessor.
+   * The revisions of all classes are passed to the same revision handler instance, on which the class mappings synchronize.
+   * Progress is reported and cancelation is checked on the calling thread, which waits for all workers to terminate
+   * before it returns.
+   */
+  private void readUnitRevisions(IDBStoreAccessor accessor, CDOBranchPoint branchPoint, CDOID rootID, List<IClassMappingUnitSupport> classMappings,
+      int parallelism, CDORevisionHandler revisionHandler, OMMonitor monitor) throws SQLException
+  {
+    Queue<IClassMappingUnitSupport> queue = new ConcurrentLinkedQueue<>(classMappings);
+    BlockingQueue<Object> results = new LinkedBlockingQueue<>();
+    CountDownLatch terminated = new CountDownLatch(parallelism);
+    AtomicBoolean aborted = new AtomicBoolean();
+
+    CDORevisionHandler handler = new CDORevisionHandler()
+    {
+      @Override
+      public boolean handleRevision(CDORevision revision)
+      {
+        if (aborted.get())
+        {
+          throw new MonitorCanceledException();
+        }
+
+        return revisionHandler.handleRevision(revision);
+      }
+    };
+
+    ExecutorService executorService = ConcurrencyUtil.getExecutorService(store().getRepository());
+    for (int i = 0; i < parallelism; i++)
+    {
+      executorService.submit(new Runnable()
+      {
+        @Override
+        public void run()
+        {
+          IDBStoreAccessor workerAccessor = null;
+
+          try
+          {
+            workerAccessor = (IDBStoreAccessor)store().getReader(accessor.getSession());
+
+            IClassMappingUnitSupport classMapping;
+            while (!aborted.get() && (classMapping = queue.poll()) != null)
+            {
+              classMapping.readUnitRevisions(workerAccessor, branchPoint, rootID, handler);
+              results.offer(classMapping);
+            }
+          }
+          catch (Throwable ex)
+          {
+            results.offer(ex);
+          }
+          finally
+          {
+            if (workerAccessor != null)
+            {
+              workerAccessor.release();
+            }
+
+            terminated.countDown();
+          }
+        }
+      });
+    }
+
+    try
+    {
+      for (int done = 0; done < classMappings.size();)
+      {
+        Object result = results.poll(100, TimeUnit.MILLISECONDS);
+        if (result == null)
+        {
+          monitor.checkCanceled();
+          continue;
+        }
+
+        if (result instanceof SQLException)
+        {
+          throw (SQLException)result;
+        }
+
+        if (result instanceof RuntimeException)
+        {
+          throw (RuntimeException)result;
+        }
+
+        if (result instanceof Error)
+        {
+          throw (Error)result;
+        }
+
+        if (result instanceof Throwable)
+        {
+          throw WrappedException.wrap((Exception)result);
+        }
+
+        monitor.worked();
+        ++done;
+      }
+    }
+    catch (InterruptedException ex)
+    {
+      throw WrappedException.wrap(ex);
+    }
+    finally
+    {
+      // Never return while a worker can still call the revision handler.
+      aborted.set(true);
+
+      try
+      {
+        terminated.await();
+      }
+      catch (InterruptedException ex)
+      {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private List<IClassMappingUnitSupport> readUnitClassMappings(IDBStoreAccessor accessor, CDOID rootID)
   {
     IIDHandler idHandler = store().getIDHandler();
     IMappingStrategy mappingStrategy = store().getMappingStrategy();
     IMetaDataManager metaDataManager = store().getMetaDataManager();
-
-    long timeStamp = view.isHistorical() ? view.getTimeStamp() : store().getRepository().getTimeStamp();
-    CDOBranchPoint branchPoint = view.getBranch().getPoint(timeStamp);
+    List<IClassMappingUnitSupport> classMappings = new ArrayList<>();
 
     IDBConnection connection = accessor.getDBConnection();
     IDBPreparedStatement stmt = connection.prepareStatement(sqlSelectClasses, ReuseProbability.HIGH);
 
-    int jdbcFetchSize = store().getJDBCFetchSize();
-    int oldFetchSize = -1;
-
     try
     {
       idHandler.setCDOID(stmt, 1, rootID);
-
-      oldFetchSize = stmt.getFetchSize();
-      stmt.setFetchSize(jdbcFetchSize);
       ResultSet resultSet = stmt.executeQuery();
 
       while (resultSet.next())
       {
         CDOID classID = idHandler.getCDOID(resultSet, 1);
         EClass eClass = (EClass)metaDataManager.getMetaInstance(classID);
-
-        IClassMappingUnitSupport classMapping = (IClassMappingUnitSupport)mappingStrategy.getClassMapping(eClass);
-        classMapping.readUnitRevisions(accessor, branchPoint, rootID, revisionHandler);
+        classMappings.add((IClassMappingUnitSupport)mappingStrategy.getClassMapping(eClass));
       }
+
+      return classMappings;
     }
     catch (SQLException ex)
     {
@@ -155,18 +316,6 @@ public class UnitMappingTable extends DBStoreTable
     }
     finally
     {
-      if (oldFetchSize != -1)
-      {
-        try
-        {
-          stmt.setFetchSize(oldFetchSize);
-        }
-        catch (SQLException ex)
-        {
-          throw new DBException(ex);
-        }
-      }
-
       DBUtil.close(stmt);
     }
   }
@@ -215,6 +215,13 @@ public class CDOServerProtocol extends SignalProtocol<InternalSession> implement
     send(new RemoteMessageNotificationRequest(this, sender, topic, message));
   }
 
+  @Override
+  public void sendRemoteMessageNotification(InternalSession sender, InternalTopic topic, CDORemoteSessionMessage message, byte[] encodedMessage)
+      throws Exception
+  {
+    send(new RemoteMessageNotificationRequest(this, sender, topic, message, encodedMessage));
+  }
+
   @Deprecated
   @Override
   public void sendLockNotification(CDOLockChangeInfo lockChangeInfo) throws Exception
@@ -12,6 +12,7 @@ package org.eclipse.emf.cdo.server.internal.net4j.protocol;
 
 import org.eclipse.emf.cdo.common.branch.CDOBranch;
 import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.common.branch.CDOBranchVersion;
 import org.eclipse.emf.cdo.common.id.CDOID;
 import org.eclipse.emf.cdo.common.id.CDOIDUtil;
 import org.eclipse.emf.cdo.common.model.CDOClassInfo;
@@ -22,6 +23,8 @@ import org.eclipse.emf.cdo.common.revision.CDORevision;
 import org.eclipse.emf.cdo.common.revision.CDORevisionKey;
 import org.eclipse.emf.cdo.common.revision.CDORevisionUtil;
 import org.eclipse.emf.cdo.common.util.CDOFetchRule;
+import org.eclipse.emf.cdo.internal.server.AccessPatternProfiler;
+import org.eclipse.emf.cdo.internal.server.Repository;
 import org.eclipse.emf.cdo.spi.common.model.InternalCDOPackageRegistry;
 import org.eclipse.emf.cdo.spi.common.revision.DetachedCDORevision;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
@@ -29,6 +32,7 @@ import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionManager;
 import org.eclipse.emf.cdo.spi.common.revision.PointerCDORevision;
 import org.eclipse.emf.cdo.spi.common.revision.RevisionInfo;
 import org.eclipse.emf.cdo.spi.common.revision.RevisionInfo.Type;
+import org.eclipse.emf.cdo.spi.common.revision.SyntheticCDORevision;
 import org.eclipse.emf.cdo.spi.server.InternalRepository;
 import org.eclipse.emf.cdo.spi.server.InternalSession;
 
@@ -39,10 +43,15 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -148,9 +157,22 @@ public class LoadRevisionsIndication extends CDOServerReadIndication
     Set<CDOID> revisionIDs = new HashSet<>();
     int size = infos.length;
 
+    AccessPatternProfiler.Tracker tracker = null;
+    AccessPatternProfiler profiler = getAccessPatternProfiler();
+    if (profiler != null)
+    {
+      tracker = profiler.getTracker(getSession());
+    }
+
     for (RevisionInfo info : infos)
     {
-      revisionIDs.add(info.getID());
+      CDOID id = info.getID();
+      revisionIDs.add(id);
+
+      if (tracker != null)
+      {
+        tracker.requested(id);
+      }
     }
 
     // Need to fetch the rule first.
@@ -176,6 +198,11 @@ public class LoadRevisionsIndication extends CDOServerReadIndication
       }
     }
 
+    if (profiler != null && fetchRules.isEmpty())
+    {
+      prefetchProfiledRevisions(profiler, revisions, revisionIDs, additionalInfos, additionalRevisions);
+    }
+
     if (prefetchDepth != CDORevision.DEPTH_NONE)
     {
       OMMonitor monitor = createMonitor(1, 10);
@@ -196,17 +223,21 @@ public class LoadRevisionsIndication extends CDOServerReadIndication
     InternalSession session = getSession();
     repository.notifyReadAccessHandlers(session, revisions, additionalRevisions);
 
+    if (tracker != null)
+    {
+      tracker.sent(revisions, additionalRevisions);
+    }
+
     for (int i = 0; i < size; i++)
     {
       RevisionInfo info = infos[i];
       info.setResult(revisions[i]); // Replace result with revision from read access handlers.
-      info.writeResult(out, referenceChunk, branchPoint);
     }
 
-    // Write keys of additional revisions that are already cached on the client.
+    // Separate the additional revisions that are already cached on the client.
     int additionalSize = additionalRevisions.size();
+    List<RevisionInfo> cachedInfos = new ArrayList<>();
     List<RevisionInfo> infosToWrite = new ArrayList<>();
-    CDOBranch requestedBranch = branchPoint.getBranch();
 
     for (int i = 0; i < additionalSize; i++)
     {
@@ -214,6 +245,35 @@ public class LoadRevisionsIndication extends CDOServerReadIndication
       RevisionInfo info = additionalInfos.get(i);
 
       if (validKeys != null && validKeys.contains(CDORevisionUtil.copyRevisionKey(revision)))
+      {
+        cachedInfos.add(info);
+      }
+      else
+      {
+        info.setResult(revision); // Replace result with revision from read access handlers.
+        infosToWrite.add(info);
+      }
+    }
+
+    // Write all revisions up front in the compact batch format; the results below only refer to them.
+    List<CDORevision> batch = new ArrayList<>();
+    Set<CDORevision> batched = Collections.newSetFromMap(new IdentityHashMap<>());
+    addBatchRevisions(Arrays.asList(infos), batch, batched);
+    addBatchRevisions(infosToWrite, batch, batched);
+    out.writeCDORevisionBatch(batch, referenceChunk, branchPoint);
+
+    try
+    {
+      for (int i = 0; i < size; i++)
+      {
+        RevisionInfo info = infos[i];
+        info.writeResult(out, referenceChunk, branchPoint);
+      }
+
+      // Write keys of additional revisions that are already cached on the client.
+      CDOBranch requestedBranch = branchPoint.getBranch();
+
+      for (RevisionInfo info : cachedInfos)
       {
         InternalCDORevision result = info.getResult();
         out.writeCDORevisionKey(result);
@@ -224,26 +284,69 @@ public class LoadRevisionsIndication extends CDOServerReadIndication
           out.writeXLong(pointer.getRevised());
         }
       }
-      else
+
+      out.writeCDORevisionKey(null);
+
+      // Write remaining additional infos.
+      out.writeXInt(infosToWrite.size());
+
+      for (RevisionInfo info : infosToWrite)
       {
-        info.setResult(revision); // Replace result with revision from read access handlers.
-        infosToWrite.add(info);
+        out.write(Type.MISSING.ordinal());
+        out.writeCDOID(info.getID());
+        info.writeResult(out, referenceChunk, branchPoint);
       }
     }
+    finally
+    {
+      out.clearCDORevisionBatch();
+    }
 
-    out.writeCDORevisionKey(null);
+    lockStatePrefetcher.writeLockStates(out);
+  }
 
-    // Write remaining additional infos.
-    out.writeXInt(infosToWrite.size());
+  private static void addBatchRevisions(List<RevisionInfo> infos, List<CDORevision> batch, Set<CDORevision> batched)
+  {
+    for (RevisionInfo info : infos)
+    {
+      InternalCDORevision result = info.getResult();
+      if (result != null && !isAvailableOnClient(info, result) && batched.add(result))
+      {
+        batch.add(result);
+      }
 
-    for (RevisionInfo info : infosToWrite)
+      SyntheticCDORevision synthetic = info.getSynthetic();
+      if (synthetic instanceof PointerCDORevision)
+      {
+        CDOBranchVersion target = ((PointerCDORevision)synthetic).getTarget();
+        if (target instanceof CDORevision && batched.add((CDORevision)target))
+        {
+          batch.add((CDORevision)target);
+        }
+      }
+    }
+  }
+
+  private static boolean isAvailableOnClient(RevisionInfo info, InternalCDORevision result)
+  {
+    if (info instanceof RevisionInfo.Available)
     {
-      out.write(Type.MISSING.ordinal());
-      out.writeCDOID(info.getID());
-      info.writeResult(out, referenceChunk, branchPoint);
+      CDOBranchVersion availableBranchVersion = ((RevisionInfo.Available)info).getAvailableBranchVersion();
+      return result.getBranch() == availableBranchVersion.getBranch();
     }
 
-    lockStatePrefetcher.writeLockStates(out);
+    return false;
+  }
+
+  private AccessPatternProfiler getAccessPatternProfiler()
+  {
+    InternalRepository repository = getRepository();
+    if (repository instanceof Repository)
+    {
+      return ((Repository)repository).getAccessPatternProfiler();
+    }
+
+    return null;
   }
 
   private RevisionInfo createRevisionInfo(CDOID id)
@@ -281,7 +384,22 @@ public class LoadRevisionsIndication extends CDOServerReadIndication
       return;
     }
 
-    getSession().collectContainedRevisions(revision, branchPoint, referenceChunk, revisions, additionalRevisions);
+    // Every additional revision needs a matching info at the same index.
+    List<CDORevision> containedRevisions = new ArrayList<>();
+    getSession().collectContainedRevisions(revision, branchPoint, referenceChunk, revisions, containedRevisions);
+
+    for (CDORevision containedRevision : containedRevisions)
+    {
+      if (containedRevision != null)
+      {
+        RevisionInfo info = createRevisionInfo(containedRevision.getID());
+        if (info.getResult() != null)
+        {
+          additionalInfos.add(info);
+          additionalRevisions.add(info.getResult());
+        }
+      }
+    }
 
     CDOFetchRule fetchRule = fetchRules.get(revision.getEClass());
     if (fetchRule == null || !visitedFetchRules.add(fetchRule))
@@ -331,6 +449,7 @@ public class LoadRevisionsIndication extends CDOServerReadIndication
             InternalCDORevision containedRevision = info.getResult();
             if (containedRevision != null)
             {
+              additionalInfos.add(info);
               revisions.add(containedRevision.getID());
               additionalRevisions.add(containedRevision);
               collectRevisions(containedRevision, revisions, additionalInfos, additionalRevisions, visitedFetchRules);
@@ -343,6 +462,96 @@ public class LoadRevisionsIndication extends CDOServerReadIndication
     visitedFetchRules.remove(fetchRule);
   }
 
+  /**
+   * Follows the references of the {@link AccessPatternProfiler#getFetchRules() profiled fetch rules}, breadth-first and
+   * up to the {@link AccessPatternProfiler#getMaxPrefetch() maximum} number of revisions per request.
+   */
+  private void prefetchProfiledRevisions(AccessPatternProfiler profiler, InternalCDORevision[] revisions, Set<CDOID> revisionIDs,
+      List<RevisionInfo> additionalInfos, List<CDORevision> additionalRevisions)
+  {
+    Map<EClass, CDOFetchRule> profiledFetchRules = profiler.getFetchRules();
+    if (profiledFetchRules.isEmpty())
+    {
+      return;
+    }
+
+    int collectionChunkSize = profiler.getCollectionChunkSize();
+    int maxPrefetch = profiler.getMaxPrefetch();
+    int prefetched = 0;
+
+    Deque<InternalCDORevision> queue = new ArrayDeque<>();
+    for (InternalCDORevision revision : revisions)
+    {
+      if (revision != null)
+      {
+        queue.add(revision);
+      }
+    }
+
+    while (!queue.isEmpty() && prefetched < maxPrefetch)
+    {
+      InternalCDORevision revision = queue.poll();
+
+      CDOFetchRule fetchRule = profiledFetchRules.get(revision.getEClass());
+      if (fetchRule == null)
+      {
+        continue;
+      }
+
+      for (EStructuralFeature feature : fetchRule.getFeatures())
+      {
+        if (feature.isMany())
+        {
+          MoveableList<Object> list = revision.getListOrNull(feature);
+          if (list != null)
+          {
+            int size = Math.min(collectionChunkSize, list.size());
+            for (int i = 0; i < size && prefetched < maxPrefetch; i++)
+            {
+              InternalCDORevision target = prefetchProfiledRevision(list.get(i), revisionIDs, additionalInfos, additionalRevisions);
+              if (target != null)
+              {
+                queue.add(target);
+                ++prefetched;
+              }
+            }
+          }
+        }
+        else if (prefetched < maxPrefetch)
+        {
+          InternalCDORevision target = prefetchProfiledRevision(revision.getValue(feature), revisionIDs, additionalInfos, additionalRevisions);
+          if (target != null)
+          {
+            queue.add(target);
+            ++prefetched;
+          }
+        }
+      }
+    }
+  }
+
+  private InternalCDORevision prefetchProfiledRevision(Object value, Set<CDOID> revisionIDs, List<RevisionInfo> additionalInfos,
+      List<CDORevision> additionalRevisions)
+  {
+    if (value instanceof CDOID)
+    {
+      CDOID id = (CDOID)value;
+      if (!CDOIDUtil.isNull(id) && revisionIDs.add(id))
+      {
+        RevisionInfo info = createRevisionInfo(id);
+        InternalCDORevision revision = info.getResult();
+        if (revision != null)
+        {
+          additionalInfos.add(info);
+          additionalRevisions.add(revision);
+          return revision;
+        }
+      }
+    }
+
+    return null;
+  }
+
   private void prefetchRevisions(int depth, CDORevision[] revisions, List<RevisionInfo> additionalInfos, List<CDORevision> additionalRevisions,
       OMMonitor monitor)
   {
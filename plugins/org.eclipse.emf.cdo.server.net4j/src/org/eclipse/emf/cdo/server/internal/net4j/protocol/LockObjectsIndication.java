@@ -25,7 +25,7 @@ import org.eclipse.net4j.util.concurrent.IRWLockManager.LockType;
 import org.eclipse.emf.spi.cdo.CDOSessionProtocol.LockObjectsResult;
 
 import java.io.IOException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -54,7 +54,7 @@ public class LockObjectsIndication extends CDOServerWriteIndication
     long timeout = in.readXLong();
 
     int nRevisions = in.readXInt();
-    List<CDORevisionKey> revisionKeys = new LinkedList<>();
+    List<CDORevisionKey> revisionKeys = new ArrayList<>(nRevisions);
     for (int i = 0; i < nRevisions; i++)
     {
       revisionKeys.add(in.readCDORevisionKey());
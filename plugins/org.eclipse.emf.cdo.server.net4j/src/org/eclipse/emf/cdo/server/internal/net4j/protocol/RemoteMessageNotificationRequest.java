@@ -31,12 +31,21 @@ public class RemoteMessageNotificationRequest extends CDOServerRequest
 
   private CDORemoteSessionMessage message;
 
+  private byte[] encodedMessage;
+
   public RemoteMessageNotificationRequest(CDOServerProtocol serverProtocol, InternalSession sender, InternalTopic topic, CDORemoteSessionMessage message)
+  {
+    this(serverProtocol, sender, topic, message, null);
+  }
+
+  public RemoteMessageNotificationRequest(CDOServerProtocol serverProtocol, InternalSession sender, InternalTopic topic, CDORemoteSessionMessage message,
+      byte[] encodedMessage)
   {
     super(serverProtocol, CDOProtocolConstants.SIGNAL_REMOTE_MESSAGE_NOTIFICATION);
     senderID = sender.getSessionID();
     topicID = topic == null ? null : topic.getID();
     this.message = message;
+    this.encodedMessage = encodedMessage;
   }
 
   @Override
@@ -44,6 +53,14 @@ public class RemoteMessageNotificationRequest extends CDOServerRequest
   {
     out.writeXInt(senderID);
     out.writeString(topicID);
-    message.write(out);
+
+    if (encodedMessage != null)
+    {
+      out.write(encodedMessage);
+    }
+    else
+    {
+      message.write(out);
+    }
   }
 }
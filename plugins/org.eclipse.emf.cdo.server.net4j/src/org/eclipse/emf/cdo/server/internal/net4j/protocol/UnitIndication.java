@@ -94,8 +94,12 @@ public class UnitIndication extends CDOServerReadIndicationWithMonitoring
     IOException[] ioException = { null };
     RuntimeException[] runtimeException = { null };
 
+    // Opening an existing unit reports real progress per class table and can be canceled in between.
+    // All other opcodes may have to initialize the unit first, which doesn't report progress.
+    boolean openOnly = opcode == UnitOpcode.OPEN;
+
     monitor.begin();
-    Async async = monitor.forkAsync();
+    Async async = openOnly ? null : monitor.forkAsync();
 
     try
     {
@@ -104,8 +108,14 @@ public class UnitIndication extends CDOServerReadIndicationWithMonitoring
         @Override
         public boolean handleRevision(CDORevision revision)
         {
+          if (ioException[0] != null || runtimeException[0] != null)
+          {
+            return false;
+          }
+
           try
           {
+            monitor.checkCanceled();
             CDOID id = revision.getID();
 
             view.unsubscribe(id);
@@ -126,7 +136,7 @@ public class UnitIndication extends CDOServerReadIndicationWithMonitoring
 
           return false;
         }
-      }, monitor);
+      }, openOnly ? monitor.fork() : monitor);
 
       if (ioException[0] != null)
       {
@@ -148,7 +158,11 @@ public class UnitIndication extends CDOServerReadIndicationWithMonitoring
     }
     finally
     {
-      async.stop();
+      if (async != null)
+      {
+        async.stop();
+      }
+
       monitor.done();
     }
   }
@@ -24,7 +24,7 @@ import org.eclipse.net4j.util.concurrent.IRWLockManager.LockType;
 import org.eclipse.emf.spi.cdo.CDOSessionProtocol.UnlockObjectsResult;
 
 import java.io.IOException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -61,7 +61,7 @@ public class UnlockObjectsIndication extends CDOServerWriteIndication
     }
     else
     {
-      List<CDOID> objectIDs = new LinkedList<>();
+      List<CDOID> objectIDs = new ArrayList<>(size);
       for (int i = 0; i < size; i++)
       {
         objectIDs.add(in.readCDOID());
@@ -14,6 +14,7 @@
  */
 package org.eclipse.emf.cdo.server.internal.security;
 
+import org.eclipse.emf.cdo.common.branch.CDOBranch;
 import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
 import org.eclipse.emf.cdo.common.commit.CDOCommitInfo;
 import org.eclipse.emf.cdo.common.id.CDOID;
@@ -34,10 +35,16 @@ import org.eclipse.emf.cdo.net4j.CDONet4jSession;
 import org.eclipse.emf.cdo.net4j.CDONet4jSessionConfiguration;
 import org.eclipse.emf.cdo.net4j.CDONet4jUtil;
 import org.eclipse.emf.cdo.security.Access;
+import org.eclipse.emf.cdo.security.ClassFilter;
+import org.eclipse.emf.cdo.security.CombinedFilter;
 import org.eclipse.emf.cdo.security.Directory;
+import org.eclipse.emf.cdo.security.FilterPermission;
 import org.eclipse.emf.cdo.security.Group;
+import org.eclipse.emf.cdo.security.LinkedFilter;
+import org.eclipse.emf.cdo.security.PackageFilter;
 import org.eclipse.emf.cdo.security.PatternStyle;
 import org.eclipse.emf.cdo.security.Permission;
+import org.eclipse.emf.cdo.security.PermissionFilter;
 import org.eclipse.emf.cdo.security.Realm;
 import org.eclipse.emf.cdo.security.Role;
 import org.eclipse.emf.cdo.security.SecurityFactory;
@@ -117,6 +124,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
@@ -132,6 +140,10 @@ public class SecurityManager extends Lifecycle implements InternalSecurityManage
 
   private static final boolean ALLOW_EMPTY_PASSWORDS = OMPlatform.INSTANCE.isProperty("org.eclipse.emf.cdo.server.security.ALLOW_EMPTY_PASSWORDS");
 
+  private static final int DECISION_CACHE_CAPACITY = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.server.security.DECISION_CACHE_CAPACITY", 100000);
+
+  private static final int MAX_FILTER_LEVEL = 32;
+
   private static final Consumer<String> EMPTY_PASSWORD_PREVENTER = pw -> {
     if (StringUtil.isEmpty(pw))
     {
@@ -225,6 +237,12 @@ public class SecurityManager extends Lifecycle implements InternalSecurityManage
 
   private PermissionImpl[] permissionArray = {};
 
+  private volatile ConcurrentMap<DecisionKey, CDOPermission> decisionCache = new ConcurrentHashMap<>();
+
+  private final AtomicLong decisionCacheHits = new AtomicLong();
+
+  private final AtomicLong decisionCacheMisses = new AtomicLong();
+
   private Consumer<String> passwordValidator = ALLOW_EMPTY_PASSWORDS ? null : EMPTY_PASSWORD_PREVENTER;
 
   private InternalRepository repository;
@@ -309,6 +327,22 @@ public class SecurityManager extends Lifecycle implements InternalSecurityManage
     }
   }
 
+  /**
+   * Returns the number of permission decisions that were served from the decision cache.
+   */
+  public long getDecisionCacheHits()
+  {
+    return decisionCacheHits.get();
+  }
+
+  /**
+   * Returns the number of permission decisions that had to be evaluated because they were not in the decision cache.
+   */
+  public long getDecisionCacheMisses()
+  {
+    return decisionCacheMisses.get();
+  }
+
   public Consumer<String> getPasswordValidator()
   {
     return passwordValidator;
@@ -771,6 +805,20 @@ public class SecurityManager extends Lifecycle implements InternalSecurityManage
 
   protected CDOPermission authorize(CDORevision revision, CDOBranchPoint securityContext, ISession session)
   {
+    waitForRealmUpdate(securityContext);
+
+    // Capture the cache before the permissions, so that decisions based on outdated permissions are never cached
+    ConcurrentMap<DecisionKey, CDOPermission> decisionCache = this.decisionCache;
+
+    UserInfo userInfo = getUserInfo(session);
+    PermissionSet permissionSet = userInfo.getPermissionSet();
+
+    CDOPermission result = authorizeLocal(revision, securityContext, permissionSet, decisionCache);
+    if (!permissionSet.canIncrease(result))
+    {
+      return result;
+    }
+
     IRepository repository = session.getRepository();
     CDORevisionManager revisionManager = repository.getRevisionManager();
     CDORevisionProvider revisionProvider = new ManagedRevisionProvider(revisionManager, securityContext);
@@ -786,18 +834,65 @@ public class SecurityManager extends Lifecycle implements InternalSecurityManage
       }
     });
 
+    PermissionUtil.setUser(userInfo.getUserId());
+
     try
     {
-      CDOPermission permission = authorize(revision, revisionProvider, securityContext, session, null, null);
+      CDOPermission permission = authorize(revision, revisionProvider, securityContext, result, permissionSet.getOtherPermissions());
       // System.out.println("Loading from " + session + ": " + permission + " --> " + revision);
       return permission;
     }
     finally
     {
+      PermissionUtil.setUser(null);
       PermissionUtil.doneViewCreation();
     }
   }
 
+  /**
+   * Evaluates the permissions that only depend on the revision itself, i.e., on its class and package.
+   * Their result is the same for all revisions with the same ID, branch and version, so it can be cached
+   * until the next change of the realm.
+   */
+  private CDOPermission authorizeLocal(CDORevision revision, CDOBranchPoint securityContext, PermissionSet permissionSet,
+      ConcurrentMap<DecisionKey, CDOPermission> decisionCache)
+  {
+    CDOPermission result = permissionSet.getDefaultPermission();
+
+    Permission[] localPermissions = permissionSet.getLocalPermissions();
+    if (localPermissions.length == 0 || result == CDOPermission.WRITE)
+    {
+      return result;
+    }
+
+    if (DECISION_CACHE_CAPACITY <= 0)
+    {
+      return authorize(revision, null, securityContext, result, localPermissions);
+    }
+
+    DecisionKey key = new DecisionKey(permissionSet, revision);
+
+    CDOPermission decision = decisionCache.get(key);
+    if (decision == null)
+    {
+      decisionCacheMisses.incrementAndGet();
+      decision = authorize(revision, null, securityContext, result, localPermissions);
+
+      if (decisionCache.size() >= DECISION_CACHE_CAPACITY)
+      {
+        decisionCache.clear();
+      }
+
+      decisionCache.put(key, decision);
+    }
+    else
+    {
+      decisionCacheHits.incrementAndGet();
+    }
+
+    return decision;
+  }
+
   protected CDOPermission authorize(CDORevision revision, CDORevisionProvider revisionProvider, CDOBranchPoint securityContext, ISession session,
       Access defaultAccess, Permission[] permissions)
   {
@@ -818,41 +913,47 @@ public class SecurityManager extends Lifecycle implements InternalSecurityManage
     try
     {
       CDOPermission result = convertPermission(defaultAccess);
-      if (result == CDOPermission.WRITE)
+      return authorize(revision, revisionProvider, securityContext, result, permissions);
+    }
+    finally
+    {
+      if (setUser)
       {
-        return result;
+        PermissionUtil.setUser(null);
       }
+    }
+  }
 
-      for (int i = 0; i < permissions.length; i++)
-      {
-        Permission permission = permissions[i];
+  private CDOPermission authorize(CDORevision revision, CDORevisionProvider revisionProvider, CDOBranchPoint securityContext, CDOPermission result,
+      Permission[] permissions)
+  {
+    if (result == CDOPermission.WRITE)
+    {
+      return result;
+    }
 
-        CDOPermission p = convertPermission(permission.getAccess());
-        if (p.ordinal() <= result.ordinal())
-        {
-          // Avoid expensive calls to Permission.isApplicable() if the permission wouldn't increase
-          continue;
-        }
+    for (int i = 0; i < permissions.length; i++)
+    {
+      Permission permission = permissions[i];
 
-        if (permission.isApplicable(revision, revisionProvider, securityContext))
-        {
-          result = p;
-          if (result == CDOPermission.WRITE)
-          {
-            return result;
-          }
-        }
+      CDOPermission p = convertPermission(permission.getAccess());
+      if (p.ordinal() <= result.ordinal())
+      {
+        // Avoid expensive calls to Permission.isApplicable() if the permission wouldn't increase
+        continue;
       }
 
-      return result;
-    }
-    finally
-    {
-      if (setUser)
+      if (permission.isApplicable(revision, revisionProvider, securityContext))
       {
-        PermissionUtil.setUser(null);
+        result = p;
+        if (result == CDOPermission.WRITE)
+        {
+          return result;
+        }
       }
     }
+
+    return result;
   }
 
   protected void authorizeCommit(CommitContext commitContext, UserInfo userInfo)
@@ -1044,12 +1145,23 @@ public class SecurityManager extends Lifecycle implements InternalSecurityManage
       {
         userInfos.clear();
       }
+
+      clearDecisionCache();
     }
   }
 
+  protected void clearDecisionCache()
+  {
+    decisionCache = new ConcurrentHashMap<>();
+  }
+
   protected void updatePermissions(UserInfo userInfo, boolean updateArray)
   {
     Permission[] permissions = userInfo == null ? null : userInfo.getPermissions();
+    if (permissions != null)
+    {
+      userInfo.setPermissionSet(new PermissionSet(userInfo.getDefaultAccess(), permissions));
+    }
 
     synchronized (permissionBag)
     {
@@ -1194,6 +1306,8 @@ public class SecurityManager extends Lifecycle implements InternalSecurityManage
     {
       lastRealmModification = commitBranchPoint.getTimeStamp();
     }
+
+    clearDecisionCache();
   }
 
   private void waitForRealmUpdate(CDOBranchPoint securityContext)
@@ -1258,6 +1372,8 @@ public class SecurityManager extends Lifecycle implements InternalSecurityManage
 
     private Permission[] permissions;
 
+    private volatile PermissionSet permissionSet;
+
     public UserInfo(User user)
     {
       this.user = user;
@@ -1290,6 +1406,16 @@ public class SecurityManager extends Lifecycle implements InternalSecurityManage
       permissions = allPermissions.toArray(new Permission[allPermissions.size()]);
     }
 
+    public PermissionSet getPermissionSet()
+    {
+      return permissionSet;
+    }
+
+    public void setPermissionSet(PermissionSet permissionSet)
+    {
+      this.permissionSet = permissionSet;
+    }
+
     public synchronized void addSessionRef()
     {
       incrementAndGet();
@@ -1307,6 +1433,217 @@ public class SecurityManager extends Lifecycle implements InternalSecurityManage
     }
   }
 
+  /**
+   * The default access and the permissions of a {@link UserInfo user}, split into the permissions that only depend on
+   * the revision to be authorized and all other permissions. Users with equal roles and groups have equal permission sets
+   * and share their cached decisions.
+   *
+   * @author Eike Stepper
+   */
+  private final class PermissionSet
+  {
+    private final Access defaultAccess;
+
+    private final Permission[] permissions;
+
+    private final CDOPermission defaultPermission;
+
+    private final Permission[] localPermissions;
+
+    private final Permission[] otherPermissions;
+
+    private final CDOPermission maxOtherPermission;
+
+    private final int hashCode;
+
+    public PermissionSet(Access defaultAccess, Permission[] permissions)
+    {
+      this.defaultAccess = defaultAccess;
+      this.permissions = permissions;
+      defaultPermission = convertPermission(defaultAccess);
+
+      List<Permission> localPermissions = new ArrayList<>();
+      List<Permission> otherPermissions = new ArrayList<>();
+      CDOPermission maxOtherPermission = CDOPermission.NONE;
+
+      for (int i = 0; i < permissions.length; i++)
+      {
+        Permission permission = permissions[i];
+        if (isRevisionLocal(permission))
+        {
+          localPermissions.add(permission);
+        }
+        else
+        {
+          otherPermissions.add(permission);
+
+          CDOPermission p = convertPermission(permission.getAccess());
+          if (p.ordinal() > maxOtherPermission.ordinal())
+          {
+            maxOtherPermission = p;
+          }
+        }
+      }
+
+      this.localPermissions = localPermissions.toArray(new Permission[localPermissions.size()]);
+      this.otherPermissions = otherPermissions.toArray(new Permission[otherPermissions.size()]);
+      this.maxOtherPermission = maxOtherPermission;
+
+      hashCode = 31 * ObjectUtil.hashCode(defaultAccess) + Arrays.hashCode(permissions);
+    }
+
+    public CDOPermission getDefaultPermission()
+    {
+      return defaultPermission;
+    }
+
+    public Permission[] getLocalPermissions()
+    {
+      return localPermissions;
+    }
+
+    public Permission[] getOtherPermissions()
+    {
+      return otherPermissions;
+    }
+
+    /**
+     * Returns <code>true</code> if one of the {@link #getOtherPermissions() other permissions} could increase the given permission,
+     * <code>false</code> otherwise.
+     */
+    public boolean canIncrease(CDOPermission permission)
+    {
+      return maxOtherPermission.ordinal() > permission.ordinal();
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+      if (obj == this)
+      {
+        return true;
+      }
+
+      if (obj instanceof PermissionSet)
+      {
+        PermissionSet that = (PermissionSet)obj;
+        return hashCode == that.hashCode && defaultAccess == that.defaultAccess && Arrays.equals(permissions, that.permissions);
+      }
+
+      return false;
+    }
+
+    private boolean isRevisionLocal(Permission permission)
+    {
+      if (permission instanceof FilterPermission)
+      {
+        for (PermissionFilter filter : ((FilterPermission)permission).getFilters())
+        {
+          if (!isRevisionLocal(filter, 0))
+          {
+            return false;
+          }
+        }
+
+        return true;
+      }
+
+      return false;
+    }
+
+    private boolean isRevisionLocal(PermissionFilter filter, int level)
+    {
+      if (filter instanceof ClassFilter || filter instanceof PackageFilter)
+      {
+        return true;
+      }
+
+      if (level < MAX_FILTER_LEVEL)
+      {
+        if (filter instanceof CombinedFilter)
+        {
+          for (PermissionFilter operand : ((CombinedFilter)filter).getOperands())
+          {
+            if (!isRevisionLocal(operand, level + 1))
+            {
+              return false;
+            }
+          }
+
+          return true;
+        }
+
+        if (filter instanceof LinkedFilter)
+        {
+          return isRevisionLocal(((LinkedFilter)filter).getFilter(), level + 1);
+        }
+      }
+
+      return false;
+    }
+  }
+
+  /**
+   * Identifies a cached decision by the {@link PermissionSet permission set} of a user and the ID, branch and version
+   * of the authorized revision.
+   *
+   * @author Eike Stepper
+   */
+  private static final class DecisionKey
+  {
+    private final PermissionSet permissionSet;
+
+    private final CDOID id;
+
+    private final int branchID;
+
+    private final int version;
+
+    private final int hashCode;
+
+    public DecisionKey(PermissionSet permissionSet, CDORevision revision)
+    {
+      this.permissionSet = permissionSet;
+      id = revision.getID();
+
+      CDOBranch branch = revision.getBranch();
+      branchID = branch == null ? CDOBranch.MAIN_BRANCH_ID : branch.getID();
+      version = revision.getVersion();
+
+      hashCode = ((permissionSet.hashCode() * 31 + id.hashCode()) * 31 + branchID) * 31 + version;
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+      if (obj == this)
+      {
+        return true;
+      }
+
+      if (obj instanceof DecisionKey)
+      {
+        DecisionKey that = (DecisionKey)obj;
+        return hashCode == that.hashCode && version == that.version && branchID == that.branchID && id.equals(that.id)
+            && permissionSet.equals(that.permissionSet);
+      }
+
+      return false;
+    }
+  }
+
   // /**
   // * @author Eike Stepper
   // */
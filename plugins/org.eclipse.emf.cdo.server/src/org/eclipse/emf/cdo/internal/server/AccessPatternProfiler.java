@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.server;
+
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.common.util.CDOFetchRule;
+import org.eclipse.emf.cdo.internal.server.bundle.OM;
+import org.eclipse.emf.cdo.spi.common.revision.DetachedCDORevision;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+import org.eclipse.emf.cdo.spi.server.InternalSession;
+
+import org.eclipse.net4j.util.collection.MoveableList;
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates the navigation patterns of all sessions of a {@link Repository repository} and derives
+ * {@link CDOFetchRule fetch rules} from them.
+ * <p>
+ * A traversal of a reference is recorded when a session requests an object that is referenced by that reference of an
+ * object that has recently been sent to the same session. As soon as a reference has been traversed after a
+ * sufficient share of the loads of its class, it becomes part of the fetch rule of that class. Fetch rules are never
+ * weakened again because the objects that they prefetch are no longer requested and would therefore look unused.
+ *
+ * @author Eike Stepper
+ */
+public class AccessPatternProfiler
+{
+  public static final int DEFAULT_MIN_LOADS = 100;
+
+  public static final double DEFAULT_THRESHOLD = 0.5;
+
+  public static final int DEFAULT_COLLECTION_CHUNK_SIZE = 10;
+
+  public static final int DEFAULT_MAX_PREFETCH = 1000;
+
+  private static final int TRACKER_CAPACITY = 10000;
+
+  private static final String TRACKER_PROPERTY = AccessPatternProfiler.class.getName() + ".tracker";
+
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_REPOSITORY, AccessPatternProfiler.class);
+
+  private final Map<EClass, ClassProfile> classProfiles = new ConcurrentHashMap<>();
+
+  private volatile Map<EClass, CDOFetchRule> fetchRules = Collections.emptyMap();
+
+  private int minLoads = DEFAULT_MIN_LOADS;
+
+  private double threshold = DEFAULT_THRESHOLD;
+
+  private int collectionChunkSize = DEFAULT_COLLECTION_CHUNK_SIZE;
+
+  private int maxPrefetch = DEFAULT_MAX_PREFETCH;
+
+  public AccessPatternProfiler()
+  {
+  }
+
+  public int getMinLoads()
+  {
+    return minLoads;
+  }
+
+  public void setMinLoads(int minLoads)
+  {
+    this.minLoads = minLoads;
+  }
+
+  public double getThreshold()
+  {
+    return threshold;
+  }
+
+  public void setThreshold(double threshold)
+  {
+    this.threshold = threshold;
+  }
+
+  /**
+   * Returns the maximum number of elements of a many-valued reference that are tracked and prefetched.
+   */
+  public int getCollectionChunkSize()
+  {
+    return collectionChunkSize;
+  }
+
+  public void setCollectionChunkSize(int collectionChunkSize)
+  {
+    this.collectionChunkSize = collectionChunkSize;
+  }
+
+  /**
+   * Returns the maximum number of revisions that are prefetched per request.
+   */
+  public int getMaxPrefetch()
+  {
+    return maxPrefetch;
+  }
+
+  public void setMaxPrefetch(int maxPrefetch)
+  {
+    this.maxPrefetch = maxPrefetch;
+  }
+
+  /**
+   * Returns an immutable snapshot of the fetch rules that have been derived so far.
+   */
+  public Map<EClass, CDOFetchRule> getFetchRules()
+  {
+    return fetchRules;
+  }
+
+  public void reset()
+  {
+    synchronized (classProfiles)
+    {
+      classProfiles.clear();
+      fetchRules = Collections.emptyMap();
+    }
+  }
+
+  public Tracker getTracker(InternalSession session)
+  {
+    Map<String, Object> properties = session.properties();
+    synchronized (properties)
+    {
+      Tracker tracker = (Tracker)properties.get(TRACKER_PROPERTY);
+      if (tracker == null)
+      {
+        tracker = new Tracker();
+        properties.put(TRACKER_PROPERTY, tracker);
+      }
+
+      return tracker;
+    }
+  }
+
+  private ClassProfile getClassProfile(EClass eClass)
+  {
+    return classProfiles.computeIfAbsent(eClass, ClassProfile::new);
+  }
+
+  private void traversed(ReferenceProfile referenceProfile)
+  {
+    referenceProfile.traversals.increment();
+    if (referenceProfile.hot)
+    {
+      return;
+    }
+
+    long loads = referenceProfile.classProfile.loads.sum();
+    if (loads >= minLoads && referenceProfile.traversals.sum() >= threshold * loads)
+    {
+      addFetchRuleFeature(referenceProfile);
+    }
+  }
+
+  private void addFetchRuleFeature(ReferenceProfile referenceProfile)
+  {
+    synchronized (classProfiles)
+    {
+      if (referenceProfile.hot)
+      {
+        return;
+      }
+
+      referenceProfile.hot = true;
+
+      EClass eClass = referenceProfile.classProfile.eClass;
+      CDOFetchRule fetchRule = new CDOFetchRule(eClass);
+
+      CDOFetchRule oldFetchRule = fetchRules.get(eClass);
+      if (oldFetchRule != null)
+      {
+        for (EStructuralFeature feature : oldFetchRule.getFeatures())
+        {
+          fetchRule.addFeature(feature);
+        }
+      }
+
+      fetchRule.addFeature(referenceProfile.reference);
+
+      Map<EClass, CDOFetchRule> newFetchRules = new HashMap<>(fetchRules);
+      newFetchRules.put(eClass, fetchRule);
+      fetchRules = Collections.unmodifiableMap(newFetchRules);
+
+      if (TRACER.isEnabled())
+      {
+        TRACER.format("Added {0}.{1} to the fetch rules", eClass.getName(), referenceProfile.reference.getName()); //$NON-NLS-1$
+      }
+    }
+  }
+
+  /**
+   * Records the requests of a single session and correlates them with the revisions that have been sent before.
+   *
+   * @author Eike Stepper
+   */
+  public final class Tracker
+  {
+    private final Map<CDOID, ReferenceProfile> origins = new LinkedHashMap<CDOID, ReferenceProfile>()
+    {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<CDOID, ReferenceProfile> eldest)
+      {
+        return size() > TRACKER_CAPACITY;
+      }
+    };
+
+    private Tracker()
+    {
+    }
+
+    public synchronized void requested(CDOID id)
+    {
+      ReferenceProfile origin = origins.remove(id);
+      if (origin != null)
+      {
+        traversed(origin);
+      }
+    }
+
+    /**
+     * Remembers the targets of the references of the given revisions. Only the requested revisions count as loads of
+     * their classes; the additional revisions have been sent on behalf of the server.
+     */
+    public synchronized void sent(CDORevision[] requestedRevisions, Collection<CDORevision> additionalRevisions)
+    {
+      for (CDORevision revision : requestedRevisions)
+      {
+        sent(revision, true);
+      }
+
+      for (CDORevision revision : additionalRevisions)
+      {
+        sent(revision, false);
+      }
+    }
+
+    private void sent(CDORevision revision, boolean requested)
+    {
+      if (!(revision instanceof InternalCDORevision) || revision instanceof DetachedCDORevision)
+      {
+        return;
+      }
+
+      InternalCDORevision internalRevision = (InternalCDORevision)revision;
+      ClassProfile classProfile = getClassProfile(internalRevision.getEClass());
+      if (requested)
+      {
+        classProfile.loads.increment();
+      }
+
+      for (ReferenceProfile referenceProfile : classProfile.referenceProfiles)
+      {
+        EReference reference = referenceProfile.reference;
+        if (reference.isMany())
+        {
+          MoveableList<Object> list = internalRevision.getListOrNull(reference);
+          if (list != null)
+          {
+            int size = Math.min(collectionChunkSize, list.size());
+            for (int i = 0; i < size; i++)
+            {
+              remember(list.get(i), referenceProfile);
+            }
+          }
+        }
+        else
+        {
+          remember(internalRevision.getValue(reference), referenceProfile);
+        }
+      }
+    }
+
+    private void remember(Object value, ReferenceProfile referenceProfile)
+    {
+      if (value instanceof CDOID)
+      {
+        CDOID id = (CDOID)value;
+        if (!CDOIDUtil.isNull(id))
+        {
+          origins.put(id, referenceProfile);
+        }
+      }
+    }
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static final class ClassProfile
+  {
+    private final EClass eClass;
+
+    private final LongAdder loads = new LongAdder();
+
+    private final ReferenceProfile[] referenceProfiles;
+
+    public ClassProfile(EClass eClass)
+    {
+      this.eClass = eClass;
+
+      Collection<EReference> references = eClass.getEAllReferences();
+      referenceProfiles = references.stream() //
+          .filter(reference -> !reference.isTransient() && !reference.isContainer()) //
+          .map(reference -> new ReferenceProfile(this, reference)) //
+          .toArray(ReferenceProfile[]::new);
+    }
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static final class ReferenceProfile
+  {
+    private final ClassProfile classProfile;
+
+    private final EReference reference;
+
+    private final LongAdder traversals = new LongAdder();
+
+    private volatile boolean hot;
+
+    public ReferenceProfile(ClassProfile classProfile, EReference reference)
+    {
+      this.classProfile = classProfile;
+      this.reference = reference;
+    }
+  }
+}
@@ -20,7 +20,7 @@ import org.eclipse.emf.cdo.spi.server.InternalTransaction;
 
 import org.eclipse.net4j.util.ReflectUtil.ExcludeFromDump;
 import org.eclipse.net4j.util.concurrent.ConcurrencyUtil;
-import org.eclipse.net4j.util.concurrent.ThreadPool;
+import org.eclipse.net4j.util.concurrent.ExecutorServiceFactory;
 import org.eclipse.net4j.util.io.IOUtil;
 import org.eclipse.net4j.util.lifecycle.Lifecycle;
 import org.eclipse.net4j.util.om.monitor.OMMonitor;
@@ -74,7 +74,7 @@ public class CommitManager extends Lifecycle implements InternalCommitManager
       if (executors == null)
       {
         shutdownExecutorService = true;
-        executors = ThreadPool.create();
+        executors = ExecutorServiceFactory.create();
       }
     }
 
@@ -29,7 +29,7 @@ import org.eclipse.emf.cdo.spi.server.InternalSession;
 import org.eclipse.emf.cdo.spi.server.InternalView;
 
 import org.eclipse.net4j.util.concurrent.ConcurrencyUtil;
-import org.eclipse.net4j.util.concurrent.ThreadPool;
+import org.eclipse.net4j.util.concurrent.ExecutorServiceFactory;
 import org.eclipse.net4j.util.container.IContainerDelta.Kind;
 import org.eclipse.net4j.util.container.SingleDeltaContainerEvent;
 import org.eclipse.net4j.util.event.IEvent;
@@ -93,7 +93,7 @@ public class QueryManager extends Lifecycle implements InternalQueryManager
       if (executors == null)
       {
         shutdownExecutorService = true;
-        executors = ThreadPool.create();
+        executors = ExecutorServiceFactory.create();
       }
     }
 
@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.server;
+
+import org.eclipse.emf.cdo.internal.server.bundle.OM;
+import org.eclipse.emf.cdo.session.remote.CDORemoteSessionMessage;
+import org.eclipse.emf.cdo.spi.server.InternalSession;
+import org.eclipse.emf.cdo.spi.server.InternalTopic;
+
+import org.eclipse.net4j.util.om.OMPlatform;
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Delivers remote session notifications and remote messages to one {@link Session session}, in the order in which they
+ * were queued, on the executor service of the session. Senders never wait for the delivery to a recipient.
+ * <p>
+ * Remote session notifications are always delivered. Remote messages are subject to the following policies:
+ * <ul>
+ * <li>When the queue already holds {@link #getCapacity() capacity} undelivered messages, either the oldest one or the
+ * new one is dropped, depending on the {@link #getOverflowPolicy() overflow policy}.
+ * <li>If {@link #isCoalescing() coalescing} is enabled, a new message replaces an undelivered message of the same type that
+ * was sent by the same session to the same topic. This is useful for messages that carry a state, such as presence
+ * information, where only the latest one matters.
+ * </ul>
+ * The defaults of these policies are given by the {@link #CAPACITY}, {@link #OVERFLOW_POLICY} and {@link #COALESCING}
+ * system properties.
+ *
+ * @author Eike Stepper
+ */
+public class RemoteNotificationQueue implements Runnable
+{
+  public static final int CAPACITY = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.server.RemoteNotificationQueue.CAPACITY", 1000); //$NON-NLS-1$
+
+  public static final OverflowPolicy OVERFLOW_POLICY = OverflowPolicy
+      .valueOf(OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.server.RemoteNotificationQueue.OVERFLOW_POLICY", OverflowPolicy.DROP_OLDEST.name())); //$NON-NLS-1$
+
+  public static final boolean COALESCING = Boolean
+      .parseBoolean(OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.server.RemoteNotificationQueue.COALESCING", Boolean.FALSE.toString())); //$NON-NLS-1$
+
+  /**
+   * The maximum number of notifications that are delivered before the executor thread is released to other sessions.
+   */
+  private static final int DELIVERY_BATCH_SIZE = 100;
+
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_SESSION, RemoteNotificationQueue.class);
+
+  private final Session session;
+
+  private final Executor executor;
+
+  private final int capacity;
+
+  private final OverflowPolicy overflowPolicy;
+
+  private final boolean coalescing;
+
+  private final Deque<Notification> notifications = new ArrayDeque<>();
+
+  /**
+   * The undelivered messages, in the order of the {@link #notifications}.
+   */
+  private final Deque<MessageNotification> messages = new ArrayDeque<>();
+
+  private final Map<List<Object>, MessageNotification> coalescableMessages = new HashMap<>();
+
+  private boolean scheduled;
+
+  private int droppedMessages;
+
+  public RemoteNotificationQueue(Session session, Executor executor)
+  {
+    this(session, executor, CAPACITY, OVERFLOW_POLICY, COALESCING);
+  }
+
+  public RemoteNotificationQueue(Session session, Executor executor, int capacity, OverflowPolicy overflowPolicy, boolean coalescing)
+  {
+    this.session = session;
+    this.executor = executor;
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.coalescing = coalescing;
+  }
+
+  public Session getSession()
+  {
+    return session;
+  }
+
+  public int getCapacity()
+  {
+    return capacity;
+  }
+
+  public OverflowPolicy getOverflowPolicy()
+  {
+    return overflowPolicy;
+  }
+
+  public boolean isCoalescing()
+  {
+    return coalescing;
+  }
+
+  public synchronized int getSize()
+  {
+    return notifications.size();
+  }
+
+  public synchronized int getDroppedMessages()
+  {
+    return droppedMessages;
+  }
+
+  public void addSessionNotification(InternalSession sender, InternalTopic topic, byte opcode)
+  {
+    synchronized (this)
+    {
+      notifications.addLast(new SessionNotification(sender, topic, opcode));
+    }
+
+    schedule();
+  }
+
+  /**
+   * Returns <code>true</code> if the message was queued or coalesced with an undelivered one, <code>false</code> if it was
+   * dropped.
+   */
+  public boolean addMessage(InternalSession sender, InternalTopic topic, CDORemoteSessionMessage message, byte[] encodedMessage)
+  {
+    synchronized (this)
+    {
+      List<Object> key = null;
+      if (coalescing)
+      {
+        key = Arrays.asList(sender.getSessionID(), topic == null ? null : topic.getID(), message.getType());
+
+        MessageNotification pending = coalescableMessages.get(key);
+        if (pending != null)
+        {
+          pending.message = message;
+          pending.encodedMessage = encodedMessage;
+          return true;
+        }
+      }
+
+      if (messages.size() >= capacity)
+      {
+        if (overflowPolicy == OverflowPolicy.DROP_NEWEST)
+        {
+          ++droppedMessages;
+          return false;
+        }
+
+        // The oldest message is preceded by session notifications only, so that it's found close to the head.
+        MessageNotification oldest = messages.removeFirst();
+        notifications.removeFirstOccurrence(oldest);
+        removeCoalescable(oldest);
+        ++droppedMessages;
+      }
+
+      MessageNotification notification = new MessageNotification(sender, topic, message, encodedMessage, key);
+      notifications.addLast(notification);
+      messages.addLast(notification);
+
+      if (key != null)
+      {
+        coalescableMessages.put(key, notification);
+      }
+    }
+
+    schedule();
+    return true;
+  }
+
+  public synchronized void clear()
+  {
+    notifications.clear();
+    messages.clear();
+    coalescableMessages.clear();
+  }
+
+  @Override
+  public void run()
+  {
+    for (int i = 0; i < DELIVERY_BATCH_SIZE; i++)
+    {
+      Notification notification = poll();
+      if (notification == null)
+      {
+        return;
+      }
+
+      try
+      {
+        notification.deliver(session);
+      }
+      catch (Exception ex)
+      {
+        if (session.isClosed())
+        {
+          if (TRACER.isEnabled())
+          {
+            TRACER.trace("A problem occured while notifying session " + session, ex); //$NON-NLS-1$
+          }
+        }
+        else
+        {
+          OM.LOG.warn("A problem occured while notifying session " + session, ex); //$NON-NLS-1$
+        }
+      }
+    }
+
+    synchronized (this)
+    {
+      scheduled = false;
+    }
+
+    // Give other sessions a chance before the rest is delivered.
+    schedule();
+  }
+
+  @Override
+  public String toString()
+  {
+    return "RemoteNotificationQueue[" + session + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  private synchronized Notification poll()
+  {
+    Notification notification = notifications.pollFirst();
+    if (notification == null)
+    {
+      scheduled = false;
+      return null;
+    }
+
+    if (notification instanceof MessageNotification)
+    {
+      MessageNotification messageNotification = (MessageNotification)notification;
+      messages.removeFirst();
+      removeCoalescable(messageNotification);
+    }
+
+    return notification;
+  }
+
+  private void removeCoalescable(MessageNotification notification)
+  {
+    if (notification.key != null && coalescableMessages.get(notification.key) == notification)
+    {
+      coalescableMessages.remove(notification.key);
+    }
+  }
+
+  private void schedule()
+  {
+    synchronized (this)
+    {
+      if (scheduled || notifications.isEmpty() || session.isClosed())
+      {
+        return;
+      }
+
+      scheduled = true;
+    }
+
+    try
+    {
+      executor.execute(this);
+    }
+    catch (RejectedExecutionException ex)
+    {
+      // The repository has been deactivated in the meantime.
+      clear();
+
+      synchronized (this)
+      {
+        scheduled = false;
+      }
+    }
+  }
+
+  /**
+   * Enumerates the policies for remote messages that are queued while the queue is full.
+   *
+   * @author Eike Stepper
+   */
+  public enum OverflowPolicy
+  {
+    DROP_OLDEST, DROP_NEWEST
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static abstract class Notification
+  {
+    protected final InternalSession sender;
+
+    protected final InternalTopic topic;
+
+    public Notification(InternalSession sender, InternalTopic topic)
+    {
+      this.sender = sender;
+      this.topic = topic;
+    }
+
+    public abstract void deliver(Session session) throws Exception;
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static final class SessionNotification extends Notification
+  {
+    private final byte opcode;
+
+    public SessionNotification(InternalSession sender, InternalTopic topic, byte opcode)
+    {
+      super(sender, topic);
+      this.opcode = opcode;
+    }
+
+    @Override
+    public void deliver(Session session) throws Exception
+    {
+      session.sendRemoteSessionNotification(sender, topic, opcode);
+    }
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static final class MessageNotification extends Notification
+  {
+    private final List<Object> key;
+
+    private CDORemoteSessionMessage message;
+
+    private byte[] encodedMessage;
+
+    public MessageNotification(InternalSession sender, InternalTopic topic, CDORemoteSessionMessage message, byte[] encodedMessage, List<Object> key)
+    {
+      super(sender, topic);
+      this.message = message;
+      this.encodedMessage = encodedMessage;
+      this.key = key;
+    }
+
+    @Override
+    public void deliver(Session session) throws Exception
+    {
+      session.sendRemoteMessageNotification(sender, topic, message, encodedMessage);
+    }
+  }
+}
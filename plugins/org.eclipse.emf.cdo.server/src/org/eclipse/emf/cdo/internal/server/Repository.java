@@ -161,8 +161,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -232,6 +236,8 @@ public class Repository extends Container<Object> implements InternalRepository
 
   private long optimisticLockingTimeout = 10000L;
 
+  private AccessPatternProfiler accessPatternProfiler;
+
   private CDOTimeProvider timeProvider;
 
   /**
@@ -274,9 +280,20 @@ public class Repository extends Container<Object> implements InternalRepository
   // Bug 297940
   private final TimeStampAuthority timeStampAuthority = new TimeStampAuthority(this);
 
+  /**
+   * Serializes all commits if {@link #serializingCommits} is <code>true</code>. Some stores, such as the LissomeStore,
+   * depend on that.
+   */
   @ExcludeFromDump
   private final transient Object commitTransactionLock = new Object();
 
+  /**
+   * Serializes tree-restructuring commits per branch. Commits to different branches can't affect each other's
+   * containment trees, so they don't need to be serialized.
+   */
+  @ExcludeFromDump
+  private final transient Map<Integer, BranchCommitLock> branchCommitLocks = new ConcurrentHashMap<>();
+
   @ExcludeFromDump
   private final transient ReadWriteLock branchingLock = new ReentrantReadWriteLock();
 
@@ -286,8 +303,6 @@ public class Repository extends Container<Object> implements InternalRepository
 
   private CDOID rootResourceID;
 
-  private long lastTreeRestructuringCommit = -1;
-
   /**
    * This strong reference is only kept to avoid frequent tag loading.
    */
@@ -470,6 +485,15 @@ public class Repository extends Container<Object> implements InternalRepository
     return commitInfoStorage;
   }
 
+  /**
+   * Returns the profiler of the navigation patterns of all sessions, or <code>null</code> if
+   * {@link Props#ADAPTIVE_PREFETCHING adaptive prefetching} is disabled.
+   */
+  public AccessPatternProfiler getAccessPatternProfiler()
+  {
+    return accessPatternProfiler;
+  }
+
   @Override
   public long getOptimisticLockingTimeout()
   {
@@ -625,6 +649,11 @@ public class Repository extends Container<Object> implements InternalRepository
       InternalCDORevisionCache revisionCache = getRevisionManager().getCache();
       revisionCache.removeRevisions(branches);
 
+      for (CDOBranch branch : branches)
+      {
+        branchCommitLocks.remove(branch.getID());
+      }
+
       return branches;
     }
     finally
@@ -1487,10 +1516,7 @@ public class Repository extends Container<Object> implements InternalRepository
   @Override
   public void executeOutsideStartCommit(Runnable runnable)
   {
-    synchronized (timeStampAuthority)
-    {
-      runnable.run();
-    }
+    timeStampAuthority.executeExclusively(runnable);
   }
 
   @Override
@@ -1528,25 +1554,17 @@ public class Repository extends Container<Object> implements InternalRepository
 
     try
     {
-      if (commitContext.isTreeRestructuring())
-      {
-        synchronized (commitTransactionLock)
-        {
-          commitContext.setLastTreeRestructuringCommit(lastTreeRestructuringCommit);
-          commitUnsynced(commitContext, monitor);
-          lastTreeRestructuringCommit = commitContext.getTimeStamp();
-        }
-      }
-      else if (serializingCommits)
+      if (serializingCommits)
       {
+        // The repository-wide lock is always taken before a branch lock, so the lock order is deadlock-free.
         synchronized (commitTransactionLock)
         {
-          commitUnsynced(commitContext, monitor);
+          commitBranchSynced(commitContext, monitor);
         }
       }
       else
       {
-        commitUnsynced(commitContext, monitor);
+        commitBranchSynced(commitContext, monitor);
       }
     }
     finally
@@ -1555,6 +1573,32 @@ public class Repository extends Container<Object> implements InternalRepository
     }
   }
 
+  private void commitBranchSynced(InternalCommitContext commitContext, OMMonitor monitor)
+  {
+    if (commitContext.isTreeRestructuring())
+    {
+      BranchCommitLock branchCommitLock = getBranchCommitLock(commitContext);
+      synchronized (branchCommitLock)
+      {
+        commitContext.setLastTreeRestructuringCommit(branchCommitLock.lastTreeRestructuringCommit);
+        commitUnsynced(commitContext, monitor);
+        branchCommitLock.lastTreeRestructuringCommit = commitContext.getTimeStamp();
+      }
+    }
+    else
+    {
+      commitUnsynced(commitContext, monitor);
+    }
+  }
+
+  private BranchCommitLock getBranchCommitLock(InternalCommitContext commitContext)
+  {
+    // A commit context only ever commits to a single branch, so a single lock is taken and the order is deadlock-free.
+    // Time stamps are still assigned by the repository-wide time stamp authority.
+    int branchID = commitContext.getBranchPoint().getBranch().getID();
+    return branchCommitLocks.computeIfAbsent(branchID, id -> new BranchCommitLock());
+  }
+
   protected void commitUnsynced(InternalCommitContext commitContext, OMMonitor monitor)
   {
     ProgressDistributor distributor = store.getIndicatingCommitDistributor();
@@ -2018,8 +2062,8 @@ public class Repository extends Container<Object> implements InternalRepository
         else
         {
           CDOBranchPoint ancestor = CDOBranchUtil.getAncestor(target, source);
-          targetIDs.addAll(accessor.readChangeSet(monitor.fork(), CDOChangeSetSegment.createFrom(ancestor, target)));
-          sourceIDs.addAll(accessor.readChangeSet(monitor.fork(), CDOChangeSetSegment.createFrom(ancestor, source)));
+          readChangeSets(accessor, CDOChangeSetSegment.createFrom(ancestor, target), targetIDs, CDOChangeSetSegment.createFrom(ancestor, source), sourceIDs,
+              monitor);
         }
       }
       else
@@ -2076,8 +2120,7 @@ public class Repository extends Container<Object> implements InternalRepository
           sourceSegments = CDOChangeSetSegment.createFrom(sourceBaseInfoToUse.getBranchPoint(), source);
         }
 
-        targetIDs.addAll(accessor.readChangeSet(monitor.fork(), targetSegments));
-        sourceIDs.addAll(accessor.readChangeSet(monitor.fork(), sourceSegments));
+        readChangeSets(accessor, targetSegments, targetIDs, sourceSegments, sourceIDs, monitor);
       }
 
       loadMergeData(targetIDs, targetInfo, monitor.fork());
@@ -2101,6 +2144,79 @@ public class Repository extends Container<Object> implements InternalRepository
     }
   }
 
+  /**
+   * Reads the target and the source change sets in parallel. The source change set is read with an additional store
+   * accessor. If the executor has not started to read it by the time the target change set is read, the calling thread
+   * reads it itself instead of waiting for a thread of the executor.
+   */
+  private void readChangeSets(IStoreAccessor accessor, CDOChangeSetSegment[] targetSegments, Set<CDOID> targetIDs, CDOChangeSetSegment[] sourceSegments,
+      Set<CDOID> sourceIDs, OMMonitor monitor)
+  {
+    ExecutorService executorService = ConcurrencyUtil.getExecutorService(this);
+    if (executorService == null)
+    {
+      targetIDs.addAll(accessor.readChangeSet(monitor.fork(), targetSegments));
+      sourceIDs.addAll(accessor.readChangeSet(monitor.fork(), sourceSegments));
+      return;
+    }
+
+    // Whoever claims the source change set reads it, so that a busy executor never blocks the calling thread.
+    AtomicBoolean sourceClaimed = new AtomicBoolean();
+
+    Future<Set<CDOID>> sourceFuture = executorService.submit(() -> {
+      if (!sourceClaimed.compareAndSet(false, true))
+      {
+        return null;
+      }
+
+      IStoreAccessor reader = store.getReader(null);
+      StoreThreadLocal.setAccessor(reader);
+
+      try
+      {
+        return reader.readChangeSet(new Monitor(), sourceSegments);
+      }
+      finally
+      {
+        StoreThreadLocal.release();
+      }
+    });
+
+    try
+    {
+      targetIDs.addAll(accessor.readChangeSet(monitor.fork(), targetSegments));
+
+      if (sourceClaimed.compareAndSet(false, true))
+      {
+        // The executor has not started the task yet.
+        sourceIDs.addAll(accessor.readChangeSet(monitor.fork(), sourceSegments));
+      }
+      else
+      {
+        sourceIDs.addAll(sourceFuture.get());
+        monitor.worked();
+      }
+    }
+    catch (InterruptedException ex)
+    {
+      throw WrappedException.wrap(ex);
+    }
+    catch (ExecutionException ex)
+    {
+      Throwable cause = ex.getCause();
+      if (cause instanceof Exception)
+      {
+        throw WrappedException.wrap((Exception)cause);
+      }
+
+      throw (Error)cause;
+    }
+    finally
+    {
+      sourceFuture.cancel(false);
+    }
+  }
+
   private CDOBranchPointRange getLatestMerge(CDOChangeSetSegment[] targetSegments, CDOChangeSetSegment[] sourceSegments, long ancestorTime)
   {
     for (int i = targetSegments.length - 1; i >= 0; --i)
@@ -2301,6 +2417,12 @@ public class Repository extends Container<Object> implements InternalRepository
 
   private void sendLockNotifications(IView view, List<CDOLockDelta> lockDeltas, List<CDOLockState> lockStates)
   {
+    if (lockDeltas.isEmpty())
+    {
+      // Only lock counts have changed, the lock states that other sessions see are the same.
+      return;
+    }
+
     CDOBranchPoint branchPoint = view.getBranch().getPoint(getTimeStamp());
     CDOLockOwner lockOwner = view.getLockOwner();
     CDOLockChangeInfo lockChangeInfo = CDOLockUtil.createLockChangeInfo(branchPoint, lockOwner, lockDeltas, lockStates);
@@ -2523,6 +2645,13 @@ public class Repository extends Container<Object> implements InternalRepository
     {
       optimisticLockingTimeout = Long.valueOf(valueTimeout);
     }
+
+    // ADAPTIVE_PREFETCHING
+    String valuePrefetching = properties.get(Props.ADAPTIVE_PREFETCHING);
+    if (valuePrefetching != null)
+    {
+      accessPatternProfiler = Boolean.valueOf(valuePrefetching) ? new AccessPatternProfiler() : null;
+    }
   }
 
   @Override
@@ -3029,6 +3158,16 @@ public class Repository extends Container<Object> implements InternalRepository
     }
   }
 
+  /**
+   * The commit serialization state of one branch.
+   *
+   * @author Eike Stepper
+   */
+  private static final class BranchCommitLock
+  {
+    private long lastTreeRestructuringCommit = -1;
+  }
+
   /**
    * @author Eike Stepper
    * @since 2.0
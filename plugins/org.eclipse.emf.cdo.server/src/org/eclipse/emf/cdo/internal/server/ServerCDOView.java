@@ -97,6 +97,7 @@ import org.eclipse.emf.spi.cdo.InternalCDOViewSet;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.PlatformObject;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
@@ -825,6 +826,18 @@ public class ServerCDOView extends AbstractCDOView implements org.eclipse.emf.cd
       // Do nothing
     }
 
+    @Override
+    public File getRevisionCacheFolder()
+    {
+      return null;
+    }
+
+    @Override
+    public void setRevisionCacheFolder(File revisionCacheFolder)
+    {
+      // Do nothing
+    }
+
     @Override
     public boolean hasListeners()
     {
@@ -132,6 +132,8 @@ public class Session extends Container<IView> implements InternalSession
 
   private boolean subscribed;
 
+  private volatile RemoteNotificationQueue remoteNotificationQueue;
+
   /**
    * @since 2.0
    */
@@ -905,6 +907,59 @@ public class Session extends Container<IView> implements InternalSession
     }
   }
 
+  /**
+   * @since 4.21
+   */
+  public void sendRemoteMessageNotification(InternalSession sender, InternalTopic topic, CDORemoteSessionMessage message, byte[] encodedMessage)
+      throws Exception
+  {
+    if (protocol != null)
+    {
+      protocol.sendRemoteMessageNotification(sender, topic, message, encodedMessage);
+    }
+  }
+
+  @Override
+  public void queueRemoteSessionNotification(InternalSession sender, InternalTopic topic, byte opcode)
+  {
+    RemoteNotificationQueue queue = getRemoteNotificationQueue();
+    if (queue != null)
+    {
+      queue.addSessionNotification(sender, topic, opcode);
+    }
+  }
+
+  @Override
+  public boolean queueRemoteMessageNotification(InternalSession sender, InternalTopic topic, CDORemoteSessionMessage message, byte[] encodedMessage)
+  {
+    RemoteNotificationQueue queue = getRemoteNotificationQueue();
+    if (queue != null)
+    {
+      return queue.addMessage(sender, topic, message, encodedMessage);
+    }
+
+    return false;
+  }
+
+  private RemoteNotificationQueue getRemoteNotificationQueue()
+  {
+    RemoteNotificationQueue queue = remoteNotificationQueue;
+    if (queue == null)
+    {
+      synchronized (this)
+      {
+        queue = remoteNotificationQueue;
+        if (queue == null && isActive())
+        {
+          queue = new RemoteNotificationQueue(this, getExecutorService());
+          remoteNotificationQueue = queue;
+        }
+      }
+    }
+
+    return queue;
+  }
+
   @Override
   @SuppressWarnings({ "unchecked", "rawtypes" })
   public Object getAdapter(Class adapter)
@@ -954,6 +1009,12 @@ public class Session extends Container<IView> implements InternalSession
   @Override
   protected void doDeactivate() throws Exception
   {
+    RemoteNotificationQueue queue = remoteNotificationQueue;
+    if (queue != null)
+    {
+      queue.clear();
+    }
+
     EventUtil.removeListener(protocol, protocolListener);
     protocolListener = null;
 
@@ -41,9 +41,11 @@ import org.eclipse.emf.cdo.spi.server.InternalTopic;
 import org.eclipse.emf.cdo.spi.server.InternalTopicManager;
 
 import org.eclipse.net4j.util.ObjectUtil;
+import org.eclipse.net4j.util.WrappedException;
 import org.eclipse.net4j.util.container.Container;
 import org.eclipse.net4j.util.event.IListener;
 import org.eclipse.net4j.util.io.ExtendedDataInputStream;
+import org.eclipse.net4j.util.io.ExtendedDataOutputStream;
 import org.eclipse.net4j.util.lifecycle.ILifecycle;
 import org.eclipse.net4j.util.lifecycle.LifecycleEventAdapter;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
@@ -59,6 +61,8 @@ import org.eclipse.net4j.util.security.SecurityUtil;
 import org.eclipse.net4j.util.security.UserManagerAuthenticator;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -618,53 +622,30 @@ public class SessionManager extends Container<ISession> implements InternalSessi
   {
     if (recipients == null)
     {
-      recipients = new ArrayList<>();
-      for (InternalSession session : topic.getSessions())
-      {
-        recipients.add(session);
-      }
+      recipients = Arrays.asList(topic.getSessions());
     }
 
-    try
+    for (InternalSession session : recipients)
     {
-      for (InternalSession session : recipients)
+      if (session != sender)
       {
-        if (session != sender)
-        {
-          try
-          {
-            session.sendRemoteSessionNotification(sender, topic, opcode);
-          }
-          catch (Exception ex)
-          {
-            handleNotificationProblem(session, ex);
-          }
-        }
+        session.queueRemoteSessionNotification(sender, topic, opcode);
       }
     }
-    catch (Exception ex)
-    {
-      OM.LOG.warn("A problem occured while notifying other sessions", ex);
-    }
   }
 
   @Override
   public List<Integer> sendRemoteMessageNotification(InternalSession sender, CDORemoteSessionMessage message, InternalTopic topic)
   {
-    List<Integer> result = new ArrayList<>();
-    for (InternalSession recipient : topic.getSessions())
+    InternalSession[] recipients = topic.getSessions();
+    byte[] encodedMessage = encodeRemoteMessage(message);
+
+    List<Integer> result = new ArrayList<>(recipients.length);
+    for (InternalSession recipient : recipients)
     {
-      try
+      if (recipient != null && recipient != sender && recipient.queueRemoteMessageNotification(sender, topic, message, encodedMessage))
       {
-        if (recipient != null && recipient != sender)
-        {
-          recipient.sendRemoteMessageNotification(sender, topic, message);
-          result.add(recipient.getSessionID());
-        }
-      }
-      catch (Exception ex)
-      {
-        handleNotificationProblem(recipient, ex);
+        result.add(recipient.getSessionID());
       }
     }
 
@@ -674,28 +655,40 @@ public class SessionManager extends Container<ISession> implements InternalSessi
   @Override
   public List<Integer> sendRemoteMessageNotification(InternalSession sender, CDORemoteSessionMessage message, int[] recipients)
   {
-    List<Integer> result = new ArrayList<>();
+    byte[] encodedMessage = encodeRemoteMessage(message);
+
+    List<Integer> result = new ArrayList<>(recipients.length);
     for (int i = 0; i < recipients.length; i++)
     {
       InternalSession recipient = getSession(recipients[i]);
-
-      try
-      {
-        if (recipient != null && recipient.isSubscribed())
-        {
-          recipient.sendRemoteMessageNotification(sender, null, message);
-          result.add(recipient.getSessionID());
-        }
-      }
-      catch (Exception ex)
+      if (recipient != null && recipient.isSubscribed() && recipient.queueRemoteMessageNotification(sender, null, message, encodedMessage))
       {
-        handleNotificationProblem(recipient, ex);
+        result.add(recipient.getSessionID());
       }
     }
 
     return result;
   }
 
+  /**
+   * Encodes the given message once for all recipients.
+   */
+  protected byte[] encodeRemoteMessage(CDORemoteSessionMessage message)
+  {
+    try
+    {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      ExtendedDataOutputStream out = new ExtendedDataOutputStream(baos);
+      message.write(out);
+      out.flush();
+      return baos.toByteArray();
+    }
+    catch (IOException ex)
+    {
+      throw WrappedException.wrap(ex);
+    }
+  }
+
   protected void handleNotificationProblem(InternalSession session, Throwable t)
   {
     if (session.isClosed())
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2013, 2016, 2019 Eike Stepper (Loehne, Germany) and others.
+ * Copyright (c) 2011-2013, 2016, 2019, 2026 Eike Stepper (Loehne, Germany) and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,39 +15,60 @@ import org.eclipse.emf.cdo.spi.server.InternalRepository;
 
 import org.eclipse.net4j.util.ReflectUtil.ExcludeFromDump;
 import org.eclipse.net4j.util.concurrent.ConcurrencyUtil;
+import org.eclipse.net4j.util.om.OMPlatform;
 import org.eclipse.net4j.util.om.monitor.OMMonitor;
 
-import java.util.LinkedList;
-import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * Bug 297940, 290032
+ * <p>
+ * Issues unique, monotonic commit time stamps and tracks the last finished one without a central monitor.
+ * Time stamps are issued with a compare-and-set on {@link #lastIssuedTimeStamp}, running and finished commits are kept
+ * in concurrent sorted sets, and {@link #waitForCommit(long) waiters} are parked and unparked individually.
  *
  * @author Caspar De Groot
  */
 class TimeStampAuthority
 {
+  /**
+   * The maximum number of milliseconds by which issued time stamps may run ahead of the repository clock. If greater
+   * than zero, commits that start within the same millisecond receive consecutive time stamps instead of waiting for the
+   * clock to advance.
+   */
+  private static final long MAX_CLOCK_SKEW = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.server.TimeStampAuthority.MAX_CLOCK_SKEW", 0L); //$NON-NLS-1$
+
   private InternalRepository repository;
 
   /**
    * Holds the <i>begin</i> timestamp that was issued in response to the last call to {@link #startCommit(long, OMMonitor)}.
-   * <p>
-   * Synchronized on <code>TimeStampAuthority.this</code>.
    */
   @ExcludeFromDump
-  private transient long lastIssuedTimeStamp = CDOBranchPoint.UNSPECIFIED_DATE;
+  private final transient AtomicLong lastIssuedTimeStamp = new AtomicLong(CDOBranchPoint.UNSPECIFIED_DATE);
 
   /**
    * Holds the <i>begin</i> timestamp that was last reported finished by a call to {@link #endCommit(long)}.
-   * <p>
-   * Synchronized on <code>lastFinishedTimeStampLock</code>.
    */
-  private long lastFinishedTimeStamp;
+  private final AtomicLong lastFinishedTimeStamp = new AtomicLong();
 
-  private LastCommitTimeStampLock lastFinishedTimeStampLock = new LastCommitTimeStampLock();
+  /**
+   * Shared by the issuance of time stamps and exclusive for {@link #executeExclusively(Runnable)}.
+   */
+  @ExcludeFromDump
+  private final transient StampedLock issuanceLock = new StampedLock();
+
+  private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
 
   private boolean strictOrdering; // TODO (CD) Should be a repo property
 
@@ -57,15 +78,17 @@ class TimeStampAuthority
   private StrictOrderingLock strictOrderingLock = new StrictOrderingLock();
 
   /**
-   * An ordered list of timestamps that have been issued but have not (yet) been reported finished. (It is ordered
-   * because the timestamps are added sequentially.)
+   * The timestamps that have been issued but have not (yet) been reported finished, mapped to their registration counts.
+   * A timestamp is registered before it is issued, so that no younger timestamp can be reported as the last finished one
+   * in the meantime. If the issuance fails, the registration is revoked; the counts keep that from revoking the
+   * registration of a concurrent caller that is issued the same timestamp.
    */
-  private List<Long> runningTransactions = new LinkedList<>();
+  private final NavigableMap<Long, Integer> runningTransactions = new ConcurrentSkipListMap<>();
 
   /**
-   * A set of timestamps that have been reported finished but have not yet been
+   * The timestamps that have been reported finished but are not yet older than all running ones.
    */
-  private SortedSet<Long> finishedTransactions = new TreeSet<>();
+  private final NavigableSet<Long> finishedTransactions = new ConcurrentSkipListSet<>();
 
   TimeStampAuthority(InternalRepository repository)
   {
@@ -77,94 +100,218 @@ class TimeStampAuthority
    * the base of a new branch. Otherwise that commit could change revisions of that branch base.
    * See bug 506768 and bug 383602.
    */
-  synchronized long getMaxBaseTimeForNewBranch()
+  long getMaxBaseTimeForNewBranch()
   {
-    long now = repository.getTimeStamp();
-    while (repository.getTimeStamp() == now)
+    long stamp = issuanceLock.writeLock();
+
+    try
     {
-      ConcurrencyUtil.sleep(1);
+      long now = repository.getTimeStamp();
+      while (repository.getTimeStamp() == now)
+      {
+        ConcurrencyUtil.sleep(1);
+      }
+
+      return now;
     }
+    finally
+    {
+      issuanceLock.unlockWrite(stamp);
+    }
+  }
 
-    return now;
+  /**
+   * Executes the given runnable while no time stamp is being issued.
+   */
+  void executeExclusively(Runnable runnable)
+  {
+    long stamp = issuanceLock.writeLock();
+
+    try
+    {
+      runnable.run();
+    }
+    finally
+    {
+      issuanceLock.unlockWrite(stamp);
+    }
   }
 
   /**
    * @deprecated Not used anymore.
    */
   @Deprecated
-  synchronized long[] startCommit(OMMonitor monitor)
+  long[] startCommit(OMMonitor monitor)
   {
     return startCommit(CDOBranchPoint.UNSPECIFIED_DATE, monitor);
   }
 
-  synchronized long[] startCommit(long timeStampOverride, OMMonitor monitor)
+  long[] startCommit(long timeStampOverride, OMMonitor monitor)
   {
     monitor.begin();
     lockIfNeeded();
 
     try
     {
-      long now = repository.getTimeStamp();
-      if (lastIssuedTimeStamp != CDOBranchPoint.UNSPECIFIED_DATE)
+      for (;;)
       {
-        while (lastIssuedTimeStamp == now)
+        long[] result = timeStampOverride != CDOBranchPoint.UNSPECIFIED_DATE ? issueOverride(timeStampOverride) : issue();
+        if (result != null)
         {
-          ConcurrencyUtil.sleep(1);
-          now = repository.getTimeStamp();
-          monitor.checkCanceled();
+          return result;
         }
+
+        // The clock has not advanced far enough, yet.
+        ConcurrencyUtil.sleep(1);
+        monitor.checkCanceled();
       }
+    }
+    finally
+    {
+      monitor.done();
+    }
+  }
 
-      if (timeStampOverride != CDOBranchPoint.UNSPECIFIED_DATE)
+  private long[] issue()
+  {
+    long stamp = issuanceLock.readLock();
+
+    try
+    {
+      for (;;)
       {
-        now = timeStampOverride;
+        long previousTimeStamp = lastIssuedTimeStamp.get();
+        long now = repository.getTimeStamp();
+
+        if (previousTimeStamp != CDOBranchPoint.UNSPECIFIED_DATE && now <= previousTimeStamp)
+        {
+          if (previousTimeStamp - now >= MAX_CLOCK_SKEW)
+          {
+            return null;
+          }
+
+          now = previousTimeStamp + 1;
+        }
+
+        addRunningTransaction(now);
+        if (lastIssuedTimeStamp.compareAndSet(previousTimeStamp, now))
+        {
+          return new long[] { now, previousTimeStamp };
+        }
+
+        removeRunningTransaction(now);
+        drainFinishedTransactions();
       }
+    }
+    finally
+    {
+      issuanceLock.unlockRead(stamp);
+    }
+  }
 
-      long previousTimeStamp = lastIssuedTimeStamp;
-      lastIssuedTimeStamp = now;
+  private long[] issueOverride(long timeStampOverride)
+  {
+    long stamp = issuanceLock.readLock();
 
-      runningTransactions.add(now);
-      return new long[] { now, previousTimeStamp };
+    try
+    {
+      addRunningTransaction(timeStampOverride);
+      long previousTimeStamp = lastIssuedTimeStamp.getAndSet(timeStampOverride);
+      return new long[] { timeStampOverride, previousTimeStamp };
     }
     finally
     {
-      monitor.done();
+      issuanceLock.unlockRead(stamp);
     }
   }
 
-  synchronized void endCommit(long timeStamp)
+  void endCommit(long timeStamp)
   {
-    if (!runningTransactions.remove(timeStamp))
+    if (!removeRunningTransaction(timeStamp))
     {
       throw new IllegalArgumentException("Cannot end transaction with unknown timestamp " + timeStamp);
     }
 
     finishedTransactions.add(timeStamp);
+    drainFinishedTransactions();
+    unlockIfNeeded();
+  }
 
+  /**
+   * Must be called whenever a timestamp has been removed from the {@link #runningTransactions}.
+   */
+  private void drainFinishedTransactions()
+  {
     // We can remove a timestamp from finishedTransactions if it is smaller (i.e. older) than any
-    // of the runningTransactions. Since both sets are sorted, we only need to compare the heads.
-    long oldestRunning = runningTransactions.isEmpty() ? Long.MAX_VALUE : runningTransactions.get(0);
-    long oldestFinished;
-    synchronized (lastFinishedTimeStampLock)
+    // of the runningTransactions. Since both are sorted, we only need to compare the heads.
+    // Concurrent callers may drain each other's timestamps, but each one drains after its removal.
+    boolean changed = false;
+    for (;;)
     {
-      long oldValue = lastFinishedTimeStamp;
-      while (!finishedTransactions.isEmpty() && (oldestFinished = finishedTransactions.first()) < oldestRunning)
+      Long oldestFinished = finishedTransactions.pollFirst();
+      if (oldestFinished == null)
       {
-        finishedTransactions.remove(oldestFinished);
-        setLastFinishedTimeStampUnsynced(oldestFinished);
+        break;
       }
 
-      // If we actually changed the lastFinishedTimeStamp, we need to notify waiting threads
-      if (lastFinishedTimeStamp != oldValue)
+      if (isOlderRunning(oldestFinished))
       {
-        lastFinishedTimeStampLock.notifyAll();
+        finishedTransactions.add(oldestFinished);
+
+        // If the older commit has ended in the meantime, its caller may have missed the timestamp that was put back.
+        if (isOlderRunning(oldestFinished))
+        {
+          break;
+        }
+
+        continue;
       }
+
+      changed |= setLastFinishedTimeStampUnsynced(oldestFinished);
     }
 
-    unlockIfNeeded();
+    // If we actually changed the lastFinishedTimeStamp, we need to notify waiting threads
+    if (changed)
+    {
+      notifyWaiters();
+    }
+  }
+
+  private boolean isOlderRunning(long timeStamp)
+  {
+    Long oldestRunning = getOldestRunningTransaction();
+    return oldestRunning != null && oldestRunning < timeStamp;
+  }
+
+  private Long getOldestRunningTransaction()
+  {
+    Map.Entry<Long, Integer> entry = runningTransactions.firstEntry();
+    return entry == null ? null : entry.getKey();
   }
 
-  synchronized void failCommit(long timeStamp)
+  private void addRunningTransaction(long timeStamp)
+  {
+    runningTransactions.merge(timeStamp, 1, Integer::sum);
+  }
+
+  private boolean removeRunningTransaction(long timeStamp)
+  {
+    for (;;)
+    {
+      Integer count = runningTransactions.get(timeStamp);
+      if (count == null)
+      {
+        return false;
+      }
+
+      if (count == 1 ? runningTransactions.remove(timeStamp, count) : runningTransactions.replace(timeStamp, count, count - 1))
+      {
+        return true;
+      }
+    }
+  }
+
+  void failCommit(long timeStamp)
   {
     // Exclude problems before TransactionCommitContext.setTimeStamp()
     if (timeStamp == CDOBranchPoint.UNSPECIFIED_DATE)
@@ -177,58 +324,99 @@ class TimeStampAuthority
     }
   }
 
-  synchronized long getLastFinishedTimeStamp()
+  long getLastFinishedTimeStamp()
   {
-    if (lastFinishedTimeStamp != 0)
+    for (;;)
     {
-      return lastFinishedTimeStamp;
-    }
+      long lastFinishedTimeStamp = this.lastFinishedTimeStamp.get();
+      if (lastFinishedTimeStamp != 0)
+      {
+        return lastFinishedTimeStamp;
+      }
 
-    // If we get here, no commit has finished since the server was started
-    if (lastIssuedTimeStamp == 0) // No commit has started either
-    {
-      // We can safely return the current system time minus one milli.
-      return repository.getTimeStamp() - 1;
-    }
+      // If we get here, no commit has finished since the server was started
+      if (lastIssuedTimeStamp.get() == 0) // No commit has started either
+      {
+        // We can safely return the current system time minus one milli.
+        return repository.getTimeStamp() - 1;
+      }
 
-    // If we get here, one or more commits are running
-    // We can safely return the start time of the longest-running, minus one milli.
-    return runningTransactions.get(0) - 1;
+      // If we get here, one or more commits are running
+      // We can safely return the start time of the longest-running, minus one milli.
+      Long oldestRunning = getOldestRunningTransaction();
+      if (oldestRunning != null)
+      {
+        return oldestRunning - 1;
+      }
+
+      // The first commits have finished in the meantime.
+    }
   }
 
   long waitForCommit(long timeout)
   {
-    synchronized (lastFinishedTimeStampLock)
+    long lastFinishedTimeStamp = this.lastFinishedTimeStamp.get();
+    long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0L;
+
+    Thread thread = Thread.currentThread();
+    waiters.add(thread);
+
+    try
     {
-      try
-      {
-        lastFinishedTimeStampLock.wait(timeout);
-      }
-      catch (Exception ignore)
+      while (this.lastFinishedTimeStamp.get() == lastFinishedTimeStamp && !Thread.interrupted())
       {
-      }
+        if (timeout > 0)
+        {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0)
+          {
+            break;
+          }
 
-      return lastFinishedTimeStamp;
+          LockSupport.parkNanos(this, remaining);
+        }
+        else
+        {
+          LockSupport.park(this);
+        }
+      }
+    }
+    finally
+    {
+      waiters.remove(thread);
     }
+
+    return this.lastFinishedTimeStamp.get();
   }
 
   void setLastFinishedTimeStamp(long lastCommitTimeStamp)
   {
-    synchronized (lastFinishedTimeStampLock)
+    if (setLastFinishedTimeStampUnsynced(lastCommitTimeStamp))
     {
-      if (lastCommitTimeStamp > lastFinishedTimeStamp)
-      {
-        lastIssuedTimeStamp = lastCommitTimeStamp;
-        setLastFinishedTimeStampUnsynced(lastCommitTimeStamp);
-        lastFinishedTimeStampLock.notifyAll();
-      }
+      lastIssuedTimeStamp.accumulateAndGet(lastCommitTimeStamp, Math::max);
+      notifyWaiters();
     }
   }
 
-  private void setLastFinishedTimeStampUnsynced(long lastCommitTimeStamp)
+  private boolean setLastFinishedTimeStampUnsynced(long lastCommitTimeStamp)
   {
-    lastFinishedTimeStamp = lastCommitTimeStamp;
-    repository.getStore().setLastCommitTime(lastFinishedTimeStamp);
+    long oldValue = lastFinishedTimeStamp.getAndAccumulate(lastCommitTimeStamp, Math::max);
+    if (lastCommitTimeStamp > oldValue)
+    {
+      // The store ignores time stamps that are older than its current one.
+      repository.getStore().setLastCommitTime(lastCommitTimeStamp);
+      return true;
+    }
+
+    return false;
+  }
+
+  private void notifyWaiters()
+  {
+    for (Thread waiter : waiters)
+    {
+      LockSupport.unpark(waiter);
+    }
   }
 
   private void lockIfNeeded()
@@ -247,15 +435,6 @@ class TimeStampAuthority
     }
   }
 
-  /**
-   * A separate class for better monitor debugging.
-   *
-   * @author Eike Stepper
-   */
-  private static final class LastCommitTimeStampLock
-  {
-  }
-
   /**
    * A separate class for better monitor debugging.
    *
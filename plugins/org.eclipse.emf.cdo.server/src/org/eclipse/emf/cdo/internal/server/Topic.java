@@ -17,8 +17,8 @@ import org.eclipse.emf.cdo.spi.server.InternalTopicManager;
 
 import org.eclipse.net4j.util.container.Container;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Eike Stepper
@@ -27,7 +27,17 @@ public class Topic extends Container<ISession> implements InternalTopic
 {
   private final InternalTopicManager manager;
 
-  private final Set<InternalSession> sessions = new HashSet<>();
+  private static final InternalSession[] NO_SESSIONS = {};
+
+  /**
+   * Modifications are synchronized on this set and publish a new {@link #snapshot}.
+   */
+  private final Set<InternalSession> sessions = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Copy-on-write snapshot of the {@link #sessions}, so that deliveries to all subscribers don't need to lock them.
+   */
+  private volatile InternalSession[] snapshot = NO_SESSIONS;
 
   private final String id;
 
@@ -52,19 +62,13 @@ public class Topic extends Container<ISession> implements InternalTopic
   @Override
   public boolean containsSession(InternalSession session)
   {
-    synchronized (sessions)
-    {
-      return sessions.contains(session);
-    }
+    return sessions.contains(session);
   }
 
   @Override
   public InternalSession[] getSessions()
   {
-    synchronized (sessions)
-    {
-      return sessions.toArray(new InternalSession[sessions.size()]);
-    }
+    return snapshot.clone();
   }
 
   @Override
@@ -76,10 +80,7 @@ public class Topic extends Container<ISession> implements InternalTopic
   @Override
   public boolean isEmpty()
   {
-    synchronized (sessions)
-    {
-      return sessions.isEmpty();
-    }
+    return sessions.isEmpty();
   }
 
   @Override
@@ -90,8 +91,16 @@ public class Topic extends Container<ISession> implements InternalTopic
 
     synchronized (sessions)
     {
-      otherSessions = sessions.toArray(new InternalSession[sessions.size()]);
+      otherSessions = snapshot;
       added = sessions.add(session);
+
+      if (added)
+      {
+        InternalSession[] newSnapshot = new InternalSession[otherSessions.length + 1];
+        System.arraycopy(otherSessions, 0, newSnapshot, 0, otherSessions.length);
+        newSnapshot[otherSessions.length] = session;
+        snapshot = newSnapshot;
+      }
     }
 
     if (added)
@@ -99,7 +108,7 @@ public class Topic extends Container<ISession> implements InternalTopic
       fireElementAddedEvent(session);
     }
 
-    return otherSessions;
+    return otherSessions.clone();
   }
 
   @Override
@@ -112,6 +121,11 @@ public class Topic extends Container<ISession> implements InternalTopic
     {
       removed = sessions.remove(session);
       lastSession = sessions.isEmpty();
+
+      if (removed)
+      {
+        snapshot = lastSession ? NO_SESSIONS : sessions.toArray(new InternalSession[sessions.size()]);
+      }
     }
 
     if (removed)
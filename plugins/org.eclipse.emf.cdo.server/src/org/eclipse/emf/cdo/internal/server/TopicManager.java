@@ -21,9 +21,9 @@ import org.eclipse.net4j.util.container.Container;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author Eike Stepper
@@ -32,7 +32,7 @@ public class TopicManager extends Container<ITopic> implements InternalTopicMana
 {
   private final InternalSessionManager sessionManager;
 
-  private final Map<String, InternalTopic> topics = new HashMap<>();
+  private final ConcurrentMap<String, InternalTopic> topics = new ConcurrentHashMap<>();
 
   public TopicManager(InternalSessionManager sessionManager)
   {
@@ -54,24 +54,23 @@ public class TopicManager extends Container<ITopic> implements InternalTopicMana
   @Override
   public InternalTopic getTopic(String id, boolean createOnDemand)
   {
-    InternalTopic topic;
-    boolean added = false;
-
-    synchronized (topics)
+    InternalTopic topic = topics.get(id);
+    if (topic == null && createOnDemand)
     {
-      topic = topics.get(id);
-      if (topic == null && createOnDemand)
+      InternalTopic newTopic = new Topic(this, id);
+      LifecycleUtil.activate(newTopic);
+
+      topic = topics.putIfAbsent(id, newTopic);
+      if (topic == null)
       {
-        topic = new Topic(this, id);
-        LifecycleUtil.activate(topic);
-        topics.put(id, topic);
-        added = true;
+        topic = newTopic;
+        fireElementAddedEvent(topic);
+      }
+      else
+      {
+        // Another thread was faster.
+        LifecycleUtil.deactivate(newTopic);
       }
-    }
-
-    if (added)
-    {
-      fireElementAddedEvent(topic);
     }
 
     return topic;
@@ -80,10 +79,7 @@ public class TopicManager extends Container<ITopic> implements InternalTopicMana
   @Override
   public InternalTopic[] getTopics()
   {
-    synchronized (topics)
-    {
-      return topics.values().toArray(new InternalTopic[topics.size()]);
-    }
+    return topics.values().toArray(new InternalTopic[0]);
   }
 
   @Override
@@ -95,10 +91,7 @@ public class TopicManager extends Container<ITopic> implements InternalTopicMana
   @Override
   public boolean isEmpty()
   {
-    synchronized (topics)
-    {
-      return topics.isEmpty();
-    }
+    return topics.isEmpty();
   }
 
   @Override
@@ -126,25 +119,11 @@ public class TopicManager extends Container<ITopic> implements InternalTopicMana
   @Override
   public void removeTopic(InternalTopic topic)
   {
-    InternalTopic removedTopic;
-    String id = topic.getID();
-
-    synchronized (topics)
+    // Don't remove a new topic that was registered under the same id.
+    if (topics.remove(topic.getID(), topic))
     {
-      removedTopic = topics.remove(id);
-
-      if (removedTopic != null && removedTopic != topic)
-      {
-        // A new topic was registered under the same id, put it back.
-        topics.put(id, topic);
-        removedTopic = null;
-      }
-    }
-
-    if (removedTopic != null)
-    {
-      LifecycleUtil.deactivate(removedTopic);
-      fireElementRemovedEvent(removedTopic);
+      LifecycleUtil.deactivate(topic);
+      fireElementRemovedEvent(topic);
     }
   }
 
@@ -153,14 +132,11 @@ public class TopicManager extends Container<ITopic> implements InternalTopicMana
   {
     List<InternalTopic> affectedTopics = new ArrayList<>();
 
-    synchronized (topics)
+    for (InternalTopic topic : topics.values())
     {
-      for (InternalTopic topic : topics.values())
+      if (topic.removeSession(session))
       {
-        if (topic.removeSession(session))
-        {
-          affectedTopics.add(topic);
-        }
+        affectedTopics.add(topic);
       }
     }
 
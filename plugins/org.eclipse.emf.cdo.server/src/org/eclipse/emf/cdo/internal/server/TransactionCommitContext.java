@@ -1619,7 +1619,7 @@ public class TransactionCommitContext implements InternalCommitContext
     }
 
     // Use this commit context as CDORevisionProvider for the container revisions.
-    // This is safe because Repository.commit() serializes all tree-restructuring commits.
+    // This is safe because Repository.commit() serializes all tree-restructuring commits of a branch.
     InternalCDORevision containerRevision = getRevision(containerID);
 
     // Recurse Up
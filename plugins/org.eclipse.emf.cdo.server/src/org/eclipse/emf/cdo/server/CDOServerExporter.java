@@ -23,6 +23,7 @@ import org.eclipse.emf.cdo.common.lob.CDOClob;
 import org.eclipse.emf.cdo.common.lob.CDOLobHandler;
 import org.eclipse.emf.cdo.common.model.CDOClassInfo;
 import org.eclipse.emf.cdo.common.model.CDOClassifierRef;
+import org.eclipse.emf.cdo.common.model.CDOPackageInfo;
 import org.eclipse.emf.cdo.common.model.CDOPackageRegistry;
 import org.eclipse.emf.cdo.common.model.CDOPackageUnit;
 import org.eclipse.emf.cdo.common.model.CDOPackageUnit.Type;
@@ -46,24 +47,36 @@ import org.eclipse.emf.cdo.spi.server.InternalSession;
 
 import org.eclipse.net4j.util.HexUtil;
 import org.eclipse.net4j.util.WrappedException;
+import org.eclipse.net4j.util.concurrent.ThreadPool;
 import org.eclipse.net4j.util.io.ExtendedDataOutputStream;
+import org.eclipse.net4j.util.io.IOUtil;
 import org.eclipse.net4j.util.io.XMLOutput;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
 
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EStructuralFeature;
 
 import org.xml.sax.SAXException;
 
 import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Exports the complete contents of a {@link IRepository repository} in a format suitable for {@link CDOServerImporter
@@ -979,6 +992,11 @@ public abstract class CDOServerExporter<OUT>
 
     public static final byte COMMIT = 7;
 
+    /**
+     * @since 4.21
+     */
+    public static final byte PARTITION = 8;
+
     public static final byte EOF = -1;
   }
 
@@ -1189,4 +1207,268 @@ public abstract class CDOServerExporter<OUT>
       }
     }
   }
+
+  /**
+   * A {@link Binary binary} exporter that writes the revisions of a {@link IRepository repository} into a number of
+   * partition files that are produced concurrently.
+   * <p>
+   * The stream that is passed into {@link #exportRepository(OutputStream)} receives a manifest in the normal binary
+   * format, but instead of the revisions it contains one {@link BinaryConstants#PARTITION PARTITION} record per partition
+   * file. The partition files are created in the folder that is passed into the constructor, one per concrete
+   * {@link EClass}, each of them containing the revisions of that class in all exported branches. Keeping all revisions
+   * of an object in a single partition allows the {@link CDOServerImporter.ParallelBinary importer} to load the
+   * partitions independently of each other. The LOBs and commit infos are exported while the partitions are being written.
+   *
+   * @author Eike Stepper
+   * @since 4.21
+   */
+  public static class ParallelBinary extends Binary
+  {
+    public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private static final String PARTITION_PREFIX = "partition-";
+
+    private static final String PARTITION_SUFFIX = ".bin";
+
+    private static final String COMPRESSED_SUFFIX = ".gz";
+
+    private final File folder;
+
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    private boolean compressed;
+
+    private final List<CDOBranch> branches = new ArrayList<>();
+
+    private final List<Partition> partitions = new ArrayList<>();
+
+    private ExecutorService executorService;
+
+    public ParallelBinary(IRepository repository, File folder)
+    {
+      super(repository);
+      this.folder = folder;
+    }
+
+    public final File getFolder()
+    {
+      return folder;
+    }
+
+    public int getParallelism()
+    {
+      return parallelism;
+    }
+
+    public void setParallelism(int parallelism)
+    {
+      if (parallelism < 1)
+      {
+        throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+      }
+
+      this.parallelism = parallelism;
+    }
+
+    public boolean isCompressed()
+    {
+      return compressed;
+    }
+
+    public void setCompressed(boolean compressed)
+    {
+      this.compressed = compressed;
+    }
+
+    @Override
+    protected void exportAll(CDODataOutput out) throws Exception
+    {
+      IOUtil.mkdirs(folder);
+      executorService = ThreadPool.create(getClass().getSimpleName(), parallelism, parallelism, ThreadPool.DEFAULT_KEEP_ALIVE_SECONDS);
+
+      try
+      {
+        super.exportAll(out);
+      }
+      finally
+      {
+        executorService.shutdownNow();
+        executorService = null;
+        branches.clear();
+        partitions.clear();
+      }
+    }
+
+    @Override
+    protected void exportBranches(CDODataOutput out) throws Exception
+    {
+      super.exportBranches(out);
+
+      InternalSession session = StoreThreadLocal.getSession();
+      CDOBranch[] array = branches.toArray(new CDOBranch[branches.size()]);
+
+      for (EClass eClass : getConcreteClasses())
+      {
+        String name = PARTITION_PREFIX + partitions.size() + PARTITION_SUFFIX;
+        if (compressed)
+        {
+          name += COMPRESSED_SUFFIX;
+        }
+
+        Partition partition = new Partition(name, eClass, array);
+        partition.future = executorService.submit(StoreThreadLocal.wrap(session, partition));
+        partitions.add(partition);
+      }
+    }
+
+    @Override
+    protected void exportRevisions(CDODataOutput out, CDOBranch branch) throws Exception
+    {
+      // The revisions of this branch are exported into the partitions.
+      branches.add(branch);
+    }
+
+    @Override
+    protected void exportCommits(CDODataOutput out) throws Exception
+    {
+      super.exportCommits(out);
+
+      // The partitions have been written while the LOBs and commit infos were exported.
+      // Now wait for them to finish and record the non-empty ones in the manifest.
+      Statistics statistics = getStatistics();
+      for (Partition partition : partitions)
+      {
+        long revisions = partition.await();
+        if (revisions == 0L)
+        {
+          partition.getFile().delete();
+          continue;
+        }
+
+        out.writeByte(PARTITION);
+        out.writeString(partition.getName());
+        out.writeBoolean(compressed);
+        out.writeXLong(revisions);
+        statistics.revisions += revisions;
+      }
+    }
+
+    private List<EClass> getConcreteClasses()
+    {
+      List<EClass> result = new ArrayList<>();
+      for (CDOPackageInfo packageInfo : repository.getPackageRegistry(false).getPackageInfos())
+      {
+        for (EClassifier classifier : packageInfo.getEPackage().getEClassifiers())
+        {
+          if (classifier instanceof EClass)
+          {
+            EClass eClass = (EClass)classifier;
+            if (!eClass.isAbstract() && !eClass.isInterface())
+            {
+              result.add(eClass);
+            }
+          }
+        }
+      }
+
+      return result;
+    }
+
+    /**
+     * @author Eike Stepper
+     */
+    private final class Partition implements Callable<Long>
+    {
+      private final String name;
+
+      private final EClass eClass;
+
+      private final CDOBranch[] branches;
+
+      private Future<Long> future;
+
+      public Partition(String name, EClass eClass, CDOBranch[] branches)
+      {
+        this.name = name;
+        this.eClass = eClass;
+        this.branches = branches;
+      }
+
+      public String getName()
+      {
+        return name;
+      }
+
+      public File getFile()
+      {
+        return new File(folder, name);
+      }
+
+      @Override
+      public Long call() throws Exception
+      {
+        OutputStream stream = new FileOutputStream(getFile());
+
+        try
+        {
+          if (compressed)
+          {
+            stream = new GZIPOutputStream(stream, IOUtil.DEFAULT_BUFFER_SIZE);
+          }
+
+          stream = new BufferedOutputStream(stream);
+
+          CDODataOutput out = createOutput(stream);
+          long[] revisions = { 0L };
+
+          for (CDOBranch branch : branches)
+          {
+            repository.handleRevisions(eClass, branch, true, getTimeStamp(), false, new CDORevisionHandler()
+            {
+              @Override
+              public boolean handleRevision(CDORevision revision)
+              {
+                try
+                {
+                  exportRevision(out, revision);
+                  ++revisions[0];
+                  return true;
+                }
+                catch (Exception ex)
+                {
+                  throw WrappedException.wrap(ex);
+                }
+              }
+            });
+          }
+
+          out.writeByte(EOF);
+          stream.flush();
+          return revisions[0];
+        }
+        finally
+        {
+          IOUtil.close(stream);
+        }
+      }
+
+      public long await() throws Exception
+      {
+        try
+        {
+          return future.get();
+        }
+        catch (ExecutionException ex)
+        {
+          Throwable cause = ex.getCause();
+          if (cause instanceof Exception)
+          {
+            throw WrappedException.unwrap((Exception)cause);
+          }
+
+          throw (Error)cause;
+        }
+      }
+    }
+  }
 }
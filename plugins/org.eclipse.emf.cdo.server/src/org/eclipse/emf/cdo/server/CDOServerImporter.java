@@ -36,6 +36,7 @@ import org.eclipse.emf.cdo.common.revision.CDORevisionHandler;
 import org.eclipse.emf.cdo.internal.server.ServerDebugUtil;
 import org.eclipse.emf.cdo.server.CDOServerExporter.Statistics;
 import org.eclipse.emf.cdo.server.IStoreAccessor.Raw2;
+import org.eclipse.emf.cdo.server.IStoreAccessor.Raw3;
 import org.eclipse.emf.cdo.spi.common.branch.InternalCDOBranch;
 import org.eclipse.emf.cdo.spi.common.branch.InternalCDOBranchManager;
 import org.eclipse.emf.cdo.spi.common.model.InternalCDOPackageInfo;
@@ -49,6 +50,7 @@ import org.eclipse.emf.cdo.spi.server.InternalRepository;
 
 import org.eclipse.net4j.util.HexUtil;
 import org.eclipse.net4j.util.WrappedException;
+import org.eclipse.net4j.util.concurrent.ThreadPool;
 import org.eclipse.net4j.util.io.AsyncOutputStream;
 import org.eclipse.net4j.util.io.AsyncWriter;
 import org.eclipse.net4j.util.io.ExtendedDataInputStream;
@@ -69,6 +71,8 @@ import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
 import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -82,6 +86,11 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Imports the complete contents of a {@link IRepository repository} from the output created by a
@@ -102,6 +111,8 @@ public abstract class CDOServerImporter
 
   private long timeStamp = CDOBranchPoint.INVALID_DATE;
 
+  private boolean bulkLoad;
+
   private final Statistics statistics = new Statistics();
 
   public CDOServerImporter(IRepository repository)
@@ -142,6 +153,28 @@ public abstract class CDOServerImporter
     this.timeStamp = timeStamp;
   }
 
+  /**
+   * Returns <code>true</code> if the data is imported in a {@link Raw3#beginBulkLoad(OMMonitor) bulk load},
+   * <code>false</code> otherwise.
+   *
+   * @since 4.21
+   */
+  public boolean isBulkLoad()
+  {
+    return bulkLoad;
+  }
+
+  /**
+   * Sets whether the data is imported in a {@link Raw3#beginBulkLoad(OMMonitor) bulk load}. This setting is ignored
+   * if the store of the repository does not support bulk loads.
+   *
+   * @since 4.21
+   */
+  public void setBulkLoad(boolean bulkLoad)
+  {
+    this.bulkLoad = bulkLoad;
+  }
+
   private void init()
   {
     LifecycleUtil.checkInactive(repository);
@@ -170,6 +203,7 @@ public abstract class CDOServerImporter
       FlushHandler handler = new FlushHandler();
       importAll(in, handler);
       handler.flush();
+      handler.endBulkLoad();
     }
     finally
     {
@@ -229,6 +263,8 @@ public abstract class CDOServerImporter
 
     private IStoreAccessor.Raw accessor;
 
+    private boolean bulkLoading;
+
     private Map<String, String> models = new HashMap<>();
 
     private LinkedList<InternalCDOPackageUnit> packageUnits = new LinkedList<>();
@@ -260,6 +296,12 @@ public abstract class CDOServerImporter
       accessor = (IStoreAccessor.Raw)repository.getStore().getWriter(null);
       StoreThreadLocal.setAccessor(accessor);
 
+      if (bulkLoad && accessor instanceof Raw3)
+      {
+        ((Raw3)accessor).beginBulkLoad(monitor);
+        bulkLoading = true;
+      }
+
       if (DEBUG_WITH_BROWSER)
       {
         ServerDebugUtil.addAccessor(accessor);
@@ -415,6 +457,15 @@ public abstract class CDOServerImporter
       accessor.rawCommit(1.0, monitor);
     }
 
+    public void endBulkLoad()
+    {
+      if (bulkLoading)
+      {
+        bulkLoading = false;
+        ((Raw3)accessor).endBulkLoad(monitor);
+      }
+    }
+
     private void collectPackageInfos()
     {
       if (packageInfos != null)
@@ -954,12 +1005,23 @@ public abstract class CDOServerImporter
           return;
 
         default:
-          throw new IOException("Illegal opcode: " + opcode);
+          handleOpcode(opcode, in, handler);
         }
       }
     }
 
-    private CDODataInput createDataInput(InputStream stream)
+    /**
+     * @since 4.21
+     */
+    protected void handleOpcode(byte opcode, CDODataInput in, Handler handler) throws IOException
+    {
+      throw new IOException("Illegal opcode: " + opcode);
+    }
+
+    /**
+     * @since 4.21
+     */
+    protected CDODataInput createDataInput(InputStream stream)
     {
       return new CDODataInputImpl(new ExtendedDataInputStream(new BufferedInputStream(stream)))
       {
@@ -1057,7 +1119,10 @@ public abstract class CDOServerImporter
       handler.handleBranch(id, name, time, parentID);
     }
 
-    private void handleRevision(CDODataInput in, Handler handler) throws IOException
+    /**
+     * @since 4.21
+     */
+    protected void handleRevision(CDODataInput in, CDORevisionHandler handler) throws IOException
     {
       CDORevision revision;
       if (in.readBoolean())
@@ -1146,4 +1211,205 @@ public abstract class CDOServerImporter
       handler.handleCommitInfo(time, previous, branch, user, comment);
     }
   }
+
+  /**
+   * An {@link CDOServerImporter importer} that reads the manifest and the partition files created by a
+   * {@link CDOServerExporter.ParallelBinary parallel binary exporter}.
+   * <p>
+   * The partitions are loaded concurrently, each of them through its own {@link IStoreAccessor.Raw raw store accessor}.
+   *
+   * @author Eike Stepper
+   * @since 4.21
+   */
+  public static class ParallelBinary extends Binary
+  {
+    private final File folder;
+
+    private int parallelism = CDOServerExporter.ParallelBinary.DEFAULT_PARALLELISM;
+
+    private final List<Future<Long>> partitions = new ArrayList<>();
+
+    private ExecutorService executorService;
+
+    public ParallelBinary(IRepository repository, File folder)
+    {
+      super(repository);
+      this.folder = folder;
+    }
+
+    public final File getFolder()
+    {
+      return folder;
+    }
+
+    public int getParallelism()
+    {
+      return parallelism;
+    }
+
+    public void setParallelism(int parallelism)
+    {
+      if (parallelism < 1)
+      {
+        throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+      }
+
+      this.parallelism = parallelism;
+    }
+
+    @Override
+    protected void importAll(InputStream stream, Handler handler) throws Exception
+    {
+      executorService = ThreadPool.create(getClass().getSimpleName(), parallelism, parallelism, ThreadPool.DEFAULT_KEEP_ALIVE_SECONDS);
+
+      try
+      {
+        super.importAll(stream, handler);
+
+        Statistics statistics = getStatistics();
+        for (Future<Long> partition : partitions)
+        {
+          statistics.revisions += await(partition);
+        }
+      }
+      finally
+      {
+        executorService.shutdownNow();
+        executorService = null;
+        partitions.clear();
+      }
+    }
+
+    @Override
+    protected void handleOpcode(byte opcode, CDODataInput in, Handler handler) throws IOException
+    {
+      if (opcode == PARTITION)
+      {
+        handlePartition(in, handler);
+      }
+      else
+      {
+        super.handleOpcode(opcode, in, handler);
+      }
+    }
+
+    private void handlePartition(CDODataInput in, Handler handler) throws IOException
+    {
+      String name = in.readString();
+      boolean compressed = in.readBoolean();
+      in.readXLong(); // Number of revisions.
+
+      if (partitions.isEmpty())
+      {
+        // Make the package units and branches visible to the accessors of the partitions.
+        handler.flush();
+      }
+
+      File file = new File(folder, name);
+      partitions.add(executorService.submit(new Partition(file, compressed)));
+    }
+
+    private static long await(Future<Long> partition) throws Exception
+    {
+      try
+      {
+        return partition.get();
+      }
+      catch (ExecutionException ex)
+      {
+        Throwable cause = ex.getCause();
+        if (cause instanceof Exception)
+        {
+          throw WrappedException.unwrap((Exception)cause);
+        }
+
+        throw (Error)cause;
+      }
+    }
+
+    /**
+     * @author Eike Stepper
+     */
+    private final class Partition implements Callable<Long>
+    {
+      private final File file;
+
+      private final boolean compressed;
+
+      public Partition(File file, boolean compressed)
+      {
+        this.file = file;
+        this.compressed = compressed;
+      }
+
+      @Override
+      public Long call() throws Exception
+      {
+        OMMonitor monitor = new Monitor();
+        IStoreAccessor.Raw accessor = (IStoreAccessor.Raw)getRepository().getStore().getWriter(null);
+        StoreThreadLocal.setAccessor(accessor);
+
+        boolean bulkLoading = isBulkLoad() && accessor instanceof Raw3;
+        if (bulkLoading)
+        {
+          ((Raw3)accessor).beginBulkLoad(monitor);
+        }
+
+        InputStream stream = new FileInputStream(file);
+
+        try
+        {
+          if (compressed)
+          {
+            stream = new GZIPInputStream(stream, IOUtil.DEFAULT_BUFFER_SIZE);
+          }
+
+          CDODataInput in = createDataInput(stream);
+          long[] revisions = { 0L };
+
+          CDORevisionHandler handler = new CDORevisionHandler()
+          {
+            @Override
+            public boolean handleRevision(CDORevision revision)
+            {
+              accessor.rawStore((InternalCDORevision)revision, monitor);
+              ++revisions[0];
+              return true;
+            }
+          };
+
+          for (;;)
+          {
+            byte opcode = in.readByte();
+            if (opcode == REVISION)
+            {
+              handleRevision(in, handler);
+            }
+            else if (opcode == EOF)
+            {
+              break;
+            }
+            else
+            {
+              throw new IOException("Illegal opcode in partition " + file.getName() + ": " + opcode);
+            }
+          }
+
+          accessor.rawCommit(1.0, monitor);
+
+          if (bulkLoading)
+          {
+            ((Raw3)accessor).endBulkLoad(monitor);
+          }
+
+          return revisions[0];
+        }
+        finally
+        {
+          IOUtil.close(stream);
+          StoreThreadLocal.release();
+        }
+      }
+    }
+  }
 }
@@ -369,6 +369,14 @@ public interface IRepository extends CDOCommonRepository, IQueryHandlerProvider,
      */
     public static final String OPTIMISTIC_LOCKING_TIMEOUT = "optimisticLockingTimeout"; //$NON-NLS-1$
 
+    /**
+     * Whether to profile the navigation of all sessions and to prefetch the revisions of frequently traversed
+     * references automatically.
+     *
+     * @since 4.21
+     */
+    public static final String ADAPTIVE_PREFETCHING = "adaptivePrefetching"; //$NON-NLS-1$
+
     /**
      * @since 4.0
      * @deprecated As of 4.2 instances of Ecore are always supported (on demand).
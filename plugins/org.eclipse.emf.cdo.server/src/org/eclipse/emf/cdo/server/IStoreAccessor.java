@@ -863,6 +863,36 @@ public interface IStoreAccessor extends IQueryHandlerProvider, BranchLoader, Com
         OMMonitor monitor);
   }
 
+  /**
+   * An extension interface for {@link IStoreAccessor.Raw raw store accessors} that can store large amounts of raw data
+   * faster if they know that a <i>bulk load</i> is in progress, for example by deferring the maintenance of indexes and
+   * by batching the writes.
+   * <p>
+   * Several accessors of the same store can take part in a bulk load concurrently. The store completes the bulk load
+   * when the last of them calls {@link #endBulkLoad(OMMonitor) endBulkLoad()}.
+   *
+   * @author Eike Stepper
+   * @since 4.21
+   */
+  public interface Raw3 extends Raw2
+  {
+    /**
+     * Prepares this accessor and its store for a bulk load of raw data.
+     * <p>
+     * Until {@link #endBulkLoad(OMMonitor) endBulkLoad()} is called the data passed to the <code>rawStore()</code>
+     * methods may not be visible to other accessors, and errors in this data may only be reported by a later call to
+     * {@link #rawCommit(double, OMMonitor) rawCommit()} or {@link #endBulkLoad(OMMonitor) endBulkLoad()}.
+     */
+    public void beginBulkLoad(OMMonitor monitor);
+
+    /**
+     * Commits the data of this accessor and ends its part of the bulk load that was started with
+     * {@link #beginBulkLoad(OMMonitor) beginBulkLoad()}. If no other accessor takes part in the bulk load anymore, the
+     * deferred work is done and the stored data is verified.
+     */
+    public void endBulkLoad(OMMonitor monitor);
+  }
+
   /**
    * An extension interface for {@link IStoreAccessor store accessors} that support <i>durable locking</i>.
    *
@@ -122,6 +122,21 @@ public interface ISessionProtocol extends CDOProtocol, IAuthenticationProtocol,
    */
   public void sendRemoteMessageNotification(InternalSession sender, InternalTopic topic, CDORemoteSessionMessage message) throws Exception;
 
+  /**
+   * Sends a remote message whose encoded form is shared by all recipients, so that it's not written again for each of them.
+   *
+   * @param encodedMessage the message as written by {@link CDORemoteSessionMessage#write(org.eclipse.net4j.util.io.ExtendedDataOutput) write()}.
+   * <p>
+   * The default implementation ignores the encoded form and calls {@link #sendRemoteMessageNotification(InternalSession, InternalTopic, CDORemoteSessionMessage)}.
+   *
+   * @since 4.21
+   */
+  public default void sendRemoteMessageNotification(InternalSession sender, InternalTopic topic, CDORemoteSessionMessage message, byte[] encodedMessage)
+      throws Exception
+  {
+    sendRemoteMessageNotification(sender, topic, message);
+  }
+
   /**
    * @since 4.1
    * @deprecated As of 4.11 use {@link #sendLockNotification(CDOLockChangeInfo, Set)}.
@@ -23,6 +23,7 @@ import org.eclipse.emf.cdo.common.lock.CDOLockOwner;
 import org.eclipse.emf.cdo.common.protocol.CDOProtocol.CommitNotificationInfo;
 import org.eclipse.emf.cdo.common.revision.CDORevision;
 import org.eclipse.emf.cdo.common.security.CDOPermissionProvider;
+import org.eclipse.emf.cdo.internal.server.bundle.OM;
 import org.eclipse.emf.cdo.server.ISession;
 import org.eclipse.emf.cdo.session.remote.CDORemoteSessionMessage;
 import org.eclipse.emf.cdo.spi.common.branch.InternalCDOBranch;
@@ -202,6 +203,56 @@ public interface InternalSession extends ISession, CDOIDProvider, CDOPermissionP
    */
   public void sendRemoteMessageNotification(InternalSession sender, InternalTopic topic, CDORemoteSessionMessage message) throws Exception;
 
+  /**
+   * Queues a remote session notification for asynchronous delivery to this session.
+   * <p>
+   * The default implementation delivers the notification synchronously.
+   *
+   * @since 4.21
+   */
+  public default void queueRemoteSessionNotification(InternalSession sender, InternalTopic topic, byte opcode)
+  {
+    try
+    {
+      sendRemoteSessionNotification(sender, topic, opcode);
+    }
+    catch (Exception ex)
+    {
+      if (!isClosed())
+      {
+        OM.LOG.warn("A problem occured while notifying session " + this, ex); //$NON-NLS-1$
+      }
+    }
+  }
+
+  /**
+   * Queues a remote message for asynchronous delivery to this session.
+   * <p>
+   * The default implementation delivers the message synchronously.
+   *
+   * @param encodedMessage the message as written by {@link CDORemoteSessionMessage#write(org.eclipse.net4j.util.io.ExtendedDataOutput) write()},
+   *        shared by all recipients of the message.
+   * @return <code>true</code> if the message is going to be delivered, <code>false</code> if it was dropped.
+   * @since 4.21
+   */
+  public default boolean queueRemoteMessageNotification(InternalSession sender, InternalTopic topic, CDORemoteSessionMessage message, byte[] encodedMessage)
+  {
+    try
+    {
+      sendRemoteMessageNotification(sender, topic, message);
+      return true;
+    }
+    catch (Exception ex)
+    {
+      if (!isClosed())
+      {
+        OM.LOG.warn("A problem occured while notifying session " + this, ex); //$NON-NLS-1$
+      }
+
+      return false;
+    }
+  }
+
   /**
    * @since 4.1
    */
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests.db;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranch;
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.server.StoreThreadLocal;
+import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
+import org.eclipse.emf.cdo.server.internal.db.ChangeIndexTable;
+import org.eclipse.emf.cdo.server.internal.db.DBStore;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.spi.common.commit.CDOChangeSetSegment;
+import org.eclipse.emf.cdo.tests.AbstractCDOTest;
+import org.eclipse.emf.cdo.tests.config.IRepositoryConfig;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.Requires;
+import org.eclipse.emf.cdo.tests.model1.Company;
+import org.eclipse.emf.cdo.transaction.CDOTransaction;
+import org.eclipse.emf.cdo.util.CDOUtil;
+
+import org.eclipse.net4j.util.om.monitor.Monitor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * @author Eike Stepper
+ */
+@Requires(IRepositoryConfig.CAPABILITY_AUDITING)
+public class ChangeIndexTest extends AbstractCDOTest
+{
+  public void testReadChangeSet() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath("/res"));
+
+    Company company1 = getModel1Factory().createCompany();
+    Company company2 = getModel1Factory().createCompany();
+    resource.getContents().add(company1);
+    resource.getContents().add(company2);
+    long time1 = transaction.commit().getTimeStamp();
+
+    CDOID resourceID = resource.cdoID();
+    CDOID id1 = CDOUtil.getCDOObject(company1).cdoID();
+    CDOID id2 = CDOUtil.getCDOObject(company2).cdoID();
+
+    company1.setName("Changed");
+    long time2 = transaction.commit().getTimeStamp();
+
+    resource.getContents().remove(company2);
+    long time3 = transaction.commit().getTimeStamp();
+
+    DBStore store = (DBStore)getRepository().getStore();
+    ChangeIndexTable changeIndexTable = store.getChangeIndexTable();
+    assertNotNull(changeIndexTable);
+
+    CDOBranch branch = transaction.getBranch();
+    assertEquals(true, readChangeSet(store, new CDOChangeSetSegment(branch, time1, time1)).containsAll(set(resourceID, id1, id2)));
+    assertEquals(set(id1), readChangeSet(store, new CDOChangeSetSegment(branch, time2, time2)));
+    assertEquals(set(resourceID, id2), readChangeSet(store, new CDOChangeSetSegment(branch, time3, time3)));
+    assertEquals(set(id1, resourceID, id2), readChangeSet(store, new CDOChangeSetSegment(branch, time2, time3)));
+    assertEquals(set(resourceID, id2), readChangeSet(store, new CDOChangeSetSegment(branch, time3, CDOBranchPoint.UNSPECIFIED_DATE)));
+
+    long startTime = changeIndexTable.getStartTime();
+
+    try
+    {
+      // Segments that start before the index are read from the class tables, which can return more IDs.
+      changeIndexTable.setStartTime(time3);
+
+      Set<CDOID> ids = readChangeSet(store, new CDOChangeSetSegment(branch, time2, time2));
+      assertEquals(true, ids.contains(id1));
+    }
+    finally
+    {
+      changeIndexTable.setStartTime(startTime);
+    }
+  }
+
+  @Requires(IRepositoryConfig.CAPABILITY_RESTARTABLE)
+  public void testDisabledAndReenabled() throws Exception
+  {
+    getTestProperties().put(DBConfig.PROP_TEST_CHANGE_INDEX, Boolean.FALSE);
+    DBStore store = (DBStore)restartRepository().getStore();
+    assertNull(store.getChangeIndexTable());
+
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath("/res"));
+
+    Company company = getModel1Factory().createCompany();
+    resource.getContents().add(company);
+    long time = transaction.commit().getTimeStamp();
+    CDOID id = CDOUtil.getCDOObject(company).cdoID();
+    session.close();
+
+    getTestProperties().put(DBConfig.PROP_TEST_CHANGE_INDEX, Boolean.TRUE);
+    store = (DBStore)restartRepository().getStore();
+
+    // The commit without the index must not be covered by it.
+    ChangeIndexTable changeIndexTable = store.getChangeIndexTable();
+    assertNotNull(changeIndexTable);
+    assertEquals(true, changeIndexTable.getStartTime() > time);
+
+    CDOBranch branch = getRepository().getBranchManager().getMainBranch();
+    assertEquals(true, readChangeSet(store, new CDOChangeSetSegment(branch, time, time)).contains(id));
+  }
+
+  private static Set<CDOID> readChangeSet(DBStore store, CDOChangeSetSegment segment)
+  {
+    IDBStoreAccessor accessor = store.getReader(null);
+    StoreThreadLocal.setAccessor(accessor);
+
+    try
+    {
+      return accessor.readChangeSet(new Monitor(), segment);
+    }
+    finally
+    {
+      StoreThreadLocal.release();
+    }
+  }
+
+  private static Set<CDOID> set(CDOID... ids)
+  {
+    Set<CDOID> set = new HashSet<>();
+    for (CDOID id : ids)
+    {
+      set.add(id);
+    }
+
+    return set;
+  }
+}
@@ -13,6 +13,7 @@ package org.eclipse.emf.cdo.tests.db;
 import org.eclipse.emf.cdo.common.CDOCommonRepository.IDGenerationLocation;
 import org.eclipse.emf.cdo.server.IStore;
 import org.eclipse.emf.cdo.server.db.CDODBUtil;
+import org.eclipse.emf.cdo.server.db.IDBStore;
 import org.eclipse.emf.cdo.server.db.mapping.IMappingStrategy;
 import org.eclipse.emf.cdo.server.db.mapping.ITypeMapping;
 import org.eclipse.emf.cdo.server.internal.db.mapping.TypeMappingRegistry;
@@ -43,6 +44,8 @@ public abstract class DBConfig extends RepositoryConfig
 
   public static final String PROP_TEST_MAPPING_STRATEGY = "test.repository.MappingStrategy";
 
+  public static final String PROP_TEST_CHANGE_INDEX = "test.repository.ChangeIndex";
+
   private static final long serialVersionUID = 1L;
 
   private boolean withRanges;
@@ -196,6 +199,13 @@ public abstract class DBConfig extends RepositoryConfig
   {
     Map<String, String> props = new HashMap<>();
     // props.put(IDBStore.Props.ID_COLUMN_LENGTH, "66");
+
+    Object changeIndex = getTestProperty(PROP_TEST_CHANGE_INDEX);
+    if (changeIndex != null)
+    {
+      props.put(IDBStore.Props.CHANGE_INDEX, changeIndex.toString());
+    }
+
     return props;
   }
 
@@ -49,6 +49,8 @@ public abstract class DBConfigs extends AllConfigs
     testClasses.add(DBStoreTest.class);
     testClasses.add(CustomTypeMappingTest.class);
     testClasses.add(SQLQueryTest.class);
+    testClasses.add(ObjectTypeCacheTest.class);
+    testClasses.add(ChangeIndexTest.class);
 
     super.initTestClasses(testClasses, scenario);
     testClasses.remove(MEMStoreQueryTest.class);
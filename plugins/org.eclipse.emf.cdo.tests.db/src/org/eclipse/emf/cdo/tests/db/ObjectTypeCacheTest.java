@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests.db;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
+import org.eclipse.emf.cdo.common.model.CDOClassifierRef;
+import org.eclipse.emf.cdo.common.protocol.CDODataInput;
+import org.eclipse.emf.cdo.common.protocol.CDODataOutput;
+import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.server.db.IDBStoreAccessor;
+import org.eclipse.emf.cdo.server.db.IIDHandler;
+import org.eclipse.emf.cdo.server.db.mapping.IMappingStrategy;
+import org.eclipse.emf.cdo.server.internal.db.DBStore;
+import org.eclipse.emf.cdo.server.internal.db.IObjectTypeMapper;
+import org.eclipse.emf.cdo.server.internal.db.mapping.horizontal.HorizontalMappingStrategy;
+import org.eclipse.emf.cdo.server.internal.db.mapping.horizontal.ObjectTypeCache;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.tests.AbstractCDOTest;
+import org.eclipse.emf.cdo.transaction.CDOTransaction;
+
+import org.eclipse.net4j.util.om.monitor.OMMonitor;
+
+import org.eclipse.emf.ecore.EClass;
+
+import java.sql.Connection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author Eike Stepper
+ */
+public class ObjectTypeCacheTest extends AbstractCDOTest
+{
+  private static final int CAPACITY = 100;
+
+  public void testEviction() throws Exception
+  {
+    EClass eClass = commitCompany();
+    ObjectTypeCache cache = createCache();
+
+    try
+    {
+      CDOID hotID = CDOIDUtil.createLong(1);
+      for (int i = 1; i <= 10 * CAPACITY; i++)
+      {
+        assertEquals(true, cache.putObjectType(null, CDOBranchPoint.UNSPECIFIED_DATE, CDOIDUtil.createLong(i), eClass));
+        assertNotNull(cache.getObjectType(null, hotID));
+      }
+
+      assertEquals(true, cache.getSize() <= CAPACITY);
+      assertEquals(true, cache.getEvictionCount() >= 9 * CAPACITY);
+      assertEquals(10 * CAPACITY, cache.getHitCount());
+      assertEquals(0, cache.getMissCount());
+
+      CDOClassifierRef classifierRef = cache.getObjectType(null, hotID);
+      assertEquals(eClass.getName(), classifierRef.getClassifierName());
+
+      // The delegate doesn't know any object types.
+      assertNull(cache.getObjectType(null, CDOIDUtil.createLong(2)));
+      assertEquals(1, cache.getMissCount());
+    }
+    finally
+    {
+      cache.deactivate();
+    }
+  }
+
+  public void testConcurrentAccess() throws Exception
+  {
+    final EClass eClass = commitCompany();
+    final ObjectTypeCache cache = createCache();
+    final int threads = 8;
+    final int ids = 10 * CAPACITY;
+
+    try
+    {
+      final AtomicReference<Throwable> exception = new AtomicReference<>();
+      final CountDownLatch latch = new CountDownLatch(threads);
+
+      for (int t = 0; t < threads; t++)
+      {
+        final int offset = t * ids;
+        Thread thread = new Thread("ObjectTypeCacheTest-" + t)
+        {
+          @Override
+          public void run()
+          {
+            try
+            {
+              for (int i = 1; i <= ids; i++)
+              {
+                CDOID id = CDOIDUtil.createLong(offset + i);
+                cache.putObjectType(null, CDOBranchPoint.UNSPECIFIED_DATE, id, eClass);
+                cache.getObjectType(null, id);
+              }
+            }
+            catch (Throwable ex)
+            {
+              exception.compareAndSet(null, ex);
+            }
+            finally
+            {
+              latch.countDown();
+            }
+          }
+        };
+
+        thread.start();
+      }
+
+      await(latch);
+
+      if (exception.get() != null)
+      {
+        throw new AssertionError(exception.get());
+      }
+
+      assertEquals(threads * ids, cache.getHitCount() + cache.getMissCount());
+      assertEquals(threads * ids, cache.getSize() + cache.getEvictionCount());
+    }
+    finally
+    {
+      cache.deactivate();
+    }
+  }
+
+  private EClass commitCompany() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath("res"));
+    resource.getContents().add(getModel1Factory().createCompany());
+    transaction.commit();
+    session.close();
+
+    return getModel1Package().getCompany();
+  }
+
+  private ObjectTypeCache createCache()
+  {
+    IMappingStrategy mappingStrategy = ((DBStore)getRepository().getStore()).getMappingStrategy();
+    if (mappingStrategy instanceof HorizontalMappingStrategy)
+    {
+      mappingStrategy = ((HorizontalMappingStrategy)mappingStrategy).getDelegate();
+    }
+
+    ObjectTypeCache cache = new ObjectTypeCache(CAPACITY);
+    cache.setMappingStrategy(mappingStrategy);
+    cache.setDelegate(new NullObjectTypeMapper());
+    cache.activate();
+    return cache;
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static final class NullObjectTypeMapper implements IObjectTypeMapper
+  {
+    @Override
+    public CDOClassifierRef getObjectType(IDBStoreAccessor accessor, CDOID id)
+    {
+      return null;
+    }
+
+    @Override
+    public boolean putObjectType(IDBStoreAccessor accessor, long timeStamp, CDOID id, EClass type)
+    {
+      return true;
+    }
+
+    @Override
+    public boolean removeObjectType(IDBStoreAccessor accessor, CDOID id)
+    {
+      return true;
+    }
+
+    @Override
+    public CDOID getMaxID(Connection connection, IIDHandler idHandler)
+    {
+      return null;
+    }
+
+    @Override
+    public void rawExport(Connection connection, CDODataOutput out, long fromCommitTime, long toCommitTime)
+    {
+    }
+
+    @Override
+    public void rawImport(Connection connection, CDODataInput in, OMMonitor monitor)
+    {
+    }
+  }
+}
@@ -23,6 +23,7 @@ public class IntegrationTestsSuiteLM
     TestSuite suite = new TestSuite("Lifecycle Management Tests");
     suite.addTest(new TestSuite(LMFlowsTest.class));
     suite.addTest(new TestSuite(LMVersionEvolutionTest.class));
+    suite.addTest(new TestSuite(LMResolutionTest.class));
     return suite;
   }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests.lm;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranchPointRef;
+import org.eclipse.emf.cdo.explorer.repositories.CDORepository;
+import org.eclipse.emf.cdo.lm.Change;
+import org.eclipse.emf.cdo.lm.Stream;
+import org.eclipse.emf.cdo.lm.System;
+import org.eclipse.emf.cdo.lm.assembly.Assembly;
+import org.eclipse.emf.cdo.lm.assembly.AssemblyModule;
+import org.eclipse.emf.cdo.lm.client.IAssemblyDescriptor;
+import org.eclipse.emf.cdo.lm.client.ISystemDescriptor;
+import org.eclipse.emf.cdo.lm.internal.client.SystemDescriptor;
+import org.eclipse.emf.cdo.lm.modules.ModuleDefinition;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.view.CDOView;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * Tests the resolution cache of the {@link SystemDescriptor system descriptor} and the concurrent acquisition of the
+ * module sessions of an assembly.
+ *
+ * @author Eike Stepper
+ */
+public class LMResolutionTest extends AbstractLMTest
+{
+  private static final String INITIAL_STREAM = "InitialStream";
+
+  private static final String CLIENT_MODULE = "ClientModule";
+
+  private static final String SUPPLIER_MODULE_1 = "SupplierModule1";
+
+  private static final String SUPPLIER_MODULE_2 = "SupplierModule2";
+
+  private static final String SUPPLIER_RESOURCE = "SupplierResource";
+
+  public void testResolutionCache() throws Exception
+  {
+    ISystemDescriptor systemDescriptor = createSystemRepository();
+    System system = systemDescriptor.getSystem();
+
+    Stream supplierStream = createSupplier(systemDescriptor, system, SUPPLIER_MODULE_1);
+    ModuleCreationResult client = createModule(systemDescriptor, system, CLIENT_MODULE, INITIAL_STREAM, 0, 1);
+    createDependencyAndUpdate(client.assemblyDescriptor, SUPPLIER_MODULE_1);
+
+    SystemDescriptor descriptor = (SystemDescriptor)systemDescriptor;
+    ModuleDefinition clientDefinition = systemDescriptor.extractModuleDefinition(client.stream);
+
+    Assembly assembly1 = systemDescriptor.resolve(clientDefinition, client.stream, monitor());
+    int resolutions = descriptor.getResolutionCount();
+
+    // Resolving the same definition again is served from the cache.
+    Assembly assembly2 = systemDescriptor.resolve(clientDefinition, client.stream, monitor());
+    assertThat(descriptor.getResolutionCount(), is(resolutions));
+    assertThat(getBranchPoint(assembly2, SUPPLIER_MODULE_1), is(getBranchPoint(assembly1, SUPPLIER_MODULE_1)));
+
+    // A commit to the system repository invalidates the cache.
+    long timeStamp = publishTag(systemDescriptor, system, supplierStream, "Tag1");
+    waitForUpdates(client.assemblyDescriptor);
+
+    Assembly assembly3 = systemDescriptor.resolve(clientDefinition, client.stream, monitor());
+    assertThat(descriptor.getResolutionCount(), is(resolutions + 1));
+    assertThat(getBranchPoint(assembly3, SUPPLIER_MODULE_1).getTimeStamp(), is(timeStamp));
+  }
+
+  public void testConcurrentSessionAcquisition() throws Exception
+  {
+    ISystemDescriptor systemDescriptor = createSystemRepository();
+    System system = systemDescriptor.getSystem();
+
+    createSupplier(systemDescriptor, system, SUPPLIER_MODULE_1);
+    createSupplier(systemDescriptor, system, SUPPLIER_MODULE_2);
+
+    ModuleCreationResult client = createModule(systemDescriptor, system, CLIENT_MODULE, INITIAL_STREAM, 0, 1);
+    IAssemblyDescriptor clientStreamDescriptor = client.assemblyDescriptor;
+    createDependency(clientStreamDescriptor, SUPPLIER_MODULE_1, null);
+    createDependency(clientStreamDescriptor, SUPPLIER_MODULE_2, null);
+    updateAssemblyDescriptor(clientStreamDescriptor);
+
+    CDORepository clientRepository = systemDescriptor.getModuleRepository(CLIENT_MODULE);
+    CDOSession clientSession = clientRepository.acquireSession();
+
+    try
+    {
+      for (int i = 0; i < 5; i++)
+      {
+        CDOView primaryView = clientSession.openView();
+
+        // The sessions of both suppliers are acquired concurrently.
+        Map<String, CDOView> moduleViews = systemDescriptor.configureModuleResourceSet(primaryView);
+        assertThat(moduleViews.keySet(), is(new HashSet<>(Arrays.asList(SUPPLIER_MODULE_1, SUPPLIER_MODULE_2))));
+
+        for (CDOView moduleView : moduleViews.values())
+        {
+          assertThat(moduleView.isClosed(), is(false));
+          assertThat(moduleView.getSession().isClosed(), is(false));
+          assertThat(moduleView.getResourceSet(), is(primaryView.getResourceSet()));
+        }
+
+        primaryView.close();
+
+        for (CDOView moduleView : moduleViews.values())
+        {
+          assertThat(moduleView.isClosed(), is(true));
+        }
+      }
+    }
+    finally
+    {
+      clientRepository.releaseSession();
+    }
+  }
+
+  private Stream createSupplier(ISystemDescriptor systemDescriptor, System system, String moduleName) throws Exception
+  {
+    ModuleCreationResult supplier = createModule(systemDescriptor, system, moduleName, INITIAL_STREAM, 0, 1);
+    Stream stream = supplier.stream;
+
+    Change change = createChange(systemDescriptor, stream, "Change1", moduleName + " - Change1", transaction -> {
+      transaction.createResource(SUPPLIER_RESOURCE);
+    });
+
+    deliverChange(systemDescriptor, stream, change);
+    return stream;
+  }
+
+  private static CDOBranchPointRef getBranchPoint(Assembly assembly, String moduleName)
+  {
+    for (AssemblyModule module : assembly.getModules())
+    {
+      if (module.getName().equals(moduleName))
+      {
+        CDOBranchPointRef branchPoint = module.getBranchPoint();
+        assertThat(branchPoint, notNullValue());
+        return branchPoint;
+      }
+    }
+
+    fail("Module not resolved: " + moduleName);
+    return null;
+  }
+}
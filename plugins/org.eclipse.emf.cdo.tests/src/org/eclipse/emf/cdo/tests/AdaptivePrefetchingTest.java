@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests;
+
+import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.internal.net4j.protocol.LoadRevisionsRequest;
+import org.eclipse.emf.cdo.internal.server.AccessPatternProfiler;
+import org.eclipse.emf.cdo.internal.server.Repository;
+import org.eclipse.emf.cdo.net4j.CDONet4jSession;
+import org.eclipse.emf.cdo.server.IRepository.Props;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.tests.config.ISessionConfig;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.CleanRepositoriesAfter;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.CleanRepositoriesBefore;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.Requires;
+import org.eclipse.emf.cdo.tests.model1.Category;
+import org.eclipse.emf.cdo.tests.model1.Company;
+import org.eclipse.emf.cdo.transaction.CDOTransaction;
+import org.eclipse.emf.cdo.view.CDOView;
+
+import org.eclipse.net4j.signal.SignalCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Eike Stepper
+ */
+@Requires(ISessionConfig.CAPABILITY_NET4J)
+@CleanRepositoriesBefore(reason = "Access pattern profiling")
+@CleanRepositoriesAfter(reason = "Access pattern profiling")
+public class AdaptivePrefetchingTest extends AbstractCDOTest
+{
+  private static final int COMPANIES = 10;
+
+  private static final int CATEGORIES = 3;
+
+  @Override
+  protected void doSetUp() throws Exception
+  {
+    Map<String, Object> map = getTestProperties();
+    map.put(Props.ADAPTIVE_PREFETCHING, "true");
+
+    super.doSetUp();
+  }
+
+  public void testPrefetchTraversedReferences() throws Exception
+  {
+    AccessPatternProfiler profiler = ((Repository)getRepository()).getAccessPatternProfiler();
+    profiler.setMinLoads(COMPANIES);
+
+    createCompanies();
+    assertTrue(profiler.getFetchRules().isEmpty());
+
+    CDOSession session1 = openSession();
+    readCategories(readCompanies(session1.openView()));
+    session1.close();
+
+    assertTrue(profiler.getFetchRules().containsKey(getModel1Package().getCompany()));
+
+    CDOSession session2 = openSession();
+    List<Company> companies = readCompanies(session2.openView());
+
+    SignalCounter signalCounter = new SignalCounter(((CDONet4jSession)session2).options().getNet4jProtocol());
+    readCategories(companies);
+    assertEquals(0, signalCounter.getCountFor(LoadRevisionsRequest.class));
+    signalCounter.dispose();
+  }
+
+  public void testNoPrefetchWithoutTraversals() throws Exception
+  {
+    AccessPatternProfiler profiler = ((Repository)getRepository()).getAccessPatternProfiler();
+    profiler.setMinLoads(COMPANIES);
+
+    createCompanies();
+
+    CDOSession session = openSession();
+    readCompanies(session.openView());
+    session.close();
+
+    assertTrue(profiler.getFetchRules().isEmpty());
+  }
+
+  private void createCompanies() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath("res"));
+
+    for (int i = 0; i < COMPANIES; i++)
+    {
+      Company company = getModel1Factory().createCompany();
+      company.setName("company" + i);
+
+      for (int j = 0; j < CATEGORIES; j++)
+      {
+        Category category = getModel1Factory().createCategory();
+        category.setName("category" + i + "." + j);
+        company.getCategories().add(category);
+      }
+
+      resource.getContents().add(company);
+    }
+
+    transaction.commit();
+    session.close();
+  }
+
+  private List<Company> readCompanies(CDOView view)
+  {
+    List<Company> companies = new ArrayList<>();
+    for (Object object : view.getResource(getResourcePath("res")).getContents())
+    {
+      Company company = (Company)object;
+      assertNotNull(company.getName());
+      companies.add(company);
+    }
+
+    return companies;
+  }
+
+  private void readCategories(List<Company> companies)
+  {
+    for (Company company : companies)
+    {
+      for (Category category : company.getCategories())
+      {
+        assertNotNull(category.getName());
+      }
+    }
+  }
+}
@@ -41,16 +41,20 @@ public class AllConfigs extends ConfigTestSuite
   {
     // testClasses.add(ConflictResolverExtendedTest.class);
     // testClasses.add(CommitPerformanceTest.class);
+    // testClasses.add(TimeStampAuthorityPerformanceTest.class);
     // testClasses.add(BigModelTest.class);
 
     // General
     testClasses.add(AdapterManagerTest.class);
+    testClasses.add(AdaptivePrefetchingTest.class);
     testClasses.add(AttributeTest.class);
     testClasses.add(AuditEMapTest.class);
     testClasses.add(AuditSameSessionTest.class);
     testClasses.add(AuditTest.class);
     testClasses.add(AutoAttacherTest.class);
     testClasses.add(BackupBinaryTest.class);
+    testClasses.add(BackupBulkLoadTest.class);
+    testClasses.add(BackupParallelBinaryTest.class);
     testClasses.add(BackupTest.class);
     testClasses.add(BranchingSameSessionTest.class);
     testClasses.add(BranchingTest.class);
@@ -95,12 +99,15 @@ public class AllConfigs extends ConfigTestSuite
     testClasses.add(OCLQueryTest.class);
     testClasses.add(PackageRegistryTest.class);
     testClasses.add(PartialCommitTest.class);
+    testClasses.add(PersistentRevisionCacheTest.class);
     testClasses.add(PushTransactionTest.class);
     testClasses.add(PushTransactionWithoutReconstructSavepointsTest.class);
     testClasses.add(ReconnectingSessionTest.class);
+    testClasses.add(RemoteNotificationQueueTest.class);
     testClasses.add(RepositoryTest.class);
     testClasses.add(ResourceModificationTrackingTest.class);
     testClasses.add(ResourceTest.class);
+    testClasses.add(RevisionBatchTest.class);
     testClasses.add(RevisionDeltaCascadingBranchesTest.class);
     testClasses.add(RevisionDeltaInBranchTest.class);
     testClasses.add(RevisionDeltaTest.class);
@@ -109,6 +116,7 @@ public class AllConfigs extends ConfigTestSuite
     testClasses.add(RollbackTest.class);
     testClasses.add(SavePointTest.class);
     testClasses.add(SecurityTest.class);
+    testClasses.add(SecurityDecisionCacheTest.class);
     testClasses.add(SessionTest.class);
     testClasses.add(SetFeatureTest.class);
     testClasses.add(StateMachineTest.class);
@@ -119,6 +127,7 @@ public class AllConfigs extends ConfigTestSuite
     testClasses.add(ViewProviderTest.class);
     testClasses.add(ViewTest.class);
     testClasses.add(WorkspaceTest.class);
+    testClasses.add(WorkspaceLogBaseTest.class);
     testClasses.add(XATransactionTest.class);
     testClasses.add(XRefTest.class);
 
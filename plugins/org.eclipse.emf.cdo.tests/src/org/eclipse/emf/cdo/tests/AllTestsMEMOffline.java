@@ -17,6 +17,7 @@ import org.eclipse.emf.cdo.tests.offline.OfflineDelayed2Test;
 import org.eclipse.emf.cdo.tests.offline.OfflineLockReplicationTest;
 import org.eclipse.emf.cdo.tests.offline.OfflineLockingTest;
 import org.eclipse.emf.cdo.tests.offline.OfflineTest;
+import org.eclipse.emf.cdo.tests.offline.RoutingSessionTest;
 
 import java.util.List;
 
@@ -47,6 +48,7 @@ public class AllTestsMEMOffline extends AllConfigs
     testClasses.add(OfflineTest.class);
     testClasses.add(OfflineDelayed2Test.class);
     testClasses.add(FailoverTest.class);
+    testClasses.add(RoutingSessionTest.class);
 
     // MEM does not support raw replication
     // testClasses.add(OfflineRawTest.class);
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests;
+
+import org.eclipse.emf.cdo.server.CDOServerImporter;
+import org.eclipse.emf.cdo.spi.server.InternalRepository;
+
+/**
+ * @author Eike Stepper
+ */
+public class BackupBulkLoadTest extends BackupParallelBinaryTest
+{
+  @Override
+  protected CDOServerImporter createImporter(InternalRepository repo2)
+  {
+    CDOServerImporter importer = super.createImporter(repo2);
+    importer.setBulkLoad(true);
+    return importer;
+  }
+}
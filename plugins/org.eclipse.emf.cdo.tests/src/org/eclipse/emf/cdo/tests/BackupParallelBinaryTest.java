@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests;
+
+import org.eclipse.emf.cdo.server.CDOServerExporter;
+import org.eclipse.emf.cdo.server.CDOServerImporter;
+import org.eclipse.emf.cdo.spi.server.InternalRepository;
+
+import java.io.File;
+
+/**
+ * @author Eike Stepper
+ */
+public class BackupParallelBinaryTest extends BackupTest
+{
+  private File folder;
+
+  @Override
+  protected void doSetUp() throws Exception
+  {
+    super.doSetUp();
+    folder = createTempFolder("partitions_");
+  }
+
+  @Override
+  protected CDOServerExporter<?> createExporter(InternalRepository repo1)
+  {
+    CDOServerExporter.ParallelBinary exporter = new CDOServerExporter.ParallelBinary(repo1, folder);
+    exporter.setCompressed(true);
+    return exporter;
+  }
+
+  @Override
+  protected CDOServerImporter createImporter(InternalRepository repo2)
+  {
+    return new CDOServerImporter.ParallelBinary(repo2, folder);
+  }
+}
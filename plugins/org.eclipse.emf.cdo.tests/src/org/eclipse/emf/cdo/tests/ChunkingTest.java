@@ -12,8 +12,11 @@
 package org.eclipse.emf.cdo.tests;
 
 import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.internal.net4j.protocol.LoadChunkRequest;
+import org.eclipse.emf.cdo.net4j.CDONet4jSession;
 import org.eclipse.emf.cdo.session.CDOSession;
 import org.eclipse.emf.cdo.tests.config.IRepositoryConfig;
+import org.eclipse.emf.cdo.tests.config.ISessionConfig;
 import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.Requires;
 import org.eclipse.emf.cdo.tests.model1.Category;
 import org.eclipse.emf.cdo.tests.model1.Company;
@@ -27,6 +30,7 @@ import org.eclipse.emf.cdo.util.CDOUtil;
 import org.eclipse.emf.cdo.util.CommitException;
 import org.eclipse.emf.cdo.view.CDOView;
 
+import org.eclipse.net4j.signal.SignalCounter;
 import org.eclipse.net4j.util.io.IOUtil;
 
 import org.eclipse.emf.common.util.EList;
@@ -412,6 +416,54 @@ public class ChunkingTest extends AbstractCDOTest
     return category;
   }
 
+  @Requires(ISessionConfig.CAPABILITY_NET4J)
+  public void testReadAhead() throws Exception
+  {
+    {
+      CDOSession session = openSession();
+      CDOTransaction transaction = session.openTransaction();
+      CDOResource resource = transaction.createResource(getResourcePath("/test1"));
+
+      Customer customer = getModel1Factory().createCustomer();
+      customer.setName("customer");
+      resource.getContents().add(customer);
+
+      for (int i = 0; i < 500; i++)
+      {
+        SalesOrder salesOrder = getModel1Factory().createSalesOrder();
+        salesOrder.setId(i);
+        salesOrder.setCustomer(customer);
+        resource.getContents().add(salesOrder);
+      }
+
+      transaction.commit();
+      session.close();
+    }
+
+    clearCache(getRepository().getRevisionManager());
+
+    CDONet4jSession session = (CDONet4jSession)openSession();
+    session.options().setCollectionLoadingPolicy(CDOUtil.createCollectionLoadingPolicy(10, 10, 4));
+    SignalCounter counter = new SignalCounter(session.options().getNet4jProtocol());
+
+    CDOView view = session.openView();
+    CDOResource resource = view.getResource(getResourcePath("/test1"));
+    Customer customer = (Customer)resource.getContents().get(0);
+
+    int i = 0;
+    for (SalesOrder salesOrder : customer.getSalesOrders())
+    {
+      assertEquals(i++, salesOrder.getId());
+    }
+
+    assertEquals(500, i);
+
+    // Without read-ahead every chunk of 10 elements would be loaded with a separate request.
+    int requests = counter.getCountFor(LoadChunkRequest.class);
+    assertEquals("Load chunk requests: " + requests, true, requests < 500 / 10 / 2);
+    counter.dispose();
+  }
+
   /**
    * Bug 502932.
    */
@@ -10,8 +10,11 @@
  */
 package org.eclipse.emf.cdo.tests;
 
+import org.eclipse.emf.cdo.common.branch.CDOBranch;
 import org.eclipse.emf.cdo.eresource.CDOResource;
 import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.tests.config.IRepositoryConfig;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.Requires;
 import org.eclipse.emf.cdo.tests.model1.Address;
 import org.eclipse.emf.cdo.tests.model1.Category;
 import org.eclipse.emf.cdo.tests.model1.Company;
@@ -26,6 +29,7 @@ import org.eclipse.emf.cdo.tests.model2.TransientContainer;
 import org.eclipse.emf.cdo.transaction.CDOTransaction;
 import org.eclipse.emf.cdo.util.CDOUtil;
 import org.eclipse.emf.cdo.util.CommitException;
+import org.eclipse.emf.cdo.util.ContainmentCycleException;
 import org.eclipse.emf.cdo.util.DanglingReferenceException;
 
 import org.eclipse.emf.common.util.EList;
@@ -43,6 +47,14 @@ import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author Eike Stepper
  */
@@ -638,4 +650,139 @@ public class ContainmentTest extends AbstractCDOTest
     category1.getCategories().add(category2);
     assertEquals("The id of the object changed while it should not", originalID, resource.getURIFragment(category2));
   }
+
+  /**
+   * Tree-restructuring commits are serialized per branch. Conflicting tree moves that are committed concurrently on
+   * several branches must still be detected as containment cycles on each of them.
+   */
+  @Requires(IRepositoryConfig.CAPABILITY_BRANCHING)
+  public void testContainmentCycleOnParallelBranches() throws Exception
+  {
+    int branchCount = 4;
+
+    // R
+    // +-- A
+    // |   +-- B
+    // |       +-- C
+    // +-- D
+    //     +-- E
+    Company company = getModel1Factory().createCompany();
+    company.setName("R");
+
+    Category a = createCategory(company.getCategories(), "A");
+    Category b = createCategory(a.getCategories(), "B");
+    createCategory(b.getCategories(), "C");
+    Category d = createCategory(company.getCategories(), "D");
+    createCategory(d.getCategories(), "E");
+
+    CDOSession session1 = openSession();
+    CDOTransaction transaction = session1.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath("res"));
+    resource.getContents().add(company);
+    transaction.commit();
+    transaction.close();
+
+    CDOBranch mainBranch = session1.getBranchManager().getMainBranch();
+    long baseTimeStamp = session1.getLastUpdateTime();
+
+    CDOSession session2 = openSession();
+    session2.options().setPassiveUpdateEnabled(false);
+
+    List<CDOTransaction> transactions1 = new ArrayList<>();
+    List<CDOTransaction> transactions2 = new ArrayList<>();
+
+    for (int i = 0; i < branchCount; i++)
+    {
+      CDOBranch branch = mainBranch.createBranch("branch" + i, baseTimeStamp);
+
+      // Both transactions load the tree before either of them commits.
+      CDOTransaction transaction1 = session1.openTransaction(branch);
+      CDOTransaction transaction2 = session2.openTransaction(session2.getBranchManager().getBranch(branch.getID()));
+      loadTree(transaction1);
+      loadTree(transaction2);
+
+      transactions1.add(transaction1);
+      transactions2.add(transaction2);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(branchCount);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Boolean>> futures = new ArrayList<>();
+
+    try
+    {
+      for (int i = 0; i < branchCount; i++)
+      {
+        CDOTransaction transaction1 = transactions1.get(i);
+        CDOTransaction transaction2 = transactions2.get(i);
+
+        futures.add(executor.submit(() -> {
+          await(start);
+
+          // First tree move: B from A to E.
+          Company r1 = getCompany(transaction1);
+          Category e1 = r1.getCategories().get(1).getCategories().get(0);
+          e1.getCategories().add(r1.getCategories().get(0).getCategories().get(0));
+          transaction1.commit();
+
+          // Second tree move: D from R to C, which is now below D.
+          Company r2 = getCompany(transaction2);
+          Category c2 = r2.getCategories().get(0).getCategories().get(0).getCategories().get(0);
+          c2.getCategories().add(r2.getCategories().get(1));
+
+          try
+          {
+            transaction2.commit();
+            return false;
+          }
+          catch (ContainmentCycleException expected)
+          {
+            return true;
+          }
+        }));
+      }
+
+      start.countDown();
+
+      for (Future<Boolean> future : futures)
+      {
+        assertEquals("ContainmentCycleException expected", true, (boolean)future.get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+      }
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+
+  private Category createCategory(EList<Category> categories, String name)
+  {
+    Category category = getModel1Factory().createCategory();
+    category.setName(name);
+    categories.add(category);
+    return category;
+  }
+
+  private Company getCompany(CDOTransaction transaction)
+  {
+    CDOResource resource = transaction.getResource(getResourcePath("res"));
+    return (Company)resource.getContents().get(0);
+  }
+
+  private void loadTree(CDOTransaction transaction)
+  {
+    Company company = getCompany(transaction);
+    for (Category category : company.getCategories())
+    {
+      loadCategories(category);
+    }
+  }
+
+  private void loadCategories(Category category)
+  {
+    for (Category child : category.getCategories())
+    {
+      loadCategories(child);
+    }
+  }
 }
@@ -854,6 +854,59 @@ public class MergingTest extends AbstractCDOTest
     transaction.commit();
   }
 
+  public void testParallelMerge() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOBranch mainBranch = session.getBranchManager().getMainBranch();
+    CDOTransaction transaction = session.openTransaction(mainBranch);
+
+    CDOResource resource = transaction.createResource(getResourcePath("/res"));
+    EList<EObject> contents = resource.getContents();
+    for (int i = 0; i < 50; i++)
+    {
+      addCompany(contents);
+    }
+
+    long time = transaction.commit().getTimeStamp();
+    CDOBranch source = mainBranch.createBranch(getBranchName("source"), time);
+
+    sleep(10);
+    CDOTransaction tx1 = session.openTransaction(source);
+    EList<EObject> contents1 = tx1.getResource(getResourcePath("/res")).getContents();
+    for (int i = 0; i < 50; i += 2)
+    {
+      ((Company)contents1.get(i)).setName("Company" + i);
+    }
+
+    commitAndSync(tx1, transaction);
+    tx1.close();
+
+    for (int i = 0; i < 50; i += 3)
+    {
+      ((Company)contents.get(i)).setCity("City" + i);
+    }
+
+    transaction.commit();
+
+    DefaultCDOMerger merger = new DefaultCDOMerger.PerFeature.ManyValued();
+    merger.setParallelism(4);
+    merger.setPartitionSize(8);
+
+    CDOChangeSetData result = transaction.merge(source.getHead(), merger);
+    assertEquals(0, result.getNewObjects().size());
+    assertEquals(25, result.getChangedObjects().size());
+    assertEquals(0, result.getDetachedObjects().size());
+
+    for (int i = 0; i < 50; i++)
+    {
+      Company company = (Company)contents.get(i);
+      assertEquals(i % 2 == 0 ? "Company" + i : null, company.getName());
+      assertEquals(i % 3 == 0 ? "City" + i : null, company.getCity());
+    }
+
+    transaction.commit();
+  }
+
   private Company addCompany(EList<EObject> contents)
   {
     Company company = getModel1Factory().createCompany();
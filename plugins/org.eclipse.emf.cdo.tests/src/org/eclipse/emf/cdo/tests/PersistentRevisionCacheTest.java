@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests;
+
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.session.CDOSessionConfiguration;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionCache;
+import org.eclipse.emf.cdo.tests.config.IRepositoryConfig;
+import org.eclipse.emf.cdo.tests.config.ISessionConfig;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.Requires;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.Skips;
+import org.eclipse.emf.cdo.tests.config.impl.SessionConfig;
+import org.eclipse.emf.cdo.tests.model1.Company;
+import org.eclipse.emf.cdo.transaction.CDOTransaction;
+import org.eclipse.emf.cdo.util.CDOUtil;
+import org.eclipse.emf.cdo.view.CDOView;
+
+import org.eclipse.emf.spi.cdo.InternalCDOSession;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Eike Stepper
+ */
+@Requires(ISessionConfig.CAPABILITY_NET4J)
+@Skips(ISessionConfig.CAPABILITY_NET4J_EMBEDDED)
+public class PersistentRevisionCacheTest extends AbstractCDOTest
+{
+  private static final int COMPANIES = 10;
+
+  private File folder;
+
+  @Override
+  protected void doSetUp() throws Exception
+  {
+    super.doSetUp();
+    folder = createTempFolder("revisions_");
+  }
+
+  public void testReadRevisions() throws Exception
+  {
+    List<CDOID> ids = createCompanies();
+    readCompanies(openCachingSession());
+
+    InternalCDOSession session = (InternalCDOSession)openCachingSession();
+    InternalCDORevisionCache cache = session.getRevisionManager().getCache();
+
+    for (CDOID id : ids)
+    {
+      assertNotNull(cache.getRevision(id, session.getBranchManager().getMainBranch().getHead()));
+    }
+
+    session.close();
+  }
+
+  public void testRefreshRevisions() throws Exception
+  {
+    List<CDOID> ids = createCompanies();
+    readCompanies(openCachingSession());
+
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.getResource(getResourcePath("res"));
+
+    Company changed = (Company)transaction.getObject(ids.get(0));
+    changed.setName("changed");
+
+    Company detached = (Company)transaction.getObject(ids.get(1));
+    resource.getContents().remove(detached);
+
+    transaction.commit();
+    session.close();
+
+    InternalCDOSession cachingSession = (InternalCDOSession)openCachingSession();
+    InternalCDORevisionCache cache = cachingSession.getRevisionManager().getCache();
+    assertNull(cache.getRevision(ids.get(1), cachingSession.getBranchManager().getMainBranch().getHead()));
+
+    CDOView view = cachingSession.openView();
+    assertEquals("changed", ((Company)view.getObject(ids.get(0))).getName());
+    assertEquals(COMPANIES - 1, view.getResource(getResourcePath("res")).getContents().size());
+    cachingSession.close();
+  }
+
+  @Requires(IRepositoryConfig.CAPABILITY_RESTARTABLE)
+  public void testRepositoryRestarted() throws Exception
+  {
+    createCompanies();
+    readCompanies(openCachingSession());
+
+    File[] files = folder.listFiles();
+    assertEquals(1, files.length);
+
+    restartRepository();
+
+    CDOSession session = openCachingSession();
+    CDOView view = session.openView();
+    assertEquals(COMPANIES, view.getResource(getResourcePath("res")).getContents().size());
+    session.close();
+  }
+
+  private CDOSession openCachingSession()
+  {
+    SessionConfig sessionConfig = (SessionConfig)getSessionConfig();
+
+    CDOSessionConfiguration configuration = sessionConfig.createSessionConfiguration(IRepositoryConfig.REPOSITORY_NAME);
+    configuration.setRevisionCacheFolder(folder);
+    return sessionConfig.openSession(configuration);
+  }
+
+  private List<CDOID> createCompanies() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath("res"));
+
+    for (int i = 0; i < COMPANIES; i++)
+    {
+      Company company = getModel1Factory().createCompany();
+      company.setName("company" + i);
+      resource.getContents().add(company);
+    }
+
+    transaction.commit();
+
+    List<CDOID> ids = new ArrayList<>();
+    for (Object object : resource.getContents())
+    {
+      ids.add(CDOUtil.getCDOObject((Company)object).cdoID());
+    }
+
+    session.close();
+    return ids;
+  }
+
+  private void readCompanies(CDOSession session)
+  {
+    CDOView view = session.openView();
+    CDOResource resource = view.getResource(getResourcePath("res"));
+    for (Object object : resource.getContents())
+    {
+      assertNotNull(((Company)object).getName());
+    }
+
+    session.close();
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests;
+
+import org.eclipse.emf.cdo.internal.server.RemoteNotificationQueue;
+import org.eclipse.emf.cdo.internal.server.RemoteNotificationQueue.OverflowPolicy;
+import org.eclipse.emf.cdo.internal.server.Session;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.session.remote.CDORemoteSessionEvent;
+import org.eclipse.emf.cdo.session.remote.CDORemoteSessionMessage;
+import org.eclipse.emf.cdo.spi.server.InternalSession;
+import org.eclipse.emf.cdo.spi.server.InternalSessionManager;
+
+import org.eclipse.net4j.util.WrappedException;
+import org.eclipse.net4j.util.event.IListener;
+import org.eclipse.net4j.util.io.ExtendedDataOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Tests the {@link RemoteNotificationQueue queues} that deliver remote messages to the sessions of a repository.
+ *
+ * @author Eike Stepper
+ */
+public class RemoteNotificationQueueTest extends AbstractCDOTest
+{
+  private static final String TYPE = "test.type";
+
+  private static final String OTHER_TYPE = "test.other.type";
+
+  private final List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+  private ManualExecutor executor;
+
+  private InternalSession sender;
+
+  private Session recipient;
+
+  @Override
+  protected void doSetUp() throws Exception
+  {
+    super.doSetUp();
+    received.clear();
+    executor = new ManualExecutor();
+
+    // The sender is opened first, so that the recipient knows it when it subscribes.
+    CDOSession senderSession = openSession();
+
+    CDOSession recipientSession = openSession();
+    recipientSession.getRemoteSessionManager().setForceSubscription(true);
+    recipientSession.getRemoteSessionManager().addListener((IListener)event -> {
+      if (event instanceof CDORemoteSessionEvent.MessageReceived)
+      {
+        CDORemoteSessionMessage message = ((CDORemoteSessionEvent.MessageReceived)event).getMessage();
+        received.add(new String(message.getData()));
+      }
+    });
+
+    InternalSessionManager sessionManager = getRepository().getSessionManager();
+    recipient = (Session)sessionManager.getSession(recipientSession.getSessionID());
+    sender = sessionManager.getSession(senderSession.getSessionID());
+  }
+
+  public void testDeliveryOrder() throws Exception
+  {
+    RemoteNotificationQueue queue = new RemoteNotificationQueue(recipient, executor, 10, OverflowPolicy.DROP_OLDEST, false);
+    addMessages(queue, TYPE, "1", "2", "3");
+    assertEquals(3, queue.getSize());
+
+    executor.runAll();
+    assertReceived("1", "2", "3");
+    assertEquals(0, queue.getSize());
+  }
+
+  public void testAcceptedBeforeDelivered() throws Exception
+  {
+    RemoteNotificationQueue queue = new RemoteNotificationQueue(recipient, executor, 10, OverflowPolicy.DROP_OLDEST, false);
+
+    // The message is accepted, but not delivered before the executor runs the queue.
+    assertEquals(true, addMessage(queue, TYPE, "1"));
+    sleep(100);
+    assertEquals(0, received.size());
+
+    executor.runAll();
+    assertReceived("1");
+  }
+
+  public void testDropOldest() throws Exception
+  {
+    RemoteNotificationQueue queue = new RemoteNotificationQueue(recipient, executor, 3, OverflowPolicy.DROP_OLDEST, false);
+    for (String data : Arrays.asList("1", "2", "3", "4", "5"))
+    {
+      assertEquals(true, addMessage(queue, TYPE, data));
+    }
+
+    // The dropped messages don't occupy the queue anymore.
+    assertEquals(3, queue.getSize());
+    assertEquals(2, queue.getDroppedMessages());
+
+    executor.runAll();
+    assertReceived("3", "4", "5");
+  }
+
+  public void testDropNewest() throws Exception
+  {
+    RemoteNotificationQueue queue = new RemoteNotificationQueue(recipient, executor, 3, OverflowPolicy.DROP_NEWEST, false);
+    assertEquals(true, addMessage(queue, TYPE, "1"));
+    assertEquals(true, addMessage(queue, TYPE, "2"));
+    assertEquals(true, addMessage(queue, TYPE, "3"));
+    assertEquals(false, addMessage(queue, TYPE, "4"));
+    assertEquals(false, addMessage(queue, TYPE, "5"));
+
+    assertEquals(3, queue.getSize());
+    assertEquals(2, queue.getDroppedMessages());
+
+    executor.runAll();
+    assertReceived("1", "2", "3");
+  }
+
+  public void testCoalescing() throws Exception
+  {
+    RemoteNotificationQueue queue = new RemoteNotificationQueue(recipient, executor, 10, OverflowPolicy.DROP_OLDEST, true);
+    assertEquals(true, addMessage(queue, TYPE, "a1"));
+    assertEquals(true, addMessage(queue, OTHER_TYPE, "b1"));
+    assertEquals(true, addMessage(queue, TYPE, "a2"));
+    assertEquals(true, addMessage(queue, TYPE, "a3"));
+
+    // The latest message of a type takes the place of the first undelivered one.
+    assertEquals(2, queue.getSize());
+
+    executor.runAll();
+    assertReceived("a3", "b1");
+
+    // Delivered messages are not coalesced anymore.
+    assertEquals(true, addMessage(queue, TYPE, "a4"));
+    executor.runAll();
+    assertReceived("a3", "b1", "a4");
+  }
+
+  public void testSendRemoteMessageNotificationAccepted() throws Exception
+  {
+    InternalSessionManager sessionManager = getRepository().getSessionManager();
+    CDORemoteSessionMessage message = new CDORemoteSessionMessage(TYPE, "1".getBytes());
+
+    // The result lists the recipients that accepted the message, before it's necessarily delivered.
+    List<Integer> result = sessionManager.sendRemoteMessageNotification(sender, message, new int[] { recipient.getSessionID() });
+    assertEquals(Collections.singletonList(recipient.getSessionID()), result);
+    assertNoTimeout(() -> received.contains("1"));
+
+    // Closed recipients don't accept messages.
+    CDOSession closedSession = openSession();
+    int closedSessionID = closedSession.getSessionID();
+    closedSession.close();
+
+    assertNoTimeout(() -> sessionManager.sendRemoteMessageNotification(sender, message, new int[] { closedSessionID }).isEmpty());
+  }
+
+  private void addMessages(RemoteNotificationQueue queue, String type, String... data)
+  {
+    for (String string : data)
+    {
+      assertEquals(true, addMessage(queue, type, string));
+    }
+  }
+
+  private boolean addMessage(RemoteNotificationQueue queue, String type, String data)
+  {
+    CDORemoteSessionMessage message = new CDORemoteSessionMessage(type, data.getBytes());
+    return queue.addMessage(sender, null, message, encode(message));
+  }
+
+  private void assertReceived(String... expected)
+  {
+    List<String> expectedList = Arrays.asList(expected);
+    assertNoTimeout(() -> received.size() >= expectedList.size());
+    sleep(100);
+
+    synchronized (received)
+    {
+      assertEquals(expectedList, new ArrayList<>(received));
+    }
+  }
+
+  private static byte[] encode(CDORemoteSessionMessage message)
+  {
+    try
+    {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      ExtendedDataOutputStream out = new ExtendedDataOutputStream(baos);
+      message.write(out);
+      out.flush();
+      return baos.toByteArray();
+    }
+    catch (IOException ex)
+    {
+      throw WrappedException.wrap(ex);
+    }
+  }
+
+  /**
+   * Runs the tasks of a queue only when the test asks for it.
+   *
+   * @author Eike Stepper
+   */
+  private static final class ManualExecutor implements Executor
+  {
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Override
+    public synchronized void execute(Runnable task)
+    {
+      tasks.add(task);
+    }
+
+    public void runAll()
+    {
+      for (;;)
+      {
+        Runnable task;
+        synchronized (this)
+        {
+          if (tasks.isEmpty())
+          {
+            return;
+          }
+
+          task = tasks.remove(0);
+        }
+
+        task.run();
+      }
+    }
+  }
+}
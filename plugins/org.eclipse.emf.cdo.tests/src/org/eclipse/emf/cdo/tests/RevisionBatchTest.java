@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests;
+
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.internal.net4j.protocol.LoadRevisionsRequest;
+import org.eclipse.emf.cdo.net4j.CDONet4jSession;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.tests.config.ISessionConfig;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.Requires;
+import org.eclipse.emf.cdo.tests.model1.Company;
+import org.eclipse.emf.cdo.tests.model1.PurchaseOrder;
+import org.eclipse.emf.cdo.tests.model1.Supplier;
+import org.eclipse.emf.cdo.transaction.CDOTransaction;
+import org.eclipse.emf.cdo.view.CDOView;
+
+import org.eclipse.net4j.signal.SignalCounter;
+
+import java.util.Date;
+
+/**
+ * Tests the compact batch format of the revisions in LoadRevisions responses.
+ *
+ * @author Eike Stepper
+ */
+@Requires(ISessionConfig.CAPABILITY_NET4J)
+public class RevisionBatchTest extends AbstractCDOTest
+{
+  private static final int SUPPLIERS = 20;
+
+  private static final int ORDERS = 5;
+
+  public void testPrefetchedRevisions() throws Exception
+  {
+    CDOSession session = openSession();
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath("res"));
+
+    Company company = getModel1Factory().createCompany();
+    company.setName("company");
+    resource.getContents().add(company);
+
+    for (int i = 0; i < SUPPLIERS; i++)
+    {
+      Supplier supplier = getModel1Factory().createSupplier();
+      supplier.setName("supplier" + i);
+      supplier.setPreferred(i % 2 == 0);
+      company.getSuppliers().add(supplier);
+
+      for (int j = 0; j < ORDERS; j++)
+      {
+        PurchaseOrder order = getModel1Factory().createPurchaseOrder();
+        order.setDate(new Date(1000L * (i * ORDERS + j)));
+        order.setSupplier(supplier);
+        company.getPurchaseOrders().add(order);
+      }
+    }
+
+    transaction.commit();
+    session.close();
+
+    session = openSession();
+    CDOView view = session.openView();
+
+    SignalCounter signalCounter = new SignalCounter(((CDONet4jSession)session).options().getNet4jProtocol());
+    CDOResource resource2 = view.getResource(getResourcePath("res"));
+    resource2.cdoPrefetch(CDORevision.DEPTH_INFINITE);
+    int requests = signalCounter.getCountFor(LoadRevisionsRequest.class);
+
+    Company company2 = (Company)resource2.getContents().get(0);
+    assertEquals("company", company2.getName());
+    assertEquals(SUPPLIERS, company2.getSuppliers().size());
+    assertEquals(SUPPLIERS * ORDERS, company2.getPurchaseOrders().size());
+
+    for (int i = 0; i < SUPPLIERS; i++)
+    {
+      Supplier supplier = company2.getSuppliers().get(i);
+      assertEquals("supplier" + i, supplier.getName());
+      assertEquals(i % 2 == 0, supplier.isPreferred());
+      assertEquals(ORDERS, supplier.getPurchaseOrders().size());
+
+      for (int j = 0; j < ORDERS; j++)
+      {
+        PurchaseOrder order = company2.getPurchaseOrders().get(i * ORDERS + j);
+        assertEquals(new Date(1000L * (i * ORDERS + j)), order.getDate());
+        assertSame(supplier, order.getSupplier());
+        assertSame(company2, order.eContainer());
+      }
+    }
+
+    assertEquals(requests, signalCounter.getCountFor(LoadRevisionsRequest.class));
+    signalCounter.dispose();
+    session.close();
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests;
+
+import org.eclipse.emf.cdo.common.security.CDOPermission;
+import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.eresource.EresourcePackage;
+import org.eclipse.emf.cdo.security.Access;
+import org.eclipse.emf.cdo.security.ClassFilter;
+import org.eclipse.emf.cdo.security.FilterPermission;
+import org.eclipse.emf.cdo.security.Realm;
+import org.eclipse.emf.cdo.security.Role;
+import org.eclipse.emf.cdo.security.SecurityFactory;
+import org.eclipse.emf.cdo.security.User;
+import org.eclipse.emf.cdo.server.internal.security.SecurityManager;
+import org.eclipse.emf.cdo.server.security.ISecurityManager;
+import org.eclipse.emf.cdo.server.security.SecurityManagerUtil;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.CleanRepositoriesAfter;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.CleanRepositoriesBefore;
+import org.eclipse.emf.cdo.tests.config.impl.RepositoryConfig;
+import org.eclipse.emf.cdo.tests.model1.Company;
+import org.eclipse.emf.cdo.tests.model1.Supplier;
+import org.eclipse.emf.cdo.transaction.CDOTransaction;
+import org.eclipse.emf.cdo.util.CDOUtil;
+import org.eclipse.emf.cdo.view.CDOView;
+
+import org.eclipse.net4j.util.security.IPasswordCredentials;
+import org.eclipse.net4j.util.security.PasswordCredentials;
+
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Tests that the cached permission decisions of the security manager are shared among users with equal permissions
+ * and are invalidated by changes of the realm.
+ *
+ * @author Eike Stepper
+ */
+@CleanRepositoriesBefore(reason = "TEST_SECURITY_MANAGER")
+@CleanRepositoriesAfter(reason = "TEST_SECURITY_MANAGER")
+public class SecurityDecisionCacheTest extends AbstractCDOTest
+{
+  private static final SecurityFactory SF = SecurityFactory.eINSTANCE;
+
+  private static final String REALM_PATH = "/security";
+
+  private static final String ROLE = "Company Reader";
+
+  private static final IPasswordCredentials CREDENTIALS = new PasswordCredentials("Stepper", "12345");
+
+  private static final IPasswordCredentials CREDENTIALS_1 = new PasswordCredentials("user1", "12345");
+
+  private static final IPasswordCredentials CREDENTIALS_2 = new PasswordCredentials("user2", "54321");
+
+  @Override
+  protected void doSetUp() throws Exception
+  {
+    super.doSetUp();
+
+    ISecurityManager securityManager = SecurityManagerUtil.createSecurityManager(REALM_PATH, getServerContainer());
+
+    // Start repository
+    getTestProperties().put(RepositoryConfig.PROP_TEST_SECURITY_MANAGER, securityManager);
+    getRepository();
+
+    securityManager.modify(new ISecurityManager.RealmOperation()
+    {
+      @Override
+      public void execute(Realm realm)
+      {
+        User user = realm.addUser(CREDENTIALS);
+        user.getRoles().add(realm.getRole("All Objects Writer"));
+
+        Role role = realm.addRole(ROLE);
+        role.getPermissions().add(SF.createFilterPermission(Access.READ, SF.createPackageFilter(EresourcePackage.eINSTANCE)));
+        role.getPermissions().add(SF.createFilterPermission(Access.READ, SF.createClassFilter(getModel1Package().getCompany())));
+
+        User user1 = realm.addUser(CREDENTIALS_1);
+        user1.getRoles().add(role);
+
+        User user2 = realm.addUser(CREDENTIALS_2);
+        user2.getRoles().add(role);
+      }
+    });
+
+    CDOSession session = openSession(CREDENTIALS);
+    CDOTransaction transaction = session.openTransaction();
+    CDOResource resource = transaction.createResource(getResourcePath("res"));
+    resource.getContents().add(getModel1Factory().createCompany());
+    resource.getContents().add(getModel1Factory().createSupplier());
+    transaction.commit();
+    session.close();
+  }
+
+  public void testSharedDecisions() throws Exception
+  {
+    SecurityManager securityManager = (SecurityManager)getSecurityManager();
+
+    assertPermissions(CREDENTIALS_1, CDOPermission.READ, CDOPermission.NONE);
+    long misses = securityManager.getDecisionCacheMisses();
+    long hits = securityManager.getDecisionCacheHits();
+    assertEquals(true, misses > 0);
+
+    // The second user has the same permissions and must be served from the decisions of the first user.
+    for (int i = 0; i < 2; i++)
+    {
+      assertPermissions(CREDENTIALS_2, CDOPermission.READ, CDOPermission.NONE);
+      assertEquals(misses, securityManager.getDecisionCacheMisses());
+      assertEquals(true, securityManager.getDecisionCacheHits() > hits);
+      hits = securityManager.getDecisionCacheHits();
+
+      assertPermissions(CREDENTIALS_1, CDOPermission.READ, CDOPermission.NONE);
+      assertEquals(misses, securityManager.getDecisionCacheMisses());
+      assertEquals(true, securityManager.getDecisionCacheHits() > hits);
+      hits = securityManager.getDecisionCacheHits();
+    }
+  }
+
+  public void testRealmChange() throws Exception
+  {
+    assertPermissions(CREDENTIALS_1, CDOPermission.READ, CDOPermission.NONE);
+
+    getSecurityManager().modify(new ISecurityManager.RealmOperation()
+    {
+      @Override
+      public void execute(Realm realm)
+      {
+        FilterPermission permission = (FilterPermission)realm.getRole(ROLE).getPermissions().get(1);
+        ClassFilter filter = (ClassFilter)permission.getFilters().get(0);
+        filter.setApplicableClass(getModel1Package().getSupplier());
+      }
+    });
+
+    assertPermissions(CREDENTIALS_1, CDOPermission.NONE, CDOPermission.READ);
+    assertPermissions(CREDENTIALS_2, CDOPermission.NONE, CDOPermission.READ);
+
+    getSecurityManager().modify(new ISecurityManager.RealmOperation()
+    {
+      @Override
+      public void execute(Realm realm)
+      {
+        realm.getUser(CREDENTIALS_2.getUserID()).setDefaultAccessOverride(Access.WRITE);
+      }
+    });
+
+    assertPermissions(CREDENTIALS_1, CDOPermission.NONE, CDOPermission.READ);
+    assertPermissions(CREDENTIALS_2, CDOPermission.WRITE, CDOPermission.WRITE);
+  }
+
+  private void assertPermissions(IPasswordCredentials credentials, CDOPermission companyPermission, CDOPermission supplierPermission)
+  {
+    CDOSession session = openSession(credentials);
+    CDOView view = session.openView();
+    CDOResource resource = view.getResource(getResourcePath("res"));
+
+    for (EObject object : resource.getContents())
+    {
+      CDOPermission permission = CDOUtil.getCDOObject(object).cdoPermission();
+      if (object instanceof Company)
+      {
+        assertEquals(companyPermission, permission);
+      }
+      else if (object instanceof Supplier)
+      {
+        assertEquals(supplierPermission, permission);
+      }
+    }
+
+    session.close();
+  }
+
+  private ISecurityManager getSecurityManager()
+  {
+    return SecurityManagerUtil.getSecurityManager(getRepository());
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests;
+
+import org.eclipse.emf.cdo.spi.server.InternalRepository;
+
+import org.eclipse.net4j.util.om.monitor.Monitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A micro-benchmark for the time stamp authority of a repository: several threads start and end commits while
+ * others read the last commit time stamp or wait for commits.
+ *
+ * @author Eike Stepper
+ */
+public class TimeStampAuthorityPerformanceTest extends AbstractCDOTest
+{
+  private static final int COMMITTERS = 8;
+
+  private static final int READERS = 4;
+
+  private static final int WAITERS = 2;
+
+  private static final long DURATION = 3000;
+
+  public void testCommitStorm() throws Exception
+  {
+    InternalRepository repository = getRepository();
+    Set<Long> timeStamps = ConcurrentHashMap.newKeySet();
+    AtomicLong commits = new AtomicLong();
+    AtomicLong reads = new AtomicLong();
+    AtomicLong wakeups = new AtomicLong();
+
+    ExecutorService executor = Executors.newFixedThreadPool(COMMITTERS + READERS + WAITERS);
+    List<Future<?>> futures = new ArrayList<>();
+    long end = System.currentTimeMillis() + DURATION;
+
+    try
+    {
+      for (int i = 0; i < COMMITTERS; i++)
+      {
+        futures.add(executor.submit(() -> {
+          while (System.currentTimeMillis() < end)
+          {
+            long timeStamp = repository.createCommitTimeStamp(new Monitor())[0];
+            assertEquals("Duplicate time stamp " + timeStamp, true, timeStamps.add(timeStamp));
+
+            repository.endCommit(timeStamp);
+            commits.incrementAndGet();
+          }
+        }));
+      }
+
+      for (int i = 0; i < READERS; i++)
+      {
+        futures.add(executor.submit(() -> {
+          long lastCommitTimeStamp = 0;
+          while (System.currentTimeMillis() < end)
+          {
+            long timeStamp = repository.getLastCommitTimeStamp();
+            assertEquals("Last commit time stamp went backwards", true, timeStamp >= lastCommitTimeStamp);
+
+            lastCommitTimeStamp = timeStamp;
+            reads.incrementAndGet();
+          }
+        }));
+      }
+
+      for (int i = 0; i < WAITERS; i++)
+      {
+        futures.add(executor.submit(() -> {
+          while (System.currentTimeMillis() < end)
+          {
+            repository.waitForCommit(100);
+            wakeups.incrementAndGet();
+          }
+        }));
+      }
+
+      for (Future<?> future : futures)
+      {
+        future.get(DURATION + DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+      }
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+
+    long maxTimeStamp = timeStamps.stream().mapToLong(Long::longValue).max().orElse(0L);
+    assertEquals(maxTimeStamp, repository.getLastCommitTimeStamp());
+
+    msg("Commits per second:  " + commits.get() * 1000 / DURATION);
+    msg("Reads per second:    " + reads.get() * 1000 / DURATION);
+    msg("Wakeups per second:  " + wakeups.get() * 1000 / DURATION);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.internal.workspace.LogCDOWorkspaceBase;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+import org.eclipse.emf.cdo.spi.workspace.InternalCDOWorkspace;
+import org.eclipse.emf.cdo.tests.model1.Product1;
+import org.eclipse.emf.cdo.transaction.CDOTransaction;
+import org.eclipse.emf.cdo.util.CDOUtil;
+import org.eclipse.emf.cdo.workspace.CDOWorkspaceBase;
+import org.eclipse.emf.cdo.workspace.CDOWorkspaceUtil;
+
+import org.eclipse.emf.ecore.EObject;
+
+import java.io.File;
+
+/**
+ * Runs the {@link WorkspaceTest workspace tests} with a {@link LogCDOWorkspaceBase log-based workspace base}.
+ *
+ * @author Eike Stepper
+ */
+public class WorkspaceLogBaseTest extends WorkspaceTest
+{
+  public void testReopenBase() throws Exception
+  {
+    InternalCDOWorkspace workspace = checkout("MAIN", CDOBranchPoint.UNSPECIFIED_DATE);
+    LogCDOWorkspaceBase base = (LogCDOWorkspaceBase)workspace.getBase();
+
+    CDOTransaction transaction = workspace.openTransaction();
+    CDOResource resource = transaction.getResource(getResourcePath(RESOURCE));
+    CDOID firstID = null;
+    for (EObject object : resource.getContents())
+    {
+      if (object instanceof Product1)
+      {
+        Product1 product = (Product1)object;
+        product.setName("MODIFIED_" + product.getName());
+
+        if (firstID == null)
+        {
+          firstID = CDOUtil.getCDOObject(product).cdoID();
+        }
+      }
+    }
+
+    transaction.commit();
+    assertEquals(PRODUCTS, base.getIDs().size());
+
+    base.deregisterObject(firstID);
+    assertEquals(PRODUCTS - 1, base.getIDs().size());
+
+    LogCDOWorkspaceBase reopened = new LogCDOWorkspaceBase(base.getFile());
+    reopened.init(workspace);
+    assertEquals(base.getIDs(), reopened.getIDs());
+
+    for (CDOID id : reopened.getIDs())
+    {
+      InternalCDORevision revision = reopened.getRevision(id);
+      assertEquals(false, ((String)revision.getValue(getModel1Package().getProduct1_Name())).startsWith("MODIFIED_"));
+    }
+
+    reopened.clear();
+    assertEquals(true, reopened.isEmpty());
+
+    LogCDOWorkspaceBase cleared = new LogCDOWorkspaceBase(base.getFile());
+    cleared.init(workspace);
+    assertEquals(true, cleared.isEmpty());
+  }
+
+  @Override
+  protected CDOWorkspaceBase createBase()
+  {
+    File folder = createTempFolder("cdo-");
+    return CDOWorkspaceUtil.createLogWorkspaceBase(new File(folder, "base.log"));
+  }
+}
@@ -23,9 +23,12 @@ import org.eclipse.emf.cdo.common.revision.CDORevisionUtil;
 import org.eclipse.emf.cdo.compare.CDOCompareUtil;
 import org.eclipse.emf.cdo.compare.CDOComparisonScope;
 import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.internal.workspace.CDOWorkspaceImpl;
 import org.eclipse.emf.cdo.internal.server.mem.MEMStore;
 import org.eclipse.emf.cdo.server.IRepository;
 import org.eclipse.emf.cdo.server.IStore;
+import org.eclipse.emf.cdo.server.IStoreAccessor;
+import org.eclipse.emf.cdo.server.StoreThreadLocal;
 import org.eclipse.emf.cdo.session.CDOSession;
 import org.eclipse.emf.cdo.session.CDOSessionConfiguration;
 import org.eclipse.emf.cdo.session.CDOSessionConfigurationFactory;
@@ -59,6 +62,7 @@ import org.eclipse.net4j.util.io.IOUtil;
 import org.eclipse.net4j.util.lifecycle.ILifecycle;
 import org.eclipse.net4j.util.lifecycle.LifecycleEventAdapter;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.om.monitor.Monitor;
 
 import org.eclipse.emf.common.util.BasicMonitor;
 import org.eclipse.emf.common.util.EList;
@@ -76,6 +80,7 @@ import org.eclipse.emf.spi.cdo.DefaultCDOMerger.Conflict;
 import java.io.File;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -88,9 +93,9 @@ import java.util.Set;
 @Skips("DB.ranges") // Range-based mappings don't support rawDelete().
 public class WorkspaceTest extends AbstractCDOTest
 {
-  private static final String RESOURCE = "/test1";
+  protected static final String RESOURCE = "/test1";
 
-  private static final int PRODUCTS = 5;
+  protected static final int PRODUCTS = 5;
 
   private static final int CUSTOMERS = 2;
 
@@ -176,6 +181,74 @@ public class WorkspaceTest extends AbstractCDOTest
     assertEquals(2 + totalObjects, dumpLocalStore(null)); // Root resource + test folder + totalObjects
   }
 
+  @Requires(IRepositoryConfig.CAPABILITY_RESTARTABLE)
+  public void testResumeCheckout() throws Exception
+  {
+    int batchSize = CDOWorkspaceImpl.CHECKOUT_BATCH_SIZE;
+    CDOWorkspaceImpl.CHECKOUT_BATCH_SIZE = 3;
+
+    try
+    {
+      File baseFolder = createTempFolder("cdo-");
+      InternalCDOWorkspace workspace = checkout("MAIN", CDOBranchPoint.UNSPECIFIED_DATE, CDOWorkspaceUtil.createFolderWorkspaceBase(baseFolder));
+
+      // Simulate an interrupted checkout: remove the stored products and leave the checkout time stamp behind.
+      List<CDORevision> products = new ArrayList<>();
+      CDOView view = workspace.openView();
+      for (EObject object : view.getResource(getResourcePath(RESOURCE)).getContents())
+      {
+        if (object instanceof Product1)
+        {
+          products.add(CDOUtil.getCDOObject(object).cdoRevision());
+        }
+      }
+
+      view.close();
+      assertEquals(PRODUCTS, products.size());
+
+      InternalRepository localRepository = workspace.getLocalRepository();
+      CDOBranch localBranch = localRepository.getBranchManager().getMainBranch();
+      IStore store = localRepository.getStore();
+      IStoreAccessor.Raw accessor = (IStoreAccessor.Raw)store.getWriter(null);
+      StoreThreadLocal.setAccessor(accessor);
+
+      try
+      {
+        for (CDORevision revision : products)
+        {
+          accessor.rawDelete(revision.getID(), revision.getVersion(), localBranch, revision.getEClass(), new Monitor());
+        }
+
+        accessor.rawCommit(1, new Monitor());
+      }
+      finally
+      {
+        StoreThreadLocal.release();
+      }
+
+      store.setPersistentProperties(Collections.singletonMap(CDOWorkspaceImpl.PROP_CHECKOUT_TIME_STAMP, String.valueOf(workspace.getTimeStamp())));
+      workspace.close();
+
+      // Opening the workspace resumes the checkout and stores the missing revisions.
+      workspace = open(CDOWorkspaceUtil.createFolderWorkspaceBase(baseFolder));
+      assertEquals(null, workspace.getLocalRepository().getStore()
+          .getPersistentProperties(Collections.singleton(CDOWorkspaceImpl.PROP_CHECKOUT_TIME_STAMP)).get(CDOWorkspaceImpl.PROP_CHECKOUT_TIME_STAMP));
+
+      view = workspace.openView();
+      CDOResource resource = view.getResource(getResourcePath(RESOURCE));
+      assertEquals(totalObjects, dumpObjects(null, resource));
+
+      for (CDORevision revision : products)
+      {
+        assertNotNull(view.getObject(revision.getID()));
+      }
+    }
+    finally
+    {
+      CDOWorkspaceImpl.CHECKOUT_BATCH_SIZE = batchSize;
+    }
+  }
+
   public void testReadObjects() throws Exception
   {
     InternalCDOWorkspace workspace = checkout("MAIN", CDOBranchPoint.UNSPECIFIED_DATE);
@@ -1083,6 +1156,47 @@ public class WorkspaceTest extends AbstractCDOTest
     assertEquals(totalObjects, dumpObjects(null, resource));
   }
 
+  public void testUpdateAfterMasterModifyChunked() throws Exception
+  {
+    int chunkSize = CDOWorkspaceImpl.UPDATE_CHUNK_SIZE;
+    CDOWorkspaceImpl.UPDATE_CHUNK_SIZE = 2;
+
+    try
+    {
+      InternalCDOWorkspace workspace = checkout("MAIN", CDOBranchPoint.UNSPECIFIED_DATE);
+
+      // More affected objects than one chunk holds.
+      assertEquals(true, PRODUCTS > CDOWorkspaceImpl.UPDATE_CHUNK_SIZE);
+      CDOResource resource = transaction.getResource(getResourcePath(RESOURCE));
+      for (EObject object : resource.getContents())
+      {
+        if (object instanceof Product1)
+        {
+          Product1 product = (Product1)object;
+          product.setName("MODIFIED_" + product.getName());
+        }
+      }
+
+      transaction.commit();
+
+      CDOTransaction local = workspace.update(null);
+      assertEquals(PRODUCTS, local.getDirtyObjects().size());
+
+      local.commit();
+      assertEquals(false, local.isDirty());
+      assertEquals(0, workspace.getBase().getIDs().size());
+
+      CDOView view = workspace.openView();
+      resource = view.getResource(getResourcePath(RESOURCE));
+      assertEquals(totalObjects, dumpObjects(null, resource));
+      assertEquals(PRODUCTS, countModifiedProduct(view));
+    }
+    finally
+    {
+      CDOWorkspaceImpl.UPDATE_CHUNK_SIZE = chunkSize;
+    }
+  }
+
   @Requires(IRepositoryConfig.CAPABILITY_UUIDS)
   public void testUpdateAfterMasterAdd() throws Exception
   {
@@ -1562,15 +1676,23 @@ public class WorkspaceTest extends AbstractCDOTest
     return getRepositoryConfig().createStore(CDOWorkspaceConfiguration.DEFAULT_LOCAL_REPOSITORY_NAME);
   }
 
+  protected CDOWorkspaceBase createBase()
+  {
+    File folder = createTempFolder("cdo-");
+    IOUtil.ERR().println("CDOWorkspaceBaseline: " + folder.getAbsolutePath());
+    return CDOWorkspaceUtil.createFolderWorkspaceBase(folder);
+  }
+
   protected InternalCDOWorkspace checkout(String branchPath, long timeStamp)
+  {
+    return checkout(branchPath, timeStamp, createBase());
+  }
+
+  protected InternalCDOWorkspace checkout(String branchPath, long timeStamp, CDOWorkspaceBase base)
   {
     disableConsole();
     CDOSessionConfigurationFactory remote = new RemoteSessionConfigurationFactory();
 
-    File folder = createTempFolder("cdo-");
-    CDOWorkspaceBase base = CDOWorkspaceUtil.createFolderWorkspaceBase(folder);
-    IOUtil.ERR().println("CDOWorkspaceBaseline: " + folder.getAbsolutePath());
-
     CDOWorkspaceConfiguration config = CDOWorkspaceUtil.createWorkspaceConfiguration();
     config.setStore(localStore);
     config.setBase(base);
@@ -1579,7 +1701,39 @@ public class WorkspaceTest extends AbstractCDOTest
     config.setTimeStamp(timeStamp);
     config.setIDGenerationLocation(getRepository().getIDGenerationLocation());
 
-    final InternalCDOWorkspace workspace = (InternalCDOWorkspace)config.checkout();
+    return addWorkspace((InternalCDOWorkspace)config.checkout());
+  }
+
+  /**
+   * Opens the workspace of the local store that a previous {@link #checkout(String, long, CDOWorkspaceBase) checkout}
+   * has left behind.
+   */
+  protected InternalCDOWorkspace open(CDOWorkspaceBase base)
+  {
+    disableConsole();
+    IRepositoryConfig repositoryConfig = getRepositoryConfig();
+
+    try
+    {
+      repositoryConfig.setRestarting(true);
+      localStore = createLocalStore();
+    }
+    finally
+    {
+      repositoryConfig.setRestarting(false);
+    }
+
+    CDOWorkspaceConfiguration config = CDOWorkspaceUtil.createWorkspaceConfiguration();
+    config.setStore(localStore);
+    config.setBase(base);
+    config.setRemote(new RemoteSessionConfigurationFactory());
+    config.setIDGenerationLocation(getRepository().getIDGenerationLocation());
+
+    return addWorkspace((InternalCDOWorkspace)config.open());
+  }
+
+  private InternalCDOWorkspace addWorkspace(final InternalCDOWorkspace workspace)
+  {
     workspaces.add(workspace);
     workspace.addListener(new LifecycleEventAdapter()
     {
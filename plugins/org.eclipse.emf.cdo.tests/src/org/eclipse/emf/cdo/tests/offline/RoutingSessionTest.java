@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.tests.offline;
+
+import org.eclipse.emf.cdo.common.CDOCommonRepository;
+import org.eclipse.emf.cdo.eresource.CDOResource;
+import org.eclipse.emf.cdo.internal.net4j.RoutingCDOSessionImpl;
+import org.eclipse.emf.cdo.internal.net4j.protocol.CommitTransactionRequest;
+import org.eclipse.emf.cdo.internal.net4j.protocol.LoadRevisionsRequest;
+import org.eclipse.emf.cdo.internal.net4j.protocol.ReplicaClientProtocol;
+import org.eclipse.emf.cdo.net4j.CDONet4jSession;
+import org.eclipse.emf.cdo.net4j.CDONet4jUtil;
+import org.eclipse.emf.cdo.net4j.RoutingCDOSessionConfiguration;
+import org.eclipse.emf.cdo.session.CDOSession;
+import org.eclipse.emf.cdo.spi.server.InternalRepository;
+import org.eclipse.emf.cdo.tests.AbstractSyncingTest;
+import org.eclipse.emf.cdo.tests.config.ISessionConfig;
+import org.eclipse.emf.cdo.tests.config.impl.ConfigTest.Requires;
+import org.eclipse.emf.cdo.tests.config.impl.SessionConfig;
+import org.eclipse.emf.cdo.tests.model1.Company;
+import org.eclipse.emf.cdo.transaction.CDOTransaction;
+import org.eclipse.emf.cdo.view.CDOView;
+
+import org.eclipse.net4j.connector.IConnector;
+import org.eclipse.net4j.signal.SignalCounter;
+
+/**
+ * Tests sessions that route their read requests to replicas.
+ *
+ * @author Eike Stepper
+ */
+@Requires(ISessionConfig.CAPABILITY_NET4J)
+public class RoutingSessionTest extends AbstractSyncingTest
+{
+  public void testReadsFromReplica() throws Exception
+  {
+    InternalRepository clone = getRepository();
+    waitForOnline(clone);
+
+    CDOSession masterSession = openSession("master");
+    CDOTransaction masterTransaction = masterSession.openTransaction();
+    CDOResource masterResource = masterTransaction.createResource(getResourcePath("/my/resource"));
+
+    Company masterCompany = getModel1Factory().createCompany();
+    masterCompany.setName("Test");
+    masterResource.getContents().add(masterCompany);
+    commitAndWaitForArrival(masterTransaction, clone);
+
+    CDONet4jSession session = openRoutingSession();
+    ReplicaClientProtocol replica = ((RoutingCDOSessionImpl)session).getReplicaProtocols()[0];
+
+    SignalCounter masterCounter = new SignalCounter(session.options().getNet4jProtocol());
+    SignalCounter replicaCounter = new SignalCounter(replica);
+
+    CDOView view = session.openView();
+    Company company = (Company)view.getResource(getResourcePath("/my/resource")).getContents().get(0);
+    assertEquals("Test", company.getName());
+
+    assertEquals(0, masterCounter.getCountFor(LoadRevisionsRequest.class));
+    assertEquals(true, replicaCounter.getCountFor(LoadRevisionsRequest.class) > 0);
+
+    CDOTransaction transaction = session.openTransaction();
+    Company transactionCompany = transaction.getObject(company);
+    transactionCompany.setName("Changed");
+    long timeStamp = transaction.commit().getTimeStamp();
+
+    assertEquals(1, masterCounter.getCountFor(CommitTransactionRequest.class));
+    assertEquals(0, replicaCounter.getCountFor(CommitTransactionRequest.class));
+    assertEquals(true, masterSession.waitForUpdate(timeStamp, DEFAULT_TIMEOUT));
+    assertEquals("Changed", masterCompany.getName());
+
+    masterCounter.dispose();
+    replicaCounter.dispose();
+  }
+
+  public void testFallbackToMaster() throws Exception
+  {
+    InternalRepository clone = getRepository();
+    waitForOnline(clone);
+
+    CDONet4jSession session = openRoutingSession();
+    ReplicaClientProtocol replica = ((RoutingCDOSessionImpl)session).getReplicaProtocols()[0];
+
+    getOfflineConfig().stopMasterTransport();
+
+    try
+    {
+      waitForOffline(clone);
+      assertNoTimeout(() -> replica.getState() != CDOCommonRepository.State.ONLINE);
+
+      CDOSession masterSession = openSession("master");
+      CDOTransaction masterTransaction = masterSession.openTransaction();
+      CDOResource masterResource = masterTransaction.createResource(getResourcePath("/master/resource"));
+
+      Company masterCompany = getModel1Factory().createCompany();
+      masterCompany.setName("Test");
+      masterResource.getContents().add(masterCompany);
+      long timeStamp = masterTransaction.commit().getTimeStamp();
+      assertEquals(true, session.waitForUpdate(timeStamp, DEFAULT_TIMEOUT));
+
+      SignalCounter masterCounter = new SignalCounter(session.options().getNet4jProtocol());
+      SignalCounter replicaCounter = new SignalCounter(replica);
+
+      CDOView view = session.openView();
+      Company company = (Company)view.getResource(getResourcePath("/master/resource")).getContents().get(0);
+      assertEquals("Test", company.getName());
+
+      assertEquals(true, masterCounter.getCountFor(LoadRevisionsRequest.class) > 0);
+      assertEquals(0, replicaCounter.getCountFor(LoadRevisionsRequest.class));
+
+      masterCounter.dispose();
+      replicaCounter.dispose();
+    }
+    finally
+    {
+      getOfflineConfig().startMasterTransport();
+      waitForOnline(clone);
+    }
+  }
+
+  private CDONet4jSession openRoutingSession()
+  {
+    IConnector connector = ((SessionConfig.Net4j)getSessionConfig()).getConnector();
+    InternalRepository master = getRepository("master");
+
+    RoutingCDOSessionConfiguration configuration = CDONet4jUtil.createRoutingSessionConfiguration();
+    configuration.setConnector(connector);
+    configuration.setRepositoryName(master.getName());
+    configuration.addReplica(connector, getRepository().getName());
+    return (CDONet4jSession)openSession(configuration);
+  }
+}
@@ -21,6 +21,8 @@ import org.eclipse.emf.cdo.view.CDOFetchRuleManager;
 import org.eclipse.net4j.util.event.Notifier;
 import org.eclipse.net4j.util.security.IPasswordCredentialsProvider;
 
+import java.io.File;
+
 /**
  * @author Eike Stepper
  */
@@ -75,6 +77,18 @@ public abstract class TestSessionConfiguration extends Notifier implements CDOSe
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public File getRevisionCacheFolder()
+  {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void setRevisionCacheFolder(File revisionCacheFolder)
+  {
+    throw new UnsupportedOperationException();
+  }
+
   @Override
   public boolean isPassiveUpdateEnabled()
   {
@@ -82,7 +82,9 @@ import org.eclipse.net4j.jvm.JVMUtil;
 import org.eclipse.net4j.signal.ISignalProtocol;
 import org.eclipse.net4j.util.ObjectUtil;
 import org.eclipse.net4j.util.StringUtil;
+import org.eclipse.net4j.util.WrappedException;
 import org.eclipse.net4j.util.collection.Closeable;
+import org.eclipse.net4j.util.concurrent.ConcurrencyUtil;
 import org.eclipse.net4j.util.container.ContainerUtil;
 import org.eclipse.net4j.util.container.IManagedContainer;
 import org.eclipse.net4j.util.event.Event;
@@ -92,6 +94,7 @@ import org.eclipse.net4j.util.event.Notifier;
 import org.eclipse.net4j.util.lifecycle.ILifecycle;
 import org.eclipse.net4j.util.lifecycle.LifecycleEventAdapter;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
+import org.eclipse.net4j.util.om.OMPlatform;
 import org.eclipse.net4j.util.om.monitor.Monitor;
 import org.eclipse.net4j.util.om.monitor.OMMonitor;
 import org.eclipse.net4j.util.properties.IPropertiesContainer;
@@ -111,12 +114,18 @@ import org.eclipse.emf.spi.cdo.InternalCDOView;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Eike Stepper
@@ -131,6 +140,17 @@ public class CDOWorkspaceImpl extends Notifier implements InternalCDOWorkspace
 
   private static final String PROP_FIXED = "org.eclipse.emf.cdo.workspace.fixed"; //$NON-NLS-1$
 
+  /**
+   * The persistent property that holds the remote time stamp of a checkout while it is not complete.
+   */
+  public static final String PROP_CHECKOUT_TIME_STAMP = "org.eclipse.emf.cdo.workspace.checkoutTimeStamp"; //$NON-NLS-1$
+
+  public static int CHECKOUT_BATCH_SIZE = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.workspace.CHECKOUT_BATCH_SIZE", 1000); //$NON-NLS-1$
+
+  public static int CHECKOUT_QUEUE_CAPACITY = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.workspace.CHECKOUT_QUEUE_CAPACITY", 4); //$NON-NLS-1$
+
+  public static int UPDATE_CHUNK_SIZE = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.workspace.UPDATE_CHUNK_SIZE", 1000); //$NON-NLS-1$
+
   private IManagedContainer container;
 
   private InternalCDOWorkspaceBase base;
@@ -155,6 +175,8 @@ public class CDOWorkspaceImpl extends Notifier implements InternalCDOWorkspace
 
   private boolean fixed;
 
+  private long checkoutTimeStamp = CDOBranchPoint.UNSPECIFIED_DATE;
+
   private boolean dirty;
 
   private CDOSessionConfigurationFactory remoteSessionConfigurationFactory;
@@ -188,12 +210,19 @@ public class CDOWorkspaceImpl extends Notifier implements InternalCDOWorkspace
   {
     init(localRepositoryName, store, idGenerationLocation, idGenerator, base, remote);
     loadProperties();
+
+    if (checkoutTimeStamp != CDOBranchPoint.UNSPECIFIED_DATE)
+    {
+      // The checkout has been interrupted.
+      checkout();
+      saveProperties();
+    }
   }
 
   protected void checkout()
   {
-    final OMMonitor monitor = new Monitor();
-    final IStoreAccessor.Raw accessor = beginRawAccess(null);
+    OMMonitor monitor = new Monitor();
+    IStoreAccessor.Raw accessor = beginRawAccess(null);
 
     try
     {
@@ -201,38 +230,23 @@ public class CDOWorkspaceImpl extends Notifier implements InternalCDOWorkspace
 
       try
       {
-        CDOID rootResourceID = remoteSession.getRepositoryInfo().getRootResourceID();
-        localRepository.setRootResourceID(rootResourceID);
-
-        InternalCDOPackageRegistry localPackageRegistry = localRepository.getPackageRegistry(false);
-        InternalCDOPackageUnit[] remotePackageUnits = remoteSession.getPackageRegistry().getPackageUnits(false);
-        for (InternalCDOPackageUnit remotePackageUnit : remotePackageUnits)
+        boolean resuming = checkoutTimeStamp != CDOBranchPoint.UNSPECIFIED_DATE;
+        if (!resuming)
         {
-          InternalCDOPackageUnit localPackageUnit = remotePackageUnit.copy();
-          localPackageRegistry.putPackageUnit(localPackageUnit);
-        }
-
-        accessor.rawStore(remotePackageUnits, monitor);
+          CDOID rootResourceID = remoteSession.getRepositoryInfo().getRootResourceID();
+          localRepository.setRootResourceID(rootResourceID);
 
-        CDORevisionHandler handler = new CDORevisionHandler()
-        {
-          @Override
-          public boolean handleRevision(CDORevision remoteRevision)
+          InternalCDOPackageRegistry localPackageRegistry = localRepository.getPackageRegistry(false);
+          InternalCDOPackageUnit[] remotePackageUnits = remoteSession.getPackageRegistry().getPackageUnits(false);
+          for (InternalCDOPackageUnit remotePackageUnit : remotePackageUnits)
           {
-            InternalCDORevision repositoryRevision = (InternalCDORevision)remoteRevision;
-
-            long commitTime = repositoryRevision.getTimeStamp();
-            if (commitTime > timeStamp)
-            {
-              timeStamp = commitTime;
-            }
-
-            repositoryRevision.setBranchPoint(localRepositoryHead);
-            accessor.rawStore(repositoryRevision, monitor);
-
-            return true;
+            InternalCDOPackageUnit localPackageUnit = remotePackageUnit.copy();
+            localPackageRegistry.putPackageUnit(localPackageUnit);
           }
-        };
+
+          accessor.rawStore(remotePackageUnits, monitor);
+          accessor.rawCommit(1, monitor);
+        }
 
         InternalCDOBranchManager branchManager = remoteSession.getBranchManager();
         CDOBranch branch;
@@ -252,14 +266,22 @@ public class CDOWorkspaceImpl extends Notifier implements InternalCDOWorkspace
           branchPath = branch.getPathName();
         }
 
-        remoteSession.getSessionProtocol().handleRevisions(null, branch, false, timeStamp, false, handler);
+        if (!resuming)
+        {
+          // Pin the checkout to a point in time, so that an interrupted checkout can be resumed with the same revisions.
+          checkoutTimeStamp = fixed ? timeStamp : remoteSession.getLastUpdateTime();
+          saveProperties();
+        }
+
+        storeRevisions(remoteSession, branch, accessor, resuming, monitor);
       }
       finally
       {
         closeRemoteSession(remoteSession);
       }
 
-      accessor.rawCommit(1, monitor);
+      checkoutTimeStamp = CDOBranchPoint.UNSPECIFIED_DATE;
+      localRepository.getStore().removePersistentProperties(Collections.singleton(PROP_CHECKOUT_TIME_STAMP));
     }
     finally
     {
@@ -268,6 +290,63 @@ public class CDOWorkspaceImpl extends Notifier implements InternalCDOWorkspace
     }
   }
 
+  /**
+   * Receives the revisions of the given branch in a background thread and stores them in batches. Each batch is committed
+   * to the local repository, so that an interrupted checkout only needs to store the revisions of the missing batches.
+   */
+  private void storeRevisions(InternalCDOSession remoteSession, CDOBranch branch, IStoreAccessor.Raw accessor, boolean resuming, OMMonitor monitor)
+  {
+    RevisionFetcher fetcher = new RevisionFetcher(remoteSession, branch, checkoutTimeStamp);
+    Future<?> future = ConcurrencyUtil.getExecutorService(remoteSession).submit(fetcher);
+
+    try
+    {
+      List<InternalCDORevision> batch;
+      while ((batch = fetcher.takeBatch()) != null)
+      {
+        for (InternalCDORevision remoteRevision : batch)
+        {
+          long commitTime = remoteRevision.getTimeStamp();
+          if (commitTime > timeStamp)
+          {
+            timeStamp = commitTime;
+          }
+
+          if (resuming && accessor.readRevision(remoteRevision.getID(), localRepositoryHead, CDORevision.UNCHUNKED, null) != null)
+          {
+            // Stored by the interrupted checkout.
+            continue;
+          }
+
+          remoteRevision.setBranchPoint(localRepositoryHead);
+          accessor.rawStore(remoteRevision, monitor);
+        }
+
+        accessor.rawCommit(1, monitor);
+      }
+
+      future.get();
+    }
+    catch (InterruptedException ex)
+    {
+      throw WrappedException.wrap(ex);
+    }
+    catch (ExecutionException ex)
+    {
+      Throwable cause = ex.getCause();
+      if (cause instanceof Exception)
+      {
+        throw WrappedException.wrap((Exception)cause);
+      }
+
+      throw (Error)cause;
+    }
+    finally
+    {
+      fetcher.cancel();
+    }
+  }
+
   protected void init(String localRepositoryName, IStore store, IDGenerationLocation idGenerationLocation, CDOIDGenerator idGenerator,
       InternalCDOWorkspaceBase base, CDOSessionConfigurationFactory remote)
   {
@@ -498,6 +577,7 @@ public class CDOWorkspaceImpl extends Notifier implements InternalCDOWorkspace
           changedIDs.add(id);
         }
 
+        base.flush();
         setDirtyFromBase();
 
         fireEvent(new ObjectStatesChangedEventImpl(CDOWorkspaceImpl.this, changedIDs));
@@ -615,32 +695,45 @@ public class CDOWorkspaceImpl extends Notifier implements InternalCDOWorkspace
       {
         Set<CDOID> affectedIDs = getAffectedIDs(commitContext, remoteData);
 
-        CDORevisionProvider local = CDOWorkspaceImpl.this;
-        CDORevisionProvider remote = new ManagedRevisionProvider(remoteSession.getRevisionManager(), remotePoint);
+        ManagedRevisionProvider local = new ManagedRevisionProvider(getLocalSession().getRevisionManager(), localSessionHead);
+        ManagedRevisionProvider remote = new ManagedRevisionProvider(remoteSession.getRevisionManager(), remotePoint);
 
         updateBase(local, remote, affectedIDs);
+        base.flush();
         setDirtyFromBase();
         setTimeStamp(newTimeStamp);
 
         fireEvent(new ObjectStatesChangedEventImpl(CDOWorkspaceImpl.this, affectedIDs));
       }
 
-      private void updateBase(CDORevisionProvider local, CDORevisionProvider remote, Set<CDOID> affectedIDs)
+      /**
+       * Loads the local and remote revisions of the affected objects in chunks, with one request per chunk and side, and
+       * commits the raw writes of each chunk to the local repository.
+       */
+      private void updateBase(ManagedRevisionProvider local, ManagedRevisionProvider remote, Set<CDOID> affectedIDs)
       {
-        IStoreAccessor.Raw accessor = null;
-
-        try
+        List<CDOID> ids = new ArrayList<>(affectedIDs);
+        for (int start = 0; start < ids.size(); start += UPDATE_CHUNK_SIZE)
         {
-          for (CDOID id : affectedIDs)
+          List<CDOID> chunk = ids.subList(start, Math.min(start + UPDATE_CHUNK_SIZE, ids.size()));
+          List<CDORevision> localRevisions = local.getRevisions(chunk);
+          List<CDORevision> remoteRevisions = remote.getRevisions(chunk);
+
+          IStoreAccessor.Raw accessor = null;
+
+          try
           {
-            InternalCDORevision localRevision = getRevision(id, local);
-            InternalCDORevision remoteRevision = getRevision(id, remote);
-            accessor = updateBase(localRevision, remoteRevision, id, accessor);
+            for (int i = 0; i < chunk.size(); i++)
+            {
+              InternalCDORevision localRevision = getRevision(localRevisions.get(i));
+              InternalCDORevision remoteRevision = getRevision(remoteRevisions.get(i));
+              accessor = updateBase(localRevision, remoteRevision, chunk.get(i), accessor);
+            }
+          }
+          finally
+          {
+            finishRawAccess(accessor);
           }
-        }
-        finally
-        {
-          finishRawAccess(accessor);
         }
       }
 
@@ -724,9 +817,8 @@ public class CDOWorkspaceImpl extends Notifier implements InternalCDOWorkspace
         return affectedIDs;
       }
 
-      private InternalCDORevision getRevision(CDOID id, CDORevisionProvider revisionProvider)
+      private InternalCDORevision getRevision(CDORevision revision)
       {
-        CDORevision revision = revisionProvider.getRevision(id);
         if (revision instanceof DetachedCDORevision)
         {
           revision = null;
@@ -1425,18 +1517,27 @@ public class CDOWorkspaceImpl extends Notifier implements InternalCDOWorkspace
     props.put(PROP_BRANCH_PATH, branchPath);
     props.put(PROP_TIME_STAMP, String.valueOf(timeStamp));
     props.put(PROP_FIXED, String.valueOf(fixed));
+
+    if (checkoutTimeStamp != CDOBranchPoint.UNSPECIFIED_DATE)
+    {
+      props.put(PROP_CHECKOUT_TIME_STAMP, String.valueOf(checkoutTimeStamp));
+    }
+
     localRepository.getStore().setPersistentProperties(props);
   }
 
   protected void loadProperties()
   {
-    Set<String> names = new HashSet<>(Arrays.asList(PROP_BRANCH_ID, PROP_BRANCH_PATH, PROP_TIME_STAMP, PROP_FIXED));
+    Set<String> names = new HashSet<>(Arrays.asList(PROP_BRANCH_ID, PROP_BRANCH_PATH, PROP_TIME_STAMP, PROP_FIXED, PROP_CHECKOUT_TIME_STAMP));
     Map<String, String> props = localRepository.getStore().getPersistentProperties(names);
     String prop = props.get(PROP_BRANCH_ID);
     branchID = prop == null ? InternalCDOWorkspace.NO_BRANCH_ID : Integer.parseInt(prop);
     branchPath = props.get(PROP_BRANCH_PATH);
     timeStamp = Long.parseLong(props.get(PROP_TIME_STAMP));
     fixed = Boolean.parseBoolean(props.get(PROP_FIXED));
+
+    prop = props.get(PROP_CHECKOUT_TIME_STAMP);
+    checkoutTimeStamp = prop == null ? CDOBranchPoint.UNSPECIFIED_DATE : Long.parseLong(prop);
   }
 
   private void addIDs(Set<CDOID> result, Set<CDOID> ids)
@@ -1489,6 +1590,103 @@ public class CDOWorkspaceImpl extends Notifier implements InternalCDOWorkspace
     }
   }
 
+  /**
+   * Receives the revisions of a remote branch and hands them over to the checking out thread in batches.
+   *
+   * @author Eike Stepper
+   */
+  private static final class RevisionFetcher implements Runnable, CDORevisionHandler
+  {
+    private static final List<InternalCDORevision> END = Collections.emptyList();
+
+    private final BlockingQueue<List<InternalCDORevision>> batches = new ArrayBlockingQueue<>(CHECKOUT_QUEUE_CAPACITY);
+
+    private final InternalCDOSession remoteSession;
+
+    private final CDOBranch branch;
+
+    private final long timeStamp;
+
+    private List<InternalCDORevision> batch = new ArrayList<>(CHECKOUT_BATCH_SIZE);
+
+    private volatile boolean canceled;
+
+    public RevisionFetcher(InternalCDOSession remoteSession, CDOBranch branch, long timeStamp)
+    {
+      this.remoteSession = remoteSession;
+      this.branch = branch;
+      this.timeStamp = timeStamp;
+    }
+
+    /**
+     * Returns the next batch of revisions, or <code>null</code> if all revisions have been received.
+     */
+    public List<InternalCDORevision> takeBatch() throws InterruptedException
+    {
+      List<InternalCDORevision> result = batches.take();
+      return result == END ? null : result;
+    }
+
+    public void cancel()
+    {
+      canceled = true;
+    }
+
+    @Override
+    public void run()
+    {
+      try
+      {
+        remoteSession.getSessionProtocol().handleRevisions(null, branch, false, timeStamp, false, this);
+        if (!batch.isEmpty())
+        {
+          offer(batch);
+        }
+      }
+      finally
+      {
+        offer(END);
+      }
+    }
+
+    @Override
+    public boolean handleRevision(CDORevision revision)
+    {
+      batch.add((InternalCDORevision)revision);
+      if (batch.size() >= CHECKOUT_BATCH_SIZE)
+      {
+        if (!offer(batch))
+        {
+          return false;
+        }
+
+        batch = new ArrayList<>(CHECKOUT_BATCH_SIZE);
+      }
+
+      return !canceled;
+    }
+
+    private boolean offer(List<InternalCDORevision> batch)
+    {
+      try
+      {
+        while (!canceled)
+        {
+          if (batches.offer(batch, 100, TimeUnit.MILLISECONDS))
+          {
+            return true;
+          }
+        }
+      }
+      catch (InterruptedException ex)
+      {
+        canceled = true;
+      }
+
+      return false;
+    }
+  }
+
   /**
    * @author Eike Stepper
    */
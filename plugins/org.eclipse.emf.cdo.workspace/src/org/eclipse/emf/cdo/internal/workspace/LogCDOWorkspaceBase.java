@@ -0,0 +1,499 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.cdo.internal.workspace;
+
+import org.eclipse.emf.cdo.common.branch.CDOBranch;
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.protocol.CDODataInput;
+import org.eclipse.emf.cdo.common.protocol.CDODataOutput;
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.server.IStoreAccessor;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+import org.eclipse.emf.cdo.spi.workspace.InternalCDOWorkspace;
+import org.eclipse.emf.cdo.spi.workspace.InternalCDOWorkspaceBase;
+import org.eclipse.emf.cdo.workspace.CDOWorkspaceBase;
+import org.eclipse.emf.cdo.workspace.CDOWorkspaceUtil;
+
+import org.eclipse.net4j.util.factory.ProductCreationException;
+import org.eclipse.net4j.util.io.ExtendedDataInputStream;
+import org.eclipse.net4j.util.io.ExtendedDataOutputStream;
+import org.eclipse.net4j.util.io.IOUtil;
+import org.eclipse.net4j.util.om.monitor.Monitor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * A workspace base that appends all registrations to a single memory-mapped log file and keeps an index from the
+ * registered IDs to the positions of their log records in memory.
+ * <p>
+ * Each record is protected by a checksum. When the log is opened, it is read up to the first incomplete or corrupt
+ * record, which can only be the result of a crash while appending. {@link #clear() Clearing} the base starts a new
+ * epoch of the log, which invalidates all previous records in constant time.
+ * <p>
+ * The mapping is {@link #flush() forced} to the disk after each batch of registrations, i.e., after each local commit
+ * and after each update of the base. A power loss can only lose the registrations of the batch that was in progress.
+ * <p>
+ * The size of the log is limited to 2 GB between two clears.
+ *
+ * @author Eike Stepper
+ */
+public class LogCDOWorkspaceBase extends AbstractCDOWorkspaceBase
+{
+  private static final int MAGIC = 0xCD0B45E1;
+
+  private static final int HEADER_SIZE = 4 + 8; // MAGIC + epoch
+
+  private static final int RECORD_HEADER_SIZE = 4 + 4 + 1; // Length + checksum + type
+
+  private static final int INITIAL_CAPACITY = 1024 * 1024;
+
+  private static final byte CHANGED_OR_DETACHED = 1;
+
+  private static final byte ADDED = 2;
+
+  private static final byte ADDED_AND_DETACHED = 3;
+
+  private static final byte DEREGISTERED = 4;
+
+  /**
+   * The position of the IDs of added objects in the {@link #index}.
+   */
+  private static final int ADDED_POSITION = -1;
+
+  private final File file;
+
+  private final Map<CDOID, Integer> index = new HashMap<>();
+
+  private final Map<CDOID, Integer> detachedVersions = new LinkedHashMap<>();
+
+  private MappedByteBuffer buffer;
+
+  private long epoch;
+
+  private int position;
+
+  private boolean unforced;
+
+  public LogCDOWorkspaceBase(File file)
+  {
+    this.file = file.getAbsoluteFile();
+  }
+
+  @Override
+  public synchronized void init(InternalCDOWorkspace workspace)
+  {
+    super.init(workspace);
+
+    IOUtil.mkdirs(file.getParentFile());
+    boolean existed = file.length() >= HEADER_SIZE;
+    map(Math.max(INITIAL_CAPACITY, (int)Math.min(file.length(), Integer.MAX_VALUE)));
+
+    if (existed && buffer.getInt(0) == MAGIC)
+    {
+      epoch = buffer.getLong(4);
+      recover();
+    }
+    else
+    {
+      startEpoch(0L);
+    }
+  }
+
+  public final File getFile()
+  {
+    return file;
+  }
+
+  @Override
+  public final synchronized InternalCDORevision getRevision(CDOID id)
+  {
+    Integer recordPosition = index.get(id);
+    if (recordPosition == null || recordPosition == ADDED_POSITION)
+    {
+      return null;
+    }
+
+    try
+    {
+      CDODataInput in = createInput(recordPosition);
+      in.readCDOID();
+      return (InternalCDORevision)in.readCDORevision();
+    }
+    catch (IOException ex)
+    {
+      throw new IllegalStateException("Could not read from " + file, ex);
+    }
+  }
+
+  @Override
+  public synchronized boolean isAddedObject(CDOID id)
+  {
+    Integer recordPosition = index.get(id);
+    return recordPosition != null && recordPosition == ADDED_POSITION;
+  }
+
+  @Override
+  public void deleteAddedAndDetachedObjects(IStoreAccessor.Raw accessor, CDOBranch branch)
+  {
+    Map<CDOID, Integer> detachedVersions;
+    synchronized (this)
+    {
+      detachedVersions = new LinkedHashMap<>(this.detachedVersions);
+    }
+
+    for (Map.Entry<CDOID, Integer> entry : detachedVersions.entrySet())
+    {
+      CDOID id = entry.getKey();
+      int detachedVersion = entry.getValue();
+
+      for (int v = 1; v <= detachedVersion; v++)
+      {
+        accessor.rawDelete(id, v, branch, null, new Monitor());
+      }
+    }
+  }
+
+  @Override
+  public synchronized void flush()
+  {
+    if (unforced)
+    {
+      buffer.force();
+      unforced = false;
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return "LogBase[" + file + "]";
+  }
+
+  @Override
+  protected void doClear()
+  {
+    index.clear();
+    detachedVersions.clear();
+    startEpoch(epoch + 1);
+  }
+
+  @Override
+  protected Set<CDOID> doGetIDs()
+  {
+    return new HashSet<>(index.keySet());
+  }
+
+  @Override
+  protected void doRegisterChangedOrDetachedObject(InternalCDORevision revision)
+  {
+    CDOID id = revision.getID();
+    if (index.containsKey(id))
+    {
+      return;
+    }
+
+    try
+    {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      ExtendedDataOutputStream edos = new ExtendedDataOutputStream(baos);
+      CDODataOutput out = createCDODataOutput(edos);
+      out.writeCDOID(id);
+      out.writeCDORevision(revision, CDORevision.UNCHUNKED);
+      edos.flush();
+
+      index.put(id, append(CHANGED_OR_DETACHED, baos.toByteArray()));
+    }
+    catch (IOException ex)
+    {
+      throw new IllegalStateException("Could not write to " + file, ex);
+    }
+  }
+
+  @Override
+  protected void doRegisterAddedAndDetachedObject(InternalCDORevision revision)
+  {
+    CDOID id = revision.getID();
+    int detachedVersion = revision.getVersion();
+
+    try
+    {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      ExtendedDataOutputStream edos = new ExtendedDataOutputStream(baos);
+      CDODataOutput out = createCDODataOutput(edos);
+      out.writeCDOID(id);
+      out.writeXInt(detachedVersion);
+      edos.flush();
+
+      append(ADDED_AND_DETACHED, baos.toByteArray());
+      detachedVersions.put(id, detachedVersion);
+    }
+    catch (IOException ex)
+    {
+      throw new IllegalStateException("Could not write to " + file, ex);
+    }
+  }
+
+  @Override
+  protected void doRegisterAddedObject(CDOID id)
+  {
+    if (index.containsKey(id))
+    {
+      return;
+    }
+
+    append(ADDED, id);
+    index.put(id, ADDED_POSITION);
+  }
+
+  @Override
+  protected void doDeregisterObject(CDOID id)
+  {
+    if (index.remove(id) != null)
+    {
+      append(DEREGISTERED, id);
+    }
+  }
+
+  private void append(byte type, CDOID id)
+  {
+    try
+    {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      ExtendedDataOutputStream edos = new ExtendedDataOutputStream(baos);
+      CDODataOutput out = createCDODataOutput(edos);
+      out.writeCDOID(id);
+      edos.flush();
+
+      append(type, baos.toByteArray());
+    }
+    catch (IOException ex)
+    {
+      throw new IllegalStateException("Could not write to " + file, ex);
+    }
+  }
+
+  /**
+   * Appends a record and returns its position. The record length is written last, so that a record only becomes visible
+   * to {@link #recover()} when it is complete.
+   */
+  private int append(byte type, byte[] payload)
+  {
+    int recordPosition = position;
+    long end = (long)recordPosition + RECORD_HEADER_SIZE + payload.length;
+    if (end + 4 > Integer.MAX_VALUE)
+    {
+      throw new IllegalStateException("Log is full: " + file);
+    }
+
+    ensureCapacity((int)end + 4);
+
+    buffer.putInt(recordPosition + 4, checksum(type, payload));
+    buffer.put(recordPosition + 8, type);
+
+    ByteBuffer target = buffer.duplicate();
+    target.position(recordPosition + RECORD_HEADER_SIZE);
+    target.put(payload);
+
+    // Terminate the log behind the new record before the record is published.
+    buffer.putInt((int)end, 0);
+    buffer.putInt(recordPosition, payload.length);
+
+    position = (int)end;
+    unforced = true;
+    return recordPosition;
+  }
+
+  /**
+   * Reads all valid records of the current epoch, rebuilds the index, and truncates the log behind the last valid record.
+   */
+  private void recover()
+  {
+    position = HEADER_SIZE;
+
+    int capacity = buffer.capacity();
+    while (position + RECORD_HEADER_SIZE <= capacity)
+    {
+      int length = buffer.getInt(position);
+      if (length <= 0 || length > capacity - position - RECORD_HEADER_SIZE)
+      {
+        break;
+      }
+
+      int checksum = buffer.getInt(position + 4);
+      byte type = buffer.get(position + 8);
+      byte[] payload = readPayload(position, length);
+      if (checksum(type, payload) != checksum)
+      {
+        break;
+      }
+
+      try
+      {
+        replay(type, payload);
+      }
+      catch (IOException ex)
+      {
+        break;
+      }
+
+      position += RECORD_HEADER_SIZE + length;
+    }
+
+    if (position + 4 <= capacity)
+    {
+      // Terminate the log behind the last valid record, so that the remainders of an interrupted append are never read.
+      buffer.putInt(position, 0);
+    }
+  }
+
+  private void replay(byte type, byte[] payload) throws IOException
+  {
+    CDODataInput in = createCDODataInput(new ExtendedDataInputStream(new ByteArrayInputStream(payload)));
+    CDOID id = in.readCDOID();
+
+    switch (type)
+    {
+    case CHANGED_OR_DETACHED:
+      index.put(id, position);
+      break;
+
+    case ADDED:
+      index.put(id, ADDED_POSITION);
+      break;
+
+    case ADDED_AND_DETACHED:
+      detachedVersions.put(id, in.readXInt());
+      break;
+
+    case DEREGISTERED:
+      index.remove(id);
+      break;
+
+    default:
+      throw new IOException("Invalid record type: " + type);
+    }
+  }
+
+  private CDODataInput createInput(int recordPosition) throws IOException
+  {
+    int length = buffer.getInt(recordPosition);
+    byte[] payload = readPayload(recordPosition, length);
+    return createCDODataInput(new ExtendedDataInputStream(new ByteArrayInputStream(payload)));
+  }
+
+  private byte[] readPayload(int recordPosition, int length)
+  {
+    byte[] payload = new byte[length];
+
+    ByteBuffer source = buffer.duplicate();
+    source.position(recordPosition + RECORD_HEADER_SIZE);
+    source.get(payload);
+    return payload;
+  }
+
+  /**
+   * The checksum includes the epoch, so that the records of previous epochs are never valid.
+   */
+  private int checksum(byte type, byte[] payload)
+  {
+    CRC32 crc = new CRC32();
+    for (int i = 0; i < 8; i++)
+    {
+      crc.update((int)(epoch >>> 8 * i));
+    }
+
+    crc.update(type);
+    crc.update(payload, 0, payload.length);
+    return (int)crc.getValue();
+  }
+
+  private void startEpoch(long epoch)
+  {
+    this.epoch = epoch;
+    position = HEADER_SIZE;
+
+    buffer.putInt(position, 0);
+    buffer.putLong(4, epoch);
+    buffer.putInt(0, MAGIC);
+    buffer.force();
+    unforced = false;
+  }
+
+  private void ensureCapacity(int required)
+  {
+    int capacity = buffer.capacity();
+    if (required > capacity)
+    {
+      // Force the old mapping first, a flush only covers the new one.
+      flush();
+
+      long newCapacity = Math.max(required, 2L * capacity);
+      map((int)Math.min(newCapacity, Integer.MAX_VALUE));
+    }
+  }
+
+  private void map(int capacity)
+  {
+    RandomAccessFile randomAccessFile = null;
+
+    try
+    {
+      // The mapping remains valid after the file is closed.
+      randomAccessFile = new RandomAccessFile(file, "rw");
+      buffer = randomAccessFile.getChannel().map(MapMode.READ_WRITE, 0, capacity);
+    }
+    catch (IOException ex)
+    {
+      throw new IllegalStateException("Could not map " + file, ex);
+    }
+    finally
+    {
+      IOUtil.close(randomAccessFile);
+    }
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  public static final class Factory extends org.eclipse.net4j.util.factory.Factory
+  {
+    public static final String TYPE = "log";
+
+    public Factory()
+    {
+      super(InternalCDOWorkspaceBase.PRODUCT_GROUP, TYPE);
+    }
+
+    public Factory(String productGroup, String type)
+    {
+      super(productGroup, type);
+    }
+
+    @Override
+    public CDOWorkspaceBase create(String description) throws ProductCreationException
+    {
+      return CDOWorkspaceUtil.createLogWorkspaceBase(new File(description));
+    }
+  }
+}
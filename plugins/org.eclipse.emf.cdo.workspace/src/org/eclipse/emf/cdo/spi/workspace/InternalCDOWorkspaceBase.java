@@ -62,4 +62,13 @@ public interface InternalCDOWorkspaceBase extends CDOWorkspaceBase2
   public void deleteAddedAndDetachedObjects(IStoreAccessor.Raw accessor, CDOBranch branch);
 
   public void clear();
+
+  /**
+   * Makes the registrations since the last flush durable. Called after each batch of registrations.
+   *
+   * @since 4.5
+   */
+  public default void flush()
+  {
+  }
 }
@@ -15,6 +15,7 @@ import org.eclipse.emf.cdo.common.branch.CDOBranchPoint;
 import org.eclipse.emf.cdo.common.id.CDOID;
 import org.eclipse.emf.cdo.common.revision.CDORevision;
 import org.eclipse.emf.cdo.internal.workspace.FolderCDOWorkspaceBase;
+import org.eclipse.emf.cdo.internal.workspace.LogCDOWorkspaceBase;
 import org.eclipse.emf.cdo.internal.workspace.WorkspaceProperties;
 import org.eclipse.emf.cdo.server.IStore;
 import org.eclipse.emf.cdo.session.CDOSessionConfigurationFactory;
@@ -110,6 +111,16 @@ public final class CDOWorkspaceUtil
     return new FolderCDOWorkspaceBase(folder);
   }
 
+  /**
+   * Returns a new workspace base that stores all base revisions in a single memory-mapped log file.
+   *
+   * @since 4.5
+   */
+  public static CDOWorkspaceBase createLogWorkspaceBase(File file)
+  {
+    return new LogCDOWorkspaceBase(file);
+  }
+
   /**
    * Returns a new configuration that can be used to checkout a new {@link CDOWorkspace} or open an existing one.
    *
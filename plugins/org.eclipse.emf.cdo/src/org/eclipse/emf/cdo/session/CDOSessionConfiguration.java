@@ -20,6 +20,8 @@ import org.eclipse.net4j.util.event.IEvent;
 import org.eclipse.net4j.util.event.INotifier;
 import org.eclipse.net4j.util.security.IPasswordCredentialsProvider;
 
+import java.io.File;
+
 /**
  * Configures and opens new {@link CDOSession sessions}.
  * <p>
@@ -149,6 +151,25 @@ public interface CDOSessionConfiguration extends INotifier
    */
   public void setCredentialsProvider(IPasswordCredentialsProvider credentialsProvider);
 
+  /**
+   * Returns the folder in which the revisions of the session are persisted between two session lifecycles,
+   * or <code>null</code> if the persistent revision cache is disabled.
+   *
+   * @since 4.25
+   */
+  public File getRevisionCacheFolder();
+
+  /**
+   * Specifies the folder in which the revisions of the session are persisted between two session lifecycles.
+   * <p>
+   * When the session is closed all cached revisions are written to a file in this folder that is keyed by the UUID of
+   * the repository. When a session to the same repository is opened again the revisions are read back into the revision cache
+   * and validated against the server in a single round-trip. A <code>null</code> value disables the persistent revision cache.
+   *
+   * @since 4.25
+   */
+  public void setRevisionCacheFolder(File revisionCacheFolder);
+
   /**
    * Returns <code>true</code> if the session opened by {@link #openSession()} will be automatically activated,
    * <code>false</code> otherwise.
@@ -378,6 +378,18 @@ public final class CDOUtil
     return new CDOCollectionLoadingPolicyImpl(initialChunkSize, resolveChunkSize);
   }
 
+  /**
+   * Creates a collection loading policy that detects sequential accesses to the elements of a list. They are resolved
+   * with a chunk size that adapts to the observed load latency, starting at the given resolve chunk size, and the given
+   * number of subsequent chunks is loaded asynchronously.
+   *
+   * @since 4.25
+   */
+  public static CDOCollectionLoadingPolicy createCollectionLoadingPolicy(int initialChunkSize, int resolveChunkSize, int readAheadChunks)
+  {
+    return new CDOCollectionLoadingPolicyImpl(initialChunkSize, resolveChunkSize, readAheadChunks);
+  }
+
   /**
    * @since 2.0
    */
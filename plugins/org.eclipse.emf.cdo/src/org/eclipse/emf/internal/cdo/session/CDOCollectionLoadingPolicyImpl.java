@@ -13,32 +13,71 @@ package org.eclipse.emf.internal.cdo.session;
 
 import org.eclipse.emf.cdo.common.revision.CDOElementProxy;
 import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.internal.common.revision.CDOListWithElementProxiesImpl;
 import org.eclipse.emf.cdo.session.CDOCollectionLoadingPolicy;
 import org.eclipse.emf.cdo.session.CDOSession;
 import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
 
+import org.eclipse.emf.internal.cdo.bundle.OM;
+
+import org.eclipse.net4j.util.WrappedException;
 import org.eclipse.net4j.util.collection.MoveableList;
+import org.eclipse.net4j.util.concurrent.ConcurrencyUtil;
+import org.eclipse.net4j.util.om.trace.ContextTracer;
 
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.spi.cdo.CDOSessionProtocol;
 import org.eclipse.emf.spi.cdo.InternalCDOSession;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
+ * If a number of read-ahead chunks is specified, sequential accesses to the element proxies of a list are detected.
+ * They are resolved with a chunk size that adapts to the observed load latency, and the next chunks of the list are
+ * loaded asynchronously, while the current ones are being accessed.
+ *
  * @author Simon McDuff
  * @since 2.0
  */
 public class CDOCollectionLoadingPolicyImpl implements CDOCollectionLoadingPolicy
 {
+  public static final long DEFAULT_TARGET_LATENCY = 100;
+
+  public static final int DEFAULT_MAX_CHUNK_SIZE = 10000;
+
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_REVISION, CDOCollectionLoadingPolicyImpl.class);
+
+  private final Map<CDOListWithElementProxiesImpl, ReadAhead> readAheads = new IdentityHashMap<>();
+
   private CDOSession session;
 
   private int initialChunkSize;
 
   private int resolveChunkSize;
 
+  private int readAheadChunks;
+
+  private long targetLatency = DEFAULT_TARGET_LATENCY;
+
+  private int maxChunkSize = DEFAULT_MAX_CHUNK_SIZE;
+
+  private volatile int sequentialChunkSize;
+
   public CDOCollectionLoadingPolicyImpl(int initialChunkSize, int resolveChunkSize)
+  {
+    this(initialChunkSize, resolveChunkSize, 0);
+  }
+
+  public CDOCollectionLoadingPolicyImpl(int initialChunkSize, int resolveChunkSize, int readAheadChunks)
   {
     this.resolveChunkSize = resolveChunkSize <= 0 ? CDORevision.UNCHUNKED : resolveChunkSize;
     this.initialChunkSize = initialChunkSize < 0 ? this.resolveChunkSize : initialChunkSize;
+    this.readAheadChunks = Math.max(readAheadChunks, 0);
+    sequentialChunkSize = this.resolveChunkSize;
   }
 
   @Override
@@ -65,6 +104,43 @@ public class CDOCollectionLoadingPolicyImpl implements CDOCollectionLoadingPolic
     return resolveChunkSize;
   }
 
+  public int getReadAheadChunks()
+  {
+    return readAheadChunks;
+  }
+
+  /**
+   * Returns the load latency in milliseconds that the chunk size of sequential accesses is adapted to.
+   */
+  public long getTargetLatency()
+  {
+    return targetLatency;
+  }
+
+  public void setTargetLatency(long targetLatency)
+  {
+    this.targetLatency = targetLatency;
+  }
+
+  public int getMaxChunkSize()
+  {
+    return maxChunkSize;
+  }
+
+  public void setMaxChunkSize(int maxChunkSize)
+  {
+    this.maxChunkSize = maxChunkSize;
+  }
+
+  /**
+   * Returns the current chunk size of sequential accesses, which lies between the {@link #getResolveChunkSize() resolve
+   * chunk size} and the {@link #getMaxChunkSize() maximum chunk size}.
+   */
+  public int getSequentialChunkSize()
+  {
+    return sequentialChunkSize;
+  }
+
   @Override
   public void resolveAllProxies(CDORevision revision, EStructuralFeature feature)
   {
@@ -80,10 +156,157 @@ public class CDOCollectionLoadingPolicyImpl implements CDOCollectionLoadingPolic
       // Can happen if CDOSession.setReferenceChunkSize() was called meanwhile
       chunkSize = Integer.MAX_VALUE;
     }
+    else if (readAheadChunks != 0)
+    {
+      InternalCDORevision revision = (InternalCDORevision)rev;
+      MoveableList<Object> list = revision.getListOrNull(feature);
+
+      // The lists of frozen revisions are never structurally modified, so other threads can load their chunks.
+      if (list instanceof CDOListWithElementProxiesImpl && revision.isFrozen())
+      {
+        return resolveSequentialProxy(revision, feature, (CDOListWithElementProxiesImpl)list, accessIndex, serverIndex);
+      }
+    }
 
     return doResolveProxy(rev, feature, accessIndex, serverIndex, chunkSize);
   }
 
+  private Object resolveSequentialProxy(InternalCDORevision revision, EStructuralFeature feature, CDOListWithElementProxiesImpl list, int accessIndex,
+      int serverIndex)
+  {
+    ReadAhead readAhead;
+    synchronized (readAheads)
+    {
+      readAhead = readAheads.get(list);
+    }
+
+    if (readAhead != null && readAhead.contains(accessIndex))
+    {
+      readAhead.await();
+
+      Object value = list.get(accessIndex);
+      if (!(value instanceof CDOElementProxy))
+      {
+        // The read-ahead could not keep up, start the next one right away.
+        scheduleReadAhead(revision, feature, list, readAhead.getToIndex() + 1);
+        return value;
+      }
+    }
+
+    boolean sequential = list.isSequentialAccess(accessIndex);
+    int chunkSize = sequential ? sequentialChunkSize : resolveChunkSize;
+
+    long start = System.currentTimeMillis();
+    Object value = doResolveProxy(revision, feature, accessIndex, serverIndex, chunkSize);
+    long millis = System.currentTimeMillis() - start;
+
+    int nextIndex = getNextProxyIndex(list, accessIndex + 1, chunkSize);
+    if (sequential)
+    {
+      adaptChunkSize(millis, chunkSize);
+      scheduleReadAhead(revision, feature, list, nextIndex);
+    }
+    else
+    {
+      list.setResolvedIndex(nextIndex == -1 ? 0 : nextIndex);
+    }
+
+    return value;
+  }
+
+  private void scheduleReadAhead(InternalCDORevision revision, EStructuralFeature feature, CDOListWithElementProxiesImpl list, int fromIndex)
+  {
+    int size = list.size();
+    if (fromIndex == -1 || fromIndex >= size || !(list.get(fromIndex) instanceof CDOElementProxy))
+    {
+      list.setResolvedIndex(0);
+      return;
+    }
+
+    // Only read ahead a contiguous range of proxies, so that their client indexes equal their server indexes.
+    long maxSize = (long)sequentialChunkSize * readAheadChunks;
+    int endIndex = (int)Math.min(size, fromIndex + maxSize);
+    int toIndex = fromIndex;
+    while (toIndex + 1 < endIndex && list.get(toIndex + 1) instanceof CDOElementProxy)
+    {
+      ++toIndex;
+    }
+
+    ExecutorService executorService = ConcurrencyUtil.getExecutorService(session);
+    if (executorService == null)
+    {
+      list.setResolvedIndex(fromIndex);
+      return;
+    }
+
+    ReadAhead readAhead = new ReadAhead(revision, feature, list, fromIndex, toIndex);
+    synchronized (readAheads)
+    {
+      if (readAheads.containsKey(list))
+      {
+        list.setResolvedIndex(fromIndex);
+        return;
+      }
+
+      readAheads.put(list, readAhead);
+    }
+
+    list.setResolvedIndex(toIndex + 1);
+
+    try
+    {
+      executorService.submit(readAhead);
+    }
+    catch (RejectedExecutionException ex)
+    {
+      readAhead.done();
+      list.setResolvedIndex(fromIndex);
+    }
+  }
+
+  private void adaptChunkSize(long millis, int elements)
+  {
+    int chunkSize = sequentialChunkSize;
+    long chunkMillis = millis * chunkSize / Math.max(elements, 1);
+
+    if (chunkMillis < targetLatency / 2)
+    {
+      chunkSize = (int)Math.min(2L * chunkSize, Math.max(maxChunkSize, resolveChunkSize));
+    }
+    else if (chunkMillis > targetLatency)
+    {
+      chunkSize = Math.max(chunkSize / 2, resolveChunkSize);
+    }
+    else
+    {
+      return;
+    }
+
+    if (chunkSize != sequentialChunkSize)
+    {
+      if (TRACER.isEnabled())
+      {
+        TRACER.format("Adapting sequential chunk size to {0} after {1} millis for {2} elements", chunkSize, millis, elements); //$NON-NLS-1$
+      }
+
+      sequentialChunkSize = chunkSize;
+    }
+  }
+
+  private static int getNextProxyIndex(MoveableList<Object> list, int fromIndex, int maxDistance)
+  {
+    int endIndex = (int)Math.min(list.size(), (long)fromIndex + maxDistance);
+    for (int i = fromIndex; i < endIndex; i++)
+    {
+      if (list.get(i) instanceof CDOElementProxy)
+      {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
   private Object doResolveProxy(CDORevision rev, EStructuralFeature feature, int accessIndex, int serverIndex, int chunkSize)
   {
     // Get proxy values
@@ -146,4 +369,93 @@ public class CDOCollectionLoadingPolicyImpl implements CDOCollectionLoadingPolic
     CDOSessionProtocol protocol = ((InternalCDOSession)session).getSessionProtocol();
     return protocol.loadChunk(revision, feature, accessIndex, fetchIndex, fromIndex, toIndex);
   }
+
+  /**
+   * Asynchronously loads a contiguous range of element proxies of a frozen revision.
+   *
+   * @author Eike Stepper
+   */
+  private final class ReadAhead implements Runnable
+  {
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private final InternalCDORevision revision;
+
+    private final EStructuralFeature feature;
+
+    private final CDOListWithElementProxiesImpl list;
+
+    private final int fromIndex;
+
+    private final int toIndex;
+
+    public ReadAhead(InternalCDORevision revision, EStructuralFeature feature, CDOListWithElementProxiesImpl list, int fromIndex, int toIndex)
+    {
+      this.revision = revision;
+      this.feature = feature;
+      this.list = list;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+    }
+
+    public int getToIndex()
+    {
+      return toIndex;
+    }
+
+    public boolean contains(int index)
+    {
+      return fromIndex <= index && index <= toIndex;
+    }
+
+    public void await()
+    {
+      try
+      {
+        latch.await();
+      }
+      catch (InterruptedException ex)
+      {
+        throw WrappedException.wrap(ex);
+      }
+    }
+
+    public void done()
+    {
+      synchronized (readAheads)
+      {
+        readAheads.remove(list);
+      }
+
+      latch.countDown();
+    }
+
+    @Override
+    public void run()
+    {
+      try
+      {
+        long start = System.currentTimeMillis();
+
+        CDOSessionProtocol protocol = ((InternalCDOSession)session).getSessionProtocol();
+        protocol.loadChunk(revision, feature, fromIndex, fromIndex, fromIndex, toIndex);
+
+        adaptChunkSize(System.currentTimeMillis() - start, toIndex - fromIndex + 1);
+      }
+      catch (Exception ex)
+      {
+        if (TRACER.isEnabled())
+        {
+          TRACER.trace("Reading ahead " + fromIndex + ".." + toIndex + " of " + revision + "." + feature.getName() + " failed", ex); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        }
+
+        // Let the next access resolve the remaining proxies synchronously.
+        list.setResolvedIndex(fromIndex);
+      }
+      finally
+      {
+        done();
+      }
+    }
+  }
 }
@@ -36,6 +36,8 @@ import org.eclipse.net4j.util.security.IPasswordCredentialsProvider;
 import org.eclipse.emf.spi.cdo.InternalCDOSession;
 import org.eclipse.emf.spi.cdo.InternalCDOSessionConfiguration;
 
+import java.io.File;
+
 /**
  * @author Eike Stepper
  */
@@ -69,6 +71,8 @@ public abstract class CDOSessionConfigurationImpl extends Notifier implements In
 
   private boolean mainBranchLocal;
 
+  private File revisionCacheFolder;
+
   private boolean activateOnOpen = true;
 
   private InternalCDOSession session;
@@ -362,6 +366,19 @@ public abstract class CDOSessionConfigurationImpl extends Notifier implements In
     this.mainBranchLocal = mainBranchLocal;
   }
 
+  @Override
+  public File getRevisionCacheFolder()
+  {
+    return revisionCacheFolder;
+  }
+
+  @Override
+  public void setRevisionCacheFolder(File revisionCacheFolder)
+  {
+    checkNotOpen();
+    this.revisionCacheFolder = revisionCacheFolder;
+  }
+
   @Override
   public boolean isActivateOnOpen()
   {
@@ -429,6 +446,7 @@ public abstract class CDOSessionConfigurationImpl extends Notifier implements In
     session.setBranchManager(branchManager);
     session.setCommitInfoManager(commitInfoManager);
     session.setPackageRegistry(packageRegistry);
+    session.setRevisionCacheFolder(revisionCacheFolder);
   }
 
   @Override
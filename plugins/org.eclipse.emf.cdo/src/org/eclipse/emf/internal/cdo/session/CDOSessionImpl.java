@@ -244,6 +244,10 @@ public abstract class CDOSessionImpl extends CDOTransactionContainerImpl impleme
 
   private InternalCDORemoteSessionManager remoteSessionManager;
 
+  private File revisionCacheFolder;
+
+  private PersistentRevisionCache persistentRevisionCache;
+
   /**
    * A map to track for every object that was committed since this session's last refresh, onto what CDOBranchPoint it
    * was committed. (Used only for sticky transactions, see bug 290032 - Sticky views.)
@@ -509,6 +513,19 @@ public abstract class CDOSessionImpl extends CDOTransactionContainerImpl impleme
     this.mainBranchLocal = mainBranchLocal;
   }
 
+  @Override
+  public File getRevisionCacheFolder()
+  {
+    return revisionCacheFolder;
+  }
+
+  @Override
+  public void setRevisionCacheFolder(File revisionCacheFolder)
+  {
+    checkInactive();
+    this.revisionCacheFolder = revisionCacheFolder;
+  }
+
   @Override
   public InternalCDORemoteSessionManager getRemoteSessionManager()
   {
@@ -1702,11 +1719,30 @@ public abstract class CDOSessionImpl extends CDOTransactionContainerImpl impleme
     lockStateCache = new CDOLockStateCacheImpl(this);
   }
 
+  /**
+   * Reads the revisions that have been persisted by a previous session into the revision cache.
+   * Must be called after the package registry, the branch manager and the revision manager have been activated.
+   */
+  protected void doActivatePersistentRevisionCache() throws Exception
+  {
+    if (revisionCacheFolder != null)
+    {
+      persistentRevisionCache = new PersistentRevisionCache(this, revisionCacheFolder);
+      persistentRevisionCache.load();
+    }
+  }
+
   @Override
   protected void doDeactivate() throws Exception
   {
     CDOSessionRegistryImpl.INSTANCE.deregister(this);
 
+    if (persistentRevisionCache != null)
+    {
+      persistentRevisionCache.save();
+      persistentRevisionCache = null;
+    }
+
     super.doDeactivate();
 
     unhookSessionProtocol();
@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.emf.internal.cdo.session;
+
+import org.eclipse.emf.cdo.common.CDOCommonRepository;
+import org.eclipse.emf.cdo.common.branch.CDOBranch;
+import org.eclipse.emf.cdo.common.id.CDOID;
+import org.eclipse.emf.cdo.common.id.CDOIDProvider;
+import org.eclipse.emf.cdo.common.id.CDOIDUtil;
+import org.eclipse.emf.cdo.common.protocol.CDODataInput;
+import org.eclipse.emf.cdo.common.protocol.CDODataOutput;
+import org.eclipse.emf.cdo.common.revision.CDOIDAndVersion;
+import org.eclipse.emf.cdo.common.revision.CDOListFactory;
+import org.eclipse.emf.cdo.common.revision.CDORevision;
+import org.eclipse.emf.cdo.common.util.CDOCommonUtil;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevision;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionCache;
+import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionManager;
+import org.eclipse.emf.cdo.spi.common.revision.SyntheticCDORevision;
+
+import org.eclipse.emf.internal.cdo.bundle.OM;
+
+import org.eclipse.net4j.util.io.ExtendedDataInputStream;
+import org.eclipse.net4j.util.io.ExtendedDataOutputStream;
+import org.eclipse.net4j.util.io.IORuntimeException;
+import org.eclipse.net4j.util.io.IOUtil;
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import org.eclipse.emf.spi.cdo.CDOSessionProtocol;
+import org.eclipse.emf.spi.cdo.CDOSessionProtocol.RefreshSessionResult;
+import org.eclipse.emf.spi.cdo.InternalCDOSession;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Persists the {@link CDORevision revisions} of a session's revision cache into a local file when the session is closed,
+ * and reads them back when a session to the same repository is opened again.
+ * <p>
+ * The cache file is keyed by the {@link CDOCommonRepository#getUUID() repository UUID}. It is read through memory-mapped
+ * windows, so that startup is bounded by local disk speed. The current revisions that are read from the cache file
+ * are validated against the server with a single {@link CDOSessionProtocol#refresh(long, Map, int, boolean) refresh} request,
+ * which is skipped completely if nothing has been committed since the cache file was written.
+ *
+ * @author Eike Stepper
+ */
+public class PersistentRevisionCache
+{
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG_REVISION, PersistentRevisionCache.class);
+
+  private static final int MAGIC = 0xCD0CAC4E;
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final String FILE_EXTENSION = ".revisions";
+
+  private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+  private final InternalCDOSession session;
+
+  private final File folder;
+
+  public PersistentRevisionCache(InternalCDOSession session, File folder)
+  {
+    this.session = session;
+    this.folder = folder.getAbsoluteFile();
+  }
+
+  public final InternalCDOSession getSession()
+  {
+    return session;
+  }
+
+  public final File getFolder()
+  {
+    return folder;
+  }
+
+  public File getFile()
+  {
+    String uuid = session.getRepositoryInfo().getUUID();
+    return new File(folder, getFileName(uuid) + FILE_EXTENSION);
+  }
+
+  /**
+   * Reads the cached revisions into the revision manager of the session and validates the current ones against the server.
+   *
+   * @return the number of revisions that have been read from the cache file.
+   */
+  public int load()
+  {
+    File file = getFile();
+    if (!file.isFile())
+    {
+      return 0;
+    }
+
+    long start = System.currentTimeMillis();
+    Map<CDOBranch, Map<CDOID, InternalCDORevision>> currentRevisions = new HashMap<>();
+    long lastUpdateTime;
+    int count;
+
+    try
+    {
+      lastUpdateTime = readFile(file, currentRevisions);
+      if (lastUpdateTime == CDORevision.UNSPECIFIED_DATE)
+      {
+        IOUtil.delete(file);
+        return 0;
+      }
+
+      count = validateRevisions(lastUpdateTime, currentRevisions);
+    }
+    catch (Exception ex)
+    {
+      OM.LOG.warn("Persistent revision cache could not be read from " + file, ex);
+      session.getRevisionManager().getCache().clear();
+      IOUtil.delete(file);
+      return 0;
+    }
+
+    if (TRACER.isEnabled())
+    {
+      TRACER.format("Read {0} revisions from {1} in {2} millis", count, file, System.currentTimeMillis() - start); //$NON-NLS-1$
+    }
+
+    return count;
+  }
+
+  /**
+   * Writes the cached revisions of the session into the cache file.
+   *
+   * @return the number of revisions that have been written to the cache file.
+   */
+  public int save()
+  {
+    IOUtil.mkdirs(folder);
+
+    File file = getFile();
+    File tempFile = new File(file.getParentFile(), file.getName() + TEMP_FILE_EXTENSION);
+    int[] count = { 0 };
+
+    OutputStream stream = null;
+
+    try
+    {
+      stream = new BufferedOutputStream(new FileOutputStream(tempFile), IOUtil.DEFAULT_BUFFER_SIZE);
+      ExtendedDataOutputStream edos = new ExtendedDataOutputStream(stream);
+      CDODataOutput out = CDOCommonUtil.createCDODataOutput(edos, session.getPackageRegistry(), CDOIDProvider.NOOP);
+
+      CDOCommonRepository repository = session.getRepositoryInfo();
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeString(repository.getUUID());
+      out.writeXLong(repository.getCreationTime());
+      out.writeXLong(session.getLastUpdateTime());
+
+      InternalCDORevisionCache cache = session.getRevisionManager().getCache();
+      cache.forEachRevision(revision -> {
+        if (revision instanceof SyntheticCDORevision)
+        {
+          return;
+        }
+
+        try
+        {
+          out.writeBoolean(true);
+          out.writeCDORevision(revision, CDORevision.UNCHUNKED);
+          ++count[0];
+        }
+        catch (IOException ex)
+        {
+          throw new IORuntimeException(ex);
+        }
+      });
+
+      out.writeBoolean(false);
+      edos.flush();
+      IOUtil.close(stream);
+      stream = null;
+
+      Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    catch (Exception ex)
+    {
+      OM.LOG.warn("Persistent revision cache could not be written to " + file, ex);
+      count[0] = 0;
+    }
+    finally
+    {
+      IOUtil.close(stream);
+      if (tempFile.exists())
+      {
+        tempFile.delete();
+      }
+    }
+
+    if (TRACER.isEnabled())
+    {
+      TRACER.format("Wrote {0} revisions to {1}", count[0], file); //$NON-NLS-1$
+    }
+
+    return count[0];
+  }
+
+  @Override
+  public String toString()
+  {
+    return "PersistentRevisionCache[" + folder + "]";
+  }
+
+  /**
+   * Reads all revisions from the given file into the revision cache and collects the current revisions per branch.
+   *
+   * @return the last update time of the session that has written the cache file,
+   * or {@link CDORevision#UNSPECIFIED_DATE} if the file does not match the repository of the session.
+   */
+  private long readFile(File file, Map<CDOBranch, Map<CDOID, InternalCDORevision>> currentRevisions) throws IOException
+  {
+    RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+
+    try
+    {
+      MappedInputStream stream = new MappedInputStream(randomAccessFile.getChannel());
+      ExtendedDataInputStream edis = new ExtendedDataInputStream(stream);
+
+      InternalCDORevisionManager revisionManager = session.getRevisionManager();
+      CDODataInput in = CDOCommonUtil.createCDODataInput(edis, session.getPackageRegistry(), session.getBranchManager(), session.getCommitInfoManager(),
+          revisionManager.getFactory(), CDOListFactory.DEFAULT, session.getLobStore());
+
+      CDOCommonRepository repository = session.getRepositoryInfo();
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION)
+      {
+        return CDORevision.UNSPECIFIED_DATE;
+      }
+
+      String uuid = in.readString();
+      long creationTime = in.readXLong();
+      long lastUpdateTime = in.readXLong();
+      if (!repository.getUUID().equals(uuid) || repository.getCreationTime() != creationTime || lastUpdateTime > session.getLastUpdateTime())
+      {
+        // The repository has been replaced or restored from an older backup.
+        return CDORevision.UNSPECIFIED_DATE;
+      }
+
+      InternalCDORevisionCache cache = revisionManager.getCache();
+      while (in.readBoolean())
+      {
+        InternalCDORevision revision = (InternalCDORevision)in.readCDORevision();
+        revision = (InternalCDORevision)cache.internRevision(revision);
+
+        if (!revision.isHistorical())
+        {
+          CDOBranch branch = revision.getBranch();
+          currentRevisions.computeIfAbsent(branch, k -> CDOIDUtil.createMap()).put(revision.getID(), revision);
+        }
+      }
+
+      return lastUpdateTime;
+    }
+    finally
+    {
+      IOUtil.close(randomAccessFile);
+    }
+  }
+
+  /**
+   * Brings the current revisions that have been read from the cache file up to date with the server.
+   * Historical revisions are immutable and don't need to be validated.
+   */
+  private int validateRevisions(long lastUpdateTime, Map<CDOBranch, Map<CDOID, InternalCDORevision>> currentRevisions)
+  {
+    int count = 0;
+    for (Map<CDOID, InternalCDORevision> revisions : currentRevisions.values())
+    {
+      count += revisions.size();
+    }
+
+    if (count == 0 || lastUpdateTime == session.getLastUpdateTime())
+    {
+      // Nothing has been committed since the cache file was written.
+      return count;
+    }
+
+    CDOSessionProtocol sessionProtocol = session.getSessionProtocol();
+    int initialChunkSize = session.options().getCollectionLoadingPolicy().getInitialChunkSize();
+    boolean passiveUpdateEnabled = session.options().isPassiveUpdateEnabled();
+
+    RefreshSessionResult result = sessionProtocol.refresh(lastUpdateTime, currentRevisions, initialChunkSize, passiveUpdateEnabled);
+    InternalCDORevisionManager revisionManager = session.getRevisionManager();
+
+    for (CDOBranch branch : currentRevisions.keySet())
+    {
+      for (InternalCDORevision revision : result.getChangedObjects(branch))
+      {
+        revisionManager.internRevision(revision);
+      }
+
+      for (CDOIDAndVersion detachedObject : result.getDetachedObjects(branch))
+      {
+        revisionManager.reviseLatest(detachedObject.getID(), branch);
+      }
+    }
+
+    return count;
+  }
+
+  private static String getFileName(String uuid)
+  {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < uuid.length(); i++)
+    {
+      char c = uuid.charAt(i);
+      if (Character.isLetterOrDigit(c) || c == '-' || c == '.')
+      {
+        builder.append(c);
+      }
+      else
+      {
+        builder.append('_');
+      }
+    }
+
+    return builder.toString();
+  }
+
+  /**
+   * Reads a file channel through consecutive memory-mapped windows.
+   *
+   * @author Eike Stepper
+   */
+  private static final class MappedInputStream extends InputStream
+  {
+    private static final long WINDOW_SIZE = 64L * 1024L * 1024L;
+
+    private final FileChannel channel;
+
+    private final long size;
+
+    private long position;
+
+    private MappedByteBuffer buffer;
+
+    public MappedInputStream(FileChannel channel) throws IOException
+    {
+      this.channel = channel;
+      size = channel.size();
+    }
+
+    @Override
+    public int read() throws IOException
+    {
+      if (!ensureBuffer())
+      {
+        return IOUtil.EOF;
+      }
+
+      return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+      if (len == 0)
+      {
+        return 0;
+      }
+
+      if (!ensureBuffer())
+      {
+        return IOUtil.EOF;
+      }
+
+      int n = Math.min(len, buffer.remaining());
+      buffer.get(b, off, n);
+      return n;
+    }
+
+    @Override
+    public int available() throws IOException
+    {
+      long available = size - position + (buffer == null ? 0 : buffer.remaining());
+      return (int)Math.min(available, Integer.MAX_VALUE);
+    }
+
+    private boolean ensureBuffer() throws IOException
+    {
+      if (buffer != null && buffer.hasRemaining())
+      {
+        return true;
+      }
+
+      if (position >= size)
+      {
+        return false;
+      }
+
+      long length = Math.min(WINDOW_SIZE, size - position);
+      buffer = channel.map(MapMode.READ_ONLY, position, length);
+      position += length;
+      return true;
+    }
+  }
+}
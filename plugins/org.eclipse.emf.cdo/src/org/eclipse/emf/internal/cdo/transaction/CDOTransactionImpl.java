@@ -151,6 +151,7 @@ import org.eclipse.net4j.util.collection.ComposedIterator;
 import org.eclipse.net4j.util.collection.ConcurrentArray;
 import org.eclipse.net4j.util.collection.DelegatingCloseableIterator;
 import org.eclipse.net4j.util.collection.Pair;
+import org.eclipse.net4j.util.concurrent.ConcurrencyUtil;
 import org.eclipse.net4j.util.concurrent.IRWLockManager.LockType;
 import org.eclipse.net4j.util.concurrent.TimeoutRuntimeException;
 import org.eclipse.net4j.util.event.IEvent;
@@ -182,6 +183,7 @@ import org.eclipse.emf.spi.cdo.CDOLockStateCache;
 import org.eclipse.emf.spi.cdo.CDOSessionProtocol;
 import org.eclipse.emf.spi.cdo.CDOSessionProtocol.CommitTransactionResult;
 import org.eclipse.emf.spi.cdo.CDOTransactionStrategy;
+import org.eclipse.emf.spi.cdo.DefaultCDOMerger;
 import org.eclipse.emf.spi.cdo.FSMUtil;
 import org.eclipse.emf.spi.cdo.InternalCDOObject;
 import org.eclipse.emf.spi.cdo.InternalCDOSavepoint;
@@ -226,6 +228,8 @@ public class CDOTransactionImpl extends CDOViewImpl implements InternalCDOTransa
 
   private static final boolean X_COMPRESSION = OMPlatform.INSTANCE.isProperty("org.eclipse.emf.cdo.transaction.X_COMPRESSION");
 
+  private static final int MERGE_CHUNK_SIZE = OMPlatform.INSTANCE.getProperty("org.eclipse.emf.cdo.transaction.MERGE_CHUNK_SIZE", 1000);
+
   private static final LockType[] ALL_LOCK_TYPES = LockType.values();
 
   private static final Method COPY_OBJECT_METHOD;
@@ -709,6 +713,16 @@ public class CDOTransactionImpl extends CDOViewImpl implements InternalCDOTransa
 
         CDOChangeSet targetChanges = mergeData.getTargetChanges();
         CDOChangeSet sourceChanges = mergeData.getSourceChanges();
+
+        if (merger instanceof DefaultCDOMerger)
+        {
+          DefaultCDOMerger defaultMerger = (DefaultCDOMerger)merger;
+          if (defaultMerger.getParallelism() > 1 && defaultMerger.getExecutorService() == null)
+          {
+            defaultMerger.setExecutorService(ConcurrencyUtil.getExecutorService(session));
+          }
+        }
+
         CDOChangeSetData result = merger.merge(targetChanges, sourceChanges);
         if (result == null)
         {
@@ -920,74 +934,109 @@ public class CDOTransactionImpl extends CDOViewImpl implements InternalCDOTransa
   {
     Map<CDOID, InternalCDORevision> oldRevisions = CDOIDUtil.createMap();
 
-    Map<CDOID, CDOObject> detachedObjects = lastSavepoint.getDetachedObjects();
-    Map<CDOID, CDOObject> dirtyObjects = lastSavepoint.getDirtyObjects();
-    Map<CDOID, CDORevisionDelta> revisionDeltas = lastSavepoint.getRevisionDeltas2();
-
-    for (CDORevisionKey key : changedObjects)
+    // Process the changed objects in chunks to load their revisions with few requests and without keeping them all in memory.
+    int size = changedObjects.size();
+    for (int start = 0; start < size; start += MERGE_CHUNK_SIZE)
     {
-      InternalCDORevisionDelta resultBaseGoalDelta = (InternalCDORevisionDelta)key;
-      resultBaseGoalDelta.setTarget(null);
-      CDOID id = resultBaseGoalDelta.getID();
-      InternalCDORevision resultBaseRevision = (InternalCDORevision)resultBaseProvider.getRevision(id);
-
-      InternalCDOObject object = getObject(id);
-      boolean revisionChanged = false;
+      List<CDORevisionKey> chunk = changedObjects.subList(start, Math.min(start + MERGE_CHUNK_SIZE, size));
+      List<CDOID> ids = new ArrayList<>(chunk.size());
+      for (CDORevisionKey key : chunk)
+      {
+        ids.add(key.getID());
+      }
 
-      InternalCDORevision targetRevision = object.cdoRevision();
-      if (targetRevision == null)
+      List<CDORevision> resultBaseRevisions = null;
+      if (resultBaseProvider instanceof ManagedRevisionProvider)
       {
-        targetRevision = (InternalCDORevision)targetProvider.getRevision(id);
-        object.cdoInternalSetRevision(targetRevision);
-        revisionChanged = true;
+        resultBaseRevisions = ((ManagedRevisionProvider)resultBaseProvider).getRevisions(ids);
       }
 
-      oldRevisions.put(id, targetRevision);
+      Map<CDOID, CDOObject> objects = getObjects(ids);
 
-      InternalCDORevision goalRevision = resultBaseRevision.copy();
-      goalRevision.setBranchPoint(this);
-      if (!keepVersions)
+      for (int i = 0; i < chunk.size(); i++)
       {
-        goalRevision.setVersion(targetRevision.getVersion());
+        CDORevision resultBaseRevision = resultBaseRevisions != null ? resultBaseRevisions.get(i) : null;
+        applyChangedObject((InternalCDORevisionDelta)chunk.get(i), (InternalCDORevision)resultBaseRevision, (InternalCDOObject)objects.get(ids.get(i)),
+            resultBaseProvider, targetProvider, keepVersions, result, oldRevisions);
       }
+    }
 
-      goalRevision.setRevised(UNSPECIFIED_DATE);
-      resultBaseGoalDelta.applyTo(goalRevision);
+    return oldRevisions;
+  }
 
-      InternalCDORevisionDelta targetGoalDelta = goalRevision.compare(targetRevision);
-      targetGoalDelta.setTarget(null);
+  private void applyChangedObject(InternalCDORevisionDelta resultBaseGoalDelta, InternalCDORevision resultBaseRevision, InternalCDOObject object,
+      CDORevisionProvider resultBaseProvider, CDORevisionProvider targetProvider, boolean keepVersions, List<CDORevisionKey> result,
+      Map<CDOID, InternalCDORevision> oldRevisions) throws ChangeSetOutdatedException
+  {
+    Map<CDOID, CDOObject> detachedObjects = lastSavepoint.getDetachedObjects();
+    Map<CDOID, CDOObject> dirtyObjects = lastSavepoint.getDirtyObjects();
+    Map<CDOID, CDORevisionDelta> revisionDeltas = lastSavepoint.getRevisionDeltas2();
 
-      if (!targetGoalDelta.isEmpty())
-      {
-        if (keepVersions && targetGoalDelta.getVersion() != resultBaseRevision.getVersion())
-        {
-          throw new ChangeSetOutdatedException();
-        }
+    resultBaseGoalDelta.setTarget(null);
+    CDOID id = resultBaseGoalDelta.getID();
+    if (resultBaseRevision == null)
+    {
+      resultBaseRevision = (InternalCDORevision)resultBaseProvider.getRevision(id);
+    }
+
+    if (object == null)
+    {
+      object = getObject(id);
+    }
 
-        revisionDeltas.put(id, targetGoalDelta);
-        result.add(targetGoalDelta);
+    boolean revisionChanged = false;
 
-        // handle reattached objects.
-        if (detachedObjects.containsKey(id))
-        {
-          CDOStateMachine.INSTANCE.internalReattach(object, this);
-        }
+    InternalCDORevision targetRevision = object.cdoRevision();
+    if (targetRevision == null)
+    {
+      targetRevision = (InternalCDORevision)targetProvider.getRevision(id);
+      object.cdoInternalSetRevision(targetRevision);
+      revisionChanged = true;
+    }
 
-        object.cdoInternalSetRevision(goalRevision);
-        object.cdoInternalSetState(CDOState.DIRTY);
-        revisionChanged = true;
+    oldRevisions.put(id, targetRevision);
 
-        dirtyObjects.put(id, object);
-        setDirty(true);
+    InternalCDORevision goalRevision = resultBaseRevision.copy();
+    goalRevision.setBranchPoint(this);
+    if (!keepVersions)
+    {
+      goalRevision.setVersion(targetRevision.getVersion());
+    }
+
+    goalRevision.setRevised(UNSPECIFIED_DATE);
+    resultBaseGoalDelta.applyTo(goalRevision);
+
+    InternalCDORevisionDelta targetGoalDelta = goalRevision.compare(targetRevision);
+    targetGoalDelta.setTarget(null);
+
+    if (!targetGoalDelta.isEmpty())
+    {
+      if (keepVersions && targetGoalDelta.getVersion() != resultBaseRevision.getVersion())
+      {
+        throw new ChangeSetOutdatedException();
       }
 
-      if (revisionChanged)
+      revisionDeltas.put(id, targetGoalDelta);
+      result.add(targetGoalDelta);
+
+      // handle reattached objects.
+      if (detachedObjects.containsKey(id))
       {
-        object.cdoInternalPostLoad();
+        CDOStateMachine.INSTANCE.internalReattach(object, this);
       }
+
+      object.cdoInternalSetRevision(goalRevision);
+      object.cdoInternalSetState(CDOState.DIRTY);
+      revisionChanged = true;
+
+      dirtyObjects.put(id, object);
+      setDirty(true);
     }
 
-    return oldRevisions;
+    if (revisionChanged)
+    {
+      object.cdoInternalPostLoad();
+    }
   }
 
   private InternalCDOObject getObjectIfExists(CDOID id)
@@ -41,6 +41,7 @@ import org.eclipse.emf.cdo.spi.common.revision.InternalCDORevisionDelta;
 import org.eclipse.emf.cdo.transaction.CDOMerger;
 
 import org.eclipse.net4j.util.CheckUtil;
+import org.eclipse.net4j.util.WrappedException;
 import org.eclipse.net4j.util.collection.Pair;
 
 import org.eclipse.emf.common.util.BasicEList;
@@ -54,6 +55,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * If the meaning of this type isn't clear, there really should be more of a description here...
@@ -63,6 +68,11 @@ import java.util.Set;
  */
 public class DefaultCDOMerger implements CDOMerger
 {
+  /**
+   * @since 4.25
+   */
+  public static final int DEFAULT_PARTITION_SIZE = 1000;
+
   private final ResolutionPreference resolutionPreference;
 
   private final ListOrdering listOrdering;
@@ -75,6 +85,14 @@ public class DefaultCDOMerger implements CDOMerger
 
   private Map<CDOID, Object> sourceMap;
 
+  private int parallelism = 1;
+
+  private int partitionSize = DEFAULT_PARTITION_SIZE;
+
+  private ExecutorService executorService;
+
+  private final ThreadLocal<Partition> currentPartition = new ThreadLocal<>();
+
   public DefaultCDOMerger()
   {
     this(ResolutionPreference.NONE);
@@ -124,6 +142,61 @@ public class DefaultCDOMerger implements CDOMerger
     return listOrdering;
   }
 
+  /**
+   * @since 4.25
+   */
+  public int getParallelism()
+  {
+    return parallelism;
+  }
+
+  /**
+   * Sets the maximum number of threads that merge the changed objects. With a parallelism greater than <code>1</code> the
+   * objects are merged in partitions of {@link #getPartitionSize() partition size} objects and the hook methods of this
+   * merger must be thread-safe. The default is <code>1</code>.
+   *
+   * @since 4.25
+   */
+  public void setParallelism(int parallelism)
+  {
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  /**
+   * @since 4.25
+   */
+  public int getPartitionSize()
+  {
+    return partitionSize;
+  }
+
+  /**
+   * @since 4.25
+   */
+  public void setPartitionSize(int partitionSize)
+  {
+    this.partitionSize = Math.max(1, partitionSize);
+  }
+
+  /**
+   * @since 4.25
+   */
+  public ExecutorService getExecutorService()
+  {
+    return executorService;
+  }
+
+  /**
+   * Sets the executor service that runs the partitions of a parallel merge. If no executor service is set, the merge
+   * methods of a transaction use the executor service of its session.
+   *
+   * @since 4.25
+   */
+  public void setExecutorService(ExecutorService executorService)
+  {
+    this.executorService = executorService;
+  }
+
   public CDOChangeSetData getResult()
   {
     return result;
@@ -143,27 +216,34 @@ public class DefaultCDOMerger implements CDOMerger
     targetMap = createMap(target);
     sourceMap = createMap(source);
 
-    Set<CDOID> taken = new HashSet<>();
-    for (Map.Entry<CDOID, Object> entry : targetMap.entrySet())
+    if (parallelism > 1 && executorService != null && targetMap.size() + sourceMap.size() > partitionSize)
     {
-      CDOID id = entry.getKey();
-      Object targetData = entry.getValue();
-      Object sourceData = sourceMap.get(id);
-
-      if (merge(targetData, sourceData))
+      mergeParallel();
+    }
+    else
+    {
+      Set<CDOID> taken = new HashSet<>();
+      for (Map.Entry<CDOID, Object> entry : targetMap.entrySet())
       {
-        taken.add(id);
+        CDOID id = entry.getKey();
+        Object targetData = entry.getValue();
+        Object sourceData = sourceMap.get(id);
+
+        if (merge(targetData, sourceData))
+        {
+          taken.add(id);
+        }
       }
-    }
 
-    for (Map.Entry<CDOID, Object> entry : sourceMap.entrySet())
-    {
-      CDOID id = entry.getKey();
-      if (taken.add(id))
+      for (Map.Entry<CDOID, Object> entry : sourceMap.entrySet())
       {
-        Object sourceData = entry.getValue();
-        Object targetData = targetMap.get(id);
-        merge(targetData, sourceData);
+        CDOID id = entry.getKey();
+        if (taken.add(id))
+        {
+          Object sourceData = entry.getValue();
+          Object targetData = targetMap.get(id);
+          merge(targetData, sourceData);
+        }
       }
     }
 
@@ -175,6 +255,79 @@ public class DefaultCDOMerger implements CDOMerger
     return result;
   }
 
+  /**
+   * Merges the objects in partitions of {@link #getPartitionSize() partition size} IDs. Each partition collects its own
+   * result, the partition results are added to the merge result in the order of the partitions.
+   */
+  private void mergeParallel()
+  {
+    List<CDOID> ids = new ArrayList<>(targetMap.keySet());
+    for (CDOID id : sourceMap.keySet())
+    {
+      if (!targetMap.containsKey(id))
+      {
+        ids.add(id);
+      }
+    }
+
+    List<Partition> partitions = new ArrayList<>();
+    for (int start = 0; start < ids.size(); start += partitionSize)
+    {
+      partitions.add(new Partition(ids.subList(start, Math.min(start + partitionSize, ids.size()))));
+    }
+
+    AtomicInteger nextPartition = new AtomicInteger();
+    Runnable worker = () -> {
+      int index;
+      while ((index = nextPartition.getAndIncrement()) < partitions.size())
+      {
+        partitions.get(index).run();
+      }
+    };
+
+    List<Future<?>> futures = new ArrayList<>();
+    int workers = Math.min(parallelism, partitions.size());
+    for (int i = 1; i < workers; i++)
+    {
+      futures.add(executorService.submit(worker));
+    }
+
+    try
+    {
+      // The calling thread works, too.
+      worker.run();
+
+      for (Future<?> future : futures)
+      {
+        future.get();
+      }
+    }
+    catch (InterruptedException ex)
+    {
+      throw WrappedException.wrap(ex);
+    }
+    catch (ExecutionException ex)
+    {
+      Throwable cause = ex.getCause();
+      if (cause instanceof Exception)
+      {
+        throw WrappedException.wrap((Exception)cause);
+      }
+
+      throw (Error)cause;
+    }
+    finally
+    {
+      // Stop the other workers after a failure.
+      nextPartition.set(partitions.size());
+    }
+
+    for (Partition partition : partitions)
+    {
+      partition.addTo(result, conflicts);
+    }
+  }
+
   protected boolean merge(Object targetData, Object sourceData)
   {
     Object data = null;
@@ -372,6 +525,16 @@ public class DefaultCDOMerger implements CDOMerger
 
   private boolean takeNoPair(Object data)
   {
+    CDOChangeSetData result = this.result;
+    Map<CDOID, Conflict> conflicts = this.conflicts;
+
+    Partition partition = currentPartition.get();
+    if (partition != null)
+    {
+      result = partition.result;
+      conflicts = partition.conflicts;
+    }
+
     if (data instanceof CDORevision)
     {
       result.getNewObjects().add((CDORevision)data);
@@ -401,6 +564,50 @@ public class DefaultCDOMerger implements CDOMerger
     return true;
   }
 
+  /**
+   * A partition of the IDs of a parallel merge, together with the partial result of merging them.
+   *
+   * @author Eike Stepper
+   */
+  private final class Partition
+  {
+    private final List<CDOID> ids;
+
+    private final CDOChangeSetData result = new CDOChangeSetDataImpl();
+
+    private final Map<CDOID, Conflict> conflicts = CDOIDUtil.createMap();
+
+    public Partition(List<CDOID> ids)
+    {
+      this.ids = ids;
+    }
+
+    public void run()
+    {
+      currentPartition.set(this);
+
+      try
+      {
+        for (CDOID id : ids)
+        {
+          merge(targetMap.get(id), sourceMap.get(id));
+        }
+      }
+      finally
+      {
+        currentPartition.remove();
+      }
+    }
+
+    public void addTo(CDOChangeSetData result, Map<CDOID, Conflict> conflicts)
+    {
+      result.getNewObjects().addAll(this.result.getNewObjects());
+      result.getChangedObjects().addAll(this.result.getChangedObjects());
+      result.getDetachedObjects().addAll(this.result.getDetachedObjects());
+      conflicts.putAll(this.conflicts);
+    }
+  }
+
   /**
    * Enumerates the possible resolution preferences that can be used with a {@link DefaultCDOMerger}.
    *
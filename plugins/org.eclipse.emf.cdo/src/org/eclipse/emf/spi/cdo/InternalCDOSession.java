@@ -45,6 +45,7 @@ import org.eclipse.net4j.util.security.IPasswordCredentialsProvider;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.spi.cdo.CDOSessionProtocol.RefreshSessionResult;
 
+import java.io.File;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -339,6 +340,16 @@ public interface InternalCDOSession
    */
   public void setMainBranchLocal(boolean mainBranchLocal);
 
+  /**
+   * @since 4.25
+   */
+  public File getRevisionCacheFolder();
+
+  /**
+   * @since 4.25
+   */
+  public void setRevisionCacheFolder(File revisionCacheFolder);
+
   /**
    * @since 4.0
    * @deprecated As of 4.2 not used anymore.
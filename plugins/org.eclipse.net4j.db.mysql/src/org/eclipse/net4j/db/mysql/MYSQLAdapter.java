@@ -124,6 +124,14 @@ public class MYSQLAdapter extends DBAdapter
     builder.append(" DROP PRIMARY KEY"); //$NON-NLS-1$
   }
 
+  @Override
+  protected void dropIndex(IDBIndex index, StringBuilder builder)
+  {
+    super.dropIndex(index, builder);
+    builder.append(" ON "); //$NON-NLS-1$
+    builder.append(index.getTable());
+  }
+
   @Override
   protected void addIndexField(StringBuilder builder, IDBField field)
   {
@@ -33,6 +33,34 @@ public interface IDBConnection extends Connection, IUserAware
 
   public IDBPreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, ReuseProbability reuseProbability);
 
+  /**
+   * Returns the number of rows that an INSERT statement of this connection collects before they are sent to the database
+   * in one batch, or <code>0</code> if INSERT statements are executed immediately.
+   *
+   * @since 4.12
+   */
+  public int getInsertBatchSize();
+
+  /**
+   * Sets the number of rows that an INSERT statement of this connection collects before they are sent to the database
+   * in one batch.
+   * <p>
+   * While the batch size is positive, {@link PreparedStatement#executeUpdate() executeUpdate()} of a prepared INSERT statement
+   * only adds the current parameters to the batch of the statement and returns <code>1</code>. The pending batches are sent
+   * to the database before any other statement of this connection is executed, before a commit, and when batching is disabled
+   * with a batch size of <code>0</code>. Errors of batched rows are consequently reported by these later calls.
+   *
+   * @since 4.12
+   */
+  public void setInsertBatchSize(int insertBatchSize);
+
+  /**
+   * Sends the pending batches of all INSERT statements of this connection to the database.
+   *
+   * @since 4.12
+   */
+  public void flushInsertBatches();
+
   /**
    * @deprecated Not supported.
    */
@@ -25,6 +25,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 /**
@@ -38,6 +43,19 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
 
   private HashBag<DBPreparedStatement> checkOuts;
 
+  /**
+   * The INSERT statements with pending batches.
+   */
+  private final Set<DBPreparedStatement> batchedStatements = new LinkedHashSet<>();
+
+  /**
+   * The released INSERT statements with pending batches. They are handed out again by {@link #prepareStatement(String, ReuseProbability)}
+   * and only enter the cache after their batches have been executed.
+   */
+  private final Map<String, DBPreparedStatement> parkedStatements = new HashMap<>();
+
+  private int insertBatchSize;
+
   private final DBDatabase database;
 
   private int cacheSize;
@@ -81,6 +99,12 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
   @Override
   public void close()
   {
+    synchronized (this)
+    {
+      batchedStatements.clear();
+      parkedStatements.clear();
+    }
+
     DBUtil.close(getDelegate());
     // System.out.println("-- Open connections: " + --COUNT);
     closed = true;
@@ -100,6 +124,81 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
     return schemaTransaction;
   }
 
+  @Override
+  public int getInsertBatchSize()
+  {
+    return insertBatchSize;
+  }
+
+  @Override
+  public void setInsertBatchSize(int insertBatchSize)
+  {
+    CheckUtil.checkArg(insertBatchSize >= 0, "insertBatchSize"); //$NON-NLS-1$
+    this.insertBatchSize = insertBatchSize;
+
+    if (insertBatchSize == 0)
+    {
+      flushInsertBatches();
+    }
+  }
+
+  @Override
+  public void flushInsertBatches()
+  {
+    try
+    {
+      executeInsertBatches();
+    }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
+  }
+
+  @Override
+  public void commit() throws SQLException
+  {
+    executeInsertBatches();
+    super.commit();
+  }
+
+  @Override
+  public void rollback() throws SQLException
+  {
+    synchronized (this)
+    {
+      for (DBPreparedStatement preparedStatement : batchedStatements.toArray(new DBPreparedStatement[batchedStatements.size()]))
+      {
+        preparedStatement.clearPendingBatch();
+      }
+
+      releaseParkedStatements();
+    }
+
+    super.rollback();
+  }
+
+  @Override
+  public Statement createStatement() throws SQLException
+  {
+    executeInsertBatches();
+    return super.createStatement();
+  }
+
+  @Override
+  public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException
+  {
+    executeInsertBatches();
+    return super.createStatement(resultSetType, resultSetConcurrency);
+  }
+
+  @Override
+  public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException
+  {
+    executeInsertBatches();
+    return super.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+  }
+
   @Override
   @Deprecated
   public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException
@@ -144,28 +243,33 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
       DBPreparedStatement preparedStatement;
       synchronized (this)
       {
-        preparedStatement = cache.remove(sql);
+        // A parked statement continues its pending batch.
+        preparedStatement = parkedStatements.isEmpty() ? null : parkedStatements.remove(sql);
         if (preparedStatement == null)
         {
-          try
+          preparedStatement = cache.remove(sql);
+          if (preparedStatement == null)
           {
-            PreparedStatement delegate = getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency);
-            preparedStatement = new DBPreparedStatement(this, sql, reuseProbability, delegate);
+            try
+            {
+              PreparedStatement delegate = getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency);
+              preparedStatement = new DBPreparedStatement(this, sql, reuseProbability, delegate);
+            }
+            catch (SQLException ex)
+            {
+              throw new DBException(ex);
+            }
           }
-          catch (SQLException ex)
+          else
           {
-            throw new DBException(ex);
-          }
-        }
-        else
-        {
-          --cacheSize;
-
-          DBPreparedStatement nextCached = preparedStatement.getNextCached();
-          if (nextCached != null)
-          {
-            cache.put(sql, nextCached);
-            preparedStatement.setNextCached(null);
+            --cacheSize;
+
+            DBPreparedStatement nextCached = preparedStatement.getNextCached();
+            if (nextCached != null)
+            {
+              cache.put(sql, nextCached);
+              preparedStatement.setNextCached(null);
+            }
           }
         }
 
@@ -215,31 +319,24 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
           checkOuts.remove(preparedStatement);
         }
 
-        preparedStatement.setTouch(++lastTouch);
-
-        String sql = preparedStatement.getSQL();
-        DBPreparedStatement cached = cache.put(sql, preparedStatement);
-        if (cached != null)
-        {
-          preparedStatement.setNextCached(cached);
-        }
-
-        if (++cacheSize > database.getStatementCacheCapacity())
+        if (preparedStatement.hasPendingBatch())
         {
-          String firstKey = cache.firstKey();
-          DBPreparedStatement old = cache.remove(firstKey);
-          DBPreparedStatement nextCached = old.getNextCached();
-
-          DBUtil.close(old.getDelegate());
-          --cacheSize;
-
-          if (nextCached != null)
+          if (parkedStatements.putIfAbsent(preparedStatement.getSQL(), preparedStatement) == null)
           {
-            cache.put(firstKey, nextCached);
+            return;
           }
+
+          // Another statement with the same SQL is already parked.
+          preparedStatement.executePendingBatch();
         }
+
+        cacheStatement(preparedStatement);
       }
     }
+    catch (SQLException ex)
+    {
+      throw new DBException(ex);
+    }
     finally
     {
       Object schemaAccessToken = preparedStatement.setSchemaAccessToken(null);
@@ -247,6 +344,80 @@ public final class DBConnection extends DelegatingConnection implements IDBConne
     }
   }
 
+  private void cacheStatement(DBPreparedStatement preparedStatement)
+  {
+    preparedStatement.setTouch(++lastTouch);
+
+    String sql = preparedStatement.getSQL();
+    DBPreparedStatement cached = cache.put(sql, preparedStatement);
+    if (cached != null)
+    {
+      preparedStatement.setNextCached(cached);
+    }
+
+    if (++cacheSize > database.getStatementCacheCapacity())
+    {
+      String firstKey = cache.firstKey();
+      DBPreparedStatement old = cache.remove(firstKey);
+      DBPreparedStatement nextCached = old.getNextCached();
+
+      DBUtil.close(old.getDelegate());
+      --cacheSize;
+
+      if (nextCached != null)
+      {
+        cache.put(firstKey, nextCached);
+      }
+    }
+  }
+
+  void batchPending(DBPreparedStatement preparedStatement)
+  {
+    synchronized (this)
+    {
+      batchedStatements.add(preparedStatement);
+    }
+  }
+
+  void batchDone(DBPreparedStatement preparedStatement)
+  {
+    synchronized (this)
+    {
+      batchedStatements.remove(preparedStatement);
+    }
+  }
+
+  void executeInsertBatches() throws SQLException
+  {
+    synchronized (this)
+    {
+      if (batchedStatements.isEmpty())
+      {
+        return;
+      }
+
+      for (DBPreparedStatement preparedStatement : batchedStatements.toArray(new DBPreparedStatement[batchedStatements.size()]))
+      {
+        preparedStatement.executePendingBatch();
+      }
+
+      releaseParkedStatements();
+    }
+  }
+
+  private void releaseParkedStatements()
+  {
+    if (!parkedStatements.isEmpty())
+    {
+      for (DBPreparedStatement preparedStatement : parkedStatements.values())
+      {
+        cacheStatement(preparedStatement);
+      }
+
+      parkedStatements.clear();
+    }
+  }
+
   public void invalidateStatementCache()
   {
     synchronized (this)
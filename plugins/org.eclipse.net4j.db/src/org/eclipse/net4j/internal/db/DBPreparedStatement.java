@@ -19,6 +19,7 @@ import org.eclipse.net4j.util.om.OMPlatform;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 
 /**
@@ -33,6 +34,8 @@ public class DBPreparedStatement extends DelegatingPreparedStatement implements
 
   private final ReuseProbability reuseProbability;
 
+  private final boolean insert;
+
   private int touch;
 
   private DBPreparedStatement nextCached;
@@ -43,11 +46,14 @@ public class DBPreparedStatement extends DelegatingPreparedStatement implements
 
   private int addBatchCount;
 
+  private int pendingBatchCount;
+
   public DBPreparedStatement(DBConnection transaction, String sql, ReuseProbability reuseProbability, PreparedStatement delegate)
   {
     super(delegate, transaction);
     this.sql = sql;
     this.reuseProbability = reuseProbability;
+    insert = sql.trim().regionMatches(true, 0, "INSERT", 0, 6); //$NON-NLS-1$
   }
 
   @Override
@@ -136,9 +142,48 @@ public class DBPreparedStatement extends DelegatingPreparedStatement implements
   @Override
   public IDBResultSet executeQuery() throws SQLException
   {
+    getConnection().executeInsertBatches();
     return new DBResultSet(getDelegate().executeQuery(), this);
   }
 
+  @Override
+  public int executeUpdate() throws SQLException
+  {
+    DBConnection connection = getConnection();
+    if (insert)
+    {
+      int insertBatchSize = connection.getInsertBatchSize();
+      if (insertBatchSize > 0)
+      {
+        getDelegate().addBatch();
+        if (++pendingBatchCount == 1)
+        {
+          connection.batchPending(this);
+        }
+
+        if (pendingBatchCount >= insertBatchSize)
+        {
+          executePendingBatch();
+        }
+
+        return 1;
+      }
+    }
+    else
+    {
+      connection.executeInsertBatches();
+    }
+
+    return super.executeUpdate();
+  }
+
+  @Override
+  public boolean execute() throws SQLException
+  {
+    getConnection().executeInsertBatches();
+    return super.execute();
+  }
+
   @Override
   @Deprecated
   public ResultSet executeQuery(String sql) throws SQLException
@@ -166,6 +211,12 @@ public class DBPreparedStatement extends DelegatingPreparedStatement implements
   @Override
   public void addBatch() throws SQLException
   {
+    if (pendingBatchCount != 0)
+    {
+      // Don't mix the rows of an explicit batch with the rows of a pending insert batch.
+      executePendingBatch();
+    }
+
     if (immediateBatchExecution)
     {
       ++addBatchCount;
@@ -188,9 +239,47 @@ public class DBPreparedStatement extends DelegatingPreparedStatement implements
       return results;
     }
 
+    if (!insert)
+    {
+      getConnection().executeInsertBatches();
+    }
+
     return super.executeBatch();
   }
 
+  public boolean hasPendingBatch()
+  {
+    return pendingBatchCount != 0;
+  }
+
+  void executePendingBatch() throws SQLException
+  {
+    int count = pendingBatchCount;
+    pendingBatchCount = 0;
+    getConnection().batchDone(this);
+
+    int[] results = getDelegate().executeBatch();
+    if (results.length != count)
+    {
+      throw new SQLException("Batch of " + count + " rows returned " + results.length + " update counts: " + sql); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    for (int result : results)
+    {
+      if (result != 1 && result != Statement.SUCCESS_NO_INFO)
+      {
+        throw new SQLException("Batched row returned update count " + result + " (expected: 1): " + sql); //$NON-NLS-1$ //$NON-NLS-2$
+      }
+    }
+  }
+
+  void clearPendingBatch() throws SQLException
+  {
+    pendingBatchCount = 0;
+    getConnection().batchDone(this);
+    getDelegate().clearBatch();
+  }
+
   public String convertString(DBResultSet resultSet, int columnIndex, String value) throws SQLException
   {
     return getConnection().convertString(resultSet, columnIndex, value);
@@ -562,6 +562,27 @@ public abstract class DBAdapter implements IDBAdapter
     DBUtil.execute(connection, "ALTER TABLE " + tableName + " DROP COLUMN " + fieldName);
   }
 
+  /**
+   * Creates the given index in the database, independent of a {@link IDBSchemaDelta schema delta}.
+   *
+   * @since 4.12
+   */
+  public void createIndex(Connection connection, IDBIndex index)
+  {
+    createIndex(connection, index, null);
+  }
+
+  /**
+   * Drops the given index from the database, independent of a {@link IDBSchemaDelta schema delta}.
+   * The index remains a member of its {@link IDBTable table}.
+   *
+   * @since 4.12
+   */
+  public void dropIndex(Connection connection, IDBIndex index)
+  {
+    dropIndex(connection, index, null);
+  }
+
   /**
    * @since 4.2
    */
@@ -665,6 +686,8 @@ public abstract class DBAdapter implements IDBAdapter
    */
   protected void dropIndex(IDBIndex index, StringBuilder builder)
   {
+    builder.append("DROP INDEX "); //$NON-NLS-1$
+    builder.append(index);
   }
 
   @Override
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.jms.server.internal.journal;
+
+import org.eclipse.net4j.jms.internal.server.store.StoreException;
+import org.eclipse.net4j.util.io.IOUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.zip.CRC32;
+
+/**
+ * A fixed-size, memory-mapped file of the {@link JournalStore journal}.
+ * <p>
+ * A segment starts with a header and is followed by a sequence of frames. Each frame consists of the length and the CRC32
+ * checksum of its payload, followed by the payload. The length of a frame is written last and is always followed by a
+ * zero length, so that a frame that was torn by a crash is not read.
+ *
+ * @author Eike Stepper
+ */
+public final class JournalSegment
+{
+  public static final String FILE_PREFIX = "segment-"; //$NON-NLS-1$
+
+  public static final String FILE_SUFFIX = ".jnl"; //$NON-NLS-1$
+
+  private static final int MAGIC = 0x4A4E4C31; // "JNL1"
+
+  private static final int HEADER_SIZE = 4 + 8;
+
+  private static final int FRAME_OVERHEAD = 4 + 4;
+
+  private static final int TERMINATOR_SIZE = 4;
+
+  private final long id;
+
+  private final File file;
+
+  private RandomAccessFile randomAccessFile;
+
+  private volatile MappedByteBuffer buffer;
+
+  private int position = HEADER_SIZE;
+
+  /**
+   * The number of index entries that were created in this segment.
+   */
+  int totalEntries;
+
+  /**
+   * The number of index entries that were created in this segment and are not completed, yet.
+   */
+  int liveEntries;
+
+  private JournalSegment(long id, File file)
+  {
+    this.id = id;
+    this.file = file;
+  }
+
+  public long getID()
+  {
+    return id;
+  }
+
+  public File getFile()
+  {
+    return file;
+  }
+
+  public int getPosition()
+  {
+    return position;
+  }
+
+  public int getCapacity()
+  {
+    return buffer.capacity();
+  }
+
+  public boolean hasRoom(int payloadSize)
+  {
+    return (long)position + FRAME_OVERHEAD + payloadSize + TERMINATOR_SIZE <= buffer.capacity();
+  }
+
+  /**
+   * Returns a buffer that is positioned at the payload of the next frame and limited to the given size.
+   */
+  public ByteBuffer prepareFrame(int payloadSize)
+  {
+    ByteBuffer payload = buffer.duplicate();
+    payload.position(position + FRAME_OVERHEAD);
+    payload.limit(position + FRAME_OVERHEAD + payloadSize);
+    return payload.slice();
+  }
+
+  /**
+   * Completes the frame whose payload has been written into the buffer that was returned by {@link #prepareFrame(int)}.
+   */
+  public void commitFrame(int payloadSize)
+  {
+    ByteBuffer payload = prepareFrame(payloadSize);
+
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+
+    int end = position + FRAME_OVERHEAD + payloadSize;
+    buffer.putInt(end, 0);
+    buffer.putInt(position + 4, (int)crc.getValue());
+    buffer.putInt(position, payloadSize);
+    position = end;
+  }
+
+  /**
+   * Reads all valid frames of this segment and positions it behind the last one.
+   */
+  public void recover(FrameHandler handler)
+  {
+    int pos = HEADER_SIZE;
+    int capacity = buffer.capacity();
+
+    while (pos + FRAME_OVERHEAD <= capacity)
+    {
+      int length = buffer.getInt(pos);
+      if (length <= 0 || pos + FRAME_OVERHEAD + length > capacity)
+      {
+        break;
+      }
+
+      ByteBuffer payload = buffer.duplicate();
+      payload.position(pos + FRAME_OVERHEAD);
+      payload.limit(pos + FRAME_OVERHEAD + length);
+      payload = payload.slice();
+
+      CRC32 crc = new CRC32();
+      crc.update(payload.duplicate());
+      if ((int)crc.getValue() != buffer.getInt(pos + 4))
+      {
+        break;
+      }
+
+      handler.handleFrame(this, payload);
+      pos += FRAME_OVERHEAD + length;
+    }
+
+    if (pos + TERMINATOR_SIZE <= capacity)
+    {
+      // Cut off a torn frame, if any.
+      buffer.putInt(pos, 0);
+    }
+
+    position = pos;
+  }
+
+  public void force()
+  {
+    MappedByteBuffer buffer = this.buffer;
+    if (buffer != null)
+    {
+      // The segment may have been deleted by a concurrent compaction, after all of its records were forced.
+      buffer.force();
+    }
+  }
+
+  public void close()
+  {
+    buffer = null;
+    IOUtil.closeSilent(randomAccessFile);
+    randomAccessFile = null;
+  }
+
+  public void delete()
+  {
+    close();
+    if (!file.delete())
+    {
+      file.deleteOnExit();
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return file.getName();
+  }
+
+  public static JournalSegment create(File folder, long id, int capacity)
+  {
+    JournalSegment segment = new JournalSegment(id, getFile(folder, id));
+    segment.map(capacity);
+    segment.buffer.putInt(0, MAGIC);
+    segment.buffer.putLong(4, id);
+    segment.buffer.putInt(HEADER_SIZE, 0);
+    segment.force();
+    return segment;
+  }
+
+  public static JournalSegment open(File file, long id)
+  {
+    JournalSegment segment = new JournalSegment(id, file);
+    segment.map(-1);
+
+    if (segment.buffer.capacity() < HEADER_SIZE + TERMINATOR_SIZE || segment.buffer.getInt(0) != MAGIC || segment.buffer.getLong(4) != id)
+    {
+      segment.close();
+      throw new StoreException("Not a journal segment: " + file); //$NON-NLS-1$
+    }
+
+    return segment;
+  }
+
+  public static int getCapacity(int segmentSize, int payloadSize)
+  {
+    return Math.max(segmentSize, HEADER_SIZE + FRAME_OVERHEAD + payloadSize + TERMINATOR_SIZE);
+  }
+
+  public static File getFile(File folder, long id)
+  {
+    return new File(folder, FILE_PREFIX + String.format("%016x", id) + FILE_SUFFIX); //$NON-NLS-1$
+  }
+
+  public static long getID(File file)
+  {
+    String name = file.getName();
+    if (name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX))
+    {
+      try
+      {
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()), 16);
+      }
+      catch (NumberFormatException ex)
+      {
+        //$FALL-THROUGH$
+      }
+    }
+
+    return -1L;
+  }
+
+  private void map(int capacity)
+  {
+    try
+    {
+      randomAccessFile = new RandomAccessFile(file, "rw"); //$NON-NLS-1$
+      if (capacity >= 0)
+      {
+        randomAccessFile.setLength(capacity);
+      }
+
+      FileChannel channel = randomAccessFile.getChannel();
+      buffer = channel.map(MapMode.READ_WRITE, 0, channel.size());
+    }
+    catch (IOException ex)
+    {
+      IOUtil.closeSilent(randomAccessFile);
+      throw new StoreException(ex);
+    }
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  public interface FrameHandler
+  {
+    public void handleFrame(JournalSegment segment, ByteBuffer payload);
+  }
+}
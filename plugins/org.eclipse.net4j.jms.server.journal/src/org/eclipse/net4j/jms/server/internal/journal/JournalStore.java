@@ -0,0 +1,847 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.jms.server.internal.journal;
+
+import org.eclipse.net4j.internal.jms.MessageImpl;
+import org.eclipse.net4j.jms.internal.server.store.AbstractStore;
+import org.eclipse.net4j.jms.internal.server.store.StoreException;
+import org.eclipse.net4j.jms.server.IStoreTransaction;
+import org.eclipse.net4j.jms.server.internal.journal.JournalSegment.FrameHandler;
+import org.eclipse.net4j.jms.server.internal.journal.bundle.OM;
+import org.eclipse.net4j.util.io.ExtendedDataInputStream;
+import org.eclipse.net4j.util.io.ExtendedDataOutputStream;
+import org.eclipse.net4j.util.om.trace.ContextTracer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A store that appends the records of each committed transaction to a segmented, memory-mapped journal.
+ * <p>
+ * Concurrent commits are made durable with a single group fsync: the first committer forces the current segment on behalf
+ * of all records that have been appended so far, the others wait for it and return without forcing again. An in-memory
+ * index keeps the state of all persistent messages that are not completely acknowledged. When the journal rolls over to
+ * a new segment, the oldest segments are deleted as soon as none of their messages are pending anymore, or compacted by
+ * appending snapshots of their few pending messages to the current segment. Segments that are older than the
+ * {@link #setMaxSegmentAge(int) maximum segment age} are compacted regardless of the number of their pending messages,
+ * so that a few long-lived messages can't keep the journal from shrinking.
+ * <p>
+ * Consumers don't survive a restart of the server, so that the deliveries of the recovered messages are reset on
+ * activation and the messages are {@link #getPendingMessages() redelivered} by the server.
+ *
+ * @author Eike Stepper
+ */
+public class JournalStore extends AbstractStore
+{
+  public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  public static final float DEFAULT_COMPACTION_RATIO = 0.25f;
+
+  public static final int DEFAULT_MAX_SEGMENT_AGE = 8;
+
+  private static final String STORE_TYPE = "JOURNAL"; //$NON-NLS-1$
+
+  private static final int SNAPSHOT_BATCH_SIZE = 1000;
+
+  private static final ContextTracer TRACER = new ContextTracer(OM.DEBUG, JournalStore.class);
+
+  private final File folder;
+
+  private int segmentSize = DEFAULT_SEGMENT_SIZE;
+
+  private float compactionRatio = DEFAULT_COMPACTION_RATIO;
+
+  private int maxSegmentAge = DEFAULT_MAX_SEGMENT_AGE;
+
+  private boolean syncOnCommit = true;
+
+  /**
+   * Guards {@link #segments}, {@link #currentSegment}, {@link #appendedPosition} and {@link #entries}.
+   */
+  private final Object appendLock = new Object();
+
+  private final Object syncLock = new Object();
+
+  private final LinkedList<JournalSegment> segments = new LinkedList<>();
+
+  private JournalSegment currentSegment;
+
+  private long appendedPosition;
+
+  private final AtomicLong syncedPosition = new AtomicLong();
+
+  private final AtomicLong syncCount = new AtomicLong();
+
+  private final Map<String, Entry> entries = new HashMap<>();
+
+  private boolean compacting;
+
+  public JournalStore(File folder)
+  {
+    super(STORE_TYPE);
+    if (folder == null)
+    {
+      throw new IllegalArgumentException("folder == null"); //$NON-NLS-1$
+    }
+
+    this.folder = folder;
+  }
+
+  public File getFolder()
+  {
+    return folder;
+  }
+
+  public int getSegmentSize()
+  {
+    return segmentSize;
+  }
+
+  public void setSegmentSize(int segmentSize)
+  {
+    checkInactive();
+    this.segmentSize = segmentSize;
+  }
+
+  public float getCompactionRatio()
+  {
+    return compactionRatio;
+  }
+
+  /**
+   * Sets the ratio of pending to created messages below which the oldest segment is compacted.
+   */
+  public void setCompactionRatio(float compactionRatio)
+  {
+    checkInactive();
+    this.compactionRatio = compactionRatio;
+  }
+
+  public int getMaxSegmentAge()
+  {
+    return maxSegmentAge;
+  }
+
+  /**
+   * Sets the number of newer segments after which a segment is compacted regardless of the compaction ratio.
+   */
+  public void setMaxSegmentAge(int maxSegmentAge)
+  {
+    checkInactive();
+    this.maxSegmentAge = maxSegmentAge;
+  }
+
+  public boolean isSyncOnCommit()
+  {
+    return syncOnCommit;
+  }
+
+  public void setSyncOnCommit(boolean syncOnCommit)
+  {
+    checkInactive();
+    this.syncOnCommit = syncOnCommit;
+  }
+
+  public int getSegmentCount()
+  {
+    synchronized (appendLock)
+    {
+      return segments.size();
+    }
+  }
+
+  public int getPendingMessageCount()
+  {
+    synchronized (appendLock)
+    {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Returns the number of times that commits have forced the journal.
+   */
+  public long getSyncCount()
+  {
+    return syncCount.get();
+  }
+
+  @Override
+  public List<MessageImpl> getPendingMessages()
+  {
+    List<byte[]> data = new ArrayList<>();
+    synchronized (appendLock)
+    {
+      for (Entry entry : entries.values())
+      {
+        data.add(entry.message);
+      }
+    }
+
+    List<MessageImpl> messages = new ArrayList<>(data.size());
+    for (byte[] bytes : data)
+    {
+      messages.add(readMessage(bytes));
+    }
+
+    return messages;
+  }
+
+  @Override
+  public IStoreTransaction startTransaction()
+  {
+    return new JournalTransaction(this);
+  }
+
+  @Override
+  public void commitTransaction(IStoreTransaction transaction)
+  {
+    JournalTransaction journalTransaction = (JournalTransaction)transaction;
+
+    try
+    {
+      List<Record> records = journalTransaction.getRecords();
+      if (!records.isEmpty())
+      {
+        long position = append(records);
+        if (syncOnCommit)
+        {
+          sync(position);
+        }
+      }
+    }
+    finally
+    {
+      journalTransaction.dispose();
+    }
+  }
+
+  @Override
+  public void rollbackTransaction(IStoreTransaction transaction)
+  {
+    JournalTransaction journalTransaction = (JournalTransaction)transaction;
+    journalTransaction.dispose();
+  }
+
+  /**
+   * Makes all records up to the given journal position durable. Only one thread forces the current segment at a time,
+   * and each force covers all records that were appended before it started.
+   */
+  protected void sync(long position)
+  {
+    if (syncedPosition.get() >= position)
+    {
+      return;
+    }
+
+    synchronized (syncLock)
+    {
+      if (syncedPosition.get() >= position)
+      {
+        return;
+      }
+
+      JournalSegment segment;
+      long target;
+
+      synchronized (appendLock)
+      {
+        segment = currentSegment;
+        target = appendedPosition;
+      }
+
+      segment.force();
+      setSyncedPosition(target);
+      syncCount.incrementAndGet();
+    }
+  }
+
+  protected long append(List<Record> records)
+  {
+    int size = 4;
+    for (Record record : records)
+    {
+      size += record.getSize();
+    }
+
+    synchronized (appendLock)
+    {
+      checkActive();
+      JournalSegment segment = writeFrame(records, size);
+
+      for (Record record : records)
+      {
+        apply(record, segment);
+      }
+
+      return appendedPosition;
+    }
+  }
+
+  @Override
+  protected void doActivate() throws Exception
+  {
+    super.doActivate();
+    folder.mkdirs();
+
+    List<File> files = new ArrayList<>();
+    File[] children = folder.listFiles();
+    if (children != null)
+    {
+      for (File child : children)
+      {
+        if (JournalSegment.getID(child) >= 0L)
+        {
+          files.add(child);
+        }
+      }
+    }
+
+    File[] array = files.toArray(new File[files.size()]);
+    Arrays.sort(array, (f1, f2) -> Long.compare(JournalSegment.getID(f1), JournalSegment.getID(f2)));
+
+    synchronized (appendLock)
+    {
+      FrameHandler handler = (segment, payload) -> {
+        int count = payload.getInt();
+        for (int i = 0; i < count; i++)
+        {
+          apply(Record.read(payload), segment);
+        }
+      };
+
+      for (File file : array)
+      {
+        JournalSegment segment = JournalSegment.open(file, JournalSegment.getID(file));
+        segments.add(segment);
+        segment.recover(handler);
+      }
+
+      if (segments.isEmpty())
+      {
+        segments.add(JournalSegment.create(folder, 1L, segmentSize));
+      }
+
+      currentSegment = segments.getLast();
+      appendedPosition = getPosition(currentSegment);
+      setSyncedPosition(appendedPosition);
+
+      if (TRACER.isEnabled())
+      {
+        TRACER.format("Recovered {0} pending messages from {1} segments", entries.size(), segments.size()); //$NON-NLS-1$
+      }
+
+      resetDeliveries();
+      compact();
+    }
+  }
+
+  @Override
+  protected void doDeactivate() throws Exception
+  {
+    synchronized (appendLock)
+    {
+      if (currentSegment != null)
+      {
+        currentSegment.force();
+        currentSegment = null;
+      }
+
+      for (JournalSegment segment : segments)
+      {
+        segment.close();
+      }
+
+      segments.clear();
+      entries.clear();
+    }
+
+    super.doDeactivate();
+  }
+
+  private JournalSegment writeFrame(List<Record> records, int size)
+  {
+    if (!currentSegment.hasRoom(size))
+    {
+      roll(size);
+    }
+
+    ByteBuffer payload = currentSegment.prepareFrame(size);
+    payload.putInt(records.size());
+    for (Record record : records)
+    {
+      record.write(payload);
+    }
+
+    currentSegment.commitFrame(size);
+    appendedPosition = getPosition(currentSegment);
+    return currentSegment;
+  }
+
+  private void roll(int size)
+  {
+    // Records in older segments are always durable, so that only the current segment needs to be forced on sync.
+    currentSegment.force();
+    setSyncedPosition(appendedPosition);
+
+    long id = currentSegment.getID() + 1;
+    currentSegment = JournalSegment.create(folder, id, JournalSegment.getCapacity(segmentSize, size));
+    segments.add(currentSegment);
+    appendedPosition = getPosition(currentSegment);
+
+    if (TRACER.isEnabled())
+    {
+      TRACER.trace("Rolled over to " + currentSegment); //$NON-NLS-1$
+    }
+
+    if (!compacting)
+    {
+      compact();
+    }
+  }
+
+  /**
+   * Deletes the oldest segments as long as they have no pending messages, or so few that they can be snapshotted cheaply.
+   * Segments are only deleted from the oldest end because records in a segment can belong to messages of older segments.
+   */
+  private void compact()
+  {
+    compacting = true;
+
+    try
+    {
+      while (segments.size() > 1)
+      {
+        JournalSegment oldest = segments.getFirst();
+        if (oldest.liveEntries > 0)
+        {
+          boolean expired = segments.size() - 1 > maxSegmentAge;
+          if (!expired && oldest.liveEntries > oldest.totalEntries * compactionRatio)
+          {
+            break;
+          }
+
+          snapshot(oldest);
+        }
+
+        // All records that supersede the oldest segment must be durable before it's deleted.
+        currentSegment.force();
+        setSyncedPosition(appendedPosition);
+
+        segments.removeFirst();
+        oldest.delete();
+
+        if (TRACER.isEnabled())
+        {
+          TRACER.trace("Deleted " + oldest); //$NON-NLS-1$
+        }
+      }
+    }
+    finally
+    {
+      compacting = false;
+    }
+  }
+
+  private void snapshot(JournalSegment segment)
+  {
+    List<Entry> pending = new ArrayList<>();
+    for (Entry entry : entries.values())
+    {
+      if (entry.segment == segment)
+      {
+        pending.add(entry);
+      }
+    }
+
+    if (TRACER.isEnabled())
+    {
+      TRACER.format("Compacting {0} pending messages of {1}", pending.size(), segment); //$NON-NLS-1$
+    }
+
+    writeSnapshots(pending, false);
+  }
+
+  /**
+   * Appends snapshots of the recovered messages that were sent to consumers of the previous incarnation of the server,
+   * so that their deliveries start over and they can be completed by the consumers of this incarnation.
+   */
+  private void resetDeliveries()
+  {
+    List<Entry> delivered = new ArrayList<>();
+    for (Entry entry : entries.values())
+    {
+      if (entry.dispatched || !entry.balances.isEmpty())
+      {
+        delivered.add(entry);
+      }
+    }
+
+    if (!delivered.isEmpty())
+    {
+      writeSnapshots(delivered, true);
+      currentSegment.force();
+      setSyncedPosition(appendedPosition);
+    }
+  }
+
+  private void writeSnapshots(List<Entry> pending, boolean reset)
+  {
+    for (int start = 0; start < pending.size(); start += SNAPSHOT_BATCH_SIZE)
+    {
+      List<Entry> batch = pending.subList(start, Math.min(start + SNAPSHOT_BATCH_SIZE, pending.size()));
+      List<Record> records = new ArrayList<>(batch.size());
+
+      int size = 4;
+      for (Entry entry : batch)
+      {
+        Record record = entry.snapshot(reset);
+        records.add(record);
+        size += record.getSize();
+      }
+
+      JournalSegment target = writeFrame(records, size);
+      for (Record record : records)
+      {
+        apply(record, target);
+      }
+    }
+  }
+
+  /**
+   * Applies a record to the index. Records are applied in journal order, both when they are appended and when they are
+   * recovered. Records of unknown messages refer to messages that are already completed or snapshotted later on.
+   */
+  private void apply(Record record, JournalSegment segment)
+  {
+    Entry entry = entries.get(record.messageID);
+
+    switch (record.type)
+    {
+    case Record.RECEIVED:
+    case Record.SNAPSHOT:
+      if (entry != null)
+      {
+        removeEntry(entry);
+      }
+
+      entry = new Entry(record.messageID, segment, record.message);
+      if (record.type == Record.SNAPSHOT)
+      {
+        entry.dispatched = record.dispatched;
+        entry.balances.putAll(record.balances);
+      }
+
+      entries.put(entry.messageID, entry);
+      ++segment.totalEntries;
+      ++segment.liveEntries;
+      break;
+
+    case Record.SENT:
+      if (entry != null)
+      {
+        entry.dispatched = true;
+        entry.addBalance(record.consumerID, 1);
+      }
+
+      break;
+
+    case Record.ACKNOWLEDGED:
+      if (entry != null)
+      {
+        entry.addBalance(record.consumerID, -1);
+      }
+
+      break;
+
+    default:
+      throw new StoreException("Invalid record type: " + record.type); //$NON-NLS-1$
+    }
+
+    if (entry != null && entry.isCompleted())
+    {
+      removeEntry(entry);
+    }
+  }
+
+  private void removeEntry(Entry entry)
+  {
+    entries.remove(entry.messageID);
+    --entry.segment.liveEntries;
+  }
+
+  private void setSyncedPosition(long position)
+  {
+    syncedPosition.accumulateAndGet(position, Math::max);
+  }
+
+  private static long getPosition(JournalSegment segment)
+  {
+    return segment.getID() << 32 | segment.getPosition();
+  }
+
+  private static byte[] writeMessage(MessageImpl message)
+  {
+    try
+    {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      ExtendedDataOutputStream out = new ExtendedDataOutputStream(baos);
+      message.write(out);
+      out.flush();
+      return baos.toByteArray();
+    }
+    catch (IOException ex)
+    {
+      throw new StoreException(ex);
+    }
+  }
+
+  private static MessageImpl readMessage(byte[] bytes)
+  {
+    try
+    {
+      MessageImpl message = new MessageImpl();
+      message.read(new ExtendedDataInputStream(new ByteArrayInputStream(bytes)));
+      return message;
+    }
+    catch (IOException ex)
+    {
+      throw new StoreException(ex);
+    }
+  }
+
+  /**
+   * The state of a persistent message that is not completely acknowledged, yet.
+   *
+   * @author Eike Stepper
+   */
+  private static final class Entry
+  {
+    private final String messageID;
+
+    /**
+     * The segment that contains the oldest record this state is derived from.
+     */
+    private final JournalSegment segment;
+
+    private final byte[] message;
+
+    private boolean dispatched;
+
+    /**
+     * The number of sends minus the number of acknowledgements per consumer. Zero balances are removed.
+     */
+    private final Map<Long, Integer> balances = new HashMap<>();
+
+    public Entry(String messageID, JournalSegment segment, byte[] message)
+    {
+      this.messageID = messageID;
+      this.segment = segment;
+      this.message = message;
+    }
+
+    public void addBalance(long consumerID, int delta)
+    {
+      Integer oldBalance = balances.get(consumerID);
+      int balance = (oldBalance == null ? 0 : oldBalance) + delta;
+      if (balance == 0)
+      {
+        balances.remove(consumerID);
+      }
+      else
+      {
+        balances.put(consumerID, balance);
+      }
+    }
+
+    public boolean isCompleted()
+    {
+      return dispatched && balances.isEmpty();
+    }
+
+    public Record snapshot(boolean reset)
+    {
+      if (reset)
+      {
+        return new Record(Record.SNAPSHOT, messageID, 0L, message, false, Collections.<Long, Integer> emptyMap());
+      }
+
+      return new Record(Record.SNAPSHOT, messageID, 0L, message, dispatched, balances);
+    }
+  }
+
+  /**
+   * A journal record. Records of one transaction are written into one frame, so that they're recovered atomically.
+   *
+   * @author Eike Stepper
+   */
+  static final class Record
+  {
+    static final byte RECEIVED = 1;
+
+    static final byte SENT = 2;
+
+    static final byte ACKNOWLEDGED = 3;
+
+    static final byte SNAPSHOT = 4;
+
+    private final byte type;
+
+    private final String messageID;
+
+    private final byte[] messageIDBytes;
+
+    private final long consumerID;
+
+    private final byte[] message;
+
+    private final boolean dispatched;
+
+    private final Map<Long, Integer> balances;
+
+    private Record(byte type, String messageID, long consumerID, byte[] message, boolean dispatched, Map<Long, Integer> balances)
+    {
+      this.type = type;
+      this.messageID = messageID;
+      messageIDBytes = messageID.getBytes(StandardCharsets.UTF_8);
+      this.consumerID = consumerID;
+      this.message = message;
+      this.dispatched = dispatched;
+      this.balances = balances;
+    }
+
+    public int getSize()
+    {
+      int size = 1 + 2 + messageIDBytes.length;
+
+      switch (type)
+      {
+      case RECEIVED:
+        return size + 4 + message.length;
+
+      case SENT:
+      case ACKNOWLEDGED:
+        return size + 8;
+
+      case SNAPSHOT:
+        return size + 4 + message.length + 1 + 4 + balances.size() * (8 + 4);
+
+      default:
+        throw new IllegalStateException("Invalid record type: " + type); //$NON-NLS-1$
+      }
+    }
+
+    public void write(ByteBuffer buffer)
+    {
+      buffer.put(type);
+      buffer.putShort((short)messageIDBytes.length);
+      buffer.put(messageIDBytes);
+
+      switch (type)
+      {
+      case RECEIVED:
+        buffer.putInt(message.length);
+        buffer.put(message);
+        break;
+
+      case SENT:
+      case ACKNOWLEDGED:
+        buffer.putLong(consumerID);
+        break;
+
+      case SNAPSHOT:
+        buffer.putInt(message.length);
+        buffer.put(message);
+        buffer.put((byte)(dispatched ? 1 : 0));
+        buffer.putInt(balances.size());
+        for (Map.Entry<Long, Integer> entry : balances.entrySet())
+        {
+          buffer.putLong(entry.getKey());
+          buffer.putInt(entry.getValue());
+        }
+
+        break;
+
+      default:
+        throw new IllegalStateException("Invalid record type: " + type); //$NON-NLS-1$
+      }
+    }
+
+    public static Record read(ByteBuffer buffer)
+    {
+      byte type = buffer.get();
+      byte[] messageIDBytes = new byte[buffer.getShort() & 0xFFFF];
+      buffer.get(messageIDBytes);
+      String messageID = new String(messageIDBytes, StandardCharsets.UTF_8);
+
+      switch (type)
+      {
+      case RECEIVED:
+        return new Record(type, messageID, 0L, readBytes(buffer), false, null);
+
+      case SENT:
+      case ACKNOWLEDGED:
+        return new Record(type, messageID, buffer.getLong(), null, false, null);
+
+      case SNAPSHOT:
+        byte[] message = readBytes(buffer);
+        boolean dispatched = buffer.get() != 0;
+        int size = buffer.getInt();
+
+        Map<Long, Integer> balances = new HashMap<>();
+        for (int i = 0; i < size; i++)
+        {
+          long consumerID = buffer.getLong();
+          balances.put(consumerID, buffer.getInt());
+        }
+
+        return new Record(type, messageID, 0L, message, dispatched, balances);
+
+      default:
+        throw new StoreException("Invalid record type: " + type); //$NON-NLS-1$
+      }
+    }
+
+    public static Record received(MessageImpl message)
+    {
+      return new Record(RECEIVED, message.getJMSMessageID(), 0L, writeMessage(message), false, null);
+    }
+
+    public static Record sent(String messageID, long consumerID)
+    {
+      return new Record(SENT, messageID, consumerID, null, false, null);
+    }
+
+    public static Record acknowledged(String messageID, long consumerID)
+    {
+      return new Record(ACKNOWLEDGED, messageID, consumerID, null, false, null);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer)
+    {
+      byte[] bytes = new byte[buffer.getInt()];
+      buffer.get(bytes);
+      return bytes;
+    }
+  }
+}
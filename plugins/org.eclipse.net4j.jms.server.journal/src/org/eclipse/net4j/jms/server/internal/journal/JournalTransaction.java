@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.jms.server.internal.journal;
+
+import org.eclipse.net4j.internal.jms.MessageImpl;
+import org.eclipse.net4j.jms.internal.server.ServerConsumer;
+import org.eclipse.net4j.jms.internal.server.ServerDestination;
+import org.eclipse.net4j.jms.internal.server.store.AbstractTransaction;
+import org.eclipse.net4j.jms.server.internal.journal.JournalStore.Record;
+
+import javax.jms.DeliveryMode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the records of one unit of work, so that the {@link JournalStore store} can append them as a single frame.
+ * Records of non-persistent messages are not collected.
+ *
+ * @author Eike Stepper
+ */
+public class JournalTransaction extends AbstractTransaction
+{
+  private List<Record> records = new ArrayList<>();
+
+  public JournalTransaction(JournalStore store)
+  {
+    super(store);
+  }
+
+  @Override
+  public JournalStore getStore()
+  {
+    return (JournalStore)super.getStore();
+  }
+
+  public List<Record> getRecords()
+  {
+    return records;
+  }
+
+  public void dispose()
+  {
+    records = null;
+  }
+
+  @Override
+  protected String[] doGetDestinationNames()
+  {
+    return NO_DESTINATION_NAMES;
+  }
+
+  @Override
+  protected ServerDestination doGetDestination(String name)
+  {
+    return null;
+  }
+
+  @Override
+  protected long[] doGetConsumerIDs()
+  {
+    return NO_CONSUMER_IDS;
+  }
+
+  @Override
+  protected ServerConsumer doGetConsumer(long id)
+  {
+    return null;
+  }
+
+  @Override
+  protected void doDestinationAdded(ServerDestination destination)
+  {
+  }
+
+  @Override
+  protected void doDestinationRemoved(ServerDestination destination)
+  {
+  }
+
+  @Override
+  protected void doConsumerAdded(ServerConsumer consumer)
+  {
+  }
+
+  @Override
+  protected void doConsumerRemoved(ServerConsumer consumer)
+  {
+  }
+
+  @Override
+  protected void doMessageReceived(MessageImpl message)
+  {
+    if (isPersistent(message))
+    {
+      records.add(Record.received(message));
+    }
+  }
+
+  @Override
+  protected void doMessageSent(MessageImpl message, long consumerID)
+  {
+    if (isPersistent(message))
+    {
+      records.add(Record.sent(message.getJMSMessageID(), consumerID));
+    }
+  }
+
+  @Override
+  protected void doMessageAcknowledged(MessageImpl message, long consumerID)
+  {
+    if (isPersistent(message))
+    {
+      records.add(Record.acknowledged(message.getJMSMessageID(), consumerID));
+    }
+  }
+
+  private static boolean isPersistent(MessageImpl message)
+  {
+    return message.getJMSDeliveryMode() != DeliveryMode.NON_PERSISTENT;
+  }
+}
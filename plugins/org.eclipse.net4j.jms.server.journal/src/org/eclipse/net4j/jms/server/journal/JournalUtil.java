@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.jms.server.journal;
+
+import org.eclipse.net4j.jms.server.IStore;
+import org.eclipse.net4j.jms.server.internal.journal.JournalStore;
+import org.eclipse.net4j.jms.server.internal.journal.bundle.OM;
+
+import java.io.File;
+import java.util.Properties;
+
+/**
+ * @author Eike Stepper
+ */
+public final class JournalUtil
+{
+  private JournalUtil()
+  {
+  }
+
+  public static IStore getStore(File folder, int segmentSize, boolean syncOnCommit, String instanceID)
+  {
+    JournalStore store = new JournalStore(folder);
+    store.setSegmentSize(segmentSize);
+    store.setSyncOnCommit(syncOnCommit);
+    store.setInstanceID(instanceID);
+    store.activate();
+    return store;
+  }
+
+  public static IStore getStore()
+  {
+    Properties properties = OM.BUNDLE.getConfigProperties();
+    String folder = properties.getProperty("store.folder", "journal"); //$NON-NLS-1$ //$NON-NLS-2$
+    String segmentSize = properties.getProperty("store.segmentSize", Integer.toString(JournalStore.DEFAULT_SEGMENT_SIZE)); //$NON-NLS-1$
+    String syncOnCommit = properties.getProperty("store.syncOnCommit", "true"); //$NON-NLS-1$ //$NON-NLS-2$
+    String instanceID = properties.getProperty("store.instanceID", "00000000"); //$NON-NLS-1$ //$NON-NLS-2$
+    return getStore(new File(folder), Integer.parseInt(segmentSize), Boolean.parseBoolean(syncOnCommit), instanceID);
+  }
+}
@@ -15,6 +15,7 @@ import org.eclipse.net4j.internal.jms.JMSDestination;
 import org.eclipse.net4j.internal.jms.MessageImpl;
 import org.eclipse.net4j.jms.internal.server.bundle.OM;
 import org.eclipse.net4j.jms.internal.server.messages.Messages;
+import org.eclipse.net4j.jms.internal.server.store.AbstractStore;
 import org.eclipse.net4j.jms.server.IDestination;
 import org.eclipse.net4j.jms.server.IServer;
 import org.eclipse.net4j.jms.server.IStore;
@@ -29,7 +30,11 @@ import javax.naming.Context;
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -43,6 +48,8 @@ public class Server extends QueueWorker<MessageImpl> implements IServer
 
   private static final boolean REBIND_DESTINATIONS = true;
 
+  private static final String MESSAGE_ID_PREFIX = "ID:NET4J:"; //$NON-NLS-1$
+
   private NonBlockingLongCounter messageIDCounter = new NonBlockingLongCounter();
 
   private NonBlockingLongCounter consumerIDCounter = new NonBlockingLongCounter();
@@ -57,6 +64,11 @@ public class Server extends QueueWorker<MessageImpl> implements IServer
 
   private ConcurrentMap<Long, ServerConsumer> consumers = new ConcurrentHashMap<>();
 
+  /**
+   * The pending messages of the store per destination name, until a consumer is added to that destination.
+   */
+  private Map<String, List<MessageImpl>> recoveredMessages = new HashMap<>();
+
   public Server()
   {
   }
@@ -147,6 +159,12 @@ public class Server extends QueueWorker<MessageImpl> implements IServer
     IStoreTransaction transaction = store.startTransaction();
     String[] messageIDs = handleClientMessagesInTransaction(transaction, messages);
     store.commitTransaction(transaction);
+
+    if (messageIDs != null)
+    {
+      dispatchClientMessages(messages);
+    }
+
     return messageIDs;
   }
 
@@ -161,19 +179,51 @@ public class Server extends QueueWorker<MessageImpl> implements IServer
         return null;
       }
 
-      messageIDs[i] = "ID:NET4J:" + HexUtil.longToHex(messageIDCounter.increment()); //$NON-NLS-1$
+      messageIDs[i] = MESSAGE_ID_PREFIX + HexUtil.longToHex(messageIDCounter.increment()); //$NON-NLS-1$
       message.setJMSMessageID(messageIDs[i]);
     }
 
     for (MessageImpl message : messages)
     {
       transaction.messageReceived(message);
-      addWork(message);
     }
 
     return messageIDs;
   }
 
+  /**
+   * Must be called after the transaction that has received the messages is committed, so that the records of their
+   * delivery can never precede the records of their reception in the store.
+   */
+  public void dispatchClientMessages(MessageImpl[] messages)
+  {
+    for (MessageImpl message : messages)
+    {
+      addWork(message);
+    }
+  }
+
+  /**
+   * Redelivers the messages that were pending in the store when this server was activated to the given destination.
+   * Called when a consumer is added to the destination.
+   */
+  public void redeliverMessages(ServerDestination destination)
+  {
+    List<MessageImpl> messages;
+    synchronized (recoveredMessages)
+    {
+      messages = recoveredMessages.remove(destination.getName());
+    }
+
+    if (messages != null)
+    {
+      for (MessageImpl message : messages)
+      {
+        addWork(message);
+      }
+    }
+  }
+
   @Override
   protected String getThreadName()
   {
@@ -209,6 +259,11 @@ public class Server extends QueueWorker<MessageImpl> implements IServer
 
     jndiContext = new InitialContext();
     jndiContext.rebind(name, new ConnectionFactoryImpl(type, desc));
+
+    if (store instanceof AbstractStore)
+    {
+      recoverMessages(((AbstractStore)store).getPendingMessages());
+    }
   }
 
   @Override
@@ -231,6 +286,52 @@ public class Server extends QueueWorker<MessageImpl> implements IServer
 
     jndiContext.close();
     jndiContext = null;
+
+    synchronized (recoveredMessages)
+    {
+      recoveredMessages.clear();
+    }
+
     super.doDeactivate();
   }
+
+  private void recoverMessages(List<MessageImpl> messages)
+  {
+    long maxID = 0L;
+
+    synchronized (recoveredMessages)
+    {
+      for (MessageImpl message : messages)
+      {
+        String messageID = message.getJMSMessageID();
+        if (messageID != null && messageID.startsWith(MESSAGE_ID_PREFIX))
+        {
+          try
+          {
+            maxID = Math.max(maxID, Long.parseLong(messageID.substring(MESSAGE_ID_PREFIX.length()), 16));
+          }
+          catch (NumberFormatException ex)
+          {
+            //$FALL-THROUGH$
+          }
+        }
+
+        message.setJMSRedelivered(true);
+
+        String name = ((JMSDestination)message.getJMSDestination()).getName();
+        recoveredMessages.computeIfAbsent(name, k -> new ArrayList<>()).add(message);
+      }
+    }
+
+    // New messages must not reuse the IDs of the recovered ones.
+    if (maxID > messageIDCounter.getValue())
+    {
+      messageIDCounter = new NonBlockingLongCounter(maxID);
+    }
+
+    if (!messages.isEmpty())
+    {
+      OM.LOG.info("Recovered " + messages.size() + " pending messages"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+  }
 }
@@ -18,6 +18,7 @@ import org.eclipse.net4j.jms.server.IServerConsumer;
 import org.eclipse.net4j.jms.server.IStoreTransaction;
 import org.eclipse.net4j.util.io.IOUtil;
 
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -101,10 +102,7 @@ public class ServerConsumer implements IServerConsumer
     try
     {
       String messageID = message.getJMSMessageID();
-      synchronized (messages)
-      {
-        messages.put(messageID, message);
-      }
+      messages.put(messageID, message);
 
       new JMSServerMessageRequest(getProtocol(), session.getID(), id, message).sendAsync();
       transaction.messageSent(message, id);
@@ -119,37 +117,24 @@ public class ServerConsumer implements IServerConsumer
 
   public void handleAcknowledge(IStoreTransaction transaction)
   {
-    synchronized (messages)
+    // Only remove the messages that are acknowledged, so that concurrent deliveries don't need to be locked out.
+    for (Map.Entry<String, MessageImpl> entry : messages.entrySet())
     {
-      if (messages.isEmpty())
-      {
-        return;
-      }
-
-      for (MessageImpl message : messages.values())
+      MessageImpl message = entry.getValue();
+      if (messages.remove(entry.getKey(), message))
       {
         transaction.messageAcknowledged(message, id);
         IOUtil.OUT().println("\nMessage acknowledged: " + message.getJMSMessageID() + "  (consumer=" + id + ")\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
       }
-
-      messages.clear();
     }
   }
 
   public void handleRecover(IStoreTransaction transaction)
   {
-    synchronized (messages)
+    for (MessageImpl message : messages.values())
     {
-      if (messages.isEmpty())
-      {
-        return;
-      }
-
-      for (MessageImpl message : messages.values())
-      {
-        IOUtil.OUT().println("\nRecovering message: " + message.getJMSMessageID() + "  (consumer=" + id + ")\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-        session.getConnection().getServer().addWork(message);
-      }
+      IOUtil.OUT().println("\nRecovering message: " + message.getJMSMessageID() + "  (consumer=" + id + ")\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+      session.getConnection().getServer().addWork(message);
     }
   }
 }
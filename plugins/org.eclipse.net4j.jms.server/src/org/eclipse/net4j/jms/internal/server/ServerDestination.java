@@ -17,12 +17,12 @@ import org.eclipse.net4j.internal.jms.TopicImpl;
 import org.eclipse.net4j.jms.server.IDestination;
 import org.eclipse.net4j.jms.server.IStore;
 import org.eclipse.net4j.jms.server.IStoreTransaction;
-import org.eclipse.net4j.util.concurrent.RoundRobinList;
 
 import javax.naming.Context;
 import javax.naming.NamingException;
 
-import java.util.Iterator;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Eike Stepper
@@ -33,7 +33,12 @@ public class ServerDestination implements IDestination
 
   private Type type;
 
-  private RoundRobinList<ServerConsumer> consumers = new RoundRobinList<>();
+  /**
+   * Consumers are rarely added or removed, so that dispatching can iterate over a snapshot without locking.
+   */
+  private CopyOnWriteArrayList<ServerConsumer> consumers = new CopyOnWriteArrayList<>();
+
+  private AtomicInteger nextConsumer = new AtomicInteger();
 
   public ServerDestination(String name, Type type)
   {
@@ -78,31 +83,22 @@ public class ServerDestination implements IDestination
       store.commitTransaction(transaction);
     }
 
-    return consumers.add(consumer);
+    boolean added = consumers.add(consumer);
+    Server.INSTANCE.redeliverMessages(this);
+    return added;
   }
 
-  public boolean removeConsumer(final long consumerID)
+  public boolean removeConsumer(long consumerID)
   {
-    final boolean[] modified = { false };
-    consumers.executeWrites(new Runnable()
+    for (ServerConsumer consumer : consumers)
     {
-      @Override
-      public void run()
+      if (consumer.getID() == consumerID)
       {
-        for (Iterator<ServerConsumer> it = consumers.iterator(); it.hasNext();)
-        {
-          ServerConsumer consumer = it.next();
-          if (consumer.getID() == consumerID)
-          {
-            it.remove();
-            modified[0] = true;
-            return;
-          }
-        }
+        return consumers.remove(consumer);
       }
-    });
+    }
 
-    return modified[0];
+    return false;
   }
 
   /**
@@ -112,7 +108,7 @@ public class ServerDestination implements IDestination
   {
     if (type == Type.QUEUE)
     {
-      ServerConsumer consumer = consumers.element();
+      ServerConsumer consumer = getNextConsumer();
       if (consumer != null)
       {
         consumer.handleClientMessage(transaction, message);
@@ -120,11 +116,22 @@ public class ServerDestination implements IDestination
     }
     else
     {
-      ServerConsumer[] consumers = this.consumers.toArray(new ServerConsumer[0]);
       for (ServerConsumer consumer : consumers)
       {
         consumer.handleClientMessage(transaction, message);
       }
     }
   }
+
+  private ServerConsumer getNextConsumer()
+  {
+    Object[] array = consumers.toArray();
+    if (array.length == 0)
+    {
+      return null;
+    }
+
+    int index = (nextConsumer.getAndIncrement() & Integer.MAX_VALUE) % array.length;
+    return (ServerConsumer)array[index];
+  }
 }
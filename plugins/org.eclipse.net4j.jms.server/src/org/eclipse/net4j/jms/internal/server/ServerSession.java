@@ -110,6 +110,11 @@ public class ServerSession extends Lifecycle implements ISession
     String[] messageIDs = server.handleClientMessagesInTransaction(transaction, messages);
     store.commitTransaction(transaction);
 
+    if (messageIDs != null)
+    {
+      server.dispatchClientMessages(messages);
+    }
+
     return messageIDs;
   }
 }
@@ -10,9 +10,13 @@
  */
 package org.eclipse.net4j.jms.internal.server.store;
 
+import org.eclipse.net4j.internal.jms.MessageImpl;
 import org.eclipse.net4j.jms.server.IStore;
 import org.eclipse.net4j.util.lifecycle.Lifecycle;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author Eike Stepper
  */
@@ -43,4 +47,13 @@ public abstract class AbstractStore extends Lifecycle implements IStore
   {
     this.instanceID = instanceID;
   }
+
+  /**
+   * Returns the persistent messages that have been received, but not sent and acknowledged, yet. The server redelivers
+   * them after it has been activated. Stores that don't persist messages return an empty list.
+   */
+  public List<MessageImpl> getPendingMessages()
+  {
+    return Collections.emptyList();
+  }
 }
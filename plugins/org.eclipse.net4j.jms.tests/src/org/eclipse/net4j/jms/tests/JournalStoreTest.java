@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.jms.tests;
+
+import org.eclipse.net4j.internal.jms.MessageImpl;
+import org.eclipse.net4j.internal.jms.QueueImpl;
+import org.eclipse.net4j.jms.server.IStoreTransaction;
+import org.eclipse.net4j.jms.server.internal.journal.JournalSegment;
+import org.eclipse.net4j.jms.server.internal.journal.JournalStore;
+import org.eclipse.net4j.util.tests.AbstractOMTest;
+
+import javax.jms.DeliveryMode;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the roll-over, compaction, recovery and group sync of the {@link JournalStore journal store}.
+ *
+ * @author Eike Stepper
+ */
+public class JournalStoreTest extends AbstractOMTest
+{
+  private static final int SEGMENT_SIZE = 4096;
+
+  private static final int PAYLOAD_SIZE = 200;
+
+  private static final long CONSUMER_ID = 1L;
+
+  private File folder;
+
+  private JournalStore store;
+
+  @Override
+  protected void doSetUp() throws Exception
+  {
+    super.doSetUp();
+    folder = createTempFolder("journal-"); //$NON-NLS-1$
+  }
+
+  @Override
+  protected void doTearDown() throws Exception
+  {
+    if (store != null)
+    {
+      store.deactivate();
+      store = null;
+    }
+
+    super.doTearDown();
+  }
+
+  public void testRollOver() throws Exception
+  {
+    openStore(0);
+
+    List<MessageImpl> messages = new ArrayList<>();
+    for (int i = 0; i < 50; i++)
+    {
+      MessageImpl message = createMessage(i);
+      receive(message);
+      messages.add(message);
+    }
+
+    assertEquals(true, store.getSegmentCount() > 1);
+    assertEquals(messages.size(), store.getPendingMessageCount());
+
+    reopenStore(0);
+    assertEquals(getMessageIDs(messages), getMessageIDs(store.getPendingMessages()));
+  }
+
+  public void testCompaction() throws Exception
+  {
+    openStore(0);
+
+    MessageImpl longLived = createMessage(0);
+    receive(longLived);
+
+    for (int i = 1; i < 200; i++)
+    {
+      MessageImpl message = createMessage(i);
+      receive(message);
+      send(message);
+      acknowledge(message);
+    }
+
+    // The long-lived message is snapshotted, so that the segments of the completed messages are deleted.
+    assertEquals(true, store.getSegmentCount() <= 2);
+    assertEquals(1, store.getPendingMessageCount());
+
+    reopenStore(0);
+    assertEquals(getMessageIDs(longLived), getMessageIDs(store.getPendingMessages()));
+  }
+
+  public void testCompactionByAge() throws Exception
+  {
+    int maxSegmentAge = 2;
+    openStore(maxSegmentAge);
+
+    // Enough long-lived messages to keep the oldest segment above the compaction ratio.
+    List<MessageImpl> longLived = new ArrayList<>();
+    for (int i = 0; i < 5; i++)
+    {
+      MessageImpl message = createMessage(i);
+      receive(message);
+      longLived.add(message);
+    }
+
+    for (int i = 5; i < 300; i++)
+    {
+      MessageImpl message = createMessage(i);
+      receive(message);
+      send(message);
+      acknowledge(message);
+      assertEquals(true, store.getSegmentCount() <= maxSegmentAge + 2);
+    }
+
+    assertEquals(longLived.size(), store.getPendingMessageCount());
+
+    reopenStore(maxSegmentAge);
+    assertEquals(getMessageIDs(longLived), getMessageIDs(store.getPendingMessages()));
+  }
+
+  public void testTornTail() throws Exception
+  {
+    openStore(0);
+
+    List<MessageImpl> messages = new ArrayList<>();
+    for (int i = 0; i < 3; i++)
+    {
+      MessageImpl message = createMessage(i);
+      receive(message);
+      messages.add(message);
+    }
+
+    MessageImpl torn = createMessage(3);
+    receive(torn);
+
+    store.deactivate();
+    store = null;
+
+    // Corrupt the payload of the last frame, as if the crash happened before it was completely written.
+    File file = JournalSegment.getFile(folder, 1L);
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) //$NON-NLS-1$
+    {
+      long lastFrame = -1L;
+      long position = 4 + 8;
+
+      for (;;)
+      {
+        randomAccessFile.seek(position);
+        int length = randomAccessFile.readInt();
+        if (length == 0)
+        {
+          break;
+        }
+
+        lastFrame = position;
+        position += 4 + 4 + length;
+      }
+
+      randomAccessFile.seek(lastFrame + 4 + 4);
+      int b = randomAccessFile.read();
+      randomAccessFile.seek(lastFrame + 4 + 4);
+      randomAccessFile.write(b ^ 0xFF);
+    }
+
+    openStore(0);
+    assertEquals(getMessageIDs(messages), getMessageIDs(store.getPendingMessages()));
+
+    // The torn frame is cut off, so that new frames are appended in its place.
+    MessageImpl message = createMessage(4);
+    receive(message);
+    messages.add(message);
+
+    reopenStore(0);
+    assertEquals(getMessageIDs(messages), getMessageIDs(store.getPendingMessages()));
+  }
+
+  public void testRedeliveryAfterRestart() throws Exception
+  {
+    openStore(0);
+
+    MessageImpl message = createMessage(0);
+    receive(message);
+    send(message);
+
+    // The consumer of the previous incarnation is gone, so the message is pending again.
+    reopenStore(0);
+    assertEquals(getMessageIDs(message), getMessageIDs(store.getPendingMessages()));
+
+    send(message);
+    acknowledge(message);
+    assertEquals(0, store.getPendingMessageCount());
+
+    reopenStore(0);
+    assertEquals(0, store.getPendingMessageCount());
+  }
+
+  public void testGroupSync() throws Exception
+  {
+    int threads = 8;
+    int commitsPerThread = 100;
+
+    store = new JournalStore(folder);
+    store.setSyncOnCommit(true);
+    store.activate();
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+
+    try
+    {
+      for (int t = 0; t < threads; t++)
+      {
+        int base = t * commitsPerThread;
+        futures.add(executor.submit(() -> {
+          await(start);
+          for (int i = 0; i < commitsPerThread; i++)
+          {
+            receive(createMessage(base + i));
+          }
+
+          return null;
+        }));
+      }
+
+      start.countDown();
+      for (Future<?> future : futures)
+      {
+        future.get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+      }
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+
+    int commits = threads * commitsPerThread;
+    long syncs = store.getSyncCount();
+    msg("Commits: " + commits + ", syncs: " + syncs); //$NON-NLS-1$ //$NON-NLS-2$
+
+    assertEquals(true, syncs > 0);
+    assertEquals(true, syncs <= commits);
+    assertEquals(commits, store.getPendingMessageCount());
+
+    reopenStore(0);
+    assertEquals(commits, store.getPendingMessageCount());
+  }
+
+  private void openStore(int maxSegmentAge)
+  {
+    store = new JournalStore(folder);
+    store.setSegmentSize(SEGMENT_SIZE);
+    if (maxSegmentAge > 0)
+    {
+      store.setMaxSegmentAge(maxSegmentAge);
+    }
+
+    store.activate();
+  }
+
+  private void reopenStore(int maxSegmentAge)
+  {
+    store.deactivate();
+    openStore(maxSegmentAge);
+  }
+
+  private void receive(MessageImpl message)
+  {
+    IStoreTransaction transaction = store.startTransaction();
+    transaction.messageReceived(message);
+    store.commitTransaction(transaction);
+  }
+
+  private void send(MessageImpl message)
+  {
+    IStoreTransaction transaction = store.startTransaction();
+    transaction.messageSent(message, CONSUMER_ID);
+    store.commitTransaction(transaction);
+  }
+
+  private void acknowledge(MessageImpl message)
+  {
+    IStoreTransaction transaction = store.startTransaction();
+    transaction.messageAcknowledged(message, CONSUMER_ID);
+    store.commitTransaction(transaction);
+  }
+
+  private static MessageImpl createMessage(int i) throws Exception
+  {
+    StringBuilder builder = new StringBuilder();
+    while (builder.length() < PAYLOAD_SIZE)
+    {
+      builder.append(i);
+    }
+
+    MessageImpl message = new MessageImpl();
+    message.setJMSMessageID("ID:TEST:" + i); //$NON-NLS-1$
+    message.setJMSDestination(new QueueImpl("TestQueue")); //$NON-NLS-1$
+    message.setJMSDeliveryMode(DeliveryMode.PERSISTENT);
+    message.setJMSType(builder.toString());
+    return message;
+  }
+
+  private static Set<String> getMessageIDs(MessageImpl... messages)
+  {
+    return getMessageIDs(Arrays.asList(messages));
+  }
+
+  private static Set<String> getMessageIDs(List<MessageImpl> messages)
+  {
+    Set<String> messageIDs = new HashSet<>();
+    for (MessageImpl message : messages)
+    {
+      messageIDs.add(message.getJMSMessageID());
+    }
+
+    return messageIDs;
+  }
+}
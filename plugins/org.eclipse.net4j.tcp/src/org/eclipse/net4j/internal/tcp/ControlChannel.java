@@ -67,6 +67,7 @@ public class ControlChannel extends Channel
     setID(CONTROL_CHANNEL_INDEX);
     setMultiplexer(connector);
     setUserID(connector.getUserID());
+    setPriority(MAX_PRIORITY);
   }
 
   public TCPConnector getConnector()
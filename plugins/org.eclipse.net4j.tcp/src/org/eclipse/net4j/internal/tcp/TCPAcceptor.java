@@ -133,41 +133,16 @@ public class TCPAcceptor extends Acceptor implements ITCPAcceptor, ITCPPassiveSe
   @Override
   public void handleRegistration(ITCPSelector selector, ServerSocketChannel serverSocketChannel)
   {
-    InetSocketAddress addr = null;
-
     try
     {
-      if (address != null)
-      {
-        addr = new InetSocketAddress(InetAddress.getByName(address), port);
-      }
-
-      ServerSocket socket = serverSocketChannel.socket();
-      socket.setReuseAddress(true);
-      socket.bind(addr);
-
-      if (addr == null)
-      {
-        address = socket.getInetAddress().toString();
-        if (address.startsWith("/")) //$NON-NLS-1$
-        {
-          address = address.substring(1);
-        }
-
-        int colon = address.indexOf(':');
-        if (colon != -1)
-        {
-          port = Integer.parseInt(address.substring(colon + 1));
-          address = address.substring(0, colon);
-        }
-      }
+      bind(serverSocketChannel);
 
       // [MACOSX] Must occur AFTER binding!
       selectionKey = serverSocketChannel.register(selector.getSocketSelector(), SelectionKey.OP_ACCEPT, this);
     }
     catch (Exception ex)
     {
-      OM.LOG.error("Problem while binding " + addr, ex);
+      OM.LOG.error("Problem while binding " + this, ex);
       deactivateAsync();
     }
     finally
@@ -229,6 +204,47 @@ public class TCPAcceptor extends Acceptor implements ITCPAcceptor, ITCPPassiveSe
     return new TCPServerConnector(this);
   }
 
+  /**
+   * Opens the non-bound server socket channel of this acceptor.
+   */
+  protected ServerSocketChannel openServerSocketChannel() throws IOException
+  {
+    return ServerSocketChannel.open();
+  }
+
+  /**
+   * Binds the given server socket channel to the {@link #getAddress() address} and {@link #getPort() port} of this
+   * acceptor.
+   */
+  protected void bind(ServerSocketChannel serverSocketChannel) throws IOException
+  {
+    InetSocketAddress addr = null;
+    if (address != null)
+    {
+      addr = new InetSocketAddress(InetAddress.getByName(address), port);
+    }
+
+    ServerSocket socket = serverSocketChannel.socket();
+    socket.setReuseAddress(true);
+    socket.bind(addr);
+
+    if (addr == null)
+    {
+      address = socket.getInetAddress().toString();
+      if (address.startsWith("/")) //$NON-NLS-1$
+      {
+        address = address.substring(1);
+      }
+
+      int colon = address.indexOf(':');
+      if (colon != -1)
+      {
+        port = Integer.parseInt(address.substring(colon + 1));
+        address = address.substring(0, colon);
+      }
+    }
+  }
+
   @Override
   protected void doBeforeActivate() throws Exception
   {
@@ -248,7 +264,7 @@ public class TCPAcceptor extends Acceptor implements ITCPAcceptor, ITCPPassiveSe
   protected void doActivate() throws Exception
   {
     super.doActivate();
-    serverSocketChannel = ServerSocketChannel.open();
+    serverSocketChannel = openServerSocketChannel();
     serverSocketChannel.configureBlocking(false);
     selector.orderRegistration(serverSocketChannel, this);
 
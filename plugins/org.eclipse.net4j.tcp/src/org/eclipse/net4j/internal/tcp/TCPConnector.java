@@ -24,8 +24,6 @@ import org.eclipse.net4j.tcp.ITCPConnector;
 import org.eclipse.net4j.tcp.ITCPNegotiationContext;
 import org.eclipse.net4j.tcp.ITCPSelector;
 import org.eclipse.net4j.util.ReflectUtil.ExcludeFromDump;
-import org.eclipse.net4j.util.WrappedException;
-import org.eclipse.net4j.util.collection.RoundRobinBlockingQueue;
 import org.eclipse.net4j.util.io.IOUtil;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
 import org.eclipse.net4j.util.om.trace.ContextTracer;
@@ -33,15 +31,18 @@ import org.eclipse.net4j.util.security.INegotiationContext;
 import org.eclipse.net4j.util.security.NegotiationContext;
 import org.eclipse.net4j.util.security.NegotiationException;
 
+import org.eclipse.internal.net4j.buffer.Buffer;
+
 import org.eclipse.spi.net4j.Connector;
 import org.eclipse.spi.net4j.InternalChannel;
+import org.eclipse.spi.net4j.PriorityChannelQueue;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
 import java.util.Queue;
-import java.util.concurrent.BlockingQueue;
 
 /**
  * @author Eike Stepper
@@ -57,10 +58,18 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
   @ExcludeFromDump
   private SelectionKey selectionKey;
 
-  private BlockingQueue<InternalChannel> writeQueue = new RoundRobinBlockingQueue<>();
+  private Queue<InternalChannel> writeQueue = new PriorityChannelQueue();
 
   private IBuffer inputBuffer;
 
+  private int ioBatchSize = -1;
+
+  @ExcludeFromDump
+  private transient ByteBuffer readAheadBuffer;
+
+  @ExcludeFromDump
+  private transient WriteBatch writeBatch;
+
   private ControlChannel controlChannel;
 
   private String host;
@@ -127,12 +136,12 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
     this.selectionKey = selectionKey;
   }
 
-  public BlockingQueue<InternalChannel> getWriteQueue()
+  public Queue<InternalChannel> getWriteQueue()
   {
     return writeQueue;
   }
 
-  public void setWriteQueue(BlockingQueue<InternalChannel> writeQueue)
+  public void setWriteQueue(Queue<InternalChannel> writeQueue)
   {
     this.writeQueue = writeQueue;
   }
@@ -147,6 +156,36 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
     this.inputBuffer = inputBuffer;
   }
 
+  /**
+   * Returns the maximum number of buffers that are written with a single gathering write operation, and the number of
+   * buffers that are read ahead with a single read operation.
+   */
+  public int getIOBatchSize()
+  {
+    if (ioBatchSize == -1)
+    {
+      return OM.BUNDLE.getDebugSupport().getDebugOption("io.batch.size", 16); //$NON-NLS-1$
+    }
+
+    return ioBatchSize;
+  }
+
+  public void setIOBatchSize(int ioBatchSize)
+  {
+    checkInactive();
+    checkArg(ioBatchSize >= 0, "ioBatchSize < 0"); //$NON-NLS-1$
+    this.ioBatchSize = ioBatchSize;
+  }
+
+  /**
+   * Returns <code>true</code> if this connector writes and reads multiple buffers with single socket operations,
+   * <code>false</code> otherwise.
+   */
+  protected boolean isBatchedIO()
+  {
+    return getIOBatchSize() > 1;
+  }
+
   public ControlChannel getControlChannel()
   {
     return controlChannel;
@@ -227,6 +266,12 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
   {
     try
     {
+      if (readAheadBuffer != null)
+      {
+        readAhead(socketChannel);
+        return;
+      }
+
       if (inputBuffer == null)
       {
         inputBuffer = provideBuffer();
@@ -235,23 +280,7 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
       ByteBuffer byteBuffer = inputBuffer.startGetting(socketChannel);
       if (byteBuffer != null)
       {
-        short channelID = inputBuffer.getChannelID();
-        InternalChannel channel = channelID == ControlChannel.CONTROL_CHANNEL_INDEX ? controlChannel : getChannel(channelID);
-        if (channel != null)
-        {
-          channel.handleBufferFromMultiplexer(inputBuffer);
-        }
-        else
-        {
-          if (TRACER.isEnabled())
-          {
-            TRACER.trace("Discarding buffer from unknown channel"); //$NON-NLS-1$
-          }
-
-          inputBuffer.release();
-        }
-
-        inputBuffer = null;
+        handleInputBuffer();
       }
     }
     catch (NegotiationException ex)
@@ -290,15 +319,7 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
     synchronized (writeQueue)
     {
       boolean firstChannel = writeQueue.isEmpty();
-
-      try
-      {
-        writeQueue.put(channel);
-      }
-      catch (InterruptedException ex)
-      {
-        throw WrappedException.wrap(ex);
-      }
+      writeQueue.offer(channel);
 
       if (firstChannel)
       {
@@ -310,6 +331,12 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
     }
   }
 
+  @Override
+  public boolean isIOThread()
+  {
+    return selector != null && selector.isSelectorThread();
+  }
+
   @Override
   public void handleWrite(ITCPSelector selector, SocketChannel socketChannel)
   {
@@ -317,6 +344,21 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
     {
       synchronized (writeQueue)
       {
+        if (writeBatch != null)
+        {
+          writeBatch.write(socketChannel);
+
+          if (writeBatch.isEmpty() && writeQueue.isEmpty())
+          {
+            if (selectionKey != null)
+            {
+              doOrderWriteInterest(false);
+            }
+          }
+
+          return;
+        }
+
         InternalChannel channel = writeQueue.peek();
         if (channel != null)
         {
@@ -341,6 +383,15 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
                 }
               }
             }
+            else
+            {
+              // The send queue has been cleared by closing the channel.
+              writeQueue.poll();
+            }
+          }
+          else
+          {
+            writeQueue.poll();
           }
         }
 
@@ -375,6 +426,79 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
     }
   }
 
+  /**
+   * Reads as many bytes as are available, up to the capacity of the read-ahead buffer, with a single read operation
+   * and distributes them to as many buffers as they fill.
+   */
+  private void readAhead(SocketChannel socketChannel) throws IOException
+  {
+    readAheadBuffer.clear();
+
+    int numBytes;
+
+    try
+    {
+      numBytes = socketChannel.read(readAheadBuffer);
+    }
+    catch (ClosedChannelException ex)
+    {
+      throw ex;
+    }
+    catch (IOException ex)
+    {
+      ClosedChannelException exception = new ClosedChannelException();
+      exception.initCause(ex);
+      throw exception;
+    }
+
+    if (numBytes == -1)
+    {
+      ClosedChannelException exception = new ClosedChannelException();
+      exception.initCause(new IOException("Channel has reached end-of-stream")); //$NON-NLS-1$
+      throw exception;
+    }
+
+    readAheadBuffer.flip();
+
+    while (readAheadBuffer.hasRemaining())
+    {
+      if (inputBuffer == null)
+      {
+        inputBuffer = provideBuffer();
+      }
+
+      ByteBuffer byteBuffer = ((Buffer)inputBuffer).startGetting(readAheadBuffer);
+      if (byteBuffer == null)
+      {
+        // The read-ahead buffer is exhausted, the input buffer is continued with the next read operation.
+        break;
+      }
+
+      handleInputBuffer();
+    }
+  }
+
+  private void handleInputBuffer()
+  {
+    short channelID = inputBuffer.getChannelID();
+    InternalChannel channel = channelID == ControlChannel.CONTROL_CHANNEL_INDEX ? controlChannel : getChannel(channelID);
+    if (channel != null)
+    {
+      channel.handleBufferFromMultiplexer(inputBuffer);
+    }
+    else
+    {
+      if (TRACER.isEnabled())
+      {
+        TRACER.trace("Discarding buffer from unknown channel"); //$NON-NLS-1$
+      }
+
+      inputBuffer.release();
+    }
+
+    inputBuffer = null;
+  }
+
   protected void doOrderWriteInterest(boolean on)
   {
     selector.orderWriteInterest(selectionKey, isClient(), on);
@@ -423,6 +547,14 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
   protected void doActivate() throws Exception
   {
     super.doActivate();
+
+    if (isBatchedIO())
+    {
+      int batchSize = getIOBatchSize();
+      readAheadBuffer = ByteBuffer.allocateDirect(batchSize * getBufferCapacity());
+      writeBatch = new WriteBatch(batchSize);
+    }
+
     controlChannel = new ControlChannel(this);
     controlChannel.activate();
     selector.orderRegistration(socketChannel, isClient(), this);
@@ -465,6 +597,14 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
       inputBuffer = null;
     }
 
+    if (writeBatch != null)
+    {
+      synchronized (writeQueue)
+      {
+        writeBatch.release();
+      }
+    }
+
     if (selectionKey != null)
     {
       selectionKey.cancel();
@@ -472,6 +612,133 @@ public abstract class TCPConnector extends Connector implements ITCPConnector, I
     }
   }
 
+  /**
+   * Holds the buffers that have been taken from the send queues of the channels and are written with gathering write
+   * operations. Buffers that could not be written completely stay in the batch and are continued with the next write
+   * operation before new buffers are taken, so that the order of the buffers on the wire is preserved.
+   *
+   * @author Eike Stepper
+   */
+  private final class WriteBatch
+  {
+    private final Buffer[] buffers;
+
+    private final ByteBuffer[] byteBuffers;
+
+    private final InternalChannel[] channels;
+
+    private final boolean[] closeChannelsAfter;
+
+    private int size;
+
+    public WriteBatch(int capacity)
+    {
+      buffers = new Buffer[capacity];
+      byteBuffers = new ByteBuffer[capacity];
+      channels = new InternalChannel[capacity];
+      closeChannelsAfter = new boolean[capacity];
+    }
+
+    public boolean isEmpty()
+    {
+      return size == 0;
+    }
+
+    public void write(SocketChannel socketChannel) throws IOException
+    {
+      fill();
+      if (size == 0)
+      {
+        return;
+      }
+
+      long numBytes = socketChannel.write(byteBuffers, 0, size);
+      if (numBytes == -1)
+      {
+        throw new IOException("Channel closed"); //$NON-NLS-1$
+      }
+
+      int written = 0;
+      while (written < size && buffers[written].finishWriting())
+      {
+        buffers[written].release();
+        if (closeChannelsAfter[written])
+        {
+          channels[written].close();
+        }
+
+        ++written;
+      }
+
+      remove(written);
+    }
+
+    public void release()
+    {
+      for (int i = 0; i < size; i++)
+      {
+        buffers[i].release();
+      }
+
+      remove(size);
+    }
+
+    private void fill()
+    {
+      while (size < buffers.length)
+      {
+        InternalChannel channel = writeQueue.poll();
+        if (channel == null)
+        {
+          break;
+        }
+
+        Queue<IBuffer> channelSendQueue = channel.getSendQueue();
+        if (channelSendQueue == null)
+        {
+          continue;
+        }
+
+        Buffer buffer = (Buffer)channelSendQueue.poll();
+        if (buffer == null)
+        {
+          // The send queue has been cleared by closing the channel.
+          continue;
+        }
+
+        // The CCAM flag must be remembered *before* the buffer.startWriting() call below!
+        closeChannelsAfter[size] = buffer.isCCAM();
+        byteBuffers[size] = buffer.startWriting();
+        buffers[size] = buffer;
+        channels[size] = channel;
+        ++size;
+      }
+    }
+
+    private void remove(int count)
+    {
+      if (count == 0)
+      {
+        return;
+      }
+
+      int remaining = size - count;
+      System.arraycopy(buffers, count, buffers, 0, remaining);
+      System.arraycopy(byteBuffers, count, byteBuffers, 0, remaining);
+      System.arraycopy(channels, count, channels, 0, remaining);
+      System.arraycopy(closeChannelsAfter, count, closeChannelsAfter, 0, remaining);
+
+      for (int i = remaining; i < size; i++)
+      {
+        buffers[i] = null;
+        byteBuffers[i] = null;
+        channels[i] = null;
+      }
+
+      size = remaining;
+    }
+  }
+
   /**
    * @author Eike Stepper
    */
@@ -62,6 +62,12 @@ public class TCPSelector extends Lifecycle implements ITCPSelector, Runnable
     return selector;
   }
 
+  @Override
+  public boolean isSelectorThread()
+  {
+    return Thread.currentThread() == thread;
+  }
+
   @Override
   public String toString()
   {
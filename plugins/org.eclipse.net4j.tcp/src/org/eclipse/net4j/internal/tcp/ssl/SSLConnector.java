@@ -48,6 +48,15 @@ public abstract class SSLConnector extends TCPConnector
     return false;
   }
 
+  /**
+   * The SSL buffers encrypt and decrypt their contents individually, so they can't be written or read in batches.
+   */
+  @Override
+  protected boolean isBatchedIO()
+  {
+    return false;
+  }
+
   @Override
   public String getProtocolString()
   {
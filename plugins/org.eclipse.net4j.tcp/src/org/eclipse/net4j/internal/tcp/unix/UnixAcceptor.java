@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.internal.tcp.unix;
+
+import org.eclipse.net4j.TransportConfigurator.AcceptorDescriptionParser;
+import org.eclipse.net4j.internal.tcp.TCPAcceptor;
+import org.eclipse.net4j.internal.tcp.TCPConnector;
+import org.eclipse.net4j.internal.tcp.bundle.OM;
+import org.eclipse.net4j.tcp.unix.UnixUtil;
+import org.eclipse.net4j.util.factory.ProductCreationException;
+
+import org.w3c.dom.Element;
+
+import java.io.IOException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.MessageFormat;
+
+/**
+ * An acceptor that listens on a Unix domain socket. The {@link #getAddress() address} of this acceptor is the path of
+ * the socket file; the {@link #getPort() port} is not used.
+ * <p>
+ * A socket file that is left over from a previous run is deleted before binding, and the socket file is deleted again
+ * when this acceptor is deactivated.
+ *
+ * @author Eike Stepper
+ */
+public class UnixAcceptor extends TCPAcceptor
+{
+  public UnixAcceptor()
+  {
+    setPort(0);
+  }
+
+  public Path getSocketPath()
+  {
+    return Paths.get(getAddress());
+  }
+
+  @Override
+  public String toString()
+  {
+    return MessageFormat.format("UnixAcceptor[{0}]", getAddress()); //$NON-NLS-1$
+  }
+
+  @Override
+  protected TCPConnector createConnector()
+  {
+    return new UnixServerConnector(this);
+  }
+
+  @Override
+  protected ServerSocketChannel openServerSocketChannel() throws IOException
+  {
+    return UnixDomainSockets.openServerSocketChannel();
+  }
+
+  @Override
+  protected void bind(ServerSocketChannel serverSocketChannel) throws IOException
+  {
+    Path socketPath = getSocketPath();
+    Files.deleteIfExists(socketPath);
+
+    serverSocketChannel.bind(UnixDomainSockets.createAddress(socketPath.toString()));
+  }
+
+  @Override
+  protected void doBeforeActivate() throws Exception
+  {
+    if (getAddress() == null)
+    {
+      throw new IllegalStateException("path == null"); //$NON-NLS-1$
+    }
+
+    super.doBeforeActivate();
+  }
+
+  @Override
+  protected void doDeactivate() throws Exception
+  {
+    super.doDeactivate();
+
+    try
+    {
+      Files.deleteIfExists(getSocketPath());
+    }
+    catch (IOException ex)
+    {
+      OM.LOG.warn(ex);
+    }
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  public static class DescriptionParserFactory extends AcceptorDescriptionParser.Factory implements AcceptorDescriptionParser
+  {
+    public DescriptionParserFactory()
+    {
+      super(UnixUtil.FACTORY_TYPE);
+    }
+
+    @Override
+    public AcceptorDescriptionParser create(String description) throws ProductCreationException
+    {
+      return this;
+    }
+
+    @Override
+    public String getAcceptorDescription(Element acceptorConfig)
+    {
+      return acceptorConfig.getAttribute("path"); //$NON-NLS-1$
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.internal.tcp.unix;
+
+import org.eclipse.net4j.internal.tcp.TCPAcceptor;
+import org.eclipse.net4j.internal.tcp.TCPAcceptorFactory;
+import org.eclipse.net4j.tcp.unix.UnixUtil;
+import org.eclipse.net4j.util.StringUtil;
+import org.eclipse.net4j.util.factory.ProductCreationException;
+
+/**
+ * Creates {@link UnixAcceptor Unix domain socket acceptors}. The description is the path of the socket file.
+ *
+ * @author Eike Stepper
+ */
+public class UnixAcceptorFactory extends TCPAcceptorFactory
+{
+  public static final String TYPE = UnixUtil.FACTORY_TYPE;
+
+  public UnixAcceptorFactory()
+  {
+    super(TYPE);
+  }
+
+  @Override
+  public TCPAcceptor create(String description)
+  {
+    if (!UnixDomainSockets.isSupported())
+    {
+      throw new ProductCreationException("Unix domain sockets are not supported by this Java runtime"); //$NON-NLS-1$
+    }
+
+    if (StringUtil.isEmpty(description))
+    {
+      throw new ProductCreationException("Socket path missing"); //$NON-NLS-1$
+    }
+
+    TCPAcceptor acceptor = createAcceptor();
+    acceptor.setAddress(description);
+    return acceptor;
+  }
+
+  @Override
+  protected TCPAcceptor createAcceptor()
+  {
+    return new UnixAcceptor();
+  }
+
+  @Override
+  public String getDescriptionFor(Object object)
+  {
+    if (object instanceof UnixAcceptor)
+    {
+      UnixAcceptor acceptor = (UnixAcceptor)object;
+      return acceptor.getAddress();
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.internal.tcp.unix;
+
+import org.eclipse.net4j.internal.tcp.TCPConnector;
+import org.eclipse.net4j.internal.tcp.bundle.OM;
+import org.eclipse.net4j.tcp.ITCPSelector;
+import org.eclipse.net4j.util.io.IORuntimeException;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.text.MessageFormat;
+
+/**
+ * A client connector that connects to a {@link UnixAcceptor Unix domain socket acceptor}. The {@link #getHost() host}
+ * of this connector is the path of the socket file; the {@link #getPort() port} is not used.
+ *
+ * @author Eike Stepper
+ */
+public class UnixClientConnector extends TCPConnector
+{
+  public UnixClientConnector()
+  {
+    try
+    {
+      SocketChannel socketChannel = UnixDomainSockets.openSocketChannel();
+      socketChannel.configureBlocking(false);
+      setSocketChannel(socketChannel);
+    }
+    catch (IOException ex)
+    {
+      throw new IORuntimeException(ex);
+    }
+  }
+
+  @Override
+  public Location getLocation()
+  {
+    return Location.CLIENT;
+  }
+
+  @Override
+  public String getURL()
+  {
+    return getProtocolString() + getHost();
+  }
+
+  @Override
+  public String getProtocolString()
+  {
+    return "unix://"; //$NON-NLS-1$
+  }
+
+  @Override
+  public String toString()
+  {
+    if (getUserID() == null)
+    {
+      return MessageFormat.format("UnixClientConnector[{0}]", getHost()); //$NON-NLS-1$
+    }
+
+    return MessageFormat.format("UnixClientConnector[{1}@{0}]", getHost(), getUserID()); //$NON-NLS-1$
+  }
+
+  @Override
+  protected void doBeforeActivate() throws Exception
+  {
+    super.doBeforeActivate();
+    if (getHost() == null)
+    {
+      throw new IllegalStateException("path == null"); //$NON-NLS-1$
+    }
+  }
+
+  @Override
+  public void handleRegistration(ITCPSelector selector, SocketChannel socketChannel)
+  {
+    super.handleRegistration(selector, socketChannel);
+
+    try
+    {
+      if (socketChannel.connect(UnixDomainSockets.createAddress(getHost())))
+      {
+        // Local connections are usually established immediately, in which case no OP_CONNECT is selected.
+        handleConnect(selector, socketChannel);
+      }
+    }
+    catch (Exception ex)
+    {
+      OM.LOG.error(ex);
+      deactivateAsync();
+    }
+  }
+}
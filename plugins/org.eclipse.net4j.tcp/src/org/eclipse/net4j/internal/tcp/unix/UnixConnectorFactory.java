@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.internal.tcp.unix;
+
+import org.eclipse.net4j.internal.tcp.TCPConnector;
+import org.eclipse.net4j.internal.tcp.TCPConnectorFactory;
+import org.eclipse.net4j.tcp.TCPUtil;
+import org.eclipse.net4j.tcp.unix.UnixUtil;
+import org.eclipse.net4j.util.StringUtil;
+import org.eclipse.net4j.util.factory.ProductCreationException;
+
+/**
+ * Creates {@link UnixClientConnector Unix domain socket connectors}. The description is the path of the socket file,
+ * optionally prefixed with a user ID and {@link TCPUtil#CREDENTIALS_SEPARATOR "@"}.
+ *
+ * @author Eike Stepper
+ */
+public class UnixConnectorFactory extends TCPConnectorFactory
+{
+  public static final String TYPE = UnixUtil.FACTORY_TYPE;
+
+  public UnixConnectorFactory()
+  {
+    super(TYPE);
+  }
+
+  @Override
+  public TCPConnector create(String description)
+  {
+    if (!UnixDomainSockets.isSupported())
+    {
+      throw new ProductCreationException("Unix domain sockets are not supported by this Java runtime"); //$NON-NLS-1$
+    }
+
+    String userID = null;
+    String path = description;
+
+    int pos = description == null ? -1 : description.indexOf(TCPUtil.CREDENTIALS_SEPARATOR);
+    if (pos != -1)
+    {
+      userID = description.substring(0, pos);
+      path = description.substring(pos + 1);
+    }
+
+    if (StringUtil.isEmpty(path))
+    {
+      throw new ProductCreationException("Socket path missing: " + description); //$NON-NLS-1$
+    }
+
+    TCPConnector connector = createConnector();
+    connector.setHost(path);
+    connector.setUserID(StringUtil.isEmpty(userID) ? null : userID);
+    return connector;
+  }
+
+  @Override
+  protected TCPConnector createConnector()
+  {
+    return new UnixClientConnector();
+  }
+
+  @Override
+  public String getDescriptionFor(Object object)
+  {
+    if (object instanceof UnixClientConnector)
+    {
+      UnixClientConnector connector = (UnixClientConnector)object;
+      String userID = connector.getUserID();
+      return userID == null ? connector.getHost() : userID + TCPUtil.CREDENTIALS_SEPARATOR + connector.getHost();
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.internal.tcp.unix;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Provides reflective access to the Unix domain socket support of Java 16 and higher, so that this bundle can still be
+ * used with older Java runtimes.
+ *
+ * @author Eike Stepper
+ */
+public final class UnixDomainSockets
+{
+  private static final ProtocolFamily UNIX;
+
+  private static final Method OPEN_SOCKET_CHANNEL;
+
+  private static final Method OPEN_SERVER_SOCKET_CHANNEL;
+
+  private static final Method CREATE_ADDRESS;
+
+  static
+  {
+    ProtocolFamily unix = null;
+    Method openSocketChannel = null;
+    Method openServerSocketChannel = null;
+    Method createAddress = null;
+
+    try
+    {
+      unix = StandardProtocolFamily.valueOf("UNIX"); //$NON-NLS-1$
+      openSocketChannel = SocketChannel.class.getMethod("open", ProtocolFamily.class); //$NON-NLS-1$
+      openServerSocketChannel = ServerSocketChannel.class.getMethod("open", ProtocolFamily.class); //$NON-NLS-1$
+      createAddress = Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", String.class); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+    catch (Throwable ex)
+    {
+      unix = null;
+    }
+
+    UNIX = unix;
+    OPEN_SOCKET_CHANNEL = openSocketChannel;
+    OPEN_SERVER_SOCKET_CHANNEL = openServerSocketChannel;
+    CREATE_ADDRESS = createAddress;
+  }
+
+  private UnixDomainSockets()
+  {
+  }
+
+  public static boolean isSupported()
+  {
+    return UNIX != null;
+  }
+
+  public static void checkSupported()
+  {
+    if (!isSupported())
+    {
+      throw new UnsupportedOperationException("Unix domain sockets are not supported by this Java runtime"); //$NON-NLS-1$
+    }
+  }
+
+  public static SocketChannel openSocketChannel() throws IOException
+  {
+    checkSupported();
+    return (SocketChannel)invoke(OPEN_SOCKET_CHANNEL, UNIX);
+  }
+
+  public static ServerSocketChannel openServerSocketChannel() throws IOException
+  {
+    checkSupported();
+    return (ServerSocketChannel)invoke(OPEN_SERVER_SOCKET_CHANNEL, UNIX);
+  }
+
+  public static SocketAddress createAddress(String path) throws IOException
+  {
+    checkSupported();
+    return (SocketAddress)invoke(CREATE_ADDRESS, path);
+  }
+
+  private static Object invoke(Method method, Object arg) throws IOException
+  {
+    try
+    {
+      return method.invoke(null, arg);
+    }
+    catch (InvocationTargetException ex)
+    {
+      Throwable cause = ex.getCause();
+      if (cause instanceof IOException)
+      {
+        throw (IOException)cause;
+      }
+
+      if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException)cause;
+      }
+
+      throw new IOException(cause);
+    }
+    catch (IllegalAccessException ex)
+    {
+      throw new IOException(ex);
+    }
+  }
+}
@@ -31,6 +31,13 @@ public interface ITCPSelector
 {
   public Selector getSocketSelector();
 
+  /**
+   * Returns <code>true</code> if the calling thread is the thread of this selector, <code>false</code> otherwise.
+   *
+   * @since 4.5
+   */
+  public boolean isSelectorThread();
+
   public void orderRegistration(ServerSocketChannel channel, ITCPPassiveSelectorListener listener);
 
   public void orderRegistration(SocketChannel channel, boolean client, ITCPActiveSelectorListener listener);
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.tcp.unix;
+
+import org.eclipse.net4j.internal.tcp.TCPAcceptorFactory;
+import org.eclipse.net4j.internal.tcp.TCPConnectorFactory;
+import org.eclipse.net4j.internal.tcp.unix.UnixDomainSockets;
+import org.eclipse.net4j.tcp.ITCPAcceptor;
+import org.eclipse.net4j.tcp.ITCPConnector;
+import org.eclipse.net4j.tcp.TCPUtil;
+import org.eclipse.net4j.util.container.IManagedContainer;
+
+/**
+ * A utility class with static convenience methods for the transport over Unix domain sockets.
+ * <p>
+ * Unix domain sockets connect clients and servers that run on the same host without the overhead of the loopback TCP
+ * stack. They are supported by Java 16 and higher, see {@link #isSupported()}. The acceptors and connectors use the
+ * same selectors as the TCP transport; their descriptions are the paths of the socket files.
+ *
+ * @author Eike Stepper
+ * @since 4.5
+ */
+public final class UnixUtil
+{
+  public static final String FACTORY_TYPE = "unix"; //$NON-NLS-1$
+
+  private UnixUtil()
+  {
+  }
+
+  /**
+   * Returns <code>true</code> if the Java runtime supports Unix domain sockets, <code>false</code> otherwise.
+   */
+  public static boolean isSupported()
+  {
+    return UnixDomainSockets.isSupported();
+  }
+
+  public static void prepareContainer(IManagedContainer container)
+  {
+    TCPUtil.prepareContainer(container);
+  }
+
+  public static ITCPAcceptor getAcceptor(IManagedContainer container, String path)
+  {
+    return (ITCPAcceptor)container.getElement(TCPAcceptorFactory.PRODUCT_GROUP, FACTORY_TYPE, path);
+  }
+
+  public static ITCPConnector getConnector(IManagedContainer container, String path)
+  {
+    return (ITCPConnector)container.getElement(TCPConnectorFactory.PRODUCT_GROUP, FACTORY_TYPE, path);
+  }
+}
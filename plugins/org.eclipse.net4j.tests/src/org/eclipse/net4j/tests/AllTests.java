@@ -13,10 +13,13 @@ package org.eclipse.net4j.tests;
 import org.eclipse.net4j.tests.bugzilla.Bugzilla_241463_Test;
 import org.eclipse.net4j.tests.bugzilla.Bugzilla_259086_Test;
 import org.eclipse.net4j.tests.bugzilla.Bugzilla_262875_Test;
+import org.eclipse.net4j.tcp.unix.UnixUtil;
 import org.eclipse.net4j.tests.config.Net4jTestSuite;
+import org.eclipse.net4j.tests.config.TestConfig.Factory;
 import org.eclipse.net4j.tests.config.TestConfig.JVM;
 import org.eclipse.net4j.tests.config.TestConfig.SSL;
 import org.eclipse.net4j.tests.config.TestConfig.TCP;
+import org.eclipse.net4j.tests.config.TestConfig.Unix;
 import org.eclipse.net4j.tests.config.TestConfig.WS;
 import org.eclipse.net4j.util.tests.ExecutorWorkSerializerTest;
 import org.eclipse.net4j.util.tests.ExpectedIOTest;
@@ -31,6 +34,9 @@ import org.eclipse.net4j.util.tests.StringCompressorTest;
 import org.eclipse.net4j.util.tests.SynchronizingCorrelatorTest;
 import org.eclipse.net4j.util.tests.UUIDGeneratorTest;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import junit.framework.Test;
 import junit.framework.TestSuite;
 
@@ -41,8 +47,20 @@ public class AllTests
 {
   public static Test suite()
   {
+    List<Class<? extends Factory>> configTypes = new ArrayList<>();
+    configTypes.add(JVM.class);
+    configTypes.add(TCP.class);
+    configTypes.add(SSL.class);
+
+    if (UnixUtil.isSupported())
+    {
+      configTypes.add(Unix.class);
+    }
+
+    configTypes.add(WS.class);
+
     @SuppressWarnings("unchecked")
-    TestSuite suite = new Net4jTestSuite(AllTests.class.getName(), JVM.class, TCP.class, SSL.class, WS.class);
+    TestSuite suite = new Net4jTestSuite(AllTests.class.getName(), configTypes.toArray(new Class[configTypes.size()]));
     populateSuite(suite);
     return suite;
   }
@@ -61,6 +79,7 @@ public class AllTests
     suite.addTestSuite(SecurityTest.class);
     suite.addTestSuite(ExecutorWorkSerializerTest.class);
     suite.addTestSuite(RoundRobinBlockingQueueTest.class);
+    suite.addTestSuite(PriorityChannelQueueTest.class);
     suite.addTestSuite(RWOLockManagerTest.class);
     suite.addTestSuite(ExpectedIOTest.class);
     suite.addTestSuite(RollingLogTest.class);
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.net4j.tests;
+
+import org.eclipse.net4j.util.tests.AbstractOMTest;
+
+import org.eclipse.spi.net4j.Channel;
+import org.eclipse.spi.net4j.InternalChannel;
+import org.eclipse.spi.net4j.PriorityChannelQueue;
+
+import java.util.Queue;
+
+/**
+ * @author Eike Stepper
+ */
+public class PriorityChannelQueueTest extends AbstractOMTest
+{
+  public void testEqualPriorities() throws Exception
+  {
+    Queue<InternalChannel> queue = new PriorityChannelQueue();
+    Channel[] channels = createChannels(3);
+
+    assertEquals(true, queue.isEmpty());
+    assertNull(queue.peek());
+    assertNull(queue.poll());
+
+    for (int i = 0; i < channels.length; i++)
+    {
+      for (int j = 0; j < 10; j++)
+      {
+        queue.offer(channels[i]);
+      }
+    }
+
+    assertEquals(30, queue.size());
+
+    for (int i = 0; i < 30; i++)
+    {
+      InternalChannel peek1 = queue.peek();
+      InternalChannel peek2 = queue.peek();
+      assertSame(peek1, peek2);
+
+      InternalChannel poll = queue.poll();
+      // The order should be 012012012012...
+      assertEquals(i % 3, poll.getID());
+      assertSame(peek1, poll);
+    }
+
+    assertEquals(true, queue.isEmpty());
+    assertNull(queue.peek());
+    assertNull(queue.poll());
+  }
+
+  public void testDifferentPriorities() throws Exception
+  {
+    Queue<InternalChannel> queue = new PriorityChannelQueue();
+    Channel[] channels = createChannels(2);
+    channels[0].setPriority(InternalChannel.MAX_PRIORITY);
+    channels[1].setPriority(InternalChannel.MAX_PRIORITY / 2);
+
+    for (int j = 0; j < 100; j++)
+    {
+      queue.offer(channels[0]);
+      queue.offer(channels[1]);
+    }
+
+    int[] counts = new int[2];
+    for (int i = 0; i < 60; i++)
+    {
+      ++counts[queue.poll().getID()];
+    }
+
+    assertEquals(40, counts[0]);
+    assertEquals(20, counts[1]);
+  }
+
+  public void testIdleChannelIsScheduledPromptly() throws Exception
+  {
+    Queue<InternalChannel> queue = new PriorityChannelQueue();
+    Channel[] channels = createChannels(2);
+
+    for (int j = 0; j < 100; j++)
+    {
+      queue.offer(channels[0]);
+    }
+
+    for (int i = 0; i < 50; i++)
+    {
+      assertSame(channels[0], queue.poll());
+    }
+
+    // The idle channel must not queue behind the remaining 50 buffers of the busy channel.
+    queue.offer(channels[1]);
+    assertSame(channels[1], queue.poll());
+    assertSame(channels[0], queue.poll());
+  }
+
+  private static Channel[] createChannels(int count)
+  {
+    Channel[] channels = new Channel[count];
+    for (int i = 0; i < count; i++)
+    {
+      Channel channel = new Channel();
+      channel.setID((short)i);
+      channels[i] = channel;
+    }
+
+    return channels;
+  }
+}
@@ -28,6 +28,7 @@ import org.eclipse.net4j.util.event.IListener;
 import org.eclipse.net4j.util.factory.ProductCreationException;
 import org.eclipse.net4j.util.io.IOUtil;
 
+import org.eclipse.spi.net4j.Channel;
 import org.eclipse.spi.net4j.ClientProtocolFactory;
 import org.eclipse.spi.net4j.InternalChannelMultiplexer;
 import org.eclipse.spi.net4j.Protocol;
@@ -140,6 +141,67 @@ public class TransportTest extends AbstractConfigTest
     assertEquals(true, counter.await(2, TimeUnit.SECONDS));
   }
 
+  /**
+   * The server protocol replies from within handleBuffer(), i.e., on the I/O thread of the TCP based transports, that
+   * must not block for send credits because it's the only thread that can drain the send queue.
+   */
+  public void testSendFromIOThreadWithoutCredits() throws Exception
+  {
+    final int COUNT = 10;
+    final CountDownLatch sent = new CountDownLatch(1);
+    final CountDownLatch received = new CountDownLatch(COUNT);
+
+    acceptorContainer.registerFactory(new ServerProtocolFactory(TestProtocol.TYPE)
+    {
+      @Override
+      public Object create(String description) throws ProductCreationException
+      {
+        return new Protocol<Object>(TestProtocol.TYPE)
+        {
+          @Override
+          public void handleBuffer(IBuffer buffer)
+          {
+            buffer.release();
+
+            Channel channel = (Channel)getChannel();
+            channel.setSendQueueCredits(1);
+
+            for (int i = 0; i < COUNT; i++)
+            {
+              IBuffer reply = channel.provideBuffer();
+              ByteBuffer byteBuffer = reply.startPutting(channel.getID());
+              byteBuffer.putInt(i);
+              channel.sendBuffer(reply);
+            }
+
+            sent.countDown();
+          }
+        };
+      }
+    });
+
+    connectorContainer.registerFactory(new ClientProtocolFactory(TestProtocol.TYPE)
+    {
+      @Override
+      public Object create(String description) throws ProductCreationException
+      {
+        return new TestProtocol(received);
+      }
+    });
+
+    startTransport();
+    IConnector connector = getConnector();
+    IChannel channel = connector.openChannel(TransportTest.TestProtocol.TYPE, null);
+
+    IBuffer buffer = provideBuffer(connector);
+    ByteBuffer byteBuffer = buffer.startPutting(channel.getID());
+    byteBuffer.putInt(1970);
+    channel.sendBuffer(buffer);
+
+    assertEquals(true, sent.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+    assertEquals(true, received.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+  }
+
   public void testHandleEmptyBuffer() throws Exception
   {
     final int COUNT = 3;
@@ -10,8 +10,20 @@
  */
 package org.eclipse.net4j.tests.apps;
 
+import org.eclipse.net4j.Net4jUtil;
+import org.eclipse.net4j.internal.tcp.bundle.OM;
+import org.eclipse.net4j.jvm.IJVMConnector;
+import org.eclipse.net4j.jvm.JVMUtil;
+import org.eclipse.net4j.tcp.ITCPConnector;
+import org.eclipse.net4j.tcp.TCPUtil;
+import org.eclipse.net4j.tcp.unix.UnixUtil;
+import org.eclipse.net4j.tests.signal.IntRequest;
+import org.eclipse.net4j.tests.signal.TestSignalProtocol;
+import org.eclipse.net4j.util.container.ManagedContainer;
 import org.eclipse.net4j.util.io.IOUtil;
+import org.eclipse.net4j.util.io.TMPUtil;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -22,6 +34,7 @@ import java.net.SocketAddress;
 import java.nio.channels.Selector;
 import java.nio.channels.spi.SelectorProvider;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author Eike Stepper
@@ -35,6 +48,11 @@ public class Performance
     // testRouter();
     testSocket();
     testSelector();
+    testSmallSignals(1);
+    testSmallSignals(16);
+    testUnixSignals();
+    testConcurrentSignals(4);
+    testConcurrentSignals(64);
   }
 
   public static void testInetAddress() throws Exception
@@ -127,6 +145,155 @@ public class Performance
     }
   }
 
+  /**
+   * Measures the throughput of many small signals that are sent concurrently through a single TCP connection, with the
+   * given number of buffers per socket write and read operation.
+   */
+  public static void testSmallSignals(int ioBatchSize) throws Exception
+  {
+    final int threads = 8;
+    final int signals = 20000;
+
+    System.out.println("Small signals (io.batch.size = " + ioBatchSize + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+    OM.BUNDLE.getDebugSupport().setDebugOption("io.batch.size", ioBatchSize); //$NON-NLS-1$
+
+    ManagedContainer container = new ManagedContainer();
+    Net4jUtil.prepareContainer(container);
+    TCPUtil.prepareContainer(container);
+    container.registerFactory(new TestSignalProtocol.Factory());
+    container.activate();
+
+    try
+    {
+      TCPUtil.getAcceptor(container, "0.0.0.0:2037"); //$NON-NLS-1$
+      ITCPConnector connector = TCPUtil.getConnector(container, "localhost:2037"); //$NON-NLS-1$
+      TestSignalProtocol protocol = new TestSignalProtocol(connector);
+
+      long duration = sendSignals(protocol, threads, signals);
+      long sentBuffers = protocol.getChannel().getSentBuffers();
+      System.out.println(duration + " ms, " + threads * signals * 1000L / Math.max(1L, duration) + " signals/s, " //$NON-NLS-1$ //$NON-NLS-2$
+          + sentBuffers + " buffers sent"); //$NON-NLS-1$
+      protocol.close();
+    }
+    finally
+    {
+      container.deactivate();
+    }
+  }
+
+  /**
+   * Measures the throughput of the same signals as {@link #testSmallSignals(int)}, but sent through a Unix domain socket
+   * connection instead of a loopback TCP connection.
+   */
+  public static void testUnixSignals() throws Exception
+  {
+    final int threads = 8;
+    final int signals = 20000;
+
+    System.out.println("Small signals (Unix domain socket)"); //$NON-NLS-1$
+    if (!UnixUtil.isSupported())
+    {
+      System.out.println("Not supported"); //$NON-NLS-1$
+      return;
+    }
+
+    ManagedContainer container = new ManagedContainer();
+    Net4jUtil.prepareContainer(container);
+    UnixUtil.prepareContainer(container);
+    container.registerFactory(new TestSignalProtocol.Factory());
+    container.activate();
+
+    try
+    {
+      String path = new File(TMPUtil.SYSTEM_TEMP_FOLDER, "net4j-performance.sock").getAbsolutePath(); //$NON-NLS-1$
+      UnixUtil.getAcceptor(container, path);
+      ITCPConnector connector = UnixUtil.getConnector(container, path);
+      TestSignalProtocol protocol = new TestSignalProtocol(connector);
+
+      long duration = sendSignals(protocol, threads, signals);
+      System.out.println(duration + " ms, " + threads * signals * 1000L / Math.max(1L, duration) + " signals/s"); //$NON-NLS-1$ //$NON-NLS-2$
+      protocol.close();
+    }
+    finally
+    {
+      container.deactivate();
+    }
+  }
+
+  /**
+   * Measures the throughput of request/response signals that are sent concurrently by the given number of threads
+   * through a single in-process channel, where the correlation of the signals dominates the costs.
+   */
+  public static void testConcurrentSignals(int threads) throws Exception
+  {
+    final int signals = 200000 / threads;
+    System.out.println("Concurrent signals (threads = " + threads + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+
+    ManagedContainer container = new ManagedContainer();
+    Net4jUtil.prepareContainer(container);
+    JVMUtil.prepareContainer(container);
+    container.registerFactory(new TestSignalProtocol.Factory());
+    container.activate();
+
+    try
+    {
+      JVMUtil.getAcceptor(container, "performance"); //$NON-NLS-1$
+      IJVMConnector connector = JVMUtil.getConnector(container, "performance"); //$NON-NLS-1$
+      TestSignalProtocol protocol = new TestSignalProtocol(connector);
+
+      long duration = sendSignals(protocol, threads, signals);
+      System.out.println(duration + " ms, " + threads * signals * 1000L / Math.max(1L, duration) + " signals/s"); //$NON-NLS-1$ //$NON-NLS-2$
+      protocol.close();
+    }
+    finally
+    {
+      container.deactivate();
+    }
+  }
+
+  private static long sendSignals(TestSignalProtocol protocol, int threads, int signals) throws Exception
+  {
+    AtomicReference<Exception> exception = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(threads);
+
+    long start = System.currentTimeMillis();
+    for (int t = 0; t < threads; t++)
+    {
+      new Thread()
+      {
+        @Override
+        public void run()
+        {
+          try
+          {
+            for (int i = 0; i < signals; i++)
+            {
+              new IntRequest(protocol, i).send();
+            }
+          }
+          catch (Exception ex)
+          {
+            exception.compareAndSet(null, ex);
+          }
+          finally
+          {
+            latch.countDown();
+          }
+        }
+      }.start();
+    }
+
+    latch.await();
+    long duration = System.currentTimeMillis() - start;
+
+    if (exception.get() != null)
+    {
+      throw exception.get();
+    }
+
+    return duration;
+  }
+
   public static void testSelector() throws IOException
   {
     SelectorProvider provider = SelectorProvider.provider();
@@ -22,6 +22,8 @@ import org.eclipse.net4j.internal.tcp.TCPConnectorFactory;
 import org.eclipse.net4j.internal.tcp.ssl.SSLAcceptorFactory;
 import org.eclipse.net4j.internal.tcp.ssl.SSLConnector;
 import org.eclipse.net4j.internal.tcp.ssl.SSLConnectorFactory;
+import org.eclipse.net4j.internal.tcp.unix.UnixAcceptorFactory;
+import org.eclipse.net4j.internal.tcp.unix.UnixConnectorFactory;
 import org.eclipse.net4j.internal.ws.WSAcceptorFactory;
 import org.eclipse.net4j.internal.ws.WSConnector;
 import org.eclipse.net4j.internal.ws.WSConnectorFactory;
@@ -32,8 +34,10 @@ import org.eclipse.net4j.tcp.ITCPAcceptor;
 import org.eclipse.net4j.tcp.ITCPConnector;
 import org.eclipse.net4j.tcp.TCPUtil;
 import org.eclipse.net4j.tcp.ssl.SSLUtil;
+import org.eclipse.net4j.tcp.unix.UnixUtil;
 import org.eclipse.net4j.util.container.IManagedContainer;
 import org.eclipse.net4j.util.io.IOUtil;
+import org.eclipse.net4j.util.io.TMPUtil;
 import org.eclipse.net4j.ws.IWSAcceptor;
 import org.eclipse.net4j.ws.IWSConnector;
 import org.eclipse.net4j.ws.WSUtil;
@@ -44,6 +48,7 @@ import org.eclipse.jetty.ee8.servlet.ServletHolder;
 import org.eclipse.jetty.ee8.websocket.server.config.JettyWebSocketServletContainerInitializer;
 import org.eclipse.jetty.server.Server;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 
@@ -251,6 +256,60 @@ public abstract class TestConfig
     }
   }
 
+  /**
+   * @author Eike Stepper
+   */
+  public static class Unix implements Factory
+  {
+    /**
+     * A new socket file per run, so that concurrent runs on the same host don't steal each other's acceptor.
+     */
+    public static final String PATH = TMPUtil.getTempName("net4j-tests-", ".sock", new File(TMPUtil.SYSTEM_TEMP_FOLDER)).getAbsolutePath();
+
+    @Override
+    public TestConfig createConfig()
+    {
+      return new TestConfig()
+      {
+        @Override
+        public boolean needsSeparateContainers()
+        {
+          return false;
+        }
+
+        @Override
+        public void prepareContainer(IManagedContainer container)
+        {
+          UnixUtil.prepareContainer(container);
+        }
+
+        @Override
+        public IAcceptor getAcceptor(IManagedContainer container, boolean activate)
+        {
+          return (ITCPAcceptor)container.getElement(TCPAcceptorFactory.PRODUCT_GROUP, UnixAcceptorFactory.TYPE, PATH, activate);
+        }
+
+        @Override
+        public IConnector getConnector(IManagedContainer container, boolean activate)
+        {
+          return (ITCPConnector)container.getElement(TCPConnectorFactory.PRODUCT_GROUP, UnixConnectorFactory.TYPE, PATH, activate);
+        }
+
+        @Override
+        public void closeUnderlyingConnection(IConnector connector) throws IOException
+        {
+          ((TCPConnector)connector).getSocketChannel().close();
+        }
+
+        @Override
+        public String toString()
+        {
+          return Unix.class.getSimpleName();
+        }
+      };
+    }
+  }
+
   /**
    * @author Eike Stepper
    */
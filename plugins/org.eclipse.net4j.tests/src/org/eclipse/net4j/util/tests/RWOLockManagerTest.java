@@ -11,10 +11,12 @@
 package org.eclipse.net4j.util.tests;
 
 import org.eclipse.net4j.util.concurrent.IRWLockManager.LockType;
+import org.eclipse.net4j.util.concurrent.IRWOLockManager;
 import org.eclipse.net4j.util.concurrent.RWOLockManager;
 import org.eclipse.net4j.util.concurrent.TimeoutRuntimeException;
 import org.eclipse.net4j.util.io.IOUtil;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
@@ -84,6 +86,35 @@ public class RWOLockManagerTest extends AbstractOMTest
     IOUtil.OUT().println("SUCCESS");
   }
 
+  public void testLockAllOrNothing() throws Exception
+  {
+    RWOLockManager<Object, String> lockManager = new RWOLockManager<>();
+    lockManager.lock("A", Collections.singleton(1), LockType.WRITE, 1, 1000, null, null);
+
+    try
+    {
+      lockManager.lock("B", Arrays.asList(2, 1, 3), LockType.WRITE, 1, 100, null, null);
+      fail("TimeoutRuntimeException expected");
+    }
+    catch (TimeoutRuntimeException expected)
+    {
+      // SUCCESS
+    }
+
+    // B must not hold the locks on the objects that were lockable.
+    assertEquals(false, lockManager.hasLock(LockType.WRITE, "B", 2));
+    assertEquals(false, lockManager.hasLock(LockType.WRITE, "B", 3));
+    assertNull(lockManager.getLockState(2));
+
+    lockManager.lock("C", Arrays.asList(2, 3), LockType.WRITE, 1, 100, null, null);
+    assertEquals(true, lockManager.hasLock(LockType.WRITE, "C", 2));
+
+    lockManager.unlock("A", null, null, IRWOLockManager.ALL_LOCKS, null, null);
+    lockManager.unlock("C", null, null, IRWOLockManager.ALL_LOCKS, null, null);
+    lockManager.lock("B", Arrays.asList(2, 1, 3), LockType.WRITE, 1, 100, null, null);
+    assertEquals(true, lockManager.hasLock(LockType.WRITE, "B", 1));
+  }
+
   /**
    * @author Eike Stepper
    */
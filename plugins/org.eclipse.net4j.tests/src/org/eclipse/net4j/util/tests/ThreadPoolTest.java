@@ -11,11 +11,15 @@
 package org.eclipse.net4j.util.tests;
 
 import org.eclipse.net4j.util.concurrent.ConcurrencyUtil;
+import org.eclipse.net4j.util.concurrent.ExecutorServiceFactory;
 import org.eclipse.net4j.util.concurrent.ThreadPool;
+import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
 import org.eclipse.net4j.util.tests.ThreadPoolTest.TaskManager.Task;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -72,6 +76,100 @@ public class ThreadPoolTest extends AbstractOMTest
     runTest(0);
   }
 
+  public void testVirtualExecutorServiceFactory() throws Exception
+  {
+    ExecutorService executorService = new ExecutorServiceFactory.Virtual().create("test");
+
+    try
+    {
+      int tasks = 1000;
+      CountDownLatch started = new CountDownLatch(tasks);
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch finished = new CountDownLatch(tasks);
+      AtomicInteger virtualThreads = new AtomicInteger();
+
+      for (int i = 0; i < tasks; i++)
+      {
+        executorService.execute(() -> {
+          if (isVirtual(Thread.currentThread()))
+          {
+            virtualThreads.incrementAndGet();
+          }
+
+          started.countDown();
+
+          try
+          {
+            // All tasks block at the same time.
+            release.await();
+          }
+          catch (InterruptedException ex)
+          {
+            return;
+          }
+
+          finished.countDown();
+        });
+      }
+
+      assertTrue(started.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+      release.countDown();
+      assertTrue(finished.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+
+      int expectedVirtualThreads = ExecutorServiceFactory.Virtual.isSupported() ? tasks : 0;
+      assertEquals(expectedVirtualThreads, virtualThreads.get());
+    }
+    finally
+    {
+      LifecycleUtil.deactivate(executorService);
+    }
+  }
+
+  public void testVirtualThreadExecutor() throws Exception
+  {
+    // Runs only on Java 21+, where the factory must not fall back to a thread pool.
+    skipTest(getJavaVersion() < 21);
+    assertTrue(ExecutorServiceFactory.Virtual.isSupported());
+
+    ExecutorService executorService = new ExecutorServiceFactory.Virtual().create("test");
+    assertFalse(executorService instanceof ThreadPool);
+
+    try
+    {
+      Future<Thread> future = executorService.submit(() -> Thread.currentThread());
+      Thread thread = future.get(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+      assertTrue(isVirtual(thread));
+      assertTrue(thread.getName(), thread.getName().startsWith("test-virtual-"));
+    }
+    finally
+    {
+      LifecycleUtil.deactivate(executorService);
+    }
+  }
+
+  private static int getJavaVersion()
+  {
+    String version = System.getProperty("java.specification.version"); //$NON-NLS-1$
+    if (version.startsWith("1.")) //$NON-NLS-1$
+    {
+      version = version.substring(2);
+    }
+
+    return Integer.parseInt(version);
+  }
+
+  private static boolean isVirtual(Thread thread)
+  {
+    try
+    {
+      return (Boolean)Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+    catch (Exception ex)
+    {
+      return false;
+    }
+  }
+
   private void runTest(long keepAliveTime)
   {
     TaskManager taskManager = new TaskManager(10, 20, keepAliveTime);
@@ -10,6 +10,8 @@
  */
 package org.eclipse.net4j.util.concurrent;
 
+import org.eclipse.net4j.internal.util.bundle.OM;
+import org.eclipse.net4j.util.StringUtil;
 import org.eclipse.net4j.util.container.IManagedContainer;
 import org.eclipse.net4j.util.event.EventUtil;
 import org.eclipse.net4j.util.event.IListener;
@@ -20,7 +22,11 @@ import org.eclipse.net4j.util.lifecycle.LifecycleState;
 import org.eclipse.net4j.util.lifecycle.LifecycleUtil;
 import org.eclipse.net4j.util.om.OMPlatform;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author Eike Stepper
@@ -47,10 +53,19 @@ public class ExecutorServiceFactory extends Factory
     super(PRODUCT_GROUP, DEFAULT_TYPE);
   }
 
+  /**
+   * @since 3.25
+   */
+  protected ExecutorServiceFactory(String type)
+  {
+    super(PRODUCT_GROUP, type);
+  }
+
   @Override
   public ExecutorService create(String description)
   {
-    final ExecutorService executorService = ThreadPool.create(description);
+    final ExecutorService executorService = createExecutorService(description);
+    final String name = executorService instanceof ThreadPool ? "CachedThreadPool" : "VirtualThreadExecutor";
 
     return LifecycleUtil.delegateLifecycle(getClass().getClassLoader(), executorService, ExecutorService.class, new ILifecycle()
     {
@@ -116,13 +131,161 @@ public class ExecutorServiceFactory extends Factory
       @Override
       public String toString()
       {
-        return "CachedThreadPool";
+        return name;
       }
     });
   }
 
+  /**
+   * @since 3.25
+   */
+  protected ExecutorService createExecutorService(String description)
+  {
+    return ThreadPool.create(description);
+  }
+
   public static ExecutorService get(IManagedContainer container)
   {
     return (ExecutorService)container.getElement(PRODUCT_GROUP, DEFAULT_TYPE, DEFAULT_DESCRIPTION);
   }
+
+  /**
+   * Creates an unmanaged executor service of the default type, for components that are not associated with a
+   * {@link IManagedContainer container}. The caller is responsible for shutting the executor service down.
+   *
+   * @since 3.25
+   */
+  public static ExecutorService create()
+  {
+    if (Virtual.TYPE.equals(DEFAULT_TYPE))
+    {
+      return new Virtual().createExecutorService(DEFAULT_DESCRIPTION);
+    }
+
+    return ThreadPool.create();
+  }
+
+  /**
+   * Creates executor services that start a new virtual thread for each task. Virtual threads are cheap to block, which
+   * makes them a good fit for signals and other tasks that mostly wait for I/O.
+   * <p>
+   * Virtual threads require a Java 21 runtime; on older runtimes this factory creates {@link ThreadPool thread pools}.
+   * This factory can be made the default with the system property
+   * <code>org.eclipse.net4j.util.concurrent.ExecutorServiceFactory.type=virtual</code>. The description of the
+   * products is used as the name prefix of the virtual threads.
+   *
+   * @author Eike Stepper
+   * @since 3.25
+   */
+  public static class Virtual extends ExecutorServiceFactory
+  {
+    public static final String TYPE = "virtual"; //$NON-NLS-1$
+
+    private static final Method OF_VIRTUAL;
+
+    private static final Method NAME;
+
+    private static final Method FACTORY;
+
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    private static final AtomicBoolean WARNED = new AtomicBoolean();
+
+    public Virtual()
+    {
+      super(TYPE);
+    }
+
+    @Override
+    protected ExecutorService createExecutorService(String description)
+    {
+      if (isSupported())
+      {
+        try
+        {
+          return createVirtualThreadExecutor(description);
+        }
+        catch (UnsupportedOperationException ex)
+        {
+          //$FALL-THROUGH$
+        }
+      }
+
+      if (WARNED.compareAndSet(false, true))
+      {
+        OM.LOG.warn("Virtual threads are not supported by this runtime; using a thread pool instead"); //$NON-NLS-1$
+      }
+
+      return super.createExecutorService(description);
+    }
+
+    /**
+     * Returns <code>true</code> if the runtime supports virtual threads, <code>false</code> otherwise.
+     */
+    public static boolean isSupported()
+    {
+      return NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor service that starts a new virtual thread for each task.
+     *
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads.
+     */
+    public static ExecutorService createVirtualThreadExecutor(String threadNamePrefix)
+    {
+      if (!isSupported())
+      {
+        throw new UnsupportedOperationException("Virtual threads are not supported by this runtime"); //$NON-NLS-1$
+      }
+
+      if (StringUtil.isEmpty(threadNamePrefix))
+      {
+        threadNamePrefix = DEFAULT_THREAD_GROUP_NAME;
+      }
+      else
+      {
+        // Same syntax as ThreadPool.create(String).
+        threadNamePrefix = threadNamePrefix.split(":")[0]; //$NON-NLS-1$
+      }
+
+      try
+      {
+        Object builder = OF_VIRTUAL.invoke(null);
+        builder = NAME.invoke(builder, threadNamePrefix + "-virtual-", 1L); //$NON-NLS-1$
+        ThreadFactory threadFactory = (ThreadFactory)FACTORY.invoke(builder);
+        return (ExecutorService)NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+      }
+      catch (Exception ex)
+      {
+        throw new UnsupportedOperationException("Virtual threads could not be created", ex); //$NON-NLS-1$
+      }
+    }
+
+    static
+    {
+      Method ofVirtual = null;
+      Method name = null;
+      Method factory = null;
+      Method newThreadPerTaskExecutor = null;
+
+      try
+      {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder"); //$NON-NLS-1$
+        ofVirtual = Thread.class.getMethod("ofVirtual"); //$NON-NLS-1$
+        name = builderClass.getMethod("name", String.class, long.class); //$NON-NLS-1$
+        factory = builderClass.getMethod("factory"); //$NON-NLS-1$
+        newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class); //$NON-NLS-1$
+      }
+      catch (Throwable ex)
+      {
+        newThreadPerTaskExecutor = null;
+      }
+
+      OF_VIRTUAL = ofVirtual;
+      NAME = name;
+      FACTORY = factory;
+      NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+  }
 }
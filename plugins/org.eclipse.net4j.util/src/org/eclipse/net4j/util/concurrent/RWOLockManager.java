@@ -21,7 +21,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -116,21 +115,17 @@ public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLo
         return modCount;
       }
 
-      // Populate a mutable list of objects to lock. This list will shrink while objects are successfully locked below.
-      List<OBJECT> objectsToLock = new ArrayList<>(objects);
-
-      // Remember the locked objects for the case that an exception occurs, so that their locks can be removed again.
-      List<OBJECT> lockedObjects = new ArrayList<>(objectsToLock.size());
-
+      // The objects are locked all or nothing. A context never holds some of the requested locks while it waits for
+      // the others, so two contexts that request overlapping object sets can't block each other until one times out.
       for (;;)
       {
-        for (Iterator<OBJECT> it = objectsToLock.iterator(); it.hasNext();)
+        List<OBJECT> blockedObjects = getBlockedObjects(context, objects, lockType);
+        if (blockedObjects.isEmpty())
         {
-          OBJECT lockedObject = it.next();
-          LockState<OBJECT, CONTEXT> lockState = getOrCreateLockState(lockedObject);
-
-          if (lockState.canLock(lockType, context))
+          for (OBJECT lockedObject : objects)
           {
+            LockState<OBJECT, CONTEXT> lockState = getOrCreateLockState(lockedObject);
+
             int oldCount = lockState.getLockCount(lockType, context);
             int newCount = lockState.lock(lockType, context, count);
 
@@ -148,52 +143,50 @@ public class RWOLockManager<OBJECT, CONTEXT> extends Lifecycle implements IRWOLo
             {
               stateHandler.accept(lockState);
             }
-
-            lockedObjects.add(lockedObject);
-            it.remove();
           }
-        }
 
-        if (objectsToLock.isEmpty())
-        {
           return ++modCount;
         }
 
-        try
+        long waitTime = deadline - currentTimeMillis();
+        if (waitTime <= 0)
         {
-          long waitTime = deadline - currentTimeMillis();
-          if (waitTime <= 0)
+          StringJoiner joiner = new StringJoiner(", ", "Could not lock objects within " + timeout + " milliseconds: ", "");
+          for (OBJECT blockedObject : blockedObjects)
           {
-            StringBuilder builder = new StringBuilder();
-            builder.append("Could not lock objects within ");
-            builder.append(timeout);
-            builder.append(" milliseconds: ");
-
-            StringJoiner joiner = new StringJoiner(", ", "Could not lock objects within " + timeout + " milliseconds: ", "");
-            for (OBJECT objectToLock : objectsToLock)
-            {
-              LockState<OBJECT, CONTEXT> lockState = objectToLockStateMap.get(objectToLock);
-              if (lockState != null)
-              {
-                joiner.add(lockState.toString());
-              }
-            }
-
-            throw new TimeoutRuntimeException(builder.toString());
+            joiner.add(objectToLockStateMap.get(blockedObject).toString());
           }
 
-          // Give others a chance to unlock objects.
-          unlocked.await(waitTime, TimeUnit.MILLISECONDS);
+          throw new TimeoutRuntimeException(joiner.toString());
         }
-        catch (InterruptedException | TimeoutRuntimeException ex)
-        {
-          unlock(context, lockedObjects, lockType, count, null, null);
 
-          --modCount; // Fix the modCount that was increased by unlock();
-          throw ex;
+        // Give others a chance to unlock objects.
+        unlocked.await(waitTime, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /**
+   * Returns the objects that can't be locked by the given context at the moment, without creating lock states.
+   */
+  private List<OBJECT> getBlockedObjects(CONTEXT context, Collection<? extends OBJECT> objects, LockType lockType)
+  {
+    List<OBJECT> blockedObjects = Collections.emptyList();
+    for (OBJECT object : objects)
+    {
+      LockState<OBJECT, CONTEXT> lockState = objectToLockStateMap.get(object);
+      if (lockState != null && !lockState.canLock(lockType, context))
+      {
+        if (blockedObjects.isEmpty())
+        {
+          blockedObjects = new ArrayList<>();
         }
+
+        blockedObjects.add(object);
       }
     }
+
+    return blockedObjects;
   }
 
   private LockState<OBJECT, CONTEXT> getOrCreateLockState(OBJECT object)
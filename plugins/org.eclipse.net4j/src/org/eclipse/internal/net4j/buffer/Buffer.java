@@ -212,6 +212,24 @@ public class Buffer implements InternalBuffer
 
   @Override
   public ByteBuffer startGetting(SocketChannel socketChannel) throws IOException
+  {
+    return startGetting(socketChannel, null);
+  }
+
+  /**
+   * Same as {@link #startGetting(SocketChannel)}, but transfers the bytes from the given source buffer instead of reading
+   * them from a socket channel. This supports connectors that read ahead multiple buffers with a single read operation.
+   *
+   * @return the received byte buffer if this buffer is completely received, <code>null</code> if the source buffer has
+   *         been exhausted before.
+   * @since 4.20
+   */
+  public ByteBuffer startGetting(ByteBuffer source) throws IOException
+  {
+    return startGetting(null, source);
+  }
+
+  private ByteBuffer startGetting(SocketChannel socketChannel, ByteBuffer source) throws IOException
   {
     try
     {
@@ -228,7 +246,7 @@ public class Buffer implements InternalBuffer
 
       if (state == BufferState.READING_HEADER)
       {
-        readChannel(socketChannel, byteBuffer);
+        readChannel(socketChannel, source, byteBuffer);
 
         if (byteBuffer.hasRemaining())
         {
@@ -274,7 +292,7 @@ public class Buffer implements InternalBuffer
         state = BufferState.READING_BODY;
       }
 
-      readChannel(socketChannel, byteBuffer);
+      readChannel(socketChannel, source, byteBuffer);
       if (byteBuffer.hasRemaining())
       {
         return null;
@@ -354,37 +372,7 @@ public class Buffer implements InternalBuffer
   {
     try
     {
-      if (state != BufferState.PUTTING && state != BufferState.WRITING)
-      {
-        throw new IllegalStateException(toString());
-      }
-
-      if (state == BufferState.PUTTING)
-      {
-        if (channelID == NO_CHANNEL)
-        {
-          throw new IllegalStateException(toString() + ": channelID == NO_CHANNEL"); //$NON-NLS-1$
-        }
-
-        int payloadSize = byteBuffer.position() - HEADER_SIZE;
-        boolean eos = isEOS();
-        if (eos)
-        {
-          payloadSize = -payloadSize;
-        }
-
-        if (TRACER.isEnabled())
-        {
-          TRACER.trace("Writing " + (Math.abs(payloadSize) - 1) + " bytes" //$NON-NLS-1$ //$NON-NLS-2$
-              + (eos ? " (EOS)" : "") + StringUtil.NL + formatContent(false)); //$NON-NLS-1$ //$NON-NLS-2$
-        }
-
-        _flip(byteBuffer);
-        byteBuffer.putShort(channelID);
-        byteBuffer.putShort((short)payloadSize);
-        _position(byteBuffer, 0);
-        state = BufferState.WRITING;
-      }
+      prepareWriting();
 
       int numBytes = socketChannel.write(byteBuffer);
       if (numBytes == -1)
@@ -392,13 +380,7 @@ public class Buffer implements InternalBuffer
         throw new IOException(toString() + ": Channel closed"); //$NON-NLS-1$
       }
 
-      if (byteBuffer.hasRemaining())
-      {
-        return false;
-      }
-
-      clear();
-      return true;
+      return completeWriting();
     }
     catch (IOException ex)
     {
@@ -417,6 +399,96 @@ public class Buffer implements InternalBuffer
     }
   }
 
+  /**
+   * Prepares this buffer for being written as part of a gathering write operation and returns the byte buffer with
+   * the remaining bytes to be written.
+   *
+   * @see #finishWriting()
+   * @since 4.20
+   */
+  public ByteBuffer startWriting()
+  {
+    try
+    {
+      prepareWriting();
+      return byteBuffer;
+    }
+    catch (RuntimeException ex)
+    {
+      handleError(ex);
+      throw ex;
+    }
+    catch (Error ex)
+    {
+      handleError(ex);
+      throw ex;
+    }
+  }
+
+  /**
+   * Finishes a gathering write operation that has been started with {@link #startWriting()}.
+   *
+   * @return <code>true</code> if the buffer has been completely written, <code>false</code> otherwise.
+   * @since 4.20
+   */
+  public boolean finishWriting()
+  {
+    if (state != BufferState.WRITING)
+    {
+      IllegalStateException ex = new IllegalStateException(toString());
+      handleError(ex);
+      throw ex;
+    }
+
+    return completeWriting();
+  }
+
+  private void prepareWriting()
+  {
+    if (state != BufferState.PUTTING && state != BufferState.WRITING)
+    {
+      throw new IllegalStateException(toString());
+    }
+
+    if (state == BufferState.PUTTING)
+    {
+      if (channelID == NO_CHANNEL)
+      {
+        throw new IllegalStateException(toString() + ": channelID == NO_CHANNEL"); //$NON-NLS-1$
+      }
+
+      int payloadSize = byteBuffer.position() - HEADER_SIZE;
+      boolean eos = isEOS();
+      if (eos)
+      {
+        payloadSize = -payloadSize;
+      }
+
+      if (TRACER.isEnabled())
+      {
+        TRACER.trace("Writing " + (Math.abs(payloadSize) - 1) + " bytes" //$NON-NLS-1$ //$NON-NLS-2$
+            + (eos ? " (EOS)" : "") + StringUtil.NL + formatContent(false)); //$NON-NLS-1$ //$NON-NLS-2$
+      }
+
+      _flip(byteBuffer);
+      byteBuffer.putShort(channelID);
+      byteBuffer.putShort((short)payloadSize);
+      _position(byteBuffer, 0);
+      state = BufferState.WRITING;
+    }
+  }
+
+  private boolean completeWriting()
+  {
+    if (byteBuffer.hasRemaining())
+    {
+      return false;
+    }
+
+    clear();
+    return true;
+  }
+
   @Override
   public void flip()
   {
@@ -600,8 +672,22 @@ public class Buffer implements InternalBuffer
     }
   }
 
-  private void readChannel(SocketChannel socketChannel, ByteBuffer byteBuffer) throws ClosedChannelException
+  private void readChannel(SocketChannel socketChannel, ByteBuffer source, ByteBuffer byteBuffer) throws ClosedChannelException
   {
+    if (source != null)
+    {
+      int length = Math.min(source.remaining(), byteBuffer.remaining());
+      if (length != 0)
+      {
+        ByteBuffer slice = source.duplicate();
+        _limit(slice, slice.position() + length);
+        byteBuffer.put(slice);
+        _position(source, slice.limit());
+      }
+
+      return;
+    }
+
     try
     {
       int numBytes = socketChannel.read(byteBuffer);
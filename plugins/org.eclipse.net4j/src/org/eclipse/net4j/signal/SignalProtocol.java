@@ -40,8 +40,9 @@ import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -110,9 +111,18 @@ public class SignalProtocol<INFRA_STRUCTURE> extends Protocol<INFRA_STRUCTURE> i
 
   private IStreamWrapper streamWrapper;
 
-  private Map<Integer, Signal> signals = new HashMap<>();
+  /**
+   * The running signals by their correlation IDs. This map is accessed without locking, so that the buffers of
+   * concurrent signals can be correlated in parallel. Threads that wait for the map to become empty synchronize on
+   * {@link #signalsLock} and are only notified if {@link #signalWaiters} is positive.
+   */
+  private final ConcurrentMap<Integer, Signal> signals = new ConcurrentHashMap<>();
+
+  private final Object signalsLock = new Object();
 
-  private int nextCorrelationID = MIN_CORRELATION_ID;
+  private volatile int signalWaiters;
+
+  private final AtomicInteger nextCorrelationID = new AtomicInteger(MIN_CORRELATION_ID);
 
   private boolean failingOver;
 
@@ -240,19 +250,28 @@ public class SignalProtocol<INFRA_STRUCTURE> extends Protocol<INFRA_STRUCTURE> i
 
   public boolean waitForSignals(long timeout)
   {
-    synchronized (signals)
+    synchronized (signalsLock)
     {
-      while (!signals.isEmpty())
+      ++signalWaiters;
+
+      try
       {
-        try
-        {
-          signals.wait(timeout);
-        }
-        catch (InterruptedException ex)
+        while (!signals.isEmpty())
         {
-          return false;
+          try
+          {
+            signalsLock.wait(timeout);
+          }
+          catch (InterruptedException ex)
+          {
+            return false;
+          }
         }
       }
+      finally
+      {
+        --signalWaiters;
+      }
     }
 
     return true;
@@ -290,45 +309,36 @@ public class SignalProtocol<INFRA_STRUCTURE> extends Protocol<INFRA_STRUCTURE> i
     Signal signal = null;
     boolean newSignalScheduled = false;
 
-    synchronized (signals)
+    if (correlationID > 0 && beginOfSignal)
     {
-      if (correlationID > 0)
+      // Incoming indication
+      short signalID = byteBuffer.getShort();
+      if (TRACER.isEnabled())
       {
-        // Incoming indication
-        if (beginOfSignal)
-        {
-          short signalID = byteBuffer.getShort();
-          if (TRACER.isEnabled())
-          {
-            TRACER.trace("Got signalID: " + signalID); //$NON-NLS-1$
-          }
-
-          signal = provideSignalReactor(signalID);
-          if (signal != null)
-          {
-            signal.setCorrelationID(-correlationID);
-            signal.setBufferInputStream(new SignalInputStream(getTimeout()));
-            if (signal instanceof IndicationWithResponse)
-            {
-              signal.setBufferOutputStream(new SignalOutputStream(-correlationID, signalID, false));
-            }
+        TRACER.trace("Got signalID: " + signalID); //$NON-NLS-1$
+      }
 
-            signals.put(-correlationID, signal);
-            getExecutorService().execute(signal);
-            newSignalScheduled = true;
-          }
-        }
-        else
+      signal = provideSignalReactor(signalID);
+      if (signal != null)
+      {
+        signal.setCorrelationID(-correlationID);
+        signal.setBufferInputStream(new SignalInputStream(getTimeout()));
+        if (signal instanceof IndicationWithResponse)
         {
-          signal = signals.get(-correlationID);
+          signal.setBufferOutputStream(new SignalOutputStream(-correlationID, signalID, false));
         }
-      }
-      else
-      {
-        // Incoming confirmation
-        signal = signals.get(-correlationID);
+
+        signals.put(-correlationID, signal);
+        getExecutorService().execute(signal);
+        newSignalScheduled = true;
       }
     }
+    else
+    {
+      // Continuation of an incoming indication or incoming confirmation.
+      // The buffers of a channel are handled in order, so the signal is already registered.
+      signal = signals.get(-correlationID);
+    }
 
     if (signal != null) // Can be null after timeout
     {
@@ -368,14 +378,23 @@ public class SignalProtocol<INFRA_STRUCTURE> extends Protocol<INFRA_STRUCTURE> i
   {
     if (!testing)
     {
-      synchronized (signals)
+      synchronized (signalsLock)
       {
-        // Wait at most 10 seconds for running signals to finish
-        int waitMillis = 10 * 1000;
-        long stop = System.currentTimeMillis() + waitMillis;
-        while (!signals.isEmpty() && System.currentTimeMillis() < stop)
+        ++signalWaiters;
+
+        try
+        {
+          // Wait at most 10 seconds for running signals to finish
+          int waitMillis = 10 * 1000;
+          long stop = System.currentTimeMillis() + waitMillis;
+          while (!signals.isEmpty() && System.currentTimeMillis() < stop)
+          {
+            signalsLock.wait(1000L);
+          }
+        }
+        finally
         {
-          signals.wait(1000L);
+          --signalWaiters;
         }
       }
     }
@@ -388,10 +407,7 @@ public class SignalProtocol<INFRA_STRUCTURE> extends Protocol<INFRA_STRUCTURE> i
   {
     try
     {
-      synchronized (signals)
-      {
-        signals.clear();
-      }
+      signals.clear();
 
       IChannel channel = getChannel();
       if (channel != null)
@@ -479,24 +495,24 @@ public class SignalProtocol<INFRA_STRUCTURE> extends Protocol<INFRA_STRUCTURE> i
     return null;
   }
 
-  synchronized int getNextCorrelationID()
+  int getNextCorrelationID()
   {
-    int correlationID = nextCorrelationID;
-    if (nextCorrelationID == MAX_CORRELATION_ID)
+    for (;;)
     {
-      if (TRACER.isEnabled())
+      int correlationID = nextCorrelationID.get();
+      boolean wrapAround = correlationID == MAX_CORRELATION_ID;
+      int next = wrapAround ? MIN_CORRELATION_ID : correlationID + INC_CORRELATION_ID;
+
+      if (nextCorrelationID.compareAndSet(correlationID, next))
       {
-        TRACER.trace("Correlation ID wrap-around"); //$NON-NLS-1$
-      }
+        if (wrapAround && TRACER.isEnabled())
+        {
+          TRACER.trace("Correlation ID wrap-around"); //$NON-NLS-1$
+        }
 
-      nextCorrelationID = MIN_CORRELATION_ID;
-    }
-    else
-    {
-      nextCorrelationID += INC_CORRELATION_ID;
+        return correlationID;
+      }
     }
-
-    return correlationID;
   }
 
   InputStream wrapInputStream(InputStream in) throws IOException
@@ -548,10 +564,7 @@ public class SignalProtocol<INFRA_STRUCTURE> extends Protocol<INFRA_STRUCTURE> i
       signalActor.setBufferInputStream(new SignalInputStream(timeout));
     }
 
-    synchronized (signals)
-    {
-      signals.put(correlationID, signalActor);
-    }
+    signals.put(correlationID, signalActor);
 
     fireSignalScheduledEvent(signalActor);
     signalActor.runSync();
@@ -562,50 +575,50 @@ public class SignalProtocol<INFRA_STRUCTURE> extends Protocol<INFRA_STRUCTURE> i
   void stopSignal(Signal signal, Exception exception)
   {
     int correlationID = signal.getCorrelationID();
-    synchronized (signals)
-    {
-      signals.remove(correlationID);
-      signals.notifyAll();
-    }
+    signals.remove(correlationID);
+    notifySignalWaiters();
 
     fireSignalFinishedEvent(signal, exception);
   }
 
   void handleRemoteException(int correlationID, Throwable t, boolean responding)
   {
-    synchronized (signals)
+    Signal signal = signals.remove(correlationID);
+    if (signal instanceof RequestWithConfirmation<?>)
     {
-      Signal signal = signals.remove(correlationID);
-      if (signal instanceof RequestWithConfirmation<?>)
-      {
-        RequestWithConfirmation<?> request = (RequestWithConfirmation<?>)signal;
-        request.setRemoteException(t, responding);
-      }
-
-      signals.notifyAll();
+      RequestWithConfirmation<?> request = (RequestWithConfirmation<?>)signal;
+      request.setRemoteException(t, responding);
     }
+
+    notifySignalWaiters();
   }
 
   void handleMonitorProgress(int correlationID, double totalWork, double work)
   {
-    synchronized (signals)
+    Signal signal = signals.get(correlationID);
+    if (signal instanceof SignalActor)
     {
-      Signal signal = signals.get(correlationID);
-      if (signal instanceof SignalActor)
-      {
-        ((SignalActor)signal).setMonitorProgress(totalWork, work);
-      }
+      ((SignalActor)signal).setMonitorProgress(totalWork, work);
     }
   }
 
   void handleMonitorCanceled(int correlationID)
   {
-    synchronized (signals)
+    Signal signal = signals.get(-correlationID);
+    if (signal instanceof SignalReactor)
+    {
+      ((SignalReactor)signal).setMonitorCanceled();
+    }
+  }
+
+  private void notifySignalWaiters()
+  {
+    // The waiters register before they check the signals, so none of them can miss this notification.
+    if (signalWaiters != 0)
     {
-      Signal signal = signals.get(-correlationID);
-      if (signal instanceof SignalReactor)
+      synchronized (signalsLock)
       {
-        ((SignalReactor)signal).setMonitorCanceled();
+        signalsLock.notifyAll();
       }
     }
   }
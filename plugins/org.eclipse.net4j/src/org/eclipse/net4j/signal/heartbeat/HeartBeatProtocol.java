@@ -31,6 +31,7 @@ import org.eclipse.net4j.util.om.log.OMLogger;
 
 import org.eclipse.internal.net4j.bundle.OM;
 
+import org.eclipse.spi.net4j.InternalChannel;
 import org.eclipse.spi.net4j.ServerProtocolFactory;
 
 import java.io.IOException;
@@ -162,6 +163,18 @@ public class HeartBeatProtocol extends SignalProtocol<Object>
     return null;
   }
 
+  /**
+   * Raises the priority of the given channel, so that heart beats are not delayed by the buffers of busy channels.
+   *
+   * @since 4.20
+   */
+  @Override
+  public void setChannel(IChannel channel)
+  {
+    super.setChannel(channel);
+    prioritize(channel);
+  }
+
   protected void handleTimeout(long untouched)
   {
     IChannelMultiplexer multiplexer = getChannel().getMultiplexer();
@@ -193,6 +206,14 @@ public class HeartBeatProtocol extends SignalProtocol<Object>
     return TimerLifecycle.DaemonFactory.getTimer(container, null);
   }
 
+  private static void prioritize(IChannel channel)
+  {
+    if (channel instanceof InternalChannel)
+    {
+      ((InternalChannel)channel).setPriority(InternalChannel.MAX_PRIORITY);
+    }
+  }
+
   /**
    * The server-side implementation of a {@link HeartBeatProtocol heart beat protocol}.
    *
@@ -248,6 +269,16 @@ public class HeartBeatProtocol extends SignalProtocol<Object>
       return null;
     }
 
+    /**
+     * @since 4.20
+     */
+    @Override
+    public void setChannel(IChannel channel)
+    {
+      super.setChannel(channel);
+      prioritize(channel);
+    }
+
     @Override
     protected void doBeforeActivate() throws Exception
     {
@@ -64,6 +64,14 @@ public class Channel extends Lifecycle implements InternalChannel, IExecutorServ
 
   private transient Queue<IBuffer> sendQueue;
 
+  private int priority = DEFAULT_PRIORITY;
+
+  private int sendQueueCredits;
+
+  private final Object sendCreditLock = new Object();
+
+  private transient volatile int sendCreditWaiters;
+
   private transient long sentBuffers;
 
   private transient long sentBytes;
@@ -216,6 +224,45 @@ public class Channel extends Lifecycle implements InternalChannel, IExecutorServ
     return sendQueue;
   }
 
+  /**
+   * @since 4.20
+   */
+  @Override
+  public int getPriority()
+  {
+    return priority;
+  }
+
+  /**
+   * @since 4.20
+   */
+  @Override
+  public void setPriority(int priority)
+  {
+    checkArg(priority >= MIN_PRIORITY && priority <= MAX_PRIORITY, "priority out of range"); //$NON-NLS-1$
+    this.priority = priority;
+  }
+
+  /**
+   * Returns the maximum number of buffers that the {@link #getSendQueue() send queue} of this channel can hold before
+   * {@link #handleBuffer(IBuffer) producers} are blocked, or zero if the send queue is unbounded.
+   *
+   * @since 4.20
+   */
+  public int getSendQueueCredits()
+  {
+    return sendQueueCredits;
+  }
+
+  /**
+   * @since 4.20
+   */
+  public void setSendQueueCredits(int sendQueueCredits)
+  {
+    checkArg(sendQueueCredits >= 0, "sendQueueCredits < 0"); //$NON-NLS-1$
+    this.sendQueueCredits = sendQueueCredits;
+  }
+
   @Override
   public void sendBuffer(IBuffer buffer)
   {
@@ -291,8 +338,20 @@ public class Channel extends Lifecycle implements InternalChannel, IExecutorServ
       OM.LOG.warn(ex);
     }
 
+    Queue<IBuffer> sendQueue = this.sendQueue;
     if (sendQueue != null)
     {
+      if (!acquireSendCredit(sendQueue))
+      {
+        if (TRACER.isEnabled())
+        {
+          TRACER.trace("Ignoring buffer because channel has been closed while waiting for send credits: " + this); //$NON-NLS-1$
+        }
+
+        buffer.release();
+        return;
+      }
+
       sendQueue.add(buffer);
       channelMultiplexer.multiplexChannel(this);
     }
@@ -410,6 +469,7 @@ public class Channel extends Lifecycle implements InternalChannel, IExecutorServ
       sendQueue = null;
     }
 
+    releaseSendCredits();
     super.doDeactivate();
   }
 
@@ -430,6 +490,91 @@ public class Channel extends Lifecycle implements InternalChannel, IExecutorServ
     return !isActive();
   }
 
+  /**
+   * Blocks the calling thread while the given send queue has no credits left, so that a producer that is faster than
+   * the network can't fill the memory with buffers. Returns <code>false</code> if this channel has been closed while
+   * waiting, <code>true</code> otherwise.
+   * <p>
+   * The {@link InternalChannelMultiplexer#isIOThread() I/O thread} of the multiplexer is never blocked because it is
+   * the thread that drains the send queue. Buffers that it sends exceed the credits instead.
+   */
+  private boolean acquireSendCredit(Queue<IBuffer> sendQueue)
+  {
+    int credits = sendQueueCredits;
+    if (credits == 0 || !(sendQueue instanceof SendQueue) || ((SendQueue)sendQueue).size.get() < credits)
+    {
+      return true;
+    }
+
+    if (channelMultiplexer.isIOThread())
+    {
+      if (TRACER.isEnabled())
+      {
+        TRACER.trace("Exceeding send credits because the I/O thread must not block: " + this); //$NON-NLS-1$
+      }
+
+      return true;
+    }
+
+    SendQueue queue = (SendQueue)sendQueue;
+    fireSendQueueEvent(Type.BLOCKED, queue.size.get());
+
+    try
+    {
+      synchronized (sendCreditLock)
+      {
+        ++sendCreditWaiters;
+
+        try
+        {
+          while (queue.size.get() >= credits)
+          {
+            if (isClosed())
+            {
+              return false;
+            }
+
+            sendCreditLock.wait(1000);
+          }
+        }
+        catch (InterruptedException ex)
+        {
+          Thread.currentThread().interrupt();
+        }
+        finally
+        {
+          --sendCreditWaiters;
+        }
+      }
+    }
+    finally
+    {
+      fireSendQueueEvent(Type.UNBLOCKED, queue.size.get());
+    }
+
+    return true;
+  }
+
+  private void releaseSendCredits()
+  {
+    if (sendCreditWaiters != 0)
+    {
+      synchronized (sendCreditLock)
+      {
+        sendCreditLock.notifyAll();
+      }
+    }
+  }
+
+  private void fireSendQueueEvent(Type type, int queueSize)
+  {
+    IListener[] listeners = getListeners();
+    if (listeners.length != 0)
+    {
+      fireEvent(new SendQueueEventImpl(this, type, queueSize, sendQueueCredits), listeners);
+    }
+  }
+
   private void checkID()
   {
     checkState(id != IBuffer.NO_CHANNEL, "channelID == NO_CHANNEL"); //$NON-NLS-1$
@@ -565,21 +710,18 @@ public class Channel extends Lifecycle implements InternalChannel, IExecutorServ
     private void added(IBuffer buffer)
     {
       int queueSize = size.incrementAndGet();
-      IListener[] listeners = getListeners();
-      if (listeners.length != 0)
-      {
-        fireEvent(new SendQueueEventImpl(Channel.this, Type.ENQUEUED, queueSize), listeners);
-      }
+      fireSendQueueEvent(Type.ENQUEUED, queueSize);
     }
 
     private void removed(IBuffer buffer)
     {
       int queueSize = size.decrementAndGet();
-      IListener[] listeners = getListeners();
-      if (listeners.length != 0)
+      if (queueSize < sendQueueCredits)
       {
-        fireEvent(new SendQueueEventImpl(Channel.this, Type.DEQUEUED, queueSize), listeners);
+        releaseSendCredits();
       }
+
+      fireSendQueueEvent(Type.DEQUEUED, queueSize);
     }
   }
 
@@ -594,11 +736,14 @@ public class Channel extends Lifecycle implements InternalChannel, IExecutorServ
 
     private final int queueSize;
 
-    private SendQueueEventImpl(Channel channel, Type type, int queueSize)
+    private final int credits;
+
+    private SendQueueEventImpl(Channel channel, Type type, int queueSize, int credits)
     {
       super(channel);
       this.type = type;
       this.queueSize = queueSize;
+      this.credits = credits;
     }
 
     @Override
@@ -618,6 +763,12 @@ public class Channel extends Lifecycle implements InternalChannel, IExecutorServ
     {
       return queueSize;
     }
+
+    @Override
+    public int getCredits()
+    {
+      return credits;
+    }
   }
 
   /**
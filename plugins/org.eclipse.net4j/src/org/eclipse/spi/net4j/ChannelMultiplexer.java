@@ -66,6 +66,8 @@ public abstract class ChannelMultiplexer extends Container<IChannel> implements
 
   private long openChannelTimeout = IChannelMultiplexer.DEFAULT_OPEN_CHANNEL_TIMEOUT;
 
+  private int sendQueueCredits = -1;
+
   private ConcurrentMap<Short, IChannel> channels = new ConcurrentHashMap<>();
 
   @ExcludeFromDump
@@ -134,6 +136,31 @@ public abstract class ChannelMultiplexer extends Container<IChannel> implements
     this.openChannelTimeout = openChannelTimeout;
   }
 
+  /**
+   * Returns the maximum number of buffers that the send queues of the channels of this multiplexer can hold before
+   * producers are blocked, or zero if the send queues are unbounded.
+   *
+   * @since 4.20
+   */
+  public int getSendQueueCredits()
+  {
+    if (sendQueueCredits == -1)
+    {
+      return OM.BUNDLE.getDebugSupport().getDebugOption("send.queue.credits", 1024); //$NON-NLS-1$
+    }
+
+    return sendQueueCredits;
+  }
+
+  /**
+   * @since 4.20
+   */
+  public void setSendQueueCredits(int sendQueueCredits)
+  {
+    checkArg(sendQueueCredits >= 0, "sendQueueCredits < 0"); //$NON-NLS-1$
+    this.sendQueueCredits = sendQueueCredits;
+  }
+
   public final InternalChannel getChannel(short channelID)
   {
     return (InternalChannel)channels.get(channelID);
@@ -310,6 +337,11 @@ public abstract class ChannelMultiplexer extends Container<IChannel> implements
   protected void initChannel(InternalChannel channel, IProtocol<?> protocol)
   {
     channel.setMultiplexer(this);
+    if (channel instanceof Channel)
+    {
+      ((Channel)channel).setSendQueueCredits(getSendQueueCredits());
+    }
+
     if (protocol != null)
     {
       protocol.setChannel(channel);
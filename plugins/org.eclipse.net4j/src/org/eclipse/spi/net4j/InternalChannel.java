@@ -27,6 +27,21 @@ import java.util.concurrent.ExecutorService;
  */
 public interface InternalChannel extends IChannel, IBufferProvider, ILifecycle
 {
+  /**
+   * @since 4.20
+   */
+  public static final int MIN_PRIORITY = 1;
+
+  /**
+   * @since 4.20
+   */
+  public static final int DEFAULT_PRIORITY = 5;
+
+  /**
+   * @since 4.20
+   */
+  public static final int MAX_PRIORITY = 10;
+
   /**
    * @since 2.0
    */
@@ -58,6 +73,26 @@ public interface InternalChannel extends IChannel, IBufferProvider, ILifecycle
 
   public Queue<IBuffer> getSendQueue();
 
+  /**
+   * Returns the priority with which the {@link #getSendQueue() buffers} of this channel are scheduled relative to the
+   * buffers of the other channels of the same {@link #getMultiplexer() multiplexer}.
+   *
+   * @see PriorityChannelQueue
+   * @since 4.20
+   */
+  public default int getPriority()
+  {
+    return DEFAULT_PRIORITY;
+  }
+
+  /**
+   * @since 4.20
+   */
+  public default void setPriority(int priority)
+  {
+    // Do nothing.
+  }
+
   /**
    * An {@link IEvent event} fired from a {@link InternalChannel channel} when a {@link IBuffer buffer} is enqueued or
    * dequeued.
@@ -76,6 +111,14 @@ public interface InternalChannel extends IChannel, IBufferProvider, ILifecycle
 
     public int getQueueSize();
 
+    /**
+     * Returns the maximum number of buffers that the send queue can hold before producers are blocked, or zero if the
+     * send queue is unbounded.
+     *
+     * @since 4.20
+     */
+    public int getCredits();
+
     /**
      * Enumerates the possible {@link InternalChannel#getSendQueue() send queue} {@link SendQueueEvent event} types.
      *
@@ -83,7 +126,21 @@ public interface InternalChannel extends IChannel, IBufferProvider, ILifecycle
      */
     public enum Type
     {
-      ENQUEUED, DEQUEUED
+      ENQUEUED, DEQUEUED,
+
+      /**
+       * A producer is blocked because the send queue has no credits left.
+       *
+       * @since 4.20
+       */
+      BLOCKED,
+
+      /**
+       * A blocked producer has been resumed.
+       *
+       * @since 4.20
+       */
+      UNBLOCKED
     }
   }
 
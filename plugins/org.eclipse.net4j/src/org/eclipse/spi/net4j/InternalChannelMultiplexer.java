@@ -52,6 +52,17 @@ public interface InternalChannelMultiplexer extends IChannelMultiplexer, IBuffer
    */
   public void closeChannel(InternalChannel channel);
 
+  /**
+   * Returns <code>true</code> if the calling thread is the I/O thread of this multiplexer, i.e., the thread that drains
+   * the {@link InternalChannel#getSendQueue() send queues} of the channels, <code>false</code> otherwise.
+   *
+   * @since 4.20
+   */
+  public default boolean isIOThread()
+  {
+    return false;
+  }
+
   /**
    * @author Eike Stepper
    * @since 4.10
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Eike Stepper (Loehne, Germany) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Eike Stepper - initial API and implementation
+ */
+package org.eclipse.spi.net4j;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.WeakHashMap;
+
+/**
+ * A queue of {@link InternalChannel channels} with pending {@link InternalChannel#getSendQueue() buffers} that
+ * schedules the channels by their {@link InternalChannel#getPriority() priorities}.
+ * <p>
+ * Each offer of a channel stands for one pending buffer of that channel. The channels are scheduled by stride
+ * scheduling: every time a buffer of a channel is polled the <i>pass</i> of that channel advances by a stride that is
+ * inversely proportional to its priority, and the channel with the lowest pass is scheduled next. As a result the
+ * bandwidth is shared among the channels in proportion to their priorities and no channel starves.
+ * <p>
+ * A channel that becomes ready after being idle starts at the current pass, so it does not queue behind the backlog of
+ * busy channels. If the pass that it had earned before it became idle is still ahead of the current pass, it keeps that
+ * pass instead, so that a channel can't gain precedence by repeatedly draining its buffers.
+ * <p>
+ * The head of this queue is stable between {@link #peek()} and {@link #poll()}, so that a buffer that could not be
+ * written completely is continued before a buffer of another channel is started.
+ *
+ * @author Eike Stepper
+ * @since 4.20
+ */
+public class PriorityChannelQueue extends AbstractQueue<InternalChannel>
+{
+  private static final long STRIDE = 1L << 20;
+
+  private final Map<InternalChannel, Entry> entries = new IdentityHashMap<>();
+
+  private final PriorityQueue<Entry> schedule = new PriorityQueue<>();
+
+  private final Map<InternalChannel, Long> idlePasses = new WeakHashMap<>();
+
+  private Entry head;
+
+  private long pass;
+
+  private long sequence;
+
+  public PriorityChannelQueue()
+  {
+  }
+
+  @Override
+  public synchronized boolean offer(InternalChannel channel)
+  {
+    Entry entry = entries.get(channel);
+    if (entry == null)
+    {
+      // A channel that rejoins keeps the pass it had earned, so that it can't jump the queue by draining its buffers.
+      Long idlePass = idlePasses.remove(channel);
+      long startPass = idlePass == null ? pass : Math.max(pass, idlePass);
+
+      entry = new Entry(channel, startPass, ++sequence);
+      entries.put(channel, entry);
+      schedule.add(entry);
+    }
+    else
+    {
+      ++entry.count;
+    }
+
+    return true;
+  }
+
+  @Override
+  public synchronized InternalChannel peek()
+  {
+    Entry entry = getHead();
+    return entry == null ? null : entry.channel;
+  }
+
+  @Override
+  public synchronized InternalChannel poll()
+  {
+    Entry entry = getHead();
+    if (entry == null)
+    {
+      return null;
+    }
+
+    head = null;
+    pass = entry.pass;
+    entry.pass += STRIDE / getPriority(entry.channel);
+
+    if (--entry.count == 0)
+    {
+      entries.remove(entry.channel);
+      idlePasses.put(entry.channel, entry.pass);
+    }
+    else
+    {
+      entry.sequence = ++sequence;
+      schedule.add(entry);
+    }
+
+    return entry.channel;
+  }
+
+  @Override
+  public synchronized int size()
+  {
+    int size = 0;
+    for (Entry entry : entries.values())
+    {
+      size += entry.count;
+    }
+
+    return size;
+  }
+
+  @Override
+  public synchronized boolean isEmpty()
+  {
+    return entries.isEmpty();
+  }
+
+  @Override
+  public synchronized void clear()
+  {
+    entries.clear();
+    schedule.clear();
+    idlePasses.clear();
+    head = null;
+  }
+
+  @Override
+  public synchronized Iterator<InternalChannel> iterator()
+  {
+    List<InternalChannel> copy = new ArrayList<>(entries.keySet());
+    return copy.iterator();
+  }
+
+  @Override
+  public synchronized String toString()
+  {
+    return entries.values().toString();
+  }
+
+  private Entry getHead()
+  {
+    if (head == null)
+    {
+      head = schedule.poll();
+    }
+
+    return head;
+  }
+
+  private static int getPriority(InternalChannel channel)
+  {
+    int priority = channel.getPriority();
+    return Math.max(InternalChannel.MIN_PRIORITY, Math.min(InternalChannel.MAX_PRIORITY, priority));
+  }
+
+  /**
+   * @author Eike Stepper
+   */
+  private static final class Entry implements Comparable<Entry>
+  {
+    private final InternalChannel channel;
+
+    private int count = 1;
+
+    private long pass;
+
+    private long sequence;
+
+    public Entry(InternalChannel channel, long pass, long sequence)
+    {
+      this.channel = channel;
+      this.pass = pass;
+      this.sequence = sequence;
+    }
+
+    @Override
+    public int compareTo(Entry o)
+    {
+      int result = Long.compare(pass, o.pass);
+      if (result == 0)
+      {
+        result = Long.compare(sequence, o.sequence);
+      }
+
+      return result;
+    }
+
+    @Override
+    public String toString()
+    {
+      return channel + "(" + count + ")";
+    }
+  }
+}